@@ -0,0 +1,137 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.dataset.Main;
+import org.qubership.atp.dataset.db.jpa.ModelsProvider;
+import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
+import org.qubership.atp.dataset.service.jpa.impl.DataSetListBulkCopyService;
+import org.qubership.atp.dataset.service.jpa.model.copy.DataSetListCopyData;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deep copy of the DSL from JPA integration test data: {@code regularCopy} saves every copied entity,
+ * {@code bulkCopy} uses {@link DataSetListBulkCopyService}. Each copy is rolled back, so all of them are
+ * made from the same source; prepared statements of the copy are reported as {@code statements} counter.
+ * Application is started against an empty database, configured by system properties, for example
+ * {@code -jvmArgs "-Dspring.config.additional-location=file:benchmark.properties"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class DataSetListCopying {
+
+    private static final UUID DATA_SET_LIST_ID = UUID.fromString("49119346-cec2-4801-a004-7820f379ca0e");
+    private static final String TEST_DATA = "test_data/sql/jpa_integration_test/JpaIntegrationTest.sql";
+
+    @Benchmark
+    public int regularCopy(DataSetListCopying.Data data, DataSetListCopying.Counters counters) {
+        return data.copyAndRollback(counters, dataSetList -> dataSetList.duplicate("Copy", null, null));
+    }
+
+    @Benchmark
+    public int bulkCopy(DataSetListCopying.Data data, DataSetListCopying.Counters counters) {
+        return data.copyAndRollback(counters,
+                dataSetList -> data.bulkCopyService.duplicate(dataSetList, "Copy", null, null));
+    }
+
+    @State(Scope.Benchmark)
+    public static class Data {
+
+        private ConfigurableApplicationContext context;
+        private ModelsProvider modelsProvider;
+        private DataSetListBulkCopyService bulkCopyService;
+        private TransactionTemplate transactionTemplate;
+        private Statistics statistics;
+
+        /**
+         * Starts application and loads the source DSL.
+         */
+        @Setup
+        public void setup() {
+            context = new SpringApplicationBuilder(Main.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--atp-dataset.javers.enabled=false");
+            new ResourceDatabasePopulator(new ClassPathResource(TEST_DATA))
+                    .execute(context.getBean(DataSource.class));
+            modelsProvider = context.getBean(ModelsProvider.class);
+            bulkCopyService = context.getBean(DataSetListBulkCopyService.class);
+            transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+        }
+
+        @TearDown
+        public void tearDown() {
+            context.close();
+        }
+
+        private int copyAndRollback(Counters counters, Function<DataSetList, DataSetListCopyData> copier) {
+            return transactionTemplate.execute(status -> {
+                DataSetList dataSetList = modelsProvider.getDataSetListById(DATA_SET_LIST_ID);
+                long statementsBefore = statistics.getPrepareStatementCount();
+                DataSetListCopyData copyData = copier.apply(dataSetList);
+                counters.statements += statistics.getPrepareStatementCount() - statementsBefore;
+                status.setRollbackOnly();
+                return copyData.getDataSetsMap().size();
+            });
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+        }
+    }
+}
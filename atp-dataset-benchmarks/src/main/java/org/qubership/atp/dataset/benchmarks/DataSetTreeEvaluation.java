@@ -0,0 +1,133 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.dataset.benchmarks.fixture.DataSetListFixture;
+import org.qubership.atp.dataset.service.jpa.ContextType;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContext;
+import org.qubership.atp.dataset.service.jpa.model.tree.ds.DataSetGroup;
+import org.qubership.atp.dataset.service.jpa.model.tree.ds.DataSetTree;
+import org.qubership.atp.dataset.service.jpa.model.tree.ds.itf.ItfContextSerializer;
+import org.qubership.atp.dataset.service.jpa.model.tree.params.AbstractParameter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * DS tree of the root data set of in-memory DSL chain, as it is built for {@code /ds/{id}/atp} and ITF.
+ * {@code buildTree} parses parameters, {@code evaluateTree} also evaluates every value with macros
+ * from scratch, {@code serializeItf} writes already evaluated tree by {@link ItfContextSerializer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class DataSetTreeEvaluation {
+
+    @Benchmark
+    public DataSetTree buildTree(DataSetTreeEvaluation.Data data) {
+        data.fixture.getMacroContextService().dropLocalThreadCache();
+        return data.buildTree();
+    }
+
+    @Benchmark
+    public int evaluateTree(DataSetTreeEvaluation.Data data) {
+        data.fixture.getMacroContextService().dropLocalThreadCache();
+        DataSetTree tree = data.buildTree();
+        return evaluate(tree.getParameters()) + evaluateGroups(tree.getGroups());
+    }
+
+    @Benchmark
+    public String serializeItf(DataSetTreeEvaluation.Data data) throws JsonProcessingException {
+        return data.itfMapper.writeValueAsString(data.evaluatedTree);
+    }
+
+    private static int evaluateGroups(Map<String, DataSetGroup> groups) {
+        int length = 0;
+        for (DataSetGroup group : groups.values()) {
+            length += evaluate(group.getParameters()) + evaluateGroups(group.getGroups());
+        }
+        return length;
+    }
+
+    private static int evaluate(Map<String, AbstractParameter> parameters) {
+        int length = 0;
+        for (AbstractParameter parameter : parameters.values()) {
+            String value = parameter.getValue();
+            length += value == null ? 0 : value.length();
+        }
+        return length;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Data {
+
+        @Param({"1", "3", "6"})
+        private int depth;
+
+        @Param({"10", "50"})
+        private int width;
+
+        private DataSetListFixture fixture;
+        private ObjectMapper itfMapper;
+        private DataSetTree evaluatedTree;
+
+        /**
+         * Builds DSL chain and evaluated tree for serialization.
+         */
+        @Setup
+        public void setup() {
+            fixture = new DataSetListFixture(depth, width);
+            itfMapper = new ObjectMapper();
+            SimpleModule module = new SimpleModule();
+            module.addSerializer(DataSetTree.class, new ItfContextSerializer());
+            itfMapper.registerModule(module);
+            evaluatedTree = buildTree();
+            evaluate(evaluatedTree.getParameters());
+            evaluateGroups(evaluatedTree.getGroups());
+        }
+
+        private DataSetTree buildTree() {
+            DataSetListContext context = fixture.getContext();
+            return new DataSetTree(
+                    context.getDataSets().get(0),
+                    0,
+                    true,
+                    fixture.newMacroContext(),
+                    context,
+                    fixture.getParameterProvider(),
+                    ContextType.FULL
+            );
+        }
+    }
+}
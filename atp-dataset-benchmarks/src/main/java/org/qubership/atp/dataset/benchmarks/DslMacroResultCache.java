@@ -0,0 +1,187 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.dataset.service.jpa.impl.macro.CachedDslMacroResult;
+import org.qubership.atp.dataset.service.jpa.impl.macro.CachedDslMacroResultContainer;
+import org.qubership.atp.dataset.service.jpa.model.PathStep;
+
+/**
+ * Evaluation of N REF_DSL references against per-request macro result cache:
+ * each reference is looked up first and stored on miss, then every reference is resolved again.
+ * {@code linearScan} reproduces the previous list based container, {@code hashIndex} uses the current one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class DslMacroResultCache {
+
+    @Benchmark
+    public int linearScan(DslMacroResultCache.Data data) {
+        LinearScanContainer container = new LinearScanContainer();
+        int hits = 0;
+        for (Reference reference : data.references) {
+            if (container.getCachedValue(reference.dataSetList, reference.dataSet, reference.groups,
+                    reference.attribute) == null) {
+                container.storeValue(reference.dataSetList, reference.dataSet, reference.groups,
+                        reference.attribute, reference.value);
+            }
+        }
+        for (Reference reference : data.references) {
+            if (container.getCachedValue(reference.dataSetList, reference.dataSet, reference.groups,
+                    reference.attribute) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int hashIndex(DslMacroResultCache.Data data) {
+        CachedDslMacroResultContainer container = new CachedDslMacroResultContainer();
+        int hits = 0;
+        for (Reference reference : data.references) {
+            if (container.getCachedValue(reference.dataSetList, reference.dataSet, reference.groups,
+                    reference.attribute) == null) {
+                container.storeValue(reference.dataSetList, reference.dataSet, reference.groups,
+                        reference.attribute, reference.value);
+            }
+        }
+        for (Reference reference : data.references) {
+            if (container.getCachedValue(reference.dataSetList, reference.dataSet, reference.groups,
+                    reference.attribute) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Data {
+
+        @Param({"1000", "10000"})
+        private int referencesCount;
+
+        private List<Reference> references;
+
+        /**
+         * References to 10 DSLs with 10 datasets each, half of them by names, and 2-level group paths.
+         */
+        @Setup
+        public void setup() {
+            references = new ArrayList<>(referencesCount);
+            UUID[] dataSetLists = randomIds(10);
+            UUID[] dataSets = randomIds(100);
+            UUID[] groups = randomIds(20);
+            for (int i = 0; i < referencesCount; i++) {
+                Reference reference = new Reference();
+                reference.dataSetList = new PathStep(dataSetLists[i % dataSetLists.length]);
+                reference.dataSet = i % 2 == 0
+                        ? new PathStep(dataSets[i % dataSets.length])
+                        : new PathStep("DS " + (i % dataSets.length));
+                reference.groups = Arrays.asList(
+                        new PathStep(groups[i % groups.length]),
+                        new PathStep(groups[(i / groups.length) % groups.length]));
+                reference.attribute = new PathStep("Attribute " + i);
+                reference.value = "Value " + i;
+                references.add(reference);
+            }
+        }
+
+        private static UUID[] randomIds(int count) {
+            UUID[] ids = new UUID[count];
+            for (int i = 0; i < count; i++) {
+                ids[i] = UUID.randomUUID();
+            }
+            return ids;
+        }
+    }
+
+    private static class Reference {
+        private PathStep dataSetList;
+        private PathStep dataSet;
+        private List<PathStep> groups;
+        private PathStep attribute;
+        private String value;
+    }
+
+    /**
+     * Previous implementation of the container, kept as a baseline.
+     */
+    private static class LinearScanContainer {
+        private final List<CachedDslMacroResult> cachedValues = new LinkedList<>();
+
+        CachedDslMacroResult getCachedValue(
+                PathStep dataSetList, PathStep dataSet, List<PathStep> attributeGroups, PathStep attribute
+        ) {
+            for (CachedDslMacroResult cachedValue : cachedValues) {
+                if (cachedValue.getDataSetList().matches(dataSetList.getName(), dataSetList.getId())
+                        && matches(cachedValue.getDataSet(), dataSet)
+                        && matches(cachedValue.getAttribute(), attribute)
+                        && cachedValue.getAttributeGroups().size() == attributeGroups.size()) {
+                    boolean groupsMatch = true;
+                    for (int i = 0; i < attributeGroups.size(); i++) {
+                        if (!matches(cachedValue.getAttributeGroups().get(i), attributeGroups.get(i))) {
+                            groupsMatch = false;
+                        }
+                    }
+                    if (groupsMatch) {
+                        return cachedValue;
+                    }
+                }
+            }
+            return null;
+        }
+
+        void storeValue(
+                PathStep dataSetList, PathStep dataSet, List<PathStep> attributeGroups, PathStep attribute,
+                String value
+        ) {
+            CachedDslMacroResult newValue = new CachedDslMacroResult();
+            newValue.setDataSetList(dataSetList);
+            newValue.setDataSet(dataSet);
+            newValue.setAttributeGroups(new LinkedList<>(attributeGroups));
+            newValue.setAttribute(attribute);
+            newValue.setValue(value);
+            cachedValues.add(newValue);
+        }
+
+        private static boolean matches(PathStep cached, PathStep other) {
+            return cached.matches(other.getName(), other.getId());
+        }
+    }
+}
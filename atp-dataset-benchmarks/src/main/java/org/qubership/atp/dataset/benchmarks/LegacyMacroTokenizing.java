@@ -0,0 +1,130 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.benchmarks;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Nonnull;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.dataset.macros.MacroRegistry;
+import org.qubership.atp.dataset.macros.MacroRegistryImpl;
+import org.qubership.atp.dataset.macros.Macros;
+import org.qubership.atp.dataset.macros.parser.TokensIterator;
+
+/**
+ * Tokenizing of parameter texts by the legacy macro parser. "scan" registry checks every consumed prefix
+ * against all macro names, as the registry did before the prefix tree, "trie" is the application registry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class LegacyMacroTokenizing {
+
+    private static final List<String> MACRO_NAMES = Arrays.asList("REF", "REF_DSL", "REF_THIS", "SUM", "DATE",
+            "UUID", "UUID_UPPERCASE", "CHARS", "CHARS_UPPERCASE", "RANDOMBETWEEN", "INN", "CONTEXT");
+
+    private static final List<String> TEXTS = Arrays.asList(
+            "Plain value of the parameter without any macro, as most of parameters are",
+            "#REF_DSL(Customers.Default customer.Billing account.Address.City)",
+            "#REF(Billing account.Number) / #REF_THIS(Account.Name) - #SUM(1, 2, #RANDOMBETWEEN(1, 10))",
+            "Order ##123 for #customer #REFUND #REF_THISX(abc) created #DATE(dd.MM.yyyy) by user@mail",
+            "#UUID()-#UUID_UPPERCASE()-#CHARS(10)-#CHARS_UPPERCASE(5)-#INN()-#CONTEXT(testRunId)");
+
+    @Benchmark
+    public int tokenize(LegacyMacroTokenizing.Data data) {
+        int tokens = 0;
+        for (String text : TEXTS) {
+            TokensIterator iterator = new TokensIterator(data.registry, new StringBuilder(text));
+            while (iterator.hasNext()) {
+                iterator.next();
+                tokens++;
+            }
+        }
+        return tokens;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Data {
+
+        @Param({"scan", "trie"})
+        private String registryType;
+
+        private MacroRegistry registry;
+
+        /**
+         * Registers macro names, macros themselves aren't used by tokenizer.
+         */
+        @Setup
+        public void setup() {
+            if ("scan".equals(registryType)) {
+                registry = new ScanningRegistry();
+            } else {
+                Map<String, Macros> macroses = new HashMap<>();
+                MACRO_NAMES.forEach(name -> macroses.put(name, null));
+                registry = new MacroRegistryImpl(macroses);
+            }
+        }
+    }
+
+    private static class ScanningRegistry implements MacroRegistry {
+
+        @Override
+        public boolean fullyEquals(String name) {
+            name = name.toUpperCase();
+            for (String macro : MACRO_NAMES) {
+                if (name.equals(macro)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean partiallyEquals(String to) {
+            to = to.toUpperCase();
+            for (String macro : MACRO_NAMES) {
+                if (macro.startsWith(to)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Nonnull
+        @Override
+        public Macros getMacros(@Nonnull String key) {
+            throw new UnsupportedOperationException("Tokenizer doesn't evaluate macros");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.dataset.benchmarks.fixture.DataSetListFixture;
+import org.qubership.atp.dataset.service.jpa.model.tree.OverlapNode;
+
+/**
+ * {@link OverlapNode#getOverlap} lookups of every attribute on every level of in-memory DSL chain,
+ * as context building does for each parameter. One attribute per level is overlapped.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class OverlapLookup {
+
+    @Benchmark
+    public int getOverlap(OverlapLookup.Data data) {
+        OverlapNode rootOverlapNode = data.fixture.getContext().getRootOverlapNode();
+        int found = 0;
+        for (int level = 0; level < data.depth; level++) {
+            for (int index = 0; index < data.width; index++) {
+                if (rootOverlapNode.getOverlap(data.fixture.getPath(level), 0,
+                        data.fixture.getAttributeId(level, index)) != null) {
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Data {
+
+        @Param({"1", "3", "6"})
+        private int depth;
+
+        @Param({"10", "50"})
+        private int width;
+
+        private DataSetListFixture fixture;
+
+        @Setup
+        public void setup() {
+            fixture = new DataSetListFixture(depth, width);
+        }
+    }
+}
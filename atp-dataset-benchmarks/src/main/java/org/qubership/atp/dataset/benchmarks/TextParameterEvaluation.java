@@ -0,0 +1,100 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.atp.dataset.benchmarks.fixture.DataSetListFixture;
+import org.qubership.atp.dataset.service.jpa.impl.macro.MacroContext;
+import org.qubership.atp.dataset.service.jpa.model.tree.params.TextParameter;
+
+/**
+ * Evaluation of text parameters of the same kind on every level of in-memory DSL chain.
+ * Reference caches are dropped before each invocation, so every reference is resolved again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class TextParameterEvaluation {
+
+    @Benchmark
+    public int evaluate(TextParameterEvaluation.Data data) {
+        data.fixture.getMacroContextService().dropLocalThreadCache();
+        MacroContext macroContext = data.fixture.newMacroContext();
+        int length = 0;
+        for (int level = 0; level < data.depth; level++) {
+            for (int index = data.kind; index < DataSetListFixture.PATTERN_WIDTH; index += 4) {
+                TextParameter parameter = new TextParameter(
+                        data.fixture.textValue(level, index),
+                        true,
+                        macroContext,
+                        data.fixture.getPosition(level, index)
+                );
+                String value = parameter.getValue();
+                length += value == null ? 0 : value.length();
+            }
+        }
+        return length;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Data {
+
+        @Param({"TEXT", "REF_THIS", "REF", "REF_DSL"})
+        private String macro;
+
+        @Param({"1", "3", "6"})
+        private int depth;
+
+        private int kind;
+        private DataSetListFixture fixture;
+
+        /**
+         * Builds DSL chain, where each level has one attribute of every kind.
+         */
+        @Setup
+        public void setup() {
+            switch (macro) {
+                case "REF_THIS":
+                    kind = 1;
+                    break;
+                case "REF":
+                    kind = 2;
+                    break;
+                case "REF_DSL":
+                    kind = 3;
+                    break;
+                default:
+                    kind = 0;
+            }
+            fixture = new DataSetListFixture(depth, DataSetListFixture.PATTERN_WIDTH);
+        }
+    }
+}
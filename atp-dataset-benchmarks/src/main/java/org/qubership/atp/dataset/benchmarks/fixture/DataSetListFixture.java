@@ -0,0 +1,385 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.benchmarks.fixture;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.qubership.atp.dataset.db.jpa.entities.AttributeEntity;
+import org.qubership.atp.dataset.db.jpa.entities.AttributeKeyEntity;
+import org.qubership.atp.dataset.db.jpa.entities.DataSetEntity;
+import org.qubership.atp.dataset.db.jpa.entities.DataSetListEntity;
+import org.qubership.atp.dataset.db.jpa.entities.ParameterEntity;
+import org.qubership.atp.dataset.service.jpa.DataSetServiceException;
+import org.qubership.atp.dataset.service.jpa.delegates.Attribute;
+import org.qubership.atp.dataset.service.jpa.delegates.AttributeKey;
+import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
+import org.qubership.atp.dataset.service.jpa.delegates.Parameter;
+import org.qubership.atp.dataset.service.jpa.impl.macro.MacroContext;
+import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
+import org.qubership.atp.dataset.service.jpa.model.PathStep;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.GroupContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.ParameterContext;
+import org.qubership.atp.dataset.service.jpa.model.tree.OverlapNode;
+import org.qubership.atp.dataset.service.jpa.model.tree.params.macros.ParameterPositionContext;
+
+/**
+ * Synthetic DSL hierarchy in memory: chain of {@code depth} DSLs, where each DSL has one data set,
+ * {@code width} text attributes and reference to the next DSL. Text values repeat pattern
+ * plain text, REF_THIS, REF and REF_DSL. Root data set overlaps the first attribute of every nested level.
+ * Context is built the same way as {@link DataSetListContext} does it from database.
+ */
+public class DataSetListFixture {
+
+    /**
+     * Width, where every kind of text value is met twice.
+     */
+    public static final int PATTERN_WIDTH = 8;
+
+    private final int depth;
+    private final int width;
+    private final UUID visibilityAreaId = UUID.randomUUID();
+    private final InMemoryModelsProvider modelsProvider = new InMemoryModelsProvider();
+    private final InMemoryMacroContextService macroContextService = new InMemoryMacroContextService(this);
+    private final InMemoryDataSetParameterProvider parameterProvider =
+            new InMemoryDataSetParameterProvider(modelsProvider, macroContextService);
+    private final List<DataSetListEntity> dataSetLists = new ArrayList<>();
+    private final List<DataSetEntity> dataSets = new ArrayList<>();
+    private final List<List<AttributeEntity>> attributes = new ArrayList<>();
+    private final List<List<ParameterEntity>> parameters = new ArrayList<>();
+    private final List<AttributeEntity> referenceAttributes = new ArrayList<>();
+    private final List<List<UUID>> paths = new ArrayList<>();
+    private final Map<UUID, String> attributeNames = new HashMap<>();
+    private final DataSetListContext context;
+
+    /**
+     * Creates hierarchy and its context.
+     */
+    public DataSetListFixture(int depth, int width) {
+        this.depth = depth;
+        this.width = width;
+        macroContextService.setParameterProvider(parameterProvider);
+        modelsProvider.install();
+        for (int level = 0; level < depth; level++) {
+            createLevel(level);
+        }
+        context = createContext();
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public UUID getVisibilityAreaId() {
+        return visibilityAreaId;
+    }
+
+    public InMemoryModelsProvider getModelsProvider() {
+        return modelsProvider;
+    }
+
+    public InMemoryMacroContextService getMacroContextService() {
+        return macroContextService;
+    }
+
+    public InMemoryDataSetParameterProvider getParameterProvider() {
+        return parameterProvider;
+    }
+
+    public DataSetListContext getContext() {
+        return context;
+    }
+
+    public static String dataSetListName(int level) {
+        return "DSL " + level;
+    }
+
+    public static String dataSetName(int level) {
+        return "DS " + level;
+    }
+
+    public static String groupName(int level) {
+        return "Level " + level;
+    }
+
+    public static String attributeName(int level, int index) {
+        return "L" + level + " Attribute " + index;
+    }
+
+    /**
+     * Text of attribute by its index: plain text, REF_THIS to previous attribute, REF to attribute
+     * of the same level from the root data set, REF_DSL to the first attribute of the next level DSL.
+     */
+    public String textValue(int level, int index) {
+        switch (index % 4) {
+            case 1:
+                return "#REF_THIS(" + attributeName(level, index - 1) + ")";
+            case 2:
+                StringBuilder path = new StringBuilder(dataSetName(0));
+                for (int nested = 1; nested <= level; nested++) {
+                    path.append('.').append(groupName(nested));
+                }
+                return "#REF(" + path + '.' + attributeName(level, index - 2) + ")";
+            case 3:
+                int target = (level + 1) % depth;
+                return "#REF_DSL(" + dataSetListName(target) + '.' + dataSetName(target) + '.'
+                        + attributeName(target, 0) + ")";
+            default:
+                return "Value " + level + " " + index;
+        }
+    }
+
+    /**
+     * Group path of the level, ids of reference attributes from the root.
+     */
+    public List<UUID> getPath(int level) {
+        return paths.get(level);
+    }
+
+    public UUID getAttributeId(int level, int index) {
+        return attributes.get(level).get(index).getId();
+    }
+
+    public UUID getDataSetListId(int level) {
+        return dataSetLists.get(level).getId();
+    }
+
+    public UUID getDataSetId(int level) {
+        return dataSets.get(level).getId();
+    }
+
+    /**
+     * Position of the parameter in the tree of root data set.
+     */
+    public ParameterPositionContext getPosition(int level, int index) {
+        return new ParameterPositionContext(
+                getPath(level), 0, getDataSetId(level), (long) index, getDataSetListId(level)
+        );
+    }
+
+    /**
+     * New macro context of the root data set evaluation.
+     */
+    public MacroContext newMacroContext() {
+        MacroContext macroContext = new MacroContext();
+        macroContext.setMacroContextService(macroContextService);
+        macroContext.setDataSetListContext(context);
+        macroContext.setMacros(Collections.emptyList());
+        return macroContext;
+    }
+
+    /**
+     * DSL by name or id.
+     */
+    public DataSetList getDataSetList(PathStep step) {
+        for (DataSetListEntity dataSetList : dataSetLists) {
+            if (step.matches(dataSetList.getName(), dataSetList.getId())) {
+                return modelsProvider.getDataSetList(dataSetList);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Data set name by id.
+     */
+    public String getDataSetName(UUID dataSetId) {
+        for (DataSetEntity dataSet : dataSets) {
+            if (dataSet.getId().equals(dataSetId)) {
+                return dataSet.getName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Data set id by its name and DSL.
+     */
+    public UUID getDataSetId(String dataSetName, UUID dataSetListId) {
+        for (DataSetEntity dataSet : dataSets) {
+            if (dataSet.getDataSetList().getId().equals(dataSetListId) && dataSet.getName().equals(dataSetName)) {
+                return dataSet.getId();
+            }
+        }
+        return null;
+    }
+
+    public String getAttributeName(UUID attributeId) {
+        return attributeNames.get(attributeId);
+    }
+
+    /**
+     * Stored, not evaluated, text of parameter, as REF_DSL reads it.
+     */
+    public String getStringValue(PathStep dataSetList, PathStep dataSet, List<PathStep> groups, PathStep attribute)
+            throws DataSetServiceException {
+        for (int level = 0; level < depth; level++) {
+            if (dataSetList.matches(dataSetLists.get(level).getName(), getDataSetListId(level))
+                    && dataSet.matches(dataSets.get(level).getName(), getDataSetId(level))) {
+                int target = level;
+                for (PathStep group : groups) {
+                    target++;
+                    if (target >= depth || !group.matches(groupName(target), getPath(target).get(target - 1))) {
+                        throw new DataSetServiceException("Can't find referenced variable");
+                    }
+                }
+                for (ParameterEntity parameter : parameters.get(target)) {
+                    AttributeEntity parameterAttribute = (AttributeEntity) parameter.getAttribute();
+                    if (attribute.matches(parameterAttribute.getName(), parameterAttribute.getId())) {
+                        return parameter.getStringValue();
+                    }
+                }
+            }
+        }
+        throw new DataSetServiceException("Can't find referenced variable");
+    }
+
+    private void createLevel(int level) {
+        DataSetListEntity dataSetList = new DataSetListEntity();
+        dataSetList.setId(UUID.randomUUID());
+        dataSetList.setName(dataSetListName(level));
+        dataSetLists.add(dataSetList);
+        modelsProvider.add(dataSetList);
+
+        DataSetEntity dataSet = new DataSetEntity();
+        dataSet.setId(UUID.randomUUID());
+        dataSet.setName(dataSetName(level));
+        dataSet.setOrdering(0L);
+        dataSet.setDataSetList(dataSetList);
+        dataSets.add(dataSet);
+        modelsProvider.add(dataSet);
+
+        List<AttributeEntity> levelAttributes = new ArrayList<>(width);
+        List<ParameterEntity> levelParameters = new ArrayList<>(width);
+        for (int index = 0; index < width; index++) {
+            AttributeEntity attribute = createAttribute(dataSetList, attributeName(level, index), index,
+                    AttributeTypeName.TEXT);
+            levelAttributes.add(attribute);
+            ParameterEntity parameter = createParameter(dataSet, attribute, textValue(level, index));
+            levelParameters.add(parameter);
+        }
+        attributes.add(levelAttributes);
+        parameters.add(levelParameters);
+
+        List<UUID> path = new LinkedList<>();
+        if (level > 0) {
+            AttributeEntity reference = createAttribute(dataSetLists.get(level - 1), groupName(level), width,
+                    AttributeTypeName.DSL);
+            reference.setTypeDataSetListId(dataSetList.getId());
+            referenceAttributes.add(reference);
+            path.addAll(paths.get(level - 1));
+            path.add(reference.getId());
+        }
+        paths.add(path);
+    }
+
+    private AttributeEntity createAttribute(DataSetListEntity dataSetList, String name, int ordering,
+                                            AttributeTypeName type) {
+        AttributeEntity attribute = new AttributeEntity();
+        attribute.setId(UUID.randomUUID());
+        attribute.setName(name);
+        attribute.setOrdering(ordering);
+        attribute.setAttributeTypeId(type.getId());
+        attribute.setDataSetList(dataSetList);
+        attributeNames.put(attribute.getId(), name);
+        modelsProvider.add(attribute);
+        return attribute;
+    }
+
+    private ParameterEntity createParameter(DataSetEntity dataSet, AttributeEntity attribute, String value) {
+        ParameterEntity parameter = new ParameterEntity();
+        parameter.setId(UUID.randomUUID());
+        parameter.setDataSet(dataSet);
+        parameter.setAttribute(attribute);
+        parameter.setStringValue(value);
+        modelsProvider.add(parameter);
+        return parameter;
+    }
+
+    private DataSetListContext createContext() {
+        DataSetListContext result = new DataSetListContext(getDataSetListId(0));
+        result.setDataSetListName(dataSetListName(0));
+        result.setVisibilityAreaId(visibilityAreaId);
+        result.getLoadedColumns().add(0);
+        result.getLoadedAttributes().add(AttributeTypeName.TEXT);
+        OverlapNode rootOverlapNode = new OverlapNode(null, getDataSetListId(0), 1);
+        for (int level = 1; level < depth; level++) {
+            rootOverlapNode.addOverlap(getPath(level), 0, createOverlap(level));
+        }
+        result.setRootOverlapNode(rootOverlapNode);
+        result.getDataSets().add(createDataSetContext(0, rootOverlapNode));
+        List<GroupContext> groups = result.getGroups();
+        for (int level = 1; level < depth; level++) {
+            AttributeEntity reference = referenceAttributes.get(level - 1);
+            GroupContext group = new GroupContext(reference.getId(), reference.getName(), reference.getOrdering(),
+                    getDataSetListId(level), dataSetListName(level), getPath(level));
+            group.getDataSets().add(createDataSetContext(level, rootOverlapNode));
+            groups.add(group);
+            groups = group.getGroups();
+        }
+        return result;
+    }
+
+    private AttributeKey createOverlap(int level) {
+        AttributeKeyEntity attributeKey = new AttributeKeyEntity();
+        attributeKey.setId(UUID.randomUUID());
+        attributeKey.setKey(getPath(level).toString());
+        attributeKey.setDataSetList(dataSetLists.get(0));
+        attributeKey.setDataSet(dataSets.get(0));
+        attributeKey.setAttribute(attributes.get(level).get(0));
+        ParameterEntity parameter = new ParameterEntity();
+        parameter.setId(UUID.randomUUID());
+        parameter.setDataSet(dataSets.get(0));
+        parameter.setAttribute(attributeKey);
+        parameter.setStringValue("Overlapped " + level);
+        modelsProvider.add(parameter);
+        return new AttributeKey(attributeKey, modelsProvider.getParameter(parameter));
+    }
+
+    private DataSetContext createDataSetContext(int level, OverlapNode rootOverlapNode) {
+        DataSetContext dataSetContext = new DataSetContext(0, Collections.emptyList(), null, getPath(level), null);
+        dataSetContext.setId(getDataSetId(level));
+        dataSetContext.setName(dataSetName(level));
+        for (ParameterEntity parameterEntity : parameters.get(level)) {
+            Parameter parameter = modelsProvider.getParameter(parameterEntity);
+            Attribute attribute = parameter.getAttribute();
+            AttributeKey overlap = rootOverlapNode.getOverlap(getPath(level), 0, attribute.getId());
+            if (overlap == null) {
+                dataSetContext.getParameters().add(new ParameterContext(attribute, parameter, false));
+            } else {
+                ParameterContext overlapped = new ParameterContext(attribute);
+                overlapped.setNullValue(false);
+                overlapped.setOverlap(true);
+                overlapped.setParameterId(overlap.getParameter().getId());
+                overlapped.setValue(overlap.getParameter().getStringValue());
+                dataSetContext.getParameters().add(overlapped);
+            }
+        }
+        return dataSetContext;
+    }
+}
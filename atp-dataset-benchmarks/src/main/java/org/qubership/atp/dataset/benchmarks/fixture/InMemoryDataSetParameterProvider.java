@@ -0,0 +1,42 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.benchmarks.fixture;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.qubership.atp.dataset.db.jpa.ModelsProvider;
+import org.qubership.atp.dataset.service.jpa.impl.DataSetParameterProvider;
+import org.qubership.atp.dataset.service.jpa.model.MacroContextService;
+import org.qubership.atp.macros.core.model.Macros;
+
+/**
+ * Parameter provider without atp-macros and GridFS, enough for text, list and reference parameters.
+ */
+public class InMemoryDataSetParameterProvider extends DataSetParameterProvider {
+
+    public InMemoryDataSetParameterProvider(ModelsProvider modelsProvider, MacroContextService macroContextService) {
+        this.modelsProvider = modelsProvider;
+        this.macroContextService = macroContextService;
+    }
+
+    @Override
+    public List<Macros> getAtpMacros(UUID visibilityAreaId) {
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.benchmarks.fixture;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.qubership.atp.dataset.service.jpa.DataSetServiceException;
+import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
+import org.qubership.atp.dataset.service.jpa.impl.DataSetParameterProvider;
+import org.qubership.atp.dataset.service.jpa.impl.macro.CachedDslMacroResultContainer;
+import org.qubership.atp.dataset.service.jpa.model.MacroContextService;
+import org.qubership.atp.dataset.service.jpa.model.ParameterExtractor;
+import org.qubership.atp.dataset.service.jpa.model.PathStep;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContext;
+import org.qubership.atp.dataset.service.jpa.model.tree.DataSetListEvaluatedParametersCache;
+import org.qubership.atp.dataset.service.jpa.model.tree.params.macros.ParameterPositionContext;
+
+/**
+ * Macro context service over the fixture context. REF and REF_THIS are extracted by {@link ParameterExtractor}
+ * as in the service, REF_DSL returns stored parameter text. Caches are kept per service, not per thread.
+ */
+public class InMemoryMacroContextService implements MacroContextService {
+
+    private final DataSetListFixture fixture;
+    private DataSetParameterProvider parameterProvider;
+    private DataSetListEvaluatedParametersCache cachedEvaluatedValues = new DataSetListEvaluatedParametersCache();
+    private CachedDslMacroResultContainer cachedDslMacroValues = new CachedDslMacroResultContainer();
+
+    public InMemoryMacroContextService(DataSetListFixture fixture) {
+        this.fixture = fixture;
+    }
+
+    public void setParameterProvider(DataSetParameterProvider parameterProvider) {
+        this.parameterProvider = parameterProvider;
+    }
+
+    @Override
+    public String getTextParameterByListDataSetAndPath(UUID visibilityAreaId,
+                                                       PathStep dataSetList,
+                                                       PathStep dataSet,
+                                                       List<PathStep> referenceAttributePath,
+                                                       PathStep parameterAttribute) throws DataSetServiceException {
+        DataSetListContext context = fixture.getContext();
+        for (DataSetContext rootDataSet : context.getDataSets()) {
+            if (dataSet.matches(rootDataSet.getName(), rootDataSet.getId())) {
+                return extract(context, rootDataSet, Collections.emptyList(), referenceAttributePath,
+                        parameterAttribute);
+            }
+        }
+        throw new DataSetServiceException("Data Set not found " + dataSet);
+    }
+
+    @Override
+    public String getTextParameterByExternalListDataSetAndPath(UUID visibilityAreaId,
+                                                               PathStep dataSetList,
+                                                               PathStep dataSet,
+                                                               List<PathStep> referenceAttributePath,
+                                                               PathStep parameterAttribute)
+            throws DataSetServiceException {
+        return fixture.getStringValue(dataSetList, dataSet, referenceAttributePath, parameterAttribute);
+    }
+
+    @Override
+    public String getTextParameterFromCachedContextByNamesPath(UUID visibilityAreaId,
+                                                               PathStep topLevelDataSetList,
+                                                               UUID dataSetId,
+                                                               int dataSetColumn,
+                                                               List<UUID> macroPosition,
+                                                               List<PathStep> pathSteps,
+                                                               PathStep attribute) throws DataSetServiceException {
+        DataSetListContext context = fixture.getContext();
+        for (DataSetContext rootDataSet : context.getDataSets()) {
+            if (rootDataSet.getColumnNumber() == dataSetColumn) {
+                return extract(context, rootDataSet, macroPosition, pathSteps, attribute);
+            }
+        }
+        throw new DataSetServiceException("Data Set not found in column " + dataSetColumn);
+    }
+
+    private String extract(DataSetListContext context, DataSetContext rootDataSet, List<UUID> macroPosition,
+                           List<PathStep> pathSteps, PathStep attribute) throws DataSetServiceException {
+        ParameterExtractor extractor = new ParameterExtractor(
+                context, rootDataSet.getId(), rootDataSet.getColumnNumber(), macroPosition, pathSteps, attribute
+        );
+        extractor.setCache(getCachedEvaluatedValues(context.getDataSetListId()));
+        return extractor.extractWithProvider(parameterProvider);
+    }
+
+    @Override
+    public String getDataSetListName(UUID dataSetListId) {
+        DataSetList dataSetList = fixture.getDataSetList(new PathStep(dataSetListId));
+        return dataSetList == null ? null : dataSetList.getName();
+    }
+
+    @Override
+    public String getDataSetName(UUID dataSetId) {
+        return fixture.getDataSetName(dataSetId);
+    }
+
+    @Override
+    public UUID getDataSetUuid(String dataSetName, UUID dataSetListId) {
+        return fixture.getDataSetId(dataSetName, dataSetListId);
+    }
+
+    @Override
+    public DataSetList getDataSetList(UUID visibilityAreaId, PathStep dataSetListPathStep)
+            throws DataSetServiceException {
+        DataSetList dataSetList = fixture.getDataSetList(dataSetListPathStep);
+        if (dataSetList == null) {
+            throw new DataSetServiceException("Data Set List not found " + dataSetListPathStep);
+        }
+        return dataSetList;
+    }
+
+    @Override
+    public String getAttributeName(UUID attributeId) {
+        return fixture.getAttributeName(attributeId);
+    }
+
+    @Override
+    public Map<ParameterPositionContext, String> getCachedEvaluatedValues(UUID dataSetListId) {
+        return cachedEvaluatedValues.getCache(dataSetListId);
+    }
+
+    @Override
+    public CachedDslMacroResultContainer getDslMacroCache() {
+        return cachedDslMacroValues;
+    }
+
+    @Override
+    public void dropLocalThreadCache() {
+        cachedEvaluatedValues = new DataSetListEvaluatedParametersCache();
+        cachedDslMacroValues = new CachedDslMacroResultContainer();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.benchmarks.fixture;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.qubership.atp.dataset.db.jpa.ModelsProvider;
+import org.qubership.atp.dataset.db.jpa.Wrapper;
+import org.qubership.atp.dataset.db.jpa.entities.AttributeEntity;
+import org.qubership.atp.dataset.db.jpa.entities.DataSetEntity;
+import org.qubership.atp.dataset.db.jpa.entities.DataSetListEntity;
+import org.qubership.atp.dataset.db.jpa.entities.ParameterEntity;
+import org.qubership.atp.dataset.service.jpa.delegates.Attribute;
+import org.qubership.atp.dataset.service.jpa.delegates.DataSet;
+import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
+import org.qubership.atp.dataset.service.jpa.delegates.Parameter;
+
+/**
+ * Models provider over entities kept in memory, so delegates can be used without database.
+ */
+public class InMemoryModelsProvider extends ModelsProvider {
+
+    private final Map<UUID, DataSetListEntity> dataSetLists = new HashMap<>();
+    private final Map<UUID, DataSetEntity> dataSets = new HashMap<>();
+    private final Map<UUID, AttributeEntity> attributes = new HashMap<>();
+    private final Map<UUID, ParameterEntity> parameters = new HashMap<>();
+
+    /**
+     * Makes this provider the one used by all delegates.
+     */
+    public void install() {
+        Installer.install(this);
+    }
+
+    public void add(DataSetListEntity dataSetList) {
+        dataSetLists.put(dataSetList.getId(), dataSetList);
+    }
+
+    public void add(DataSetEntity dataSet) {
+        dataSets.put(dataSet.getId(), dataSet);
+    }
+
+    public void add(AttributeEntity attribute) {
+        attributes.put(attribute.getId(), attribute);
+    }
+
+    public void add(ParameterEntity parameter) {
+        parameters.put(parameter.getId(), parameter);
+    }
+
+    @Override
+    public DataSetList getDataSetListById(UUID uuid) {
+        return getDataSetList(dataSetLists.get(uuid));
+    }
+
+    @Override
+    public DataSet getDataSetById(UUID uuid) {
+        return getDataSet(dataSets.get(uuid));
+    }
+
+    @Override
+    public Attribute getAttributeById(UUID uuid) {
+        return getAttribute(attributes.get(uuid));
+    }
+
+    @Override
+    public Parameter getParameterById(UUID uuid) {
+        return getParameter(parameters.get(uuid));
+    }
+
+    private static class Installer extends Wrapper {
+        static void install(ModelsProvider provider) {
+            modelsProvider = provider;
+        }
+    }
+}
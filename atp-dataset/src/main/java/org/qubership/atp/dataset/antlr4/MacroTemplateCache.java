@@ -0,0 +1,100 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.antlr4;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.qubership.atp.macros.core.parser.antlr4.MacrosLexer;
+import org.qubership.atp.macros.core.parser.antlr4.MacrosParser;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Holds parse trees of the parameter texts produced by atp-macro parser.
+ * Parse tree does not depend on macro context, so it is built once per distinct text and then
+ * only walked by {@link MacroListener}, which binds it to the current context and position.
+ * Texts without macro and escape characters are not parsed at all.
+ */
+public final class MacroTemplateCache {
+
+    public static final String CACHE_NAME = "atp.dataset.macro.template.cache";
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private static final Cache<String, MacrosParser.BodyContext> TEMPLATES = Caffeine.newBuilder()
+            .maximumSize(DEFAULT_MAXIMUM_SIZE)
+            .recordStats()
+            .build();
+    private static final LongAdder PLAIN_TEXT_COUNT = new LongAdder();
+
+    private MacroTemplateCache() {
+    }
+
+    /**
+     * Checks that text can't contain any macro, quote or escape sequence, so atp-macro parser
+     * would return it as is.
+     */
+    public static boolean isPlainText(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            switch (text.charAt(i)) {
+                case '$':
+                case '#':
+                case '\\':
+                case '\'':
+                case '"':
+                    return false;
+                default:
+                    break;
+            }
+        }
+        PLAIN_TEXT_COUNT.increment();
+        return true;
+    }
+
+    /**
+     * Returns parse tree for the text, parses it on cache miss.
+     * Parse trees are read-only for listeners, so one instance can be walked by several threads.
+     */
+    public static MacrosParser.BodyContext getTemplate(String text) {
+        return TEMPLATES.get(text, MacroTemplateCache::parse);
+    }
+
+    public static void setMaximumSize(long maximumSize) {
+        TEMPLATES.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumSize));
+    }
+
+    public static void invalidateAll() {
+        TEMPLATES.invalidateAll();
+    }
+
+    public static Cache<String, MacrosParser.BodyContext> getCache() {
+        return TEMPLATES;
+    }
+
+    public static long getPlainTextCount() {
+        return PLAIN_TEXT_COUNT.sum();
+    }
+
+    private static MacrosParser.BodyContext parse(String text) {
+        MacrosLexer lexer = new MacrosLexer(CharStreams.fromString(text));
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        MacrosParser parser = new MacrosParser(tokens);
+        return parser.body();
+    }
+}
@@ -29,7 +29,6 @@ import org.qubership.atp.dataset.service.jpa.impl.macro.MacroContext;
 import org.qubership.atp.dataset.service.jpa.model.tree.params.AbstractTextParameter;
 import org.qubership.atp.dataset.service.jpa.model.tree.params.TextParameter;
 import org.qubership.atp.dataset.service.jpa.model.tree.params.macros.ParameterPositionContext;
-import org.qubership.atp.macros.core.parser.antlr4.MacrosLexer;
 import org.qubership.atp.macros.core.parser.antlr4.MacrosParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,16 +75,16 @@ public class TextParameterParser {
 
     /**
      * Use atp-macro parser. Needs datafix before usage.
+     * Parse trees are taken from {@link MacroTemplateCache}, texts without macros are returned as is.
      * */
     public List<AbstractTextParameter> parseUsingExternalParser(String textToParse, boolean setEvaluate) {
+        if (MacroTemplateCache.isPlainText(textToParse)) {
+            return Collections.singletonList(new TextParameter(textToParse, parameterPositionContext));
+        }
         try {
-            MacrosLexer lexer = new MacrosLexer(CharStreams.fromString(textToParse));
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            MacrosParser parser = new MacrosParser(tokens);
-            MacrosParser.BodyContext body = parser.body();
-            ParseTreeWalker walker = new ParseTreeWalker();
+            MacrosParser.BodyContext body = MacroTemplateCache.getTemplate(textToParse);
             MacroListener parameterListener = new MacroListener(context, parameterPositionContext, setEvaluate);
-            walker.walk(parameterListener, body);
+            ParseTreeWalker.DEFAULT.walk(parameterListener, body);
             return parameterListener.getParsedParameters();
         } catch (Exception e) {
             LOG.debug("Text parameter parse error '" + textToParse + "'", e);
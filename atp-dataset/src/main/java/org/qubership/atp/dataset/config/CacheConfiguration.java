@@ -21,9 +21,11 @@ import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+import org.qubership.atp.dataset.antlr4.MacroTemplateCache;
 import org.qubership.atp.dataset.constants.CacheEnum;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
@@ -36,11 +38,20 @@ import com.hazelcast.client.HazelcastClient;
 import com.hazelcast.client.config.ClientConfig;
 import com.hazelcast.client.config.ClientConnectionStrategyConfig;
 import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.config.NetworkConfig;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.properties.ClusterProperty;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 
 @Configuration
@@ -52,6 +63,8 @@ public class CacheConfiguration {
     public static final String CACHE_SERVER_NAME = "ATP-DATASETS-SERVER";
     public static final UUID CACHE_ID = UUID.randomUUID();
 
+    private static final int MIN_ENTRIES_PER_PARTITION = 4;
+
     @Value("${spring.cache.hazelcast.cluster-name}")
     private String cacheClusterName;
     @Value("${spring.cache.hazelcast.server.address}")
@@ -62,36 +75,54 @@ public class CacheConfiguration {
     private int hazelcastServerPort;
     @Value("${server.port}")
     private String serverPort;
+    @Value("${spring.cache.hazelcast.client.near-cache.enable:false}")
+    private boolean nearCacheEnable;
+    @Value("${spring.cache.hazelcast.partition-count:271}")
+    private int partitionCount;
 
     /**
      * Generates hazelcast instance client.
      *
      * @return instance
      */
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     @ConditionalOnProperty(name = "spring.cache.hazelcast.client.enable", havingValue = "true")
-    public CacheManager hazelcastCacheManager() {
+    public HazelcastInstance hazelcastClientInstance() {
         ClientConfig clientConfig = new ClientConfig();
         clientConfig.setInstanceName(CACHE_CLIENT_NAME + "on_port_" + serverPort + "_with_id_" + CACHE_ID);
         clientConfig.setClusterName(cacheClusterName);
         clientConfig.getNetworkConfig().addAddress(hazelcastServerAddress + ":" + hazelcastServerPort);
         clientConfig.getConnectionStrategyConfig()
                 .setReconnectMode(ClientConnectionStrategyConfig.ReconnectMode.ASYNC);
+        if (nearCacheEnable) {
+            addNearCacheConfigs(clientConfig);
+        }
         if (hazelcastServerEnable) {
             startCacheServer();
         }
         log.debug("Connect to HAZELCAST as client");
-        HazelcastInstance hzInstanceClient = HazelcastClient.newHazelcastClient(clientConfig);
+        return HazelcastClient.newHazelcastClient(clientConfig);
+    }
+
+    /**
+     * Generates hazelcast cache manager on top of the client.
+     *
+     * @return cache manager
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.hazelcast.client.enable", havingValue = "true")
+    public CacheManager hazelcastCacheManager(HazelcastInstance hzInstanceClient) {
         Config config = hzInstanceClient.getConfig();
+        int clusterPartitionCount = getPartitionCount(hzInstanceClient);
         for (CacheEnum key : CacheEnum.values()) {
             String name = key.getKey();
             try {
                 log.debug("Try to create map / change config for map {}", name);
                 MapConfig mapConfig = config.getMapConfigOrNull(name);
                 if (mapConfig == null) {
-                    config.addMapConfig(new MapConfig(name).setTimeToLiveSeconds(key.getTimeToLiveSec()));
+                    config.addMapConfig(applyLimits(new MapConfig(name), key, clusterPartitionCount));
                 } else {
-                    mapConfig.setTimeToLiveSeconds(key.getTimeToLiveSec());
+                    applyLimits(mapConfig, key, clusterPartitionCount);
                 }
             } catch (Exception failedCreate) {
                 log.warn("Adding of Map {} or changing its config is failed (may be, it already exists): ", name,
@@ -113,8 +144,9 @@ public class CacheConfiguration {
                 .setPortAutoIncrement(false)
                 .setReuseAddress(true);
         network.getJoin().getMulticastConfig().setEnabled(true);
+        config.setProperty(ClusterProperty.PARTITION_COUNT.getName(), String.valueOf(partitionCount));
         for (CacheEnum key : CacheEnum.values()) {
-            config.addMapConfig(new MapConfig(key.getKey()).setTimeToLiveSeconds(key.getTimeToLiveSec()));
+            config.addMapConfig(applyLimits(new MapConfig(key.getKey()), key, partitionCount));
         }
         config.setClusterName(cacheClusterName);
         try {
@@ -124,6 +156,45 @@ public class CacheConfiguration {
         }
     }
 
+    /**
+     * Near caches keep hot entries on the client, they are invalidated by the cluster on change.
+     */
+    private static void addNearCacheConfigs(ClientConfig clientConfig) {
+        for (CacheEnum key : CacheEnum.values()) {
+            if (key.isNearCache()) {
+                log.info("Enable near cache for map {}", key.getKey());
+                clientConfig.addNearCacheConfig(new NearCacheConfig(key.getKey())
+                        .setInvalidateOnChange(true)
+                        .setTimeToLiveSeconds(key.getTimeToLiveSec())
+                        .setEvictionConfig(new EvictionConfig()
+                                .setEvictionPolicy(EvictionPolicy.LRU)
+                                .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                                .setSize(key.getMaximumSize())));
+            }
+        }
+    }
+
+    /**
+     * Partition count of the cluster the client is connected to. Configured count is used
+     * until the client gets the partition table.
+     */
+    int getPartitionCount(HazelcastInstance hzInstanceClient) {
+        int clusterPartitionCount = hzInstanceClient.getPartitionService().getPartitions().size();
+        return clusterPartitionCount > 0 ? clusterPartitionCount : partitionCount;
+    }
+
+    /**
+     * Hazelcast splits per node size between partitions and keeps at least one entry in each of them,
+     * so size is raised to a few entries per partition, otherwise the limit is not applied as configured.
+     */
+    static MapConfig applyLimits(MapConfig mapConfig, CacheEnum key, int partitionCount) {
+        return mapConfig.setTimeToLiveSeconds(key.getTimeToLiveSec())
+                .setEvictionConfig(new EvictionConfig()
+                        .setEvictionPolicy(EvictionPolicy.LRU)
+                        .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
+                        .setSize(Math.max(key.getMaximumSize(), partitionCount * MIN_ENTRIES_PER_PARTITION)));
+    }
+
     /**
      * Caffeine cache manager.
      *
@@ -140,10 +211,52 @@ public class CacheConfiguration {
                     Caffeine.newBuilder()
                             .expireAfterWrite(key.getTimeToLiveSec(), TimeUnit.SECONDS)
                             .recordStats()
-                            .maximumSize(100).build(),
+                            .maximumSize(key.getMaximumSize()).build(),
                     true));
         }
         cacheManager.setCaches(caches);
         return cacheManager;
     }
+
+    /**
+     * Exposes statistics of caches from the cache manager: Caffeine caches in local mode,
+     * near caches in Hazelcast client mode.
+     *
+     * @param cacheManager cache manager of the application.
+     * @return binder of cache statistics meters.
+     */
+    @Bean
+    public MeterBinder cacheStatisticsMetrics(CacheManager cacheManager) {
+        return registry -> {
+            for (CacheEnum key : CacheEnum.values()) {
+                Cache cache = cacheManager.getCache(key.getKey());
+                Object nativeCache = cache == null ? null : cache.getNativeCache();
+                if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+                    CacheStatisticsMetrics.monitor(registry, key.getKey(), caffeineCache);
+                } else if (nativeCache instanceof IMap<?, ?> map && nearCacheEnable && key.isNearCache()) {
+                    CacheStatisticsMetrics.monitorNearCache(registry, key.getKey(), map);
+                }
+            }
+        };
+    }
+
+    /**
+     * Applies configured size to macro template cache and exposes its hit/miss statistics.
+     *
+     * @param maximumSize maximum count of parsed parameter texts kept in cache.
+     * @return binder of macro template cache meters.
+     */
+    @Bean
+    public MeterBinder macroTemplateCacheMetrics(
+            @Value("${atp-dataset.macro.template.cache.max-size:10000}") long maximumSize) {
+        log.info("Macro template cache maximum size: {}", maximumSize);
+        MacroTemplateCache.setMaximumSize(maximumSize);
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, MacroTemplateCache.getCache(), MacroTemplateCache.CACHE_NAME);
+            FunctionCounter.builder(MacroTemplateCache.CACHE_NAME + ".plain.text", MacroTemplateCache.class,
+                            clazz -> MacroTemplateCache.getPlainTextCount())
+                    .description("Parameter texts which skipped macro parsing")
+                    .register(registry);
+        };
+    }
 }
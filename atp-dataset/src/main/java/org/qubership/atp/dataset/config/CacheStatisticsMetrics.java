@@ -0,0 +1,107 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.config;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nearcache.NearCacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Statistics of application caches, registered with own names, so they don't clash with meters
+ * bound by Spring Boot for the cache manager.
+ */
+@UtilityClass
+public class CacheStatisticsMetrics {
+
+    public static final String HIT_RATIO = "atp.dataset.cache.hit.ratio";
+    public static final String EVICTIONS = "atp.dataset.cache.evictions";
+    public static final String LOADS = "atp.dataset.cache.loads";
+    public static final String SIZE = "atp.dataset.cache.size";
+    public static final String WEIGHT = "atp.dataset.cache.weight";
+
+    private static final String CACHE_TAG = "cache";
+
+    /**
+     * Registers statistics of Caffeine cache. Cache must be built with recordStats, weight is equal
+     * to size for caches without weigher.
+     */
+    public static void monitor(MeterRegistry registry, String cacheName, Cache<?, ?> cache) {
+        Gauge.builder(HIT_RATIO, cache, value -> value.stats().hitRate())
+                .description("Share of cache reads which found entry")
+                .tag(CACHE_TAG, cacheName)
+                .register(registry);
+        FunctionCounter.builder(EVICTIONS, cache, value -> value.stats().evictionCount())
+                .description("Entries evicted because of size, weight or expiration")
+                .tag(CACHE_TAG, cacheName)
+                .register(registry);
+        FunctionTimer.builder(LOADS, cache, value -> value.stats().loadCount(),
+                        value -> value.stats().totalLoadTime(), TimeUnit.NANOSECONDS)
+                .description("Loads of absent entries")
+                .tag(CACHE_TAG, cacheName)
+                .register(registry);
+        Gauge.builder(SIZE, cache, Cache::estimatedSize)
+                .description("Estimated number of entries")
+                .tag(CACHE_TAG, cacheName)
+                .register(registry);
+        Gauge.builder(WEIGHT, cache, value -> value.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(value.estimatedSize()))
+                        .orElse(value.estimatedSize()))
+                .description("Estimated weight of entries")
+                .tag(CACHE_TAG, cacheName)
+                .register(registry);
+    }
+
+    /**
+     * Registers statistics of near cache of Hazelcast client map, other statistics of the map are kept
+     * by cluster members.
+     */
+    public static void monitorNearCache(MeterRegistry registry, String cacheName, IMap<?, ?> map) {
+        Gauge.builder(HIT_RATIO, map, CacheStatisticsMetrics::nearCacheHitRatio)
+                .description("Share of cache reads which found entry")
+                .tag(CACHE_TAG, cacheName)
+                .register(registry);
+        FunctionCounter.builder(EVICTIONS, map, value -> nearCacheStats(value).getEvictions())
+                .description("Entries evicted because of size, weight or expiration")
+                .tag(CACHE_TAG, cacheName)
+                .register(registry);
+        Gauge.builder(SIZE, map, value -> nearCacheStats(value).getOwnedEntryCount())
+                .description("Estimated number of entries")
+                .tag(CACHE_TAG, cacheName)
+                .register(registry);
+        Gauge.builder(WEIGHT, map, value -> nearCacheStats(value).getOwnedEntryMemoryCost())
+                .description("Estimated weight of entries")
+                .tag(CACHE_TAG, cacheName)
+                .register(registry);
+    }
+
+    private static double nearCacheHitRatio(IMap<?, ?> map) {
+        NearCacheStats stats = nearCacheStats(map);
+        long requests = stats.getHits() + stats.getMisses();
+        return requests == 0 ? 0 : (double) stats.getHits() / requests;
+    }
+
+    private static NearCacheStats nearCacheStats(IMap<?, ?> map) {
+        return map.getLocalMapStats().getNearCacheStats();
+    }
+}
@@ -17,6 +17,7 @@
 package org.qubership.atp.dataset.config;
 
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,8 +26,10 @@ import java.util.UUID;
 
 import org.bson.Document;
 import org.bson.UuidRepresentation;
+import org.bson.types.ObjectId;
 import org.qubership.atp.dataset.db.GridFsRepository;
 import org.qubership.atp.dataset.db.GridFsRepositoryImpl;
+import org.qubership.atp.dataset.db.dto.GridFsRechunkBatch;
 import org.qubership.atp.dataset.model.impl.file.FileData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,6 +66,8 @@ public class GridFsConfiguration {
     private String user;
     @Value("${gridfs.password:#{null}}")
     private String password;
+    @Value("${gridfs.chunk-size-bytes:261120}")
+    private int chunkSizeBytes;
 
     /**
      * Provides stub repository if gridFs properties are not provided. Used in cases when file
@@ -72,7 +77,7 @@ public class GridFsConfiguration {
     public GridFsRepository provideRepo(MeterRegistry meterRegistry) {
         try {
             GridFSBucket gridFsBucket = provideGridFileSystemBuckets(meterRegistry);
-            return new GridFsRepositoryImpl(gridFsBucket);
+            return new GridFsRepositoryImpl(gridFsBucket, chunkSizeBytes);
         } catch (Exception e) {
             String message = "Can not initialize grid fs module, will use mock instead";
             LOG.warn(message, e);
@@ -92,6 +97,21 @@ public class GridFsConfiguration {
                     return Optional.empty();
                 }
 
+                @Override
+                public Map<UUID, GridFSFile> getGridFsFiles(Collection<UUID> attachmentUuids) {
+                    return new HashMap<>();
+                }
+
+                @Override
+                public InputStream openDownloadStream(GridFSFile file) {
+                    throw exception;
+                }
+
+                @Override
+                public void copy(GridFSFile source, UUID targetParameterUuid) {
+                    throw exception;
+                }
+
                 @Override
                 public Optional<InputStream> get(UUID parameterUuid) {
                     return Optional.empty();
@@ -107,6 +127,11 @@ public class GridFsConfiguration {
                     return Optional.empty();
                 }
 
+                @Override
+                public GridFsRechunkBatch rechunk(ObjectId after, int limit) {
+                    return new GridFsRechunkBatch(0, 0, after);
+                }
+
                 @Override
                 public void onDeleteCascade(List<UUID> parameters) {
                 }
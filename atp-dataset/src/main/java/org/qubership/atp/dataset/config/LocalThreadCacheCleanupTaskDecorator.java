@@ -0,0 +1,47 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.config;
+
+import org.qubership.atp.dataset.service.jpa.model.CacheCleanupService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskDecorator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Drops local thread caches after each task, so pooled threads don't carry them over to the next task.
+ * Tasks run by the submitting thread (caller-runs rejection) leave caches of that thread untouched.
+ */
+@RequiredArgsConstructor
+public class LocalThreadCacheCleanupTaskDecorator implements TaskDecorator {
+
+    private final ObjectProvider<CacheCleanupService> cacheCleanupService;
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Thread submitter = Thread.currentThread();
+        return () -> {
+            try {
+                runnable.run();
+            } finally {
+                if (Thread.currentThread() != submitter) {
+                    cacheCleanupService.ifAvailable(CacheCleanupService::cleanAllLocalThreadCache);
+                }
+            }
+        };
+    }
+}
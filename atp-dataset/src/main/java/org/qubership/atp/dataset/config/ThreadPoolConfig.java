@@ -18,11 +18,15 @@ package org.qubership.atp.dataset.config;
 
 import java.util.concurrent.ThreadPoolExecutor;
 
+import org.qubership.atp.dataset.service.jpa.model.CacheCleanupService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
@@ -33,6 +37,13 @@ public class ThreadPoolConfig {
 
     private static final String THREAD_NAME_PREFIX = "ArchiveJob-";
     private static final String THREAD_NAME_ASYNC_COPY_PREFIX = "AsyncCopy-";
+    private static final String THREAD_NAME_MACROS_REFRESH_PREFIX = "MacrosRefresh-";
+    private static final String THREAD_NAME_ATP_BULK_PREFIX = "AtpBulk-";
+    private static final String THREAD_NAME_FILE_COPY_PREFIX = "FileCopy-";
+    private static final String THREAD_NAME_EXCEL_EXPORT_PREFIX = "ExcelExport-";
+    private static final String THREAD_NAME_WEB_SOCKET_SEND_PREFIX = "WebSocketSend-";
+    private static final String THREAD_NAME_WEB_SOCKET_CLOSE_PREFIX = "WebSocketClose-";
+    private static final String THREAD_NAME_HISTORY_INDEX_PREFIX = "HistoryIndex-";
 
     @Value("${atp-dataset.archive.job.thread.max-pool-size}")
     private Integer maxPoolSize;
@@ -40,6 +51,28 @@ public class ThreadPoolConfig {
     private Integer corePoolSize;
     @Value("${atp-dataset.archive.job.thread.queue-capacity}")
     private Integer queueCapacity;
+    @Value("${atp-dataset.atp.bulk.thread.pool-size:4}")
+    private Integer atpBulkPoolSize;
+    @Value("${atp-dataset.atp.bulk.thread.queue-capacity:1000}")
+    private Integer atpBulkQueueCapacity;
+    @Value("${atp-dataset.dsl.copy.file.thread.pool-size:4}")
+    private Integer fileCopyPoolSize;
+    @Value("${atp-dataset.dsl.copy.file.thread.queue-capacity:1000}")
+    private Integer fileCopyQueueCapacity;
+    @Value("${atp-dataset.excel.export.thread.pool-size:4}")
+    private Integer excelExportPoolSize;
+    @Value("${atp-dataset.excel.export.thread.queue-capacity:100}")
+    private Integer excelExportQueueCapacity;
+    @Value("${atp-dataset.ws.send.thread.pool-size:4}")
+    private Integer webSocketSendPoolSize;
+    @Value("${atp-dataset.ws.close.thread.pool-size:2}")
+    private Integer webSocketClosePoolSize;
+    @Value("${atp-dataset.history.index.thread.pool-size:2}")
+    private Integer historyIndexPoolSize;
+    @Value("${atp-dataset.history.index.thread.queue-capacity:1000}")
+    private Integer historyIndexQueueCapacity;
+    @Autowired
+    private ObjectProvider<CacheCleanupService> cacheCleanupService;
 
     /**
      * Archive job thread pool task executor.
@@ -57,6 +90,138 @@ public class ThreadPoolConfig {
         return new DelegatingSecurityContextAsyncTaskExecutor(createExecutor(THREAD_NAME_ASYNC_COPY_PREFIX));
     }
 
+    /**
+     * Executor for parallel evaluation of DS tree copies in bulk ATP requests.
+     * Copies which don't fit the queue are evaluated by the request thread.
+     *
+     * @return {@link AsyncTaskExecutor} the task executor
+     */
+    @Qualifier("atpBulkEvaluationExecutor")
+    @Bean("atpBulkEvaluationExecutor")
+    public AsyncTaskExecutor atpBulkEvaluationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setMaxPoolSize(atpBulkPoolSize);
+        executor.setCorePoolSize(atpBulkPoolSize);
+        executor.setQueueCapacity(atpBulkQueueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix(THREAD_NAME_ATP_BULK_PREFIX);
+        executor.setTaskDecorator(localThreadCacheCleanup());
+        executor.initialize();
+        return new DelegatingSecurityContextAsyncTaskExecutor(executor);
+    }
+
+    /**
+     * Executor for background refresh of cached atp-macros definitions.
+     * Refresh of the same visibility area is never queued twice, so the small pool is enough.
+     *
+     * @return {@link ThreadPoolTaskExecutor} the thread pool task executor
+     */
+    @Qualifier("macrosRefreshTaskExecutor")
+    @Bean("macrosRefreshTaskExecutor")
+    public ThreadPoolTaskExecutor macrosRefreshTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setMaxPoolSize(2);
+        executor.setCorePoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix(THREAD_NAME_MACROS_REFRESH_PREFIX);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for concurrent GridFS file copies and exports.
+     * Files which don't fit the queue are copied by the copying thread.
+     *
+     * @return {@link ThreadPoolTaskExecutor} the thread pool task executor
+     */
+    @Qualifier("fileCopyTaskExecutor")
+    @Bean("fileCopyTaskExecutor")
+    public ThreadPoolTaskExecutor fileCopyTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setMaxPoolSize(fileCopyPoolSize);
+        executor.setCorePoolSize(fileCopyPoolSize);
+        executor.setQueueCapacity(fileCopyQueueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix(THREAD_NAME_FILE_COPY_PREFIX);
+        executor.setTaskDecorator(localThreadCacheCleanup());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for parallel building of DSL trees in multi-DSL Excel export.
+     * Trees which don't fit the queue are built by the exporting thread.
+     * Security context of the exporting user is propagated, since trees are read under its permissions.
+     *
+     * @return {@link AsyncTaskExecutor} the task executor
+     */
+    @Qualifier("excelExportTaskExecutor")
+    @Bean("excelExportTaskExecutor")
+    public AsyncTaskExecutor excelExportTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setMaxPoolSize(excelExportPoolSize);
+        executor.setCorePoolSize(excelExportPoolSize);
+        executor.setQueueCapacity(excelExportQueueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix(THREAD_NAME_EXCEL_EXPORT_PREFIX);
+        executor.setTaskDecorator(localThreadCacheCleanup());
+        executor.initialize();
+        return new DelegatingSecurityContextAsyncTaskExecutor(executor);
+    }
+
+    /**
+     * Executor for sending collaboration events to websocket sessions.
+     * Each session has at most one queued task, so the queue is not limited.
+     *
+     * @return {@link ThreadPoolTaskExecutor} the thread pool task executor
+     */
+    @Qualifier("webSocketSendTaskExecutor")
+    @Bean("webSocketSendTaskExecutor")
+    public ThreadPoolTaskExecutor webSocketSendTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setMaxPoolSize(webSocketSendPoolSize);
+        executor.setCorePoolSize(webSocketSendPoolSize);
+        executor.setThreadNamePrefix(THREAD_NAME_WEB_SOCKET_SEND_PREFIX);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for closing websocket sessions which exceeded the backlog of unsent events.
+     * Closing of a stuck session may block, so it is separated from the sender executor.
+     *
+     * @return {@link ThreadPoolTaskExecutor} the thread pool task executor
+     */
+    @Qualifier("webSocketCloseTaskExecutor")
+    @Bean("webSocketCloseTaskExecutor")
+    public ThreadPoolTaskExecutor webSocketCloseTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setMaxPoolSize(webSocketClosePoolSize);
+        executor.setCorePoolSize(webSocketClosePoolSize);
+        executor.setThreadNamePrefix(THREAD_NAME_WEB_SOCKET_CLOSE_PREFIX);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for background indexing of DSL history.
+     * Rejected DSLs are indexed on the next history request or by the backfill job.
+     *
+     * @return {@link ThreadPoolTaskExecutor} the thread pool task executor
+     */
+    @Qualifier("historyIndexTaskExecutor")
+    @Bean("historyIndexTaskExecutor")
+    public ThreadPoolTaskExecutor historyIndexTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setMaxPoolSize(historyIndexPoolSize);
+        executor.setCorePoolSize(historyIndexPoolSize);
+        executor.setQueueCapacity(historyIndexQueueCapacity);
+        executor.setThreadNamePrefix(THREAD_NAME_HISTORY_INDEX_PREFIX);
+        executor.setTaskDecorator(localThreadCacheCleanup());
+        executor.initialize();
+        return executor;
+    }
+
     private ThreadPoolTaskExecutor createExecutor(String prefix) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setMaxPoolSize(maxPoolSize);
@@ -65,7 +230,12 @@ public class ThreadPoolConfig {
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setThreadNamePrefix(prefix);
+        executor.setTaskDecorator(localThreadCacheCleanup());
         executor.initialize();
         return executor;
     }
+
+    private TaskDecorator localThreadCacheCleanup() {
+        return new LocalThreadCacheCleanupTaskDecorator(cacheCleanupService);
+    }
 }
@@ -18,29 +18,39 @@ package org.qubership.atp.dataset.constants;
 
 import lombok.Getter;
 
+/**
+ * Shared caches with time to live, maximum entry count per node and flag of near cache
+ * for Hazelcast client mode. Near cache is enabled for small, frequently read entries.
+ */
 public enum CacheEnum {
-    AUTH_PROJECT_CACHE(Constants.AUTH_PROJECT_CACHE, 120),
-    PROJECT_CACHE(Constants.PROJECT_CACHE, 600),
-    DATASET_LIST_CONTEXT_CACHE(Constants.DATASET_LIST_CONTEXT_CACHE, 600),
-    JAVERS_DIFF_CACHE(Constants.JAVERS_DIFF_CACHE, 600),
-    PARAMETER_CACHE(Constants.PARAMETER_CACHE, 600);
+    AUTH_PROJECT_CACHE(Constants.AUTH_PROJECT_CACHE, 120, 1000, true),
+    PROJECT_CACHE(Constants.PROJECT_CACHE, 600, 1000, true),
+    JAVERS_DIFF_CACHE(Constants.JAVERS_DIFF_CACHE, 600, 200, false),
+    PARAMETER_CACHE(Constants.PARAMETER_CACHE, 600, 20000, true),
+    MACROS_CACHE(Constants.MACROS_CACHE, 300, 1000, true);
 
     @Getter
     private final String key;
     @Getter
     private final int timeToLiveSec;
+    @Getter
+    private final int maximumSize;
+    @Getter
+    private final boolean nearCache;
 
-    CacheEnum(String key, int timeToLiveSec) {
+    CacheEnum(String key, int timeToLiveSec, int maximumSize, boolean nearCache) {
         this.key = key;
         this.timeToLiveSec = timeToLiveSec;
+        this.maximumSize = maximumSize;
+        this.nearCache = nearCache;
     }
 
     public static class Constants {
         public static final String AUTH_PROJECT_CACHE = "auth_projects";
 
         public static final String PROJECT_CACHE = "ATP_DATASETS_PROJECTS_OS";
-        public static final String DATASET_LIST_CONTEXT_CACHE = "ATP_DATASETS_DATASET_LIST_CONTEXT_CACHE_OS";
         public static final String JAVERS_DIFF_CACHE = "JAVERS_DIFF_CACHE_OS";
         public static final String PARAMETER_CACHE = "ATP_DATASETS_PARAMETER_CACHE_OS";
+        public static final String MACROS_CACHE = "ATP_DATASETS_MACROS_CACHE_OS";
     }
 }
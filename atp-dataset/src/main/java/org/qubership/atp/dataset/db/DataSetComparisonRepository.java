@@ -0,0 +1,167 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.annotation.Nonnull;
+
+import org.qubership.atp.dataset.db.dto.AttributeNameTypeDto;
+import org.qubership.atp.dataset.db.dto.ComparedParameterDto;
+import org.qubership.atp.dataset.model.impl.DataSetShort;
+import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.sql.SQLQueryFactory;
+
+/**
+ * Projections of datasets content used by datasets comparison. Each method reads
+ * the data of all requested datasets by one query.
+ */
+@Repository
+public class DataSetComparisonRepository extends AbstractRepository {
+
+    private final SQLQueryFactory queryFactory;
+
+    public DataSetComparisonRepository(@Nonnull SQLQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * Parameters and overlaps of datasets with names and types of their attributes.
+     */
+    @Nonnull
+    public List<ComparedParameterDto> getParameters(@Nonnull Collection<UUID> dataSetIds) {
+        List<ComparedParameterDto> result = new ArrayList<>();
+        for (Tuple row : queryFactory
+                .select(PARAM.datasetId, PARAM.id, PARAM.attributeId, AK.key, ATTR.name, ATTR.attributeTypeId,
+                        PARAM.string, PARAM.ds, LV.text)
+                .from(PARAM)
+                .leftJoin(AK).on(AK.id.eq(PARAM.attributeId))
+                .innerJoin(ATTR).on(ATTR.id.eq(PARAM.attributeId).or(ATTR.id.eq(AK.attributeId)))
+                .leftJoin(LV).on(LV.id.eq(PARAM.list))
+                .where(PARAM.datasetId.in(dataSetIds))
+                .fetch()) {
+            result.add(new ComparedParameterDto(row.get(PARAM.datasetId), row.get(PARAM.id),
+                    row.get(PARAM.attributeId), row.get(AK.key), row.get(ATTR.name),
+                    toTypeName(row.get(ATTR.attributeTypeId)), row.get(PARAM.string), row.get(PARAM.ds),
+                    row.get(LV.text)));
+        }
+        return result;
+    }
+
+    /**
+     * Data set list ids of datasets.
+     */
+    @Nonnull
+    public Map<UUID, UUID> getDataSetListIds(@Nonnull Collection<UUID> dataSetIds) {
+        Map<UUID, UUID> result = new HashMap<>();
+        for (Tuple row : queryFactory
+                .select(DS.id, DS.datasetlistId)
+                .from(DS)
+                .where(DS.id.in(dataSetIds))
+                .fetch()) {
+            result.put(row.get(DS.id), row.get(DS.datasetlistId));
+        }
+        return result;
+    }
+
+    /**
+     * Counts of attributes of data set lists.
+     */
+    @Nonnull
+    public Map<UUID, Long> countAttributes(@Nonnull Collection<UUID> dataSetListIds) {
+        Map<UUID, Long> result = new HashMap<>();
+        NumberExpression<Long> count = ATTR.id.count();
+        for (Tuple row : queryFactory
+                .select(ATTR.datasetlistId, count)
+                .from(ATTR)
+                .where(ATTR.datasetlistId.in(dataSetListIds))
+                .groupBy(ATTR.datasetlistId)
+                .fetch()) {
+            result.put(row.get(ATTR.datasetlistId), row.get(count));
+        }
+        return result;
+    }
+
+    /**
+     * Attributes of data set lists.
+     */
+    @Nonnull
+    public List<AttributeNameTypeDto> getAttributes(@Nonnull Collection<UUID> dataSetListIds) {
+        List<AttributeNameTypeDto> result = new ArrayList<>();
+        for (Tuple row : queryFactory
+                .select(ATTR.id, ATTR.datasetlistId, ATTR.name, ATTR.attributeTypeId)
+                .from(ATTR)
+                .where(ATTR.datasetlistId.in(dataSetListIds))
+                .fetch()) {
+            result.add(new AttributeNameTypeDto(row.get(ATTR.id), row.get(ATTR.datasetlistId),
+                    row.get(ATTR.name), toTypeName(row.get(ATTR.attributeTypeId))));
+        }
+        return result;
+    }
+
+    /**
+     * Names of attributes, e.g. of overlap paths.
+     */
+    @Nonnull
+    public Map<UUID, String> getAttributeNames(@Nonnull Collection<UUID> attributeIds) {
+        Map<UUID, String> result = new HashMap<>();
+        if (attributeIds.isEmpty()) {
+            return result;
+        }
+        for (Tuple row : queryFactory
+                .select(ATTR.id, ATTR.name)
+                .from(ATTR)
+                .where(ATTR.id.in(attributeIds))
+                .fetch()) {
+            result.put(row.get(ATTR.id), row.get(ATTR.name));
+        }
+        return result;
+    }
+
+    /**
+     * Short info of referenced datasets.
+     */
+    @Nonnull
+    public Map<UUID, DataSetShort> getDataSetShorts(@Nonnull Collection<UUID> dataSetIds) {
+        Map<UUID, DataSetShort> result = new HashMap<>();
+        if (dataSetIds.isEmpty()) {
+            return result;
+        }
+        for (Tuple row : queryFactory
+                .select(DS.id, DS.datasetlistId, DS.name)
+                .from(DS)
+                .where(DS.id.in(dataSetIds))
+                .fetch()) {
+            result.put(row.get(DS.id), new DataSetShort(row.get(DS.datasetlistId), row.get(DS.id), row.get(DS.name)));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private static AttributeTypeName toTypeName(Short attributeTypeId) {
+        return AttributeTypeName.getTypeById(attributeTypeId.longValue());
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.annotation.Nonnull;
+
+import org.qubership.atp.dataset.model.AttributeType;
+import org.qubership.atp.dataset.service.jpa.model.copy.DataSetListBulkCopyData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.sql.RelationalPath;
+import com.querydsl.sql.SQLQueryFactory;
+import com.querydsl.sql.dml.SQLInsertClause;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Copies content of DSL by set based selects and JDBC batch inserts.
+ * Ids of copies are generated in advance, so no generated key is read back and no row is inserted alone.
+ */
+@Slf4j
+@Repository
+public class DataSetListCopyRepository extends AbstractRepository {
+
+    private final SQLQueryFactory queryFactory;
+    private final int batchSize;
+
+    public DataSetListCopyRepository(@Nonnull SQLQueryFactory queryFactory,
+                                     @Value("${atp-dataset.dsl.copy.batch-size:500}") int batchSize) {
+        this.queryFactory = queryFactory;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Copies attributes with list values, data sets with parameters and overlaps of source DSL
+     * to already created target DSL. Values are copied the same way as
+     * {@link org.qubership.atp.dataset.service.jpa.delegates.DataSetList#duplicate} does,
+     * files are not copied, but returned in {@link DataSetListBulkCopyData#getFileParametersMap()}.
+     */
+    @Nonnull
+    public DataSetListBulkCopyData copy(@Nonnull UUID sourceDataSetListId, @Nonnull UUID targetDataSetListId) {
+        DataSetListBulkCopyData copyData = new DataSetListBulkCopyData();
+        Map<UUID, AttributeType> attributeTypes = copyAttributes(sourceDataSetListId, targetDataSetListId, copyData);
+        copyListValues(sourceDataSetListId, copyData);
+        copyDataSets(sourceDataSetListId, targetDataSetListId, copyData);
+        copyParameters(sourceDataSetListId, attributeTypes, copyData);
+        copyOverlaps(sourceDataSetListId, targetDataSetListId, copyData);
+        return copyData;
+    }
+
+    private Map<UUID, AttributeType> copyAttributes(UUID sourceDataSetListId, UUID targetDataSetListId,
+                                                    DataSetListBulkCopyData copyData) {
+        Map<UUID, AttributeType> attributeTypes = new HashMap<>();
+        BatchInsert insert = new BatchInsert(ATTR);
+        for (Tuple row : queryFactory
+                .select(ATTR.id, ATTR.name, ATTR.ordering, ATTR.attributeTypeId, ATTR.typeDatasetlistId)
+                .from(ATTR)
+                .where(ATTR.datasetlistId.eq(sourceDataSetListId))
+                .fetch()) {
+            UUID attributeId = row.get(ATTR.id);
+            Short attributeTypeId = row.get(ATTR.attributeTypeId);
+            assert attributeTypeId != null;
+            UUID copyId = UUID.randomUUID();
+            copyData.getAttributesMap().put(attributeId, copyId);
+            attributeTypes.put(attributeId, AttributeType.from(attributeTypeId));
+            insert.clause()
+                    .set(ATTR.id, copyId)
+                    .set(ATTR.datasetlistId, targetDataSetListId)
+                    .set(ATTR.name, row.get(ATTR.name))
+                    .set(ATTR.ordering, row.get(ATTR.ordering))
+                    .set(ATTR.attributeTypeId, attributeTypeId)
+                    .set(ATTR.typeDatasetlistId, row.get(ATTR.typeDatasetlistId));
+            insert.addBatch();
+        }
+        log.debug("Copied {} attributes of DSL {}", insert.execute(), sourceDataSetListId);
+        return attributeTypes;
+    }
+
+    private void copyListValues(UUID sourceDataSetListId, DataSetListBulkCopyData copyData) {
+        BatchInsert insert = new BatchInsert(LV);
+        for (Tuple row : queryFactory
+                .select(LV.id, LV.attributeId, LV.text)
+                .from(LV)
+                .innerJoin(ATTR).on(LV.attributeId.eq(ATTR.id))
+                .where(ATTR.datasetlistId.eq(sourceDataSetListId))
+                .fetch()) {
+            UUID attributeId = row.get(LV.attributeId);
+            UUID copyId = UUID.randomUUID();
+            copyData.getListValuesMap(attributeId).put(row.get(LV.id), copyId);
+            insert.clause()
+                    .set(LV.id, copyId)
+                    .set(LV.attributeId, copyData.getAttributesMap().get(attributeId))
+                    .set(LV.text, row.get(LV.text));
+            insert.addBatch();
+        }
+        log.debug("Copied {} list values of DSL {}", insert.execute(), sourceDataSetListId);
+    }
+
+    private void copyDataSets(UUID sourceDataSetListId, UUID targetDataSetListId, DataSetListBulkCopyData copyData) {
+        BatchInsert insert = new BatchInsert(DS);
+        for (Tuple row : queryFactory
+                .select(DS.id, DS.name, DS.ordering)
+                .from(DS)
+                .where(DS.datasetlistId.eq(sourceDataSetListId))
+                .orderBy(DS.ordering.asc())
+                .fetch()) {
+            UUID copyId = UUID.randomUUID();
+            copyData.getDataSetsMap().put(row.get(DS.id), copyId);
+            insert.clause()
+                    .set(DS.id, copyId)
+                    .set(DS.datasetlistId, targetDataSetListId)
+                    .set(DS.name, row.get(DS.name))
+                    .set(DS.ordering, row.get(DS.ordering))
+                    .set(DS.locked, false);
+            insert.addBatch();
+        }
+        log.debug("Copied {} data sets of DSL {}", insert.execute(), sourceDataSetListId);
+    }
+
+    private void copyParameters(UUID sourceDataSetListId, Map<UUID, AttributeType> attributeTypes,
+                                DataSetListBulkCopyData copyData) {
+        BatchInsert insert = new BatchInsert(PARAM);
+        for (Tuple row : queryFactory
+                .select(PARAM.id, PARAM.datasetId, PARAM.attributeId, PARAM.string, PARAM.ds, PARAM.list)
+                .from(PARAM)
+                .innerJoin(ATTR).on(PARAM.attributeId.eq(ATTR.id))
+                .where(ATTR.datasetlistId.eq(sourceDataSetListId))
+                .fetch()) {
+            UUID dataSetCopyId = copyData.getDataSetsMap().get(row.get(PARAM.datasetId));
+            if (dataSetCopyId == null) {
+                log.warn("Parameter {} of DSL {} belongs to another DSL data set, it is not copied",
+                        row.get(PARAM.id), sourceDataSetListId);
+                continue;
+            }
+            UUID attributeId = row.get(PARAM.attributeId);
+            UUID copyId = UUID.randomUUID();
+            String stringValue = null;
+            UUID dataSetReference = null;
+            UUID listValue = null;
+            switch (attributeTypes.get(attributeId)) {
+                case CHANGE:
+                case ENCRYPTED:
+                case TEXT:
+                    stringValue = row.get(PARAM.string);
+                    break;
+                case DSL:
+                    dataSetReference = row.get(PARAM.ds);
+                    break;
+                case FILE:
+                    copyData.getFileParametersMap().put(row.get(PARAM.id), copyId);
+                    break;
+                case LIST:
+                    if (row.get(PARAM.list) != null) {
+                        listValue = copyData.getListValuesMap(attributeId).get(row.get(PARAM.list));
+                    }
+                    break;
+                default:
+            }
+            setParameter(insert.clause(), copyId, dataSetCopyId, copyData.getAttributesMap().get(attributeId),
+                    stringValue, dataSetReference, listValue);
+            insert.addBatch();
+        }
+        log.debug("Copied {} parameters of DSL {}", insert.execute(), sourceDataSetListId);
+    }
+
+    /**
+     * Copies overlaps with the same path. Key of overlapped attribute of the DSL itself is switched to the copy,
+     * referenced DS is switched to the copy if it is a data set of the DSL.
+     */
+    private void copyOverlaps(UUID sourceDataSetListId, UUID targetDataSetListId, DataSetListBulkCopyData copyData) {
+        Map<UUID, Tuple> overlapParameters = new HashMap<>();
+        for (Tuple row : queryFactory
+                .select(PARAM.id, PARAM.attributeId, PARAM.string, PARAM.ds, PARAM.list)
+                .from(PARAM)
+                .innerJoin(AK).on(PARAM.attributeId.eq(AK.id))
+                .where(AK.datasetlistId.eq(sourceDataSetListId))
+                .fetch()) {
+            overlapParameters.putIfAbsent(row.get(PARAM.attributeId), row);
+        }
+        BatchInsert keysInsert = new BatchInsert(AK);
+        BatchInsert parametersInsert = new BatchInsert(PARAM);
+        Map<UUID, UUID> dataSetsMap = copyData.getDataSetsMap();
+        List<Tuple> attributeKeys = queryFactory
+                .select(AK.id, AK.key, AK.attributeId, AK.datasetId, ATTR.attributeTypeId)
+                .from(AK)
+                .innerJoin(ATTR).on(AK.attributeId.eq(ATTR.id))
+                .where(AK.datasetlistId.eq(sourceDataSetListId))
+                .fetch();
+        for (Tuple row : attributeKeys) {
+            UUID dataSetCopyId = dataSetsMap.get(row.get(AK.datasetId));
+            if (dataSetCopyId == null) {
+                log.warn("Overlap {} of DSL {} belongs to another DSL data set, it is not copied",
+                        row.get(AK.id), sourceDataSetListId);
+                continue;
+            }
+            UUID attributeId = row.get(AK.attributeId);
+            UUID keyCopyId = UUID.randomUUID();
+            keysInsert.clause()
+                    .set(AK.id, keyCopyId)
+                    .set(AK.key, row.get(AK.key))
+                    .set(AK.datasetlistId, targetDataSetListId)
+                    .set(AK.datasetId, dataSetCopyId)
+                    .set(AK.attributeId, copyData.getAttributesMap().getOrDefault(attributeId, attributeId));
+            keysInsert.addBatch();
+
+            Tuple parameter = overlapParameters.get(row.get(AK.id));
+            UUID parameterCopyId = UUID.randomUUID();
+            String stringValue = null;
+            UUID dataSetReference = null;
+            UUID listValue = null;
+            if (parameter != null) {
+                Short attributeTypeId = row.get(ATTR.attributeTypeId);
+                assert attributeTypeId != null;
+                switch (AttributeType.from(attributeTypeId)) {
+                    case CHANGE:
+                    case ENCRYPTED:
+                    case TEXT:
+                        stringValue = parameter.get(PARAM.string);
+                        break;
+                    case LIST:
+                        listValue = parameter.get(PARAM.list);
+                        break;
+                    case FILE:
+                        copyData.getFileParametersMap().put(parameter.get(PARAM.id), parameterCopyId);
+                        break;
+                    case DSL:
+                        dataSetReference = parameter.get(PARAM.ds);
+                        if (dataSetReference != null) {
+                            dataSetReference = dataSetsMap.getOrDefault(dataSetReference, dataSetReference);
+                        }
+                        break;
+                    default:
+                }
+            }
+            setParameter(parametersInsert.clause(), parameterCopyId, dataSetCopyId, keyCopyId,
+                    stringValue, dataSetReference, listValue);
+            parametersInsert.addBatch();
+        }
+        log.debug("Copied {} overlaps of DSL {}", keysInsert.execute(), sourceDataSetListId);
+        parametersInsert.execute();
+    }
+
+    private static void setParameter(SQLInsertClause clause, UUID id, UUID dataSetId, UUID attributeId,
+                                     String stringValue, UUID dataSetReference, UUID listValue) {
+        clause.set(PARAM.id, id)
+                .set(PARAM.datasetId, dataSetId)
+                .set(PARAM.attributeId, attributeId)
+                .set(PARAM.string, stringValue)
+                .set(PARAM.ds, dataSetReference)
+                .set(PARAM.list, listValue);
+    }
+
+    /**
+     * Insert clause, executed each time it collects batch size rows.
+     * Every row sets the same columns, so batch is sent as a single prepared statement.
+     */
+    private class BatchInsert {
+        private final RelationalPath<?> table;
+        private SQLInsertClause clause;
+        private long inserted;
+
+        BatchInsert(RelationalPath<?> table) {
+            this.table = table;
+            this.clause = queryFactory.insert(table);
+        }
+
+        SQLInsertClause clause() {
+            return clause;
+        }
+
+        void addBatch() {
+            clause.addBatch();
+            if (clause.getBatchCount() >= batchSize) {
+                flush();
+            }
+        }
+
+        long execute() {
+            flush();
+            return inserted;
+        }
+
+        private void flush() {
+            if (clause.getBatchCount() > 0) {
+                clause.setBatchToBulk(false);
+                inserted += clause.execute();
+                clause = queryFactory.insert(table);
+            }
+        }
+    }
+}
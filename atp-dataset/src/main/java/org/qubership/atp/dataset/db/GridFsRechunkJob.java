@@ -0,0 +1,62 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db;
+
+import org.bson.types.ObjectId;
+import org.qubership.atp.dataset.db.dto.GridFsRechunkBatch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GridFsRechunkJob {
+
+    private static final String UTC_TIMEZONE = "UTC";
+
+    private final GridFsRepository gridFsRepository;
+
+    @Value("${atp-dataset.gridfs.rechunk.job.batch-size:100}")
+    private int batchSize = 100;
+
+    /**
+     * Job that rewrites attachments stored with an outdated chunk size. Files are processed in batches
+     * in order of id, the run stops on the first incomplete batch and continues with the next schedule.
+     * Files which failed to rewrite are skipped until the next run.
+     */
+    @Scheduled(cron = "${atp-dataset.gridfs.rechunk.cron.expression:-}", zone = UTC_TIMEZONE)
+    @SchedulerLock(name = "${atp-dataset.gridfs.rechunk.job.name:atp-dataset-gridfs-rechunk-job}",
+            lockAtMostFor = "12h", lockAtLeastFor = "1m")
+    public void run() {
+        int total = 0;
+        int failed = 0;
+        ObjectId lastFileId = null;
+        GridFsRechunkBatch batch;
+        do {
+            batch = gridFsRepository.rechunk(lastFileId, batchSize);
+            lastFileId = batch.getLastFileId();
+            total += batch.getRechunked();
+            failed += batch.getFound() - batch.getRechunked();
+        } while (batch.getFound() == batchSize);
+        log.info("GridFs rechunk job finished, rewritten files: {}, failed files: {}", total, failed);
+    }
+}
@@ -17,11 +17,16 @@
 package org.qubership.atp.dataset.db;
 
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import jakarta.annotation.Nullable;
+
+import org.bson.types.ObjectId;
+import org.qubership.atp.dataset.db.dto.GridFsRechunkBatch;
 import org.qubership.atp.dataset.model.Parameter;
 import org.qubership.atp.dataset.model.impl.file.FileData;
 
@@ -50,6 +55,24 @@ public interface GridFsRepository {
      */
     Optional<GridFSFile> getGridFsFile(UUID attachmentUuid);
 
+    /**
+     * Get GridFS files of attachments by one query and cache their metadata for current thread.
+     *
+     * @param attachmentUuids uuids of {@link Parameter}
+     * @return GridFS files mapped to parameter uuid
+     */
+    Map<UUID, GridFSFile> getGridFsFiles(Collection<UUID> attachmentUuids);
+
+    /**
+     * Open download stream of already found GridFS file.
+     */
+    InputStream openDownloadStream(GridFSFile file);
+
+    /**
+     * Copies already found GridFS file to target parameter. Overrides file of target, if it exists.
+     */
+    void copy(GridFSFile source, UUID targetParameterUuid);
+
     /**
      * Get file from GridFs as {@link Optional} of {@link InputStream} In case file not found,
      * return {@link Optional#empty()}.
@@ -76,6 +99,16 @@ public interface GridFsRepository {
      */
     Optional<FileData> getFileInfo(UUID parameterUuid);
 
+    /**
+     * Rewrites up to {@code limit} files stored with a chunk size different from the configured one,
+     * in order of file id.
+     *
+     * @param after id of the last file of the previous batch, or null for the first batch
+     * @param limit max count of files to rewrite
+     * @return found and rewritten files of the batch
+     */
+    GridFsRechunkBatch rechunk(@Nullable ObjectId after, int limit);
+
     void onDeleteCascade(List<UUID> parameters);
 
     void dropLocalThreadCache();
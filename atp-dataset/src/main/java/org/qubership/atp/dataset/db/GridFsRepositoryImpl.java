@@ -16,9 +16,11 @@
 
 package org.qubership.atp.dataset.db;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,26 +29,36 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+import jakarta.annotation.Nullable;
+
 import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.qubership.atp.dataset.db.dto.GridFsRechunkBatch;
 import org.qubership.atp.dataset.model.Parameter;
 import org.qubership.atp.dataset.model.impl.file.FileData;
 
+import com.mongodb.MongoGridFSException;
 import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSDownloadStream;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.client.gridfs.model.GridFSUploadOptions;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class GridFsRepositoryImpl implements GridFsRepository {
 
     private final GridFSBucket gridFsBucket;
+    private final int chunkSizeBytes;
 
     private final ThreadLocal<Map<UUID, Optional<FileData>>> cachedFileInfo =
             ThreadLocal.withInitial(() -> new ConcurrentHashMap<>());
 
-    public GridFsRepositoryImpl(GridFSBucket gridFsBucket) {
+    public GridFsRepositoryImpl(GridFSBucket gridFsBucket, int chunkSizeBytes) {
         this.gridFsBucket = gridFsBucket;
+        this.chunkSizeBytes = chunkSizeBytes;
     }
 
     /**
@@ -78,6 +90,32 @@ public class GridFsRepositoryImpl implements GridFsRepository {
         }
     }
 
+    /**
+     * Get GridFS files of attachments by one query. Metadata of found files is put to the file info cache
+     * of current thread, missing attachments are cached as absent.
+     *
+     * @param attachmentUuids uuids of {@link Parameter}
+     * @return GridFS files mapped to parameter uuid
+     */
+    @Override
+    public Map<UUID, GridFSFile> getGridFsFiles(Collection<UUID> attachmentUuids) {
+        Map<UUID, GridFSFile> filesByUuid = new HashMap<>();
+        if (attachmentUuids.isEmpty()) {
+            return filesByUuid;
+        }
+        List<GridFSFile> files = new ArrayList<>();
+        gridFsBucket.find(Filters.in("metadata.attachmentUuid", attachmentUuids)).into(files);
+        Map<UUID, Optional<FileData>> cache = cachedFileInfo.get();
+        for (GridFSFile file : files) {
+            Document metadata = Objects.requireNonNull(file.getMetadata());
+            UUID id = metadata.get("attachmentUuid", UUID.class);
+            filesByUuid.putIfAbsent(id, file);
+            cache.put(id, Optional.of(getMetaDataInfo(metadata)));
+        }
+        attachmentUuids.forEach(id -> cache.putIfAbsent(id, Optional.empty()));
+        return filesByUuid;
+    }
+
     /**
      * Method saves file to gridfs. Overrides file, if it exist.
      *
@@ -93,7 +131,7 @@ public class GridFsRepositoryImpl implements GridFsRepository {
     }
 
     private GridFSUploadOptions buildOptions(FileData fileData) {
-        return new GridFSUploadOptions().chunkSizeBytes(1024)
+        return new GridFSUploadOptions().chunkSizeBytes(chunkSizeBytes)
                 .metadata(new Document("type", fileData.getFileType())
                         .append("uploadDate", LocalDateTime.now().toString())
                         .append("attachmentUuid", fileData.getParameterUuid())
@@ -119,6 +157,34 @@ public class GridFsRepositoryImpl implements GridFsRepository {
         return Optional.of(gridFsBucket.openDownloadStream(attachment.getId()));
     }
 
+    /**
+     * Open download stream of already found GridFS file.
+     *
+     * @param file found by {@link #getGridFsFiles(Collection)}
+     * @return file content
+     */
+    @Override
+    public InputStream openDownloadStream(GridFSFile file) {
+        return gridFsBucket.openDownloadStream(file.getId());
+    }
+
+    /**
+     * Copies already found GridFS file to target parameter. Overrides file of target, if it exists.
+     *
+     * @param source              found by {@link #getGridFsFiles(Collection)}
+     * @param targetParameterUuid uuid of target {@link Parameter}
+     */
+    @Override
+    public void copy(GridFSFile source, UUID targetParameterUuid) {
+        FileData fileData = getMetaDataInfo(Objects.requireNonNull(source.getMetadata()));
+        fileData.setParameterUuid(targetParameterUuid);
+        try (InputStream stream = openDownloadStream(source)) {
+            save(fileData, stream);
+        } catch (IOException e) {
+            log.warn("Can not close gridFs file stream with id: {}", source.getObjectId(), e);
+        }
+    }
+
     /**
      * Get files from GridFs as {@link Map} of {@link Optional} input stream mapped to {@link UUID}.
      *
@@ -174,6 +240,53 @@ public class GridFsRepositoryImpl implements GridFsRepository {
         return new Document().append("metadata.attachmentUuid", attachmentUuid);
     }
 
+    /**
+     * Rewrites up to {@code limit} files stored with a chunk size different from the configured one.
+     * Each file is uploaded again with the same name and metadata before the old copy is deleted,
+     * so readers always find a complete file. Files which failed are left as is and skipped by next batches.
+     *
+     * @param after id of the last file of the previous batch, or null for the first batch
+     * @param limit max count of files to rewrite
+     * @return found and rewritten files of the batch
+     */
+    @Override
+    public GridFsRechunkBatch rechunk(@Nullable ObjectId after, int limit) {
+        Bson filter = Filters.ne("chunkSize", chunkSizeBytes);
+        if (after != null) {
+            filter = Filters.and(filter, Filters.gt("_id", after));
+        }
+        List<GridFSFile> files = new ArrayList<>();
+        gridFsBucket.find(filter).sort(Sorts.ascending("_id")).limit(limit).into(files);
+        int rechunked = 0;
+        for (GridFSFile file : files) {
+            try {
+                rechunk(file);
+                rechunked++;
+            } catch (Exception e) {
+                log.error("Can not rechunk gridFs file with id: {}", file.getObjectId(), e);
+            }
+        }
+        ObjectId lastFileId = files.isEmpty() ? after : files.get(files.size() - 1).getObjectId();
+        return new GridFsRechunkBatch(files.size(), rechunked, lastFileId);
+    }
+
+    private void rechunk(GridFSFile file) {
+        GridFSUploadOptions uploadOptions = new GridFSUploadOptions()
+                .chunkSizeBytes(chunkSizeBytes)
+                .metadata(file.getMetadata());
+        ObjectId newId;
+        try (GridFSDownloadStream stream = gridFsBucket.openDownloadStream(file.getObjectId())) {
+            newId = gridFsBucket.uploadFromStream(file.getFilename(), stream, uploadOptions);
+        }
+        try {
+            gridFsBucket.delete(file.getObjectId());
+        } catch (MongoGridFSException e) {
+            // The file was removed or overridden while it was copied, the copy is stale.
+            gridFsBucket.delete(newId);
+            throw e;
+        }
+    }
+
     @Override
     public void onDeleteCascade(List<UUID> parameters) {
         parameters.forEach(this::remove);
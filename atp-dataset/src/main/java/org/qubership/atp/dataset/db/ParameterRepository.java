@@ -16,6 +16,7 @@
 
 package org.qubership.atp.dataset.db;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -51,6 +52,8 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Repository;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.Table;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.dml.StoreClause;
 import com.querydsl.core.types.MappingProjection;
@@ -163,6 +166,69 @@ public class ParameterRepository extends AbstractRepository {
         return updateWithData(data).where(PARAM.id.eq(paramId)).execute() > 0;
     }
 
+    /**
+     * Finds ids of not overlapped parameters of the data sets and attributes.
+     *
+     * @return table of parameter ids, data set id is a row key, attribute id is a column key.
+     */
+    @Nonnull
+    public Table<UUID, UUID, UUID> getIdsByDataSetIdsAndAttributeIds(@Nonnull Collection<UUID> dataSetIds,
+                                                                     @Nonnull Collection<UUID> attributeIds) {
+        Table<UUID, UUID, UUID> result = HashBasedTable.create();
+        if (dataSetIds.isEmpty() || attributeIds.isEmpty()) {
+            return result;
+        }
+        queryFactory.select(PARAM.id, PARAM.datasetId, PARAM.attributeId)
+                .from(PARAM)
+                .where(PARAM.datasetId.in(dataSetIds).and(PARAM.attributeId.in(attributeIds)))
+                .fetch()
+                .forEach(row -> result.put(row.get(PARAM.datasetId), row.get(PARAM.attributeId),
+                        row.get(PARAM.id)));
+        return result;
+    }
+
+    /**
+     * Inserts parameters with already generated ids by one JDBC batch.
+     */
+    public void batchCreate(@Nonnull Collection<ParameterDto> parameters) {
+        if (parameters.isEmpty()) {
+            return;
+        }
+        SQLInsertClause insert = queryFactory.insert(PARAM);
+        for (ParameterDto parameter : parameters) {
+            ParameterDataDto data = parameter.getParameterData();
+            insert.set(PARAM.id, parameter.getId())
+                    .set(PARAM.datasetId, parameter.getDataSetId())
+                    .set(PARAM.attributeId, parameter.getAttributeId())
+                    .set(PARAM.string, data.getStringValue())
+                    .set(PARAM.list, data.getListValueId())
+                    .set(PARAM.ds, data.getDataSetReferenceId())
+                    .addBatch();
+        }
+        insert.setBatchToBulk(false);
+        insert.execute();
+    }
+
+    /**
+     * Updates values of parameters by one JDBC batch. All value columns are written, so the previous value
+     * of another type is cleared the same way as {@link #update(UUID, ParameterDataDto)} does.
+     */
+    public void batchUpdate(@Nonnull Collection<ParameterDto> parameters) {
+        if (parameters.isEmpty()) {
+            return;
+        }
+        SQLUpdateClause update = queryFactory.update(PARAM);
+        for (ParameterDto parameter : parameters) {
+            ParameterDataDto data = parameter.getParameterData();
+            update.set(PARAM.string, data.getStringValue())
+                    .set(PARAM.list, data.getListValueId())
+                    .set(PARAM.ds, data.getDataSetReferenceId())
+                    .where(PARAM.id.eq(parameter.getId()))
+                    .addBatch();
+        }
+        update.execute();
+    }
+
     @Nullable
     public Parameter getById(UUID id) {
         return cacheRepo.tryComputeIfAbsent(Parameter.class, id, uuid -> select(PARAM.id.eq(uuid)).fetchOne());
@@ -0,0 +1,73 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db;
+
+import java.util.UUID;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.sql.SQLQueryFactory;
+
+/**
+ * Single column lookups of the owner of an entity, used by authorization checks
+ * instead of loading of the whole entity.
+ */
+@Repository
+public class VisibilityAreaIdRepository extends AbstractRepository {
+
+    private final SQLQueryFactory queryFactory;
+
+    public VisibilityAreaIdRepository(@Nonnull SQLQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    @Nullable
+    public UUID getVisibilityAreaIdByDataSetListId(@Nonnull UUID dataSetListId) {
+        return queryFactory.select(DSL.visibilityAreaId)
+                .from(DSL)
+                .where(DSL.id.eq(dataSetListId))
+                .fetchFirst();
+    }
+
+    @Nullable
+    public UUID getDataSetListIdByDataSetId(@Nonnull UUID dataSetId) {
+        return queryFactory.select(DS.datasetlistId)
+                .from(DS)
+                .where(DS.id.eq(dataSetId))
+                .fetchFirst();
+    }
+
+    @Nullable
+    public UUID getDataSetListIdByAttributeId(@Nonnull UUID attributeId) {
+        return queryFactory.select(ATTR.datasetlistId)
+                .from(ATTR)
+                .where(ATTR.id.eq(attributeId))
+                .fetchFirst();
+    }
+
+    @Nullable
+    public UUID getDataSetListIdByParameterId(@Nonnull UUID parameterId) {
+        return queryFactory.select(DS.datasetlistId)
+                .from(PARAM)
+                .innerJoin(DS).on(DS.id.eq(PARAM.datasetId))
+                .where(PARAM.id.eq(parameterId))
+                .fetchFirst();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db.dto;
+
+import java.util.UUID;
+
+import jakarta.annotation.Nonnull;
+
+import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
+
+import com.google.common.base.MoreObjects;
+
+public class AttributeNameTypeDto {
+
+    private final UUID id;
+    private final UUID dataSetListId;
+    private final String name;
+    private final AttributeTypeName type;
+
+    /**
+     * Attribute of data set list without its parameters and list values.
+     */
+    public AttributeNameTypeDto(@Nonnull UUID id, @Nonnull UUID dataSetListId, @Nonnull String name,
+                                @Nonnull AttributeTypeName type) {
+        this.id = id;
+        this.dataSetListId = dataSetListId;
+        this.name = name;
+        this.type = type;
+    }
+
+    @Nonnull
+    public UUID getId() {
+        return id;
+    }
+
+    @Nonnull
+    public UUID getDataSetListId() {
+        return dataSetListId;
+    }
+
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    @Nonnull
+    public AttributeTypeName getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("id", id)
+                .add("dataSetListId", dataSetListId)
+                .add("name", name)
+                .add("type", type)
+                .toString();
+    }
+}
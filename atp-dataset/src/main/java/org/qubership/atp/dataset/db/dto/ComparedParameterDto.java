@@ -0,0 +1,121 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db.dto;
+
+import java.util.UUID;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
+
+import com.google.common.base.MoreObjects;
+
+public class ComparedParameterDto {
+
+    private final UUID dataSetId;
+    private final UUID parameterId;
+    private final UUID attributeId;
+    private final String attributeKey;
+    private final String attributeName;
+    private final AttributeTypeName attributeType;
+    private final String stringValue;
+    private final UUID dataSetReference;
+    private final String listValueText;
+
+    /**
+     * Parameter with its attribute name and type, selected for datasets comparison.
+     *
+     * @param attributeId  id of attribute or attribute key of overlap, as it is stored in parameter
+     * @param attributeKey path of overlap, null for parameter of attribute
+     */
+    public ComparedParameterDto(@Nonnull UUID dataSetId, @Nonnull UUID parameterId, @Nonnull UUID attributeId,
+                                @Nullable String attributeKey, @Nonnull String attributeName,
+                                @Nonnull AttributeTypeName attributeType, @Nullable String stringValue,
+                                @Nullable UUID dataSetReference, @Nullable String listValueText) {
+        this.dataSetId = dataSetId;
+        this.parameterId = parameterId;
+        this.attributeId = attributeId;
+        this.attributeKey = attributeKey;
+        this.attributeName = attributeName;
+        this.attributeType = attributeType;
+        this.stringValue = stringValue;
+        this.dataSetReference = dataSetReference;
+        this.listValueText = listValueText;
+    }
+
+    @Nonnull
+    public UUID getDataSetId() {
+        return dataSetId;
+    }
+
+    @Nonnull
+    public UUID getParameterId() {
+        return parameterId;
+    }
+
+    @Nonnull
+    public UUID getAttributeId() {
+        return attributeId;
+    }
+
+    @Nullable
+    public String getAttributeKey() {
+        return attributeKey;
+    }
+
+    public boolean isOverlap() {
+        return attributeKey != null;
+    }
+
+    @Nonnull
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    @Nonnull
+    public AttributeTypeName getAttributeType() {
+        return attributeType;
+    }
+
+    @Nullable
+    public String getStringValue() {
+        return stringValue;
+    }
+
+    @Nullable
+    public UUID getDataSetReferenceId() {
+        return dataSetReference;
+    }
+
+    @Nullable
+    public String getListValueText() {
+        return listValueText;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("dataSetId", dataSetId)
+                .add("parameterId", parameterId)
+                .add("attributeId", attributeId)
+                .add("attributeKey", attributeKey)
+                .add("attributeName", attributeName)
+                .add("attributeType", attributeType)
+                .toString();
+    }
+}
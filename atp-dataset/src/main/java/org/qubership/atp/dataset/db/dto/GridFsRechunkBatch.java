@@ -0,0 +1,34 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db.dto;
+
+import org.bson.types.ObjectId;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Result of one GridFS rechunk batch: files found, files rewritten, and id of the last found file,
+ * which the next batch starts after, so files failed to rewrite are not picked again.
+ */
+@Getter
+@AllArgsConstructor
+public class GridFsRechunkBatch {
+    private final int found;
+    private final int rechunked;
+    private final ObjectId lastFileId;
+}
@@ -0,0 +1,96 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import com.google.common.base.MoreObjects;
+
+public class ParameterValueDto {
+
+    private final UUID dataSetId;
+    private final UUID attributeId;
+    private final List<UUID> attributePathIds;
+    private final String stringValue;
+    private final UUID dataSetReference;
+    private final UUID listValue;
+
+    /**
+     * Value of parameter to be set in data set, same as arguments of
+     * {@link org.qubership.atp.dataset.service.direct.ParameterService#set}.
+     */
+    public ParameterValueDto(@Nonnull UUID dataSetId, @Nonnull UUID attributeId,
+                             @Nullable List<UUID> attributePathIds, @Nullable String stringValue,
+                             @Nullable UUID dataSetReference, @Nullable UUID listValue) {
+        this.dataSetId = dataSetId;
+        this.attributeId = attributeId;
+        this.attributePathIds = attributePathIds;
+        this.stringValue = stringValue;
+        this.dataSetReference = dataSetReference;
+        this.listValue = listValue;
+    }
+
+    @Nonnull
+    public UUID getDataSetId() {
+        return dataSetId;
+    }
+
+    @Nonnull
+    public UUID getAttributeId() {
+        return attributeId;
+    }
+
+    @Nullable
+    public List<UUID> getAttributePathIds() {
+        return attributePathIds;
+    }
+
+    @Nullable
+    public String getStringValue() {
+        return stringValue;
+    }
+
+    @Nullable
+    public UUID getDataSetReferenceId() {
+        return dataSetReference;
+    }
+
+    @Nullable
+    public UUID getListValueId() {
+        return listValue;
+    }
+
+    public boolean isOverlap() {
+        return attributePathIds != null && !attributePathIds.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("dataSetId", dataSetId)
+                .add("attributeId", attributeId)
+                .add("attributePathIds", attributePathIds)
+                .add("stringValue", stringValue)
+                .add("dataSetReference", dataSetReference)
+                .add("listValue", listValue)
+                .toString();
+    }
+}
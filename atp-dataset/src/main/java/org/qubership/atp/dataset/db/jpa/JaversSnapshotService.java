@@ -16,49 +16,50 @@
 
 package org.qubership.atp.dataset.db.jpa;
 
-import static java.util.Objects.isNull;
+import static org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService.DATA_SET_LIST_ID_PROPERTY;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.function.Consumer;
-import java.util.function.Function;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.javers.core.metamodel.object.SnapshotType;
 import org.qubership.atp.dataset.db.dto.JaversCountResponse;
-import org.qubership.atp.dataset.db.jpa.entities.JvSnapshotEntity;
+import org.qubership.atp.dataset.db.jpa.entities.JvGlobalIdEntity;
+import org.qubership.atp.dataset.db.jpa.repositories.JpaHistoryItemRepository;
 import org.qubership.atp.dataset.db.jpa.repositories.JpaJvCommitPropertyRepository;
 import org.qubership.atp.dataset.db.jpa.repositories.JpaJvCommitRepository;
 import org.qubership.atp.dataset.db.jpa.repositories.JpaJvGlobalIdRepository;
 import org.qubership.atp.dataset.db.jpa.repositories.JpaJvSnapshotRepository;
+import org.qubership.atp.dataset.service.rest.dto.versioning.ChangeSummary;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Set-based deletes of archived Javers data. Each public method is a separate transaction,
+ * so the archive job can be interrupted at any point and continued by the next run.
+ */
 @Service
 @Slf4j
 public class JaversSnapshotService {
 
-    private static final Integer FIRST_PAGE = 0;
-
     private final JpaJvSnapshotRepository snapshotRepository;
     private final JpaJvGlobalIdRepository globalIdRepository;
     private final JpaJvCommitRepository commitRepository;
     private final JpaJvCommitPropertyRepository commitPropertyRepository;
+    private final JpaHistoryItemRepository historyItemRepository;
 
     @Value("${atp-dataset.archive.job.bulk-delete-count}")
     private Integer bulkDeleteCount;
 
-    @Value("${atp-dataset.archive.job.page-size}")
-    private Integer size;
-
     /**
      * Constructor.
      *
@@ -66,127 +67,196 @@ public class JaversSnapshotService {
      * @param globalIdRepository globalIdRepository
      * @param commitRepository   commitRepository
      * @param commitPropertyRepository commitPropertyRepository
+     * @param historyItemRepository historyItemRepository
      */
     public JaversSnapshotService(JpaJvSnapshotRepository snapshotRepository,
                                  JpaJvGlobalIdRepository globalIdRepository,
                                  JpaJvCommitRepository commitRepository,
-                                 JpaJvCommitPropertyRepository commitPropertyRepository) {
+                                 JpaJvCommitPropertyRepository commitPropertyRepository,
+                                 JpaHistoryItemRepository historyItemRepository) {
         this.snapshotRepository = snapshotRepository;
         this.globalIdRepository = globalIdRepository;
         this.commitRepository = commitRepository;
         this.commitPropertyRepository = commitPropertyRepository;
+        this.historyItemRepository = historyItemRepository;
     }
 
     /**
-     * Get globalId and number of old objects.
+     * Get globalId and number of old objects. Attributes of delta DSL snapshots are not counted,
+     * since any kept DSL snapshot may refer to an old snapshot of an unchanged attribute.
+     * They are archived together with their DSL, see {@link #deleteReplacedAttributeSnapshots}.
      *
      * @param lastRevisionCount number of the last revisions.
      * @return {@link List} of {@link JaversCountResponse}
      */
     public List<JaversCountResponse> findGlobalIdAndCount(Long lastRevisionCount) {
-        List<JaversCountResponse> globalIdAndCount =
-                snapshotRepository.findGlobalIdAndCountGreaterThan(lastRevisionCount);
+        List<JaversCountResponse> globalIdAndCount = snapshotRepository.findGlobalIdAndCountGreaterThan(
+                lastRevisionCount, JvGlobalIdEntity.DATA_SET_LIST_ATTRIBUTE_TYPE_NAME);
         log.debug("Number of unique globalId '{}'", globalIdAndCount.size());
         return globalIdAndCount;
     }
 
     /**
-     * Get old snapshots by globalId and count.
+     * Get globalIds of deleted objects.
      *
-     * @param globalId globalId
-     * @param count    count
-     * @return {@link List} of {@link JvSnapshotEntity}
+     * @return {@link List} of globalIds which have terminal snapshot
      */
-    public List<JvSnapshotEntity> findOldSnapshots(Long globalId, Long count) {
-        PageRequest pageRequest = PageRequest.of(0, Math.toIntExact(count));
-        List<JvSnapshotEntity> oldSnapshots =
-                snapshotRepository.findAllByGlobalIdOrderByVersionAsc(globalId, pageRequest);
-        log.debug("Number of old snapshots '{}' for globalId '{}'", oldSnapshots.size(), globalId);
-        return oldSnapshots;
+    public List<Long> findTerminatedGlobalIds() {
+        List<Long> globalIds = snapshotRepository.findGlobalIdsByType(SnapshotType.TERMINAL);
+        log.debug("Number of terminal globalIds '{}'", globalIds.size());
+        return globalIds;
     }
 
     /**
-     * Get the oldest snapshot and update snapshot type with INITIAL value.
+     * Get version of the oldest snapshot which is kept by archive.
+     *
+     * @param globalId          globalId
+     * @param lastRevisionCount number of the last revisions
+     * @return version or null if there are not more snapshots than kept
+     */
+    public Long findOldestKeptVersion(Long globalId, Long lastRevisionCount) {
+        PageRequest pageRequest = PageRequest.of(Math.toIntExact(lastRevisionCount - 1), 1);
+        List<Long> versions = snapshotRepository.findVersionsByGlobalIdFromNewest(globalId, pageRequest);
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    /**
+     * Update the oldest kept snapshot as initial, history index of DSL is updated the same way.
+     * It is done before older snapshots are deleted, so the snapshot stays initial if archive is interrupted.
      *
      * @param globalId globalId
-     * @return {@link JvSnapshotEntity} entity;
+     * @param version  version of the oldest kept snapshot
      */
-    public JvSnapshotEntity findTheOldestSnapshotByGlobalIdAndUpdateTypeAsInitial(Long globalId) {
-        JvSnapshotEntity snapshot = snapshotRepository.findFirstByGlobalIdOrderByVersionAsc(globalId);
-        if (isNull(snapshot)) {
-            return null;
+    @Transactional(rollbackFor = Exception.class)
+    public void updateAsInitial(Long globalId, Long version) {
+        snapshotRepository.updateType(globalId, version, SnapshotType.INITIAL);
+        UUID dataSetListId = globalIdRepository.findById(globalId)
+                .map(JvGlobalIdEntity::getDataSetListId)
+                .orElse(null);
+        if (dataSetListId != null) {
+            historyItemRepository.deleteOlderThan(dataSetListId, version);
+            historyItemRepository.updateChangeSummary(dataSetListId, version, ChangeSummary.DSL_ADDED.toString());
+            log.debug("History index of DSL '{}' starts from version '{}'", dataSetListId, version);
         }
-        snapshot.setType(SnapshotType.INITIAL);
-        return snapshotRepository.save(snapshot);
     }
 
     /**
-     * Delete old snapshots, commit properties and commits.
-     * And update the oldest snapshot as initial.
+     * Delete the next batch of snapshots older than the given version, and commits left without snapshots.
      *
-     * @param globalId  globalId
-     * @param snapshots old snapshots
+     * @param globalId globalId
+     * @param version  version of the oldest kept snapshot
+     * @return number of deleted snapshots, 0 if there is nothing to delete
      */
     @Transactional(rollbackFor = Exception.class)
-    public void deleteOldAndUpdateAsInitial(Long globalId, List<JvSnapshotEntity> snapshots) {
-        snapshots.forEach(snapshot -> deleteOldAndUpdateAsInitial(globalId, snapshot));
-        findTheOldestSnapshotByGlobalIdAndUpdateTypeAsInitial(globalId);
+    public int deleteOlderSnapshots(Long globalId, Long version) {
+        Long minVersion = snapshotRepository.findMinVersionByGlobalId(globalId);
+        if (minVersion == null || minVersion >= version) {
+            return 0;
+        }
+        long batchVersion = Math.min(minVersion + bulkDeleteCount, version);
+        List<Long> commitIds = snapshotRepository.findCommitIdsByGlobalIdAndVersionLessThan(globalId, batchVersion);
+        int deleted = snapshotRepository.deleteByGlobalIdAndVersionLessThan(globalId, batchVersion);
+        log.debug("Deleted '{}' snapshots with version less than '{}' of globalId '{}'",
+                deleted, batchVersion, globalId);
+        deleteOrphanCommits(commitIds);
+        return deleted;
+    }
+
+    /**
+     * Get globalIds of attributes of delta snapshots of DSL.
+     *
+     * @param globalId globalId of DSL
+     * @return globalIds of attributes, empty if globalId doesn't belong to DSL
+     */
+    public List<Long> findAttributeGlobalIds(Long globalId) {
+        UUID dataSetListId = globalIdRepository.findById(globalId)
+                .map(JvGlobalIdEntity::getDataSetListId)
+                .orElse(null);
+        if (dataSetListId == null) {
+            return Collections.emptyList();
+        }
+        return findAttributeGlobalIds(Collections.singletonList(dataSetListId));
     }
 
-    private void deleteOldAndUpdateAsInitial(Long globalId, JvSnapshotEntity snapshot) {
-        Long commitId = snapshot.getCommitId();
-        Long version = snapshot.getVersion();
-        snapshotRepository.deleteByVersionAndGlobalIdAndCommitId(version, globalId, commitId);
-        log.debug("Deleted snapshots with version '{}', globalId '{}', commitId '{}'",
-                version, globalId, commitId);
-        Long commitCount = snapshotRepository.countByCommitId(commitId);
-        if (commitCount.equals(0L)) {
-            commitPropertyRepository.deleteByIdCommitId(commitId);
-            commitRepository.deleteById(commitId);
-            log.debug("Deleted commit properties and commits with commitId '{}'", commitId);
+    /**
+     * Delete attribute snapshots which are not referenced by kept DSL snapshots. The oldest kept DSL
+     * snapshot refers to the latest attribute snapshots made not later than its commit, so older ones
+     * are deleted. Attributes removed from DSL keep their last snapshot until the DSL is deleted.
+     *
+     * @param globalId           globalId of DSL
+     * @param version            version of the oldest kept DSL snapshot
+     * @param attributeGlobalIds globalIds of attributes of the DSL, not more than bulk delete count
+     * @return number of deleted snapshots
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int deleteReplacedAttributeSnapshots(Long globalId, Long version, Collection<Long> attributeGlobalIds) {
+        Long commitId = snapshotRepository.findCommitIdByGlobalIdAndVersion(globalId, version);
+        if (commitId == null) {
+            return 0;
         }
+        List<Long> commitIds = snapshotRepository.findCommitIdsOfSnapshotsReplacedBefore(attributeGlobalIds,
+                commitId);
+        int deleted = snapshotRepository.deleteSnapshotsReplacedBefore(attributeGlobalIds, commitId);
+        log.debug("Deleted '{}' attribute snapshots replaced before commit '{}' of globalId '{}'",
+                deleted, commitId, globalId);
+        deleteOrphanCommits(commitIds);
+        return deleted;
     }
 
     /**
-     * Delete terminated snapshots, globalIds, commits and commit properties.
+     * Delete all snapshots, globalIds and commits left without snapshots of deleted objects.
+     * Attributes of delta snapshots of deleted DSLs are deleted with them.
+     *
+     * @param globalIds terminated globalIds, not more than bulk delete count
+     * @return number of deleted snapshots
      */
     @Transactional(rollbackFor = Exception.class)
-    public void deleteTerminatedSnapshots() {
-        while (true) {
-            Page<JvSnapshotEntity> page =
-                    snapshotRepository.findAllByTypeIs(SnapshotType.TERMINAL, PageRequest.of(FIRST_PAGE, size));
-            deleteTerminatedSnapshots(page);
-            if (!page.hasNext()) {
-                break;
-            }
+    public int deleteTerminatedSnapshots(Collection<Long> terminatedGlobalIds) {
+        List<Long> globalIds = new ArrayList<>(terminatedGlobalIds);
+        List<UUID> dataSetListIds = globalIdRepository.findAllById(terminatedGlobalIds).stream()
+                .map(JvGlobalIdEntity::getDataSetListId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (!dataSetListIds.isEmpty()) {
+            historyItemRepository.deleteByDataSetListIdIn(dataSetListIds);
+            log.debug("History index of '{}' terminated DSLs deleted", dataSetListIds.size());
+            globalIds.addAll(findAttributeGlobalIds(dataSetListIds));
         }
+        List<Long> commitIds = snapshotRepository.findCommitIdsByGlobalIdIn(globalIds);
+        int deleted = snapshotRepository.deleteByGlobalIdIn(globalIds);
+        globalIdRepository.deleteByIdIn(globalIds);
+        log.debug("Deleted '{}' terminated snapshots of '{}' globalIds", deleted, globalIds.size());
+        deleteOrphanCommits(commitIds);
+        return deleted;
     }
 
-    private void deleteTerminatedSnapshots(Page<JvSnapshotEntity> page) {
-        List<JvSnapshotEntity> terminalSnapshots = page.getContent();
-        Set<Long> globalIds = getIds(terminalSnapshots, JvSnapshotEntity::getGlobalId);
-        log.debug("Number of terminal globalIds '{}'", globalIds.size());
-        List<JvSnapshotEntity> snapshots = new ArrayList<>();
-        doAction(globalIds, ids -> snapshots.addAll(snapshotRepository.findAllByGlobalIdIn(ids)));
-        Set<Long> commitIds = getIds(snapshots, JvSnapshotEntity::getCommitId);
-        log.debug("Number of terminal commitIds '{}'", commitIds.size());
-        doAction(globalIds, snapshotRepository::deleteByGlobalIdIn);
-        log.debug("Terminated snapshots deleted");
-        doAction(globalIds, globalIdRepository::deleteByIdIn);
-        log.debug("Terminated globalIds deleted");
-        doAction(commitIds, commitPropertyRepository::deleteByIdCommitIdIn);
-        log.debug("Terminated commit properties deleted");
-        doAction(commitIds, commitRepository::deleteByIdIn);
-        log.debug("Terminated commits deleted");
+    /**
+     * Delete commits and commit properties which are not referenced by any snapshot.
+     * Concurrent batches may leave such commits when they share one commit.
+     *
+     * @return number of deleted commits
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int deleteAllOrphanCommits() {
+        commitPropertyRepository.deleteOrphans();
+        int deleted = commitRepository.deleteOrphans();
+        log.debug("Deleted '{}' orphan commits", deleted);
+        return deleted;
     }
 
-    private <T> void doAction(Collection<T> collection, Consumer<? super List<T>> action) {
-        Iterators.partition(collection.iterator(), bulkDeleteCount).forEachRemaining(action);
+    private List<Long> findAttributeGlobalIds(Collection<UUID> dataSetListIds) {
+        List<String> propertyValues = dataSetListIds.stream()
+                .map(UUID::toString)
+                .collect(Collectors.toList());
+        return snapshotRepository.findGlobalIdsByTypeNameAndCommitProperty(
+                JvGlobalIdEntity.DATA_SET_LIST_ATTRIBUTE_TYPE_NAME, DATA_SET_LIST_ID_PROPERTY, propertyValues);
     }
 
-    private <T, R> Set<R> getIds(List<T> snapshots, Function<T, R> function) {
-        return snapshots.stream()
-                .map(function)
-                .collect(Collectors.toSet());
+    private void deleteOrphanCommits(List<Long> commitIds) {
+        for (List<Long> ids : Lists.partition(commitIds, bulkDeleteCount)) {
+            commitPropertyRepository.deleteOrphansByCommitIdIn(ids);
+            int deleted = commitRepository.deleteOrphansByIdIn(ids);
+            log.debug("Deleted '{}' commits of '{}' candidates", deleted, ids.size());
+        }
     }
 }
@@ -16,48 +16,202 @@
 
 package org.qubership.atp.dataset.db.jpa;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
-import org.qubership.atp.dataset.db.jpa.entities.JvSnapshotEntity;
+import org.qubership.atp.dataset.db.dto.JaversCountResponse;
+import org.qubership.atp.dataset.versioning.service.HistoryIndexService;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 
+@Slf4j
 @Component
 public class JobRunner {
 
+    public static final String ARCHIVE_DURATION = "atp.dataset.archive.duration";
+    public static final String ARCHIVE_DELETED_SNAPSHOTS = "atp.dataset.archive.snapshots.deleted";
+    public static final String ARCHIVE_DELETED_COMMITS = "atp.dataset.archive.commits.deleted";
+    public static final String ARCHIVE_REMAINING_GLOBAL_IDS = "atp.dataset.archive.global.ids.remaining";
+
     private static final String UTC_TIMEZONE = "UTC";
+    private static final String TYPE_TAG = "type";
 
     private final JaversSnapshotService javersSnapshotService;
     private final ThreadPoolTaskExecutor archiveJobExecutor;
+    private final HistoryIndexService historyIndexService;
+    private final Timer archiveDuration;
+    private final Counter deletedOldSnapshots;
+    private final Counter deletedTerminatedSnapshots;
+    private final Counter deletedCommits;
+    private final AtomicLong remainingGlobalIds = new AtomicLong();
 
     @Value("${atp-dataset.last.revision.count}")
     private Long lastRevisionCount;
 
+    @Value("${atp-dataset.archive.job.page-size}")
+    private Integer terminatedPartitionSize;
+
+    @Value("${atp-dataset.archive.job.batch-pause-ms:0}")
+    private Long batchPauseMs;
+
+    @Value("${atp-dataset.archive.job.max-duration:PT10H}")
+    private Duration maxDuration;
+
+    /**
+     * Constructor.
+     */
     public JobRunner(JaversSnapshotService javersSnapshotService,
-                     @Qualifier("archiveJobExecutor") ThreadPoolTaskExecutor archiveJobExecutor) {
+                     @Qualifier("archiveJobExecutor") ThreadPoolTaskExecutor archiveJobExecutor,
+                     HistoryIndexService historyIndexService,
+                     MeterRegistry meterRegistry) {
         this.javersSnapshotService = javersSnapshotService;
         this.archiveJobExecutor = archiveJobExecutor;
+        this.historyIndexService = historyIndexService;
+        this.archiveDuration = Timer.builder(ARCHIVE_DURATION)
+                .description("Duration of the archive job run")
+                .register(meterRegistry);
+        this.deletedOldSnapshots = Counter.builder(ARCHIVE_DELETED_SNAPSHOTS)
+                .tag(TYPE_TAG, "old")
+                .register(meterRegistry);
+        this.deletedTerminatedSnapshots = Counter.builder(ARCHIVE_DELETED_SNAPSHOTS)
+                .tag(TYPE_TAG, "terminated")
+                .register(meterRegistry);
+        this.deletedCommits = Counter.builder(ARCHIVE_DELETED_COMMITS)
+                .register(meterRegistry);
+        Gauge.builder(ARCHIVE_REMAINING_GLOBAL_IDS, remainingGlobalIds, AtomicLong::get)
+                .description("Number of globalIds left to archive in the current run")
+                .register(meterRegistry);
     }
 
     /**
      * Job that removes irrelevant data from the change history.
+     * GlobalIds are archived concurrently on the archive executor by batches, each batch is a separate
+     * transaction. The run waits for all batches, so they are done under the lock, and stops before
+     * the lock expires. Next run continues from the current state of the database.
      */
     @Scheduled(cron = "${atp-dataset.archive.cron.expression}", zone = UTC_TIMEZONE)
     @SchedulerLock(name = "${atp-dataset.archive.job.name}", lockAtMostFor = "12h", lockAtLeastFor = "2h")
     public void run() {
-        javersSnapshotService.deleteTerminatedSnapshots();
-        javersSnapshotService.findGlobalIdAndCount(lastRevisionCount).stream()
-                .<Runnable>map(response -> () -> {
-                    Long globalId = response.getId();
-                    long numberOfOldSnapshots = response.getCount() - lastRevisionCount;
-                    List<JvSnapshotEntity> oldSnapshots =
-                            javersSnapshotService.findOldSnapshots(globalId, numberOfOldSnapshots);
-                    javersSnapshotService.deleteOldAndUpdateAsInitial(globalId, oldSnapshots);
-                }).forEach(archiveJobExecutor::execute);
+        archiveDuration.record(() -> {
+            long deadline = System.nanoTime() + maxDuration.toNanos();
+            List<Long> terminatedGlobalIds = javersSnapshotService.findTerminatedGlobalIds();
+            List<JaversCountResponse> archivedGlobalIds = javersSnapshotService.findGlobalIdAndCount(lastRevisionCount);
+            log.info("Archive job started: '{}' terminated and '{}' archived globalIds",
+                    terminatedGlobalIds.size(), archivedGlobalIds.size());
+            remainingGlobalIds.set(terminatedGlobalIds.size() + archivedGlobalIds.size());
+            runConcurrently(Lists.partition(terminatedGlobalIds, terminatedPartitionSize),
+                    globalIds -> deleteTerminated(globalIds, deadline));
+            runConcurrently(archivedGlobalIds, response -> archive(response.getId(), deadline));
+            if (!isExpired(deadline)) {
+                deletedCommits.increment(javersSnapshotService.deleteAllOrphanCommits());
+            }
+            log.info("Archive job completed, '{}' globalIds left for the next run", remainingGlobalIds.get());
+        });
+    }
+
+    /**
+     * Job that indexes history of DSLs which snapshots were committed before the history index existed
+     * or were not indexed in background.
+     */
+    @Scheduled(cron = "${atp-dataset.history.index.backfill.cron.expression:0 0 2 * * ?}", zone = UTC_TIMEZONE)
+    @SchedulerLock(name = "${atp-dataset.history.index.backfill.job.name:atp-dataset-history-index-job}",
+            lockAtMostFor = "12h", lockAtLeastFor = "1h")
+    public void backfillHistoryIndex() {
+        historyIndexService.backfill();
+    }
+
+    private void deleteTerminated(List<Long> globalIds, long deadline) {
+        if (isExpired(deadline)) {
+            return;
+        }
+        try {
+            deletedTerminatedSnapshots.increment(javersSnapshotService.deleteTerminatedSnapshots(globalIds));
+            remainingGlobalIds.addAndGet(-globalIds.size());
+            pause();
+        } catch (Exception e) {
+            log.error("Failed to delete terminated globalIds {}", globalIds, e);
+        }
+    }
+
+    private void archive(Long globalId, long deadline) {
+        if (isExpired(deadline)) {
+            // history index is truncated only for globalIds which old snapshots are being deleted
+            return;
+        }
+        try {
+            Long keptVersion = javersSnapshotService.findOldestKeptVersion(globalId, lastRevisionCount);
+            if (keptVersion != null) {
+                javersSnapshotService.updateAsInitial(globalId, keptVersion);
+                int deleted;
+                do {
+                    deleted = javersSnapshotService.deleteOlderSnapshots(globalId, keptVersion);
+                    deletedOldSnapshots.increment(deleted);
+                    pause();
+                } while (deleted > 0 && !isExpired(deadline));
+                if (deleted > 0 || !archiveAttributes(globalId, keptVersion, deadline)) {
+                    return;
+                }
+            }
+            remainingGlobalIds.decrementAndGet();
+        } catch (Exception e) {
+            log.error("Failed to archive globalId '{}'", globalId, e);
+        }
+    }
+
+    /**
+     * Deletes snapshots of attributes of delta DSL snapshots which are not referenced by kept versions.
+     *
+     * @return false if the deadline expired before all attributes were archived
+     */
+    private boolean archiveAttributes(Long globalId, Long keptVersion, long deadline) {
+        for (List<Long> attributeGlobalIds : Lists.partition(
+                javersSnapshotService.findAttributeGlobalIds(globalId), terminatedPartitionSize)) {
+            if (isExpired(deadline)) {
+                return false;
+            }
+            deletedOldSnapshots.increment(
+                    javersSnapshotService.deleteReplacedAttributeSnapshots(globalId, keptVersion, attributeGlobalIds));
+            pause();
+        }
+        return true;
+    }
+
+    private <T> void runConcurrently(Collection<T> tasks, Consumer<T> action) {
+        CompletableFuture.allOf(tasks.stream()
+                .map(task -> CompletableFuture.runAsync(() -> action.accept(task), archiveJobExecutor))
+                .toArray(CompletableFuture[]::new)).join();
+    }
+
+    private static boolean isExpired(long deadline) {
+        return System.nanoTime() - deadline > 0;
+    }
+
+    /**
+     * Throttles the load on the database between batches.
+     */
+    private void pause() {
+        if (batchPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(batchPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
@@ -17,10 +17,13 @@
 package org.qubership.atp.dataset.db.jpa;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -29,6 +32,10 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.qubership.atp.dataset.constants.CacheEnum;
+import org.qubership.atp.dataset.db.dto.DataSetColumnResponse;
+import org.qubership.atp.dataset.db.dto.DataSetListModifiedWhenResponse;
+import org.qubership.atp.dataset.db.dto.ReferenceEdgeResponse;
+import org.qubership.atp.dataset.db.dto.ReferenceTargetResponse;
 import org.qubership.atp.dataset.db.jpa.entities.AbstractAttributeEntity;
 import org.qubership.atp.dataset.db.jpa.entities.AbstractUuidBasedEntity;
 import org.qubership.atp.dataset.db.jpa.entities.AttributeEntity;
@@ -59,6 +66,8 @@ import org.qubership.atp.dataset.service.jpa.delegates.ListValue;
 import org.qubership.atp.dataset.service.jpa.delegates.Parameter;
 import org.qubership.atp.dataset.service.jpa.delegates.VisibilityArea;
 import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
+import org.qubership.atp.dataset.service.jpa.model.DataSetColumnIndex;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContextPrefetch;
 import org.qubership.atp.dataset.service.rest.PaginationResponse;
 import org.qubership.atp.dataset.service.rest.dto.manager.AbstractEntityResponse;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -67,10 +76,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.google.common.collect.Lists;
 
 @Service
 public class ModelsProvider {
 
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+    private static final String COLUMN_INDEXES_KEY = ModelsProvider.class.getName() + ".dataSetColumnIndexes";
+
     @Autowired
     protected JpaDataSetListRepository dataSetListRepository;
     @Autowired
@@ -87,6 +103,7 @@ public class ModelsProvider {
     protected JpaListValueRepository listValueRepository;
     @Autowired
     protected JpaAttributeTypeRepository attributeTypeRepository;
+    protected ThreadLocal<DataSetListContextPrefetch> contextPrefetch = new ThreadLocal<>();
 
     public DataSetList getDataSetListById(UUID uuid) {
         Optional<DataSetListEntity> dataSetListOptional = dataSetListRepository.findById(uuid);
@@ -789,12 +806,135 @@ public class ModelsProvider {
         return dataSetRepository.getDataSetsListIdByDataSetId(dsId);
     }
 
-    public LinkedList<UUID> getDataSetsIdsByDataSetListId(UUID dataSetListId) {
-        return dataSetListRepository.getDataSetsIdsByDataSetListId(dataSetListId);
+    /**
+     * Modification timestamps of data set lists. Deleted data set lists are absent in result,
+     * never modified ones are mapped to null.
+     */
+    public Map<UUID, Timestamp> getDataSetListsModifiedWhen(Collection<UUID> dataSetListIds) {
+        Map<UUID, Timestamp> result = new HashMap<>();
+        if (dataSetListIds.isEmpty()) {
+            return result;
+        }
+        for (DataSetListModifiedWhenResponse response : dataSetListRepository.findModifiedWhenByIdIn(dataSetListIds)) {
+            result.put(response.getId(), response.getModifiedWhen());
+        }
+        return result;
+    }
+
+    /**
+     * Columns of DSL data sets. Index is loaded once per transaction, and is dropped when data sets
+     * of the DSL are created, removed, renamed or reordered. Outside of a transaction index is not cached.
+     */
+    public DataSetColumnIndex getDataSetColumnIndex(UUID dataSetListId) {
+        Map<UUID, DataSetColumnIndex> indexes = getTransactionColumnIndexes();
+        if (indexes == null) {
+            return loadDataSetColumnIndex(dataSetListId);
+        }
+        return indexes.computeIfAbsent(dataSetListId, this::loadDataSetColumnIndex);
+    }
+
+    /**
+     * Drops the index in current transaction.
+     */
+    public void evictDataSetColumnIndex(UUID dataSetListId) {
+        Map<UUID, DataSetColumnIndex> indexes = getTransactionColumnIndexes();
+        if (indexes != null) {
+            indexes.remove(dataSetListId);
+        }
     }
 
-    public LinkedList<UUID> getAffectedDataSetsListIdsByDataSetListId(List<UUID> dataSetListId) {
-        return dataSetListRepository.getAffectedDataSetListIdsByDataSetListId(dataSetListId);
+    public void dropLocalThreadCache() {
+        contextPrefetch.remove();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, DataSetColumnIndex> getTransactionColumnIndexes() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<UUID, DataSetColumnIndex> indexes =
+                (Map<UUID, DataSetColumnIndex>) TransactionSynchronizationManager.getResource(COLUMN_INDEXES_KEY);
+        if (indexes == null) {
+            indexes = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(COLUMN_INDEXES_KEY, indexes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(COLUMN_INDEXES_KEY);
+                }
+            });
+        }
+        return indexes;
+    }
+
+    /**
+     * Data of DSL hierarchy, prefetched for the context being built in current thread, or null.
+     */
+    public DataSetListContextPrefetch getContextPrefetch() {
+        return contextPrefetch.get();
+    }
+
+    public void setContextPrefetch(DataSetListContextPrefetch prefetch) {
+        contextPrefetch.set(prefetch);
+    }
+
+    public void removeContextPrefetch() {
+        contextPrefetch.remove();
+    }
+
+    /**
+     * Data set lists with initialized attributes collections.
+     */
+    public List<DataSetListEntity> getDataSetListsWithAttributes(Collection<UUID> dataSetListIds) {
+        return findByChunks(dataSetListIds, dataSetListRepository::findWithAttributesByIdIn);
+    }
+
+    /**
+     * Data sets with initialized labels and parameters collections.
+     */
+    public List<DataSetEntity> getDataSetsWithParameters(Collection<UUID> dataSetIds) {
+        return findByChunks(dataSetIds, chunk -> {
+            dataSetRepository.findWithLabelsByIdIn(chunk);
+            return dataSetRepository.findWithParametersByIdIn(chunk);
+        });
+    }
+
+    /**
+     * Attributes with initialized parameters collections.
+     */
+    public List<AttributeEntity> getAttributesWithParameters(Collection<UUID> attributeIds) {
+        return findByChunks(attributeIds, attributeRepository::findWithParametersByIdIn);
+    }
+
+    public List<AttributeKeyEntity> getAttributeKeysByDataSetIds(Collection<UUID> dataSetIds) {
+        return findByChunks(dataSetIds, attributeKeyRepository::findByDataSetIdIn);
+    }
+
+    public List<ParameterEntity> getParametersByAttributeIds(Collection<UUID> attributeIds) {
+        return findByChunks(attributeIds, parameterRepository::findByAttributeIdIn);
+    }
+
+    private static <T> List<T> findByChunks(Collection<UUID> ids, Function<List<UUID>, List<T>> finder) {
+        List<T> result = new ArrayList<>();
+        for (List<UUID> chunk : Lists.partition(new ArrayList<>(ids), IN_CLAUSE_CHUNK_SIZE)) {
+            result.addAll(finder.apply(chunk));
+        }
+        return result;
+    }
+
+    private DataSetColumnIndex loadDataSetColumnIndex(UUID dataSetListId) {
+        List<DataSetColumnResponse> columns = dataSetRepository.findColumnsByDataSetListId(dataSetListId);
+        List<UUID> dataSetIds = new ArrayList<>(columns.size());
+        List<String> dataSetNames = new ArrayList<>(columns.size());
+        for (DataSetColumnResponse column : columns) {
+            dataSetIds.add(column.getId());
+            dataSetNames.add(column.getName());
+        }
+        return new DataSetColumnIndex(dataSetIds, dataSetNames);
+    }
+
+    public LinkedList<UUID> getDataSetsIdsByDataSetListId(UUID dataSetListId) {
+        return dataSetListRepository.getDataSetsIdsByDataSetListId(dataSetListId);
     }
 
     public Set<UUID> getAffectedDataSetsIdsByDataSetListId(Set<UUID> dataSetListId) {
@@ -832,7 +972,23 @@ public class ModelsProvider {
         return attributeRepository.isDifferentDslAttributes(leftAttrId, rightAttrId);
     }
 
-    public Set<UUID> getUniqueDataSetIdsByReferenceDataSetId(UUID dataSetId) {
-        return parameterRepository.getUniqueDataSetIdsByDataSetReferenceId(dataSetId);
+    public List<ReferenceEdgeResponse> getDataSetListReferencesToVisibilityAreaId(UUID visibilityAreaId) {
+        return attributeRepository.findDataSetListReferencesToVisibilityAreaId(visibilityAreaId);
+    }
+
+    public List<ReferenceTargetResponse> getReferencedDataSetLists(UUID dataSetListId) {
+        return attributeRepository.findReferencedDataSetLists(dataSetListId);
+    }
+
+    public List<ReferenceEdgeResponse> getDataSetReferencesToVisibilityAreaId(UUID visibilityAreaId) {
+        return parameterRepository.findDataSetReferencesToVisibilityAreaId(visibilityAreaId);
+    }
+
+    public List<ReferenceTargetResponse> getReferencedDataSets(UUID dataSetId) {
+        return parameterRepository.findReferencedDataSets(dataSetId);
+    }
+
+    public List<ReferenceTargetResponse> getDataSetReferencesFromDataSetList(UUID dataSetListId) {
+        return parameterRepository.findDataSetReferencesFromDataSetList(dataSetListId);
     }
 }
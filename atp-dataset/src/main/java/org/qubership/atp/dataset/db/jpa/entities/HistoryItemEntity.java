@@ -0,0 +1,64 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db.jpa.entities;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Precomputed DSL history item, one per DSL snapshot version.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "dsl_history_item")
+public class HistoryItemEntity {
+
+    @EmbeddedId
+    private HistoryItemId id;
+
+    @Column(name = "commit_id", precision = 22, scale = 2)
+    private BigDecimal commitId;
+
+    @Column(name = "modified_when")
+    private String modifiedWhen;
+
+    @Column(name = "modified_by")
+    private String modifiedBy;
+
+    @Column(name = "attribute")
+    private String attribute;
+
+    @Column(name = "data_set")
+    private String dataSet;
+
+    @Column(name = "change_summary")
+    private String changeSummary;
+
+    @Column(name = "old_value")
+    private String oldValue;
+
+    @Column(name = "new_value")
+    private String newValue;
+}
@@ -16,6 +16,8 @@
 
 package org.qubership.atp.dataset.db.jpa.entities;
 
+import java.util.UUID;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -30,7 +32,33 @@ import lombok.Setter;
 @Table(name = "jv_global_id")
 public class JvGlobalIdEntity {
 
+    public static final String DATA_SET_LIST_TYPE_NAME = "DataSetListSnapshot";
+    public static final String DATA_SET_LIST_ATTRIBUTE_TYPE_NAME = "DataSetListAttributeSnapshot";
+
     @Id
     @Column(name = "global_id_pk", updatable = false, nullable = false)
     private Long id;
+
+    @Column(name = "local_id", updatable = false)
+    private String localId;
+
+    @Column(name = "type_name", updatable = false)
+    private String typeName;
+
+    /**
+     * Javers stores ids as json, so UUID id is quoted.
+     */
+    public static String toLocalId(UUID id) {
+        return '"' + id.toString() + '"';
+    }
+
+    /**
+     * Returns DSL id if the global id belongs to DSL snapshots, otherwise null.
+     */
+    public UUID getDataSetListId() {
+        if (!DATA_SET_LIST_TYPE_NAME.equals(typeName) || localId == null) {
+            return null;
+        }
+        return UUID.fromString(localId.replace("\"", ""));
+    }
 }
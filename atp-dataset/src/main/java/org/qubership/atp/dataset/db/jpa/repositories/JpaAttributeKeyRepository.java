@@ -16,6 +16,7 @@
 
 package org.qubership.atp.dataset.db.jpa.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -34,4 +35,6 @@ public interface JpaAttributeKeyRepository extends JpaAbstractAttributeRepositor
     List<AttributeKeyEntity> getByDataSetListId(UUID dataSetListId);
 
     List<AttributeKeyEntity> findByDataSetId(UUID datasetId);
+
+    List<AttributeKeyEntity> findByDataSetIdIn(Collection<UUID> dataSetIds);
 }
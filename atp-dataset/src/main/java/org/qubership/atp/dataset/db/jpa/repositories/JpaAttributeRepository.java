@@ -20,10 +20,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.qubership.atp.dataset.db.dto.ReferenceEdgeResponse;
+import org.qubership.atp.dataset.db.dto.ReferenceTargetResponse;
 import org.qubership.atp.dataset.db.jpa.entities.AttributeEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -37,8 +41,21 @@ public interface JpaAttributeRepository extends JpaAbstractAttributeRepository<A
     
     List<AttributeEntity> getByDataSetListIdIn(Collection<UUID> dataSetListIds);
 
+    @Query("SELECT DISTINCT a FROM AttributeEntity a LEFT JOIN FETCH a.parameters p LEFT JOIN FETCH p.listValue "
+            + "WHERE a.id IN (:attribute_ids)")
+    List<AttributeEntity> findWithParametersByIdIn(@Param("attribute_ids") Collection<UUID> attributeIds);
+
     Page<AttributeEntity> getByTypeDataSetListId(UUID dataSetListId, Pageable pageable);
 
+    @Query("SELECT DISTINCT a.dataSetList.id AS sourceId, a.typeDataSetListId AS targetId FROM AttributeEntity a "
+            + "WHERE a.typeDataSetListId IN (SELECT d.id FROM DataSetListEntity d WHERE d.visibilityArea.id = :va_id)")
+    List<ReferenceEdgeResponse> findDataSetListReferencesToVisibilityAreaId(@Param("va_id") UUID visibilityAreaId);
+
+    @Query("SELECT DISTINCT a.dataSetList.id AS sourceId, a.typeDataSetListId AS targetId, "
+            + "d.visibilityArea.id AS visibilityAreaId FROM AttributeEntity a, DataSetListEntity d "
+            + "WHERE d.id = a.typeDataSetListId AND a.dataSetList.id = :dsl_id")
+    List<ReferenceTargetResponse> findReferencedDataSetLists(@Param("dsl_id") UUID dataSetListId);
+
     @NativeQuery("select count(a.id)  from \"attribute\" a where datasetlist_id = (select d.datasetlist_id  from "
             + "dataset d where d.id = ?1)")
     int countAttributesByDataset(UUID datasetId);
@@ -16,16 +16,19 @@
 
 package org.qubership.atp.dataset.db.jpa.repositories;
 
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import org.qubership.atp.dataset.db.dto.DataSetListModifiedWhenResponse;
 import org.qubership.atp.dataset.db.jpa.entities.DataSetListEntity;
 import org.qubership.atp.dataset.db.jpa.entities.VisibilityAreaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -48,11 +51,6 @@ public interface JpaDataSetListRepository extends JpaRepository<DataSetListEntit
     @NativeQuery("select cast(id as varchar) from dataset where datasetlist_id = :dsl_id order by ordering")
     LinkedList<UUID> getDataSetsIdsByDataSetListId(@Param("dsl_id") UUID dslId);
 
-    @NativeQuery("select distinct cast(datasetlist_id as varchar) "
-            + "from \"attribute\" "
-            + "where type_datasetlist_id in (:dsl_ids)")
-    LinkedList<UUID> getAffectedDataSetListIdsByDataSetListId(@Param("dsl_ids") List<UUID> dslIds);
-
     @NativeQuery("select cast(id as varchar) "
             + "from dataset "
             + "where datasetlist_id in (:dsl_ids)")
@@ -69,4 +67,13 @@ public interface JpaDataSetListRepository extends JpaRepository<DataSetListEntit
     Set<UUID> findAllIdsBySagaSessionIdAndVisibilityAreaId(@Param("saga_session_id") UUID sagaSessionId,
                                                            @Param("visibility_area_id") UUID visibilityAreaId);
 
+    @NativeQuery("select cast(id as varchar) from datasetlist where id > :after_id order by id limit :limit")
+    List<UUID> findIdsAfter(@Param("after_id") UUID afterId, @Param("limit") int limit);
+
+    @Query("SELECT dsl.id AS id, dsl.modifiedWhen AS modifiedWhen "
+            + "FROM DataSetListEntity dsl WHERE dsl.id IN (:dsl_ids)")
+    List<DataSetListModifiedWhenResponse> findModifiedWhenByIdIn(@Param("dsl_ids") Collection<UUID> dslIds);
+
+    @Query("SELECT DISTINCT dsl FROM DataSetListEntity dsl LEFT JOIN FETCH dsl.attributes WHERE dsl.id IN (:dsl_ids)")
+    List<DataSetListEntity> findWithAttributesByIdIn(@Param("dsl_ids") Collection<UUID> dslIds);
 }
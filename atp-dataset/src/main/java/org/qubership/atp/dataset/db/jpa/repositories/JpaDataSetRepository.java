@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.qubership.atp.dataset.db.dto.DataSetColumnResponse;
 import org.qubership.atp.dataset.db.jpa.entities.DataSetEntity;
 import org.qubership.atp.dataset.db.jpa.entities.DataSetListEntity;
 import org.springframework.data.domain.Page;
@@ -68,4 +69,15 @@ public interface JpaDataSetRepository extends JpaRepository<DataSetEntity, UUID>
 
     @Query(value = "select d.locked  from DataSetEntity d where d.id = ?1")
     boolean isLocked(UUID datasetId);
+
+    @Query("SELECT ds.id AS id, ds.name AS name FROM DataSetEntity ds "
+            + "WHERE ds.dataSetList.id = :dsl_id ORDER BY ds.ordering")
+    List<DataSetColumnResponse> findColumnsByDataSetListId(@Param("dsl_id") UUID dataSetListId);
+
+    @Query("SELECT DISTINCT ds FROM DataSetEntity ds LEFT JOIN FETCH ds.labels WHERE ds.id IN (:ds_ids)")
+    List<DataSetEntity> findWithLabelsByIdIn(@Param("ds_ids") Collection<UUID> dataSetIds);
+
+    @Query("SELECT DISTINCT ds FROM DataSetEntity ds LEFT JOIN FETCH ds.parameters p LEFT JOIN FETCH p.listValue "
+            + "WHERE ds.id IN (:ds_ids)")
+    List<DataSetEntity> findWithParametersByIdIn(@Param("ds_ids") Collection<UUID> dataSetIds);
 }
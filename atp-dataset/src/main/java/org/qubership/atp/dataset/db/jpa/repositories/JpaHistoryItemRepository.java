@@ -0,0 +1,65 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db.jpa.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.qubership.atp.dataset.db.jpa.entities.HistoryItemEntity;
+import org.qubership.atp.dataset.db.jpa.entities.HistoryItemId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface JpaHistoryItemRepository extends JpaRepository<HistoryItemEntity, HistoryItemId> {
+
+    @NativeQuery("select * from dsl_history_item where datasetlist_id = :dsl_id "
+            + "order by version desc limit :limit offset :offset")
+    List<HistoryItemEntity> findPage(@Param("dsl_id") UUID dslId,
+                                     @Param("offset") int offset,
+                                     @Param("limit") int limit);
+
+    @Query("SELECT MAX(e.id.version) FROM HistoryItemEntity e WHERE e.id.dataSetListId = :dslId")
+    Long findMaxVersion(@Param("dslId") UUID dslId);
+
+    @Query("SELECT COUNT(e) FROM HistoryItemEntity e WHERE e.id.dataSetListId = :dslId")
+    long countByDataSetListId(@Param("dslId") UUID dslId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM HistoryItemEntity e WHERE e.id.dataSetListId = :dslId AND e.id.version < :version")
+    void deleteOlderThan(@Param("dslId") UUID dslId, @Param("version") Long version);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM HistoryItemEntity e WHERE e.id.dataSetListId IN (:dslIds)")
+    void deleteByDataSetListIdIn(@Param("dslIds") Collection<UUID> dslIds);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE HistoryItemEntity e SET e.changeSummary = :changeSummary, e.attribute = null, "
+            + "e.dataSet = null, e.oldValue = null, e.newValue = null "
+            + "WHERE e.id.dataSetListId = :dslId AND e.id.version = :version")
+    void updateChangeSummary(@Param("dslId") UUID dslId, @Param("version") Long version,
+                             @Param("changeSummary") String changeSummary);
+}
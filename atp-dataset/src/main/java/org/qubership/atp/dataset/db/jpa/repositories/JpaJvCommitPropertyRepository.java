@@ -30,10 +30,12 @@ import org.springframework.stereotype.Repository;
 public interface JpaJvCommitPropertyRepository extends JpaRepository<JvCommitPropertyEntity, JvCommitPropertyId> {
 
     @Modifying
-    @Query("DELETE FROM JvCommitPropertyEntity e WHERE e.id.commitId = :commitId")
-    void deleteByIdCommitId(@Param("commitId") Long commitId);
+    @Query("DELETE FROM JvCommitPropertyEntity e WHERE e.id.commitId IN (:commitIds) "
+            + "AND NOT EXISTS (SELECT s.id FROM JvSnapshotEntity s WHERE s.commitId = e.id.commitId)")
+    int deleteOrphansByCommitIdIn(@Param("commitIds") Collection<Long> commitIds);
 
     @Modifying
-    @Query("DELETE FROM JvCommitPropertyEntity e WHERE e.id.commitId IN (:commitIds)")
-    void deleteByIdCommitIdIn(@Param("commitIds") Collection<Long> commitIds);
+    @Query("DELETE FROM JvCommitPropertyEntity e "
+            + "WHERE NOT EXISTS (SELECT s.id FROM JvSnapshotEntity s WHERE s.commitId = e.id.commitId)")
+    int deleteOrphans();
 }
@@ -29,6 +29,12 @@ import org.springframework.stereotype.Repository;
 public interface JpaJvCommitRepository extends JpaRepository<JvCommitEntity, Long> {
 
     @Modifying
-    @Query("DELETE FROM JvCommitEntity e WHERE e.id IN (:ids)")
-    void deleteByIdIn(@Param("ids") Collection<Long> ids);
+    @Query("DELETE FROM JvCommitEntity e WHERE e.id IN (:ids) "
+            + "AND NOT EXISTS (SELECT s.id FROM JvSnapshotEntity s WHERE s.commitId = e.id)")
+    int deleteOrphansByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM JvCommitEntity e "
+            + "WHERE NOT EXISTS (SELECT s.id FROM JvSnapshotEntity s WHERE s.commitId = e.id)")
+    int deleteOrphans();
 }
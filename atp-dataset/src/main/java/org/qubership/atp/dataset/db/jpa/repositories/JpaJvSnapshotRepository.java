@@ -22,10 +22,10 @@ import java.util.List;
 import org.javers.core.metamodel.object.SnapshotType;
 import org.qubership.atp.dataset.db.dto.JaversCountResponse;
 import org.qubership.atp.dataset.db.jpa.entities.JvSnapshotEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.NativeQuery;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -33,24 +33,69 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface JpaJvSnapshotRepository extends JpaRepository<JvSnapshotEntity, Long> {
 
-    Page<JvSnapshotEntity> findAllByTypeIs(SnapshotType type, Pageable pageable);
+    @Query("SELECT DISTINCT e.globalId FROM JvSnapshotEntity e WHERE e.type = :type")
+    List<Long> findGlobalIdsByType(@Param("type") SnapshotType type);
 
-    List<JvSnapshotEntity> findAllByGlobalIdIn(Collection<Long> globalIds);
+    @Query("SELECT e.version FROM JvSnapshotEntity e WHERE e.globalId = :globalId ORDER BY e.version DESC")
+    List<Long> findVersionsByGlobalIdFromNewest(@Param("globalId") Long globalId, Pageable pageable);
 
-    List<JvSnapshotEntity> findAllByGlobalIdOrderByVersionAsc(Long globalId, Pageable pageable);
+    @Query("SELECT MIN(e.version) FROM JvSnapshotEntity e WHERE e.globalId = :globalId")
+    Long findMinVersionByGlobalId(@Param("globalId") Long globalId);
 
-    JvSnapshotEntity findFirstByGlobalIdOrderByVersionAsc(Long globalId);
+    @Query("SELECT DISTINCT e.commitId FROM JvSnapshotEntity e "
+            + "WHERE e.globalId = :globalId AND e.version < :version")
+    List<Long> findCommitIdsByGlobalIdAndVersionLessThan(@Param("globalId") Long globalId,
+                                                         @Param("version") Long version);
 
-    Long countByCommitId(Long commitId);
+    @Query("SELECT DISTINCT e.commitId FROM JvSnapshotEntity e WHERE e.globalId IN (:globalIds)")
+    List<Long> findCommitIdsByGlobalIdIn(@Param("globalIds") Collection<Long> globalIds);
+
+    @Query("SELECT e.commitId FROM JvSnapshotEntity e WHERE e.globalId = :globalId AND e.version = :version")
+    Long findCommitIdByGlobalIdAndVersion(@Param("globalId") Long globalId, @Param("version") Long version);
+
+    @Query("SELECT DISTINCT e.globalId FROM JvSnapshotEntity e, JvCommitPropertyEntity p "
+            + "WHERE p.id.commitId = e.commitId AND p.id.propertyName = :propertyName "
+            + "AND p.propertyValue IN (:propertyValues) "
+            + "AND e.globalId IN (SELECT g.id FROM JvGlobalIdEntity g WHERE g.typeName = :typeName)")
+    List<Long> findGlobalIdsByTypeNameAndCommitProperty(@Param("typeName") String typeName,
+                                                        @Param("propertyName") String propertyName,
+                                                        @Param("propertyValues") Collection<String> propertyValues);
+
+    @Query("SELECT DISTINCT e.commitId FROM JvSnapshotEntity e WHERE e.globalId IN (:globalIds) "
+            + "AND e.commitId < (SELECT MAX(s.commitId) FROM JvSnapshotEntity s "
+            + "WHERE s.globalId = e.globalId AND s.commitId <= :commitId)")
+    List<Long> findCommitIdsOfSnapshotsReplacedBefore(@Param("globalIds") Collection<Long> globalIds,
+                                                      @Param("commitId") Long commitId);
+
+    @Modifying
+    @Query("UPDATE JvSnapshotEntity e SET e.type = :type WHERE e.globalId = :globalId AND e.version = :version")
+    int updateType(@Param("globalId") Long globalId, @Param("version") Long version,
+                   @Param("type") SnapshotType type);
+
+    @Modifying
+    @Query("DELETE FROM JvSnapshotEntity e WHERE e.globalId = :globalId AND e.version < :version")
+    int deleteByGlobalIdAndVersionLessThan(@Param("globalId") Long globalId, @Param("version") Long version);
 
     @Modifying
-    void deleteByVersionAndGlobalIdAndCommitId(Long version, Long globalId, Long commitId);
+    @Query("DELETE FROM JvSnapshotEntity e WHERE e.globalId IN (:globalIds) "
+            + "AND e.commitId < (SELECT MAX(s.commitId) FROM JvSnapshotEntity s "
+            + "WHERE s.globalId = e.globalId AND s.commitId <= :commitId)")
+    int deleteSnapshotsReplacedBefore(@Param("globalIds") Collection<Long> globalIds,
+                                      @Param("commitId") Long commitId);
 
     @Modifying
     @Query("DELETE FROM JvSnapshotEntity e WHERE e.globalId IN (:globalIds)")
-    void deleteByGlobalIdIn(@Param("globalIds") Collection<Long> globalIds);
+    int deleteByGlobalIdIn(@Param("globalIds") Collection<Long> globalIds);
+
+    @Query("SELECT e.globalId AS id, COUNT(e.globalId) AS count FROM JvSnapshotEntity e "
+            + "WHERE e.globalId NOT IN (SELECT g.id FROM JvGlobalIdEntity g WHERE g.typeName = :excludedType) "
+            + "GROUP BY e.globalId HAVING COUNT(e.globalId) > :count")
+    List<JaversCountResponse> findGlobalIdAndCountGreaterThan(@Param("count") Long count,
+                                                              @Param("excludedType") String excludedTypeName);
 
-    @Query("SELECT e.globalId AS id, COUNT(e.globalId) AS count "
-            + "FROM JvSnapshotEntity e GROUP BY e.globalId HAVING COUNT(e.globalId) > :count")
-    List<JaversCountResponse> findGlobalIdAndCountGreaterThan(@Param("count") Long count);
+    @NativeQuery("select max(s.version) from jv_snapshot s "
+            + "join jv_global_id g on g.global_id_pk = s.global_id_fk "
+            + "where g.type_name = :type_name and g.local_id = :local_id")
+    Long findMaxVersionByTypeNameAndLocalId(@Param("type_name") String typeName,
+                                            @Param("local_id") String localId);
 }
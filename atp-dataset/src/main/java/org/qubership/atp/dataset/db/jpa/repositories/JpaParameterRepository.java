@@ -16,16 +16,20 @@
 
 package org.qubership.atp.dataset.db.jpa.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import org.qubership.atp.dataset.db.dto.ReferenceEdgeResponse;
+import org.qubership.atp.dataset.db.dto.ReferenceTargetResponse;
 import org.qubership.atp.dataset.db.jpa.entities.ParameterEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.NativeQuery;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -57,7 +61,21 @@ public interface JpaParameterRepository extends JpaRepository<ParameterEntity, U
             ORDER by a.name""")
     List<ParameterEntity> getOverlapByDataSetIdSorted(UUID dataSetId);
 
-    @Query(value = "select distinct p.dataSet.id from ParameterEntity p where p.dataSetReferenceId = ?1")
-    Set<UUID> getUniqueDataSetIdsByDataSetReferenceId(UUID dataSetId);
+    @Query("SELECT DISTINCT p.dataSet.id AS sourceId, p.dataSetReferenceId AS targetId FROM ParameterEntity p "
+            + "WHERE p.dataSetReferenceId IN (SELECT ds.id FROM DataSetEntity ds "
+            + "WHERE ds.dataSetList.visibilityArea.id = :va_id)")
+    List<ReferenceEdgeResponse> findDataSetReferencesToVisibilityAreaId(@Param("va_id") UUID visibilityAreaId);
 
+    @Query("SELECT DISTINCT p.dataSet.id AS sourceId, p.dataSetReferenceId AS targetId, "
+            + "ds.dataSetList.visibilityArea.id AS visibilityAreaId FROM ParameterEntity p, DataSetEntity ds "
+            + "WHERE ds.id = p.dataSetReferenceId AND p.dataSet.id = :ds_id")
+    List<ReferenceTargetResponse> findReferencedDataSets(@Param("ds_id") UUID dataSetId);
+
+    @Query("SELECT DISTINCT p.dataSet.id AS sourceId, p.dataSetReferenceId AS targetId, "
+            + "ds.dataSetList.visibilityArea.id AS visibilityAreaId FROM ParameterEntity p, DataSetEntity ds "
+            + "WHERE ds.id = p.dataSetReferenceId AND p.dataSet.dataSetList.id = :dsl_id")
+    List<ReferenceTargetResponse> findDataSetReferencesFromDataSetList(@Param("dsl_id") UUID dataSetListId);
+
+    @Query("SELECT p FROM ParameterEntity p LEFT JOIN FETCH p.listValue WHERE p.attribute.id IN (:attribute_ids)")
+    List<ParameterEntity> findByAttributeIdIn(@Param("attribute_ids") Collection<UUID> attributeIds);
 }
@@ -37,6 +37,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.Nullable;
@@ -68,6 +71,7 @@ import org.qubership.atp.dataset.service.jpa.delegates.Parameter;
 import org.qubership.atp.dataset.service.jpa.impl.DataSetListContextService;
 import org.qubership.atp.dataset.service.jpa.impl.DataSetParameterProvider;
 import org.qubership.atp.dataset.service.jpa.impl.JpaDataSetServiceImpl;
+import org.qubership.atp.dataset.service.jpa.impl.MacrosDefinitionCacheService;
 import org.qubership.atp.dataset.service.jpa.impl.macro.MacroContext;
 import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
 import org.qubership.atp.dataset.service.jpa.model.MacroContextService;
@@ -87,16 +91,15 @@ import org.qubership.atp.ei.node.services.FileService;
 import org.qubership.atp.ei.node.services.ObjectSaverToDiskService;
 import org.qubership.atp.ei.ntt.impl.NttProjectConverter;
 import org.qubership.atp.macros.core.calculator.MacrosCalculator;
-import org.qubership.atp.macros.core.client.MacrosFeignClient;
-import org.qubership.atp.macros.core.clients.api.dto.macros.MacrosDto;
-import org.qubership.atp.macros.core.converter.MacrosDtoConvertService;
 import org.qubership.atp.macros.core.model.Macros;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mongodb.client.gridfs.model.GridFSFile;
 import joptsimple.internal.Strings;
 import lombok.extern.slf4j.Slf4j;
 
@@ -120,8 +123,9 @@ public class DataSetExportExecutor implements ExportExecutor {
     private final JpaDataSetListService dslService;
     private final JpaDataSetServiceImpl dsService;
     private final DataSetParameterProvider dataSetParameterProvider;
-    private final MacrosFeignClient macrosFeignClient;
+    private final MacrosDefinitionCacheService macrosDefinitionCacheService;
     private final MacrosCalculator macrosCalculator;
+    private final Executor fileCopyExecutor;
 
     /**
      * Instantiates a new Data set export executor.
@@ -132,8 +136,9 @@ public class DataSetExportExecutor implements ExportExecutor {
      * @param gridFsRepository the grid fs repository
      * @param fileService the fileService
      * @param dataSetParameterProvider the dataSetParameterProvider
-     * @param macrosFeignClient the macrosFeignClient
+     * @param macrosDefinitionCacheService the macrosDefinitionCacheService
      * @param macrosCalculator the macrosCalculator
+     * @param fileCopyExecutor the executor of GridFS files export
      */
     public DataSetExportExecutor(ObjectSaverToDiskService objectSaverToDiskService,
                                  ObjectMapper exportObjectMapper,
@@ -146,8 +151,9 @@ public class DataSetExportExecutor implements ExportExecutor {
                                  JpaDataSetListService dslService,
                                  JpaDataSetServiceImpl dsService,
                                  DataSetParameterProvider dataSetParameterProvider,
-                                 MacrosFeignClient macrosFeignClient,
-                                 MacrosCalculator macrosCalculator) {
+                                 MacrosDefinitionCacheService macrosDefinitionCacheService,
+                                 MacrosCalculator macrosCalculator,
+                                 @Qualifier("fileCopyTaskExecutor") Executor fileCopyExecutor) {
         this.objectSaverToDiskService = objectSaverToDiskService;
         this.objectWriter = exportObjectMapper.writer();
         this.dataSetRepository = dataSetRepository;
@@ -159,8 +165,9 @@ public class DataSetExportExecutor implements ExportExecutor {
         this.dslService = dslService;
         this.dsService = dsService;
         this.dataSetParameterProvider = dataSetParameterProvider;
-        this.macrosFeignClient = macrosFeignClient;
+        this.macrosDefinitionCacheService = macrosDefinitionCacheService;
         this.macrosCalculator = macrosCalculator;
+        this.fileCopyExecutor = fileCopyExecutor;
     }
 
     @Override
@@ -484,21 +491,30 @@ public class DataSetExportExecutor implements ExportExecutor {
 
     private void exportFiles(List<UUID> idsOfFileParameters,
                              DataSetEntity dataSet, Path workDir) {
-        Map<UUID, Optional<InputStream>> files = gridFsRepository.getAll(idsOfFileParameters);
-        for (Map.Entry<UUID, Optional<InputStream>> entry : files.entrySet()) {
+        Map<UUID, GridFSFile> files = gridFsRepository.getGridFsFiles(idsOfFileParameters);
+        UUID datasetListIdentifier = dataSet.getDataSetList().getId();
+        UUID datasetIdentifier = dataSet.getId();
+        List<CompletableFuture<Void>> exports = new ArrayList<>(files.size());
+        for (Map.Entry<UUID, GridFSFile> entry : files.entrySet()) {
             UUID parameterId = entry.getKey();
-            Optional<InputStream> file = entry.getValue();
-            if (file.isPresent()) {
-                Optional<FileData> fileInfo = gridFsRepository.getFileInfo(parameterId);
-                if (fileInfo.isEmpty()) {
-                    log.info("File not found for parameter with id {}", parameterId);
-                    continue;
-                }
-                FileData fileData = fileInfo.get();
-                UUID datasetListIdentifier = dataSet.getDataSetList().getId();
-                UUID datasetIdentifier = dataSet.getId();
-                saveDataSetFile(fileData, datasetListIdentifier, datasetIdentifier, workDir, file);
+            Optional<FileData> fileInfo = gridFsRepository.getFileInfo(parameterId);
+            if (fileInfo.isEmpty()) {
+                log.info("File not found for parameter with id {}", parameterId);
+                continue;
+            }
+            FileData fileData = fileInfo.get();
+            GridFSFile file = entry.getValue();
+            exports.add(CompletableFuture.runAsync(() -> saveDataSetFile(fileData, datasetListIdentifier,
+                    datasetIdentifier, workDir, Optional.of(gridFsRepository.openDownloadStream(file))),
+                    fileCopyExecutor));
+        }
+        try {
+            CompletableFuture.allOf(exports.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
+            throw e;
         }
     }
 
@@ -696,9 +712,7 @@ public class DataSetExportExecutor implements ExportExecutor {
         MacroContext macroContext = new MacroContext();
         macroContext.setMacroContextService(macroContextService);
         macroContext.setMacrosCalculator(macrosCalculator);
-        List<MacrosDto> macrosDtoList = macrosFeignClient
-                .findAllByProject(dataSetListContext.getVisibilityAreaId()).getBody();
-        List<Macros> macros = new MacrosDtoConvertService().convertList(macrosDtoList, Macros.class);
+        List<Macros> macros = macrosDefinitionCacheService.getAllMacros(dataSetListContext.getVisibilityAreaId());
         macroContext.setMacros(macros);
         macroContext.setDataSetListContext(dataSetListContext);
         return macroContext;
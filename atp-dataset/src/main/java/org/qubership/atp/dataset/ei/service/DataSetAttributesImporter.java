@@ -34,6 +34,7 @@ import org.qubership.atp.dataset.ei.model.AttributeKeyIdsDbUpdate;
 import org.qubership.atp.dataset.ei.model.DataSetAttribute;
 import org.qubership.atp.dataset.ei.model.DataSetAttributeKey;
 import org.qubership.atp.dataset.ei.model.DataSetListValue;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.jpa.DataSetServiceException;
 import org.qubership.atp.dataset.service.jpa.JpaAttributeService;
 import org.qubership.atp.dataset.service.jpa.JpaDataSetListService;
@@ -63,6 +64,7 @@ public class DataSetAttributesImporter {
     private final JpaDataSetListService dslService;
     private final DuplicateNameChecker duplicateNameChecker;
     private final EntityManagerController entityManagerController;
+    private final VisibilityAreaResolverService visibilityAreaResolverService;
 
     /**
      * Import data set attributes.
@@ -181,6 +183,8 @@ public class DataSetAttributesImporter {
         attribute.setDataSetList(object.getDataSetList());
         attribute.setTypeDataSetListId(object.getTypeDataSetList());
         attrService.save(attribute);
+        // import may move attribute to another DSL
+        visibilityAreaResolverService.evictEntity(attribute.getId());
     }
 
     private void createWithCheckName(DataSetAttribute object, AttributeTypeName type) {
@@ -282,6 +286,7 @@ public class DataSetAttributesImporter {
             attrKey.setDataSet(object.getDataSet());
             attrKey.setDataSetList(object.getDataSetList());
             attrService.save(attrKey);
+            visibilityAreaResolverService.evictEntity(attrKey.getId());
         }
     }
 
@@ -29,6 +29,7 @@ import java.util.UUID;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.qubership.atp.dataset.ei.Constants;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.jpa.DataSetServiceException;
 import org.qubership.atp.dataset.service.jpa.JpaDataSetListService;
 import org.qubership.atp.dataset.service.jpa.JpaVisibilityAreaService;
@@ -55,6 +56,7 @@ public class DataSetListImporter {
     private final JpaVisibilityAreaService vaService;
     private final DuplicateNameChecker duplicateNameChecker;
     private final EntityManagerController entityManagerController;
+    private final VisibilityAreaResolverService visibilityAreaResolverService;
 
     /**
      * Import data set lists list.
@@ -135,10 +137,16 @@ public class DataSetListImporter {
                                      org.qubership.atp.dataset.ei.model.DataSetList object) {
         checkAndCorrectName(object);
 
+        VisibilityArea previousVisibilityArea = dataSetList.getVisibilityArea();
+        boolean moved = previousVisibilityArea == null
+                || !previousVisibilityArea.getId().equals(object.getVisibilityArea());
         dataSetList.setName(object.getName());
         dataSetList.setVisibilityArea(object.getVisibilityArea());
         log.debug("[ImportDataSetList][save] import object: {} datasetList: {} ", object, dataSetList);
         dslService.save(dataSetList);
+        if (moved) {
+            visibilityAreaResolverService.evictDataSetList(dataSetList.getId());
+        }
     }
 
     private void createWithCheckName(org.qubership.atp.dataset.ei.model.DataSetList object) {
@@ -29,6 +29,7 @@ import java.util.UUID;
 import org.apache.commons.collections.CollectionUtils;
 import org.qubership.atp.dataset.ei.Constants;
 import org.qubership.atp.dataset.service.direct.ClearCacheService;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.jpa.DataSetServiceException;
 import org.qubership.atp.dataset.service.jpa.JpaDataSetListService;
 import org.qubership.atp.dataset.service.jpa.JpaDataSetService;
@@ -56,6 +57,7 @@ public class DataSetsImporter {
     private final DuplicateNameChecker duplicateNameChecker;
     private final EntityManagerController entityManagerController;
     private final ClearCacheService clearCacheService;
+    private final VisibilityAreaResolverService visibilityAreaResolverService;
 
     /**
      * Import data sets.
@@ -143,6 +145,8 @@ public class DataSetsImporter {
         dataSet.setLocked(isDataSetLocked(object));
         log.debug("[importDataSets][save DataSet] dataSet: {}", dataSet);
         dsService.save(dataSet);
+        // import may move data set to another DSL
+        visibilityAreaResolverService.evictEntity(dataSet.getId());
     }
 
     private void createWithCheckName(org.qubership.atp.dataset.ei.model.DataSet object, Long order) {
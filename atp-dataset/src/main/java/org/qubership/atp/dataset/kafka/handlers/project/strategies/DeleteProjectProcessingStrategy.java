@@ -21,6 +21,7 @@ import org.qubership.atp.dataset.kafka.entities.project.EventType;
 import org.qubership.atp.dataset.kafka.entities.project.ProjectEvent;
 import org.qubership.atp.dataset.kafka.handlers.project.ProcessingStrategy;
 import org.qubership.atp.dataset.service.direct.VisibilityAreaService;
+import org.qubership.atp.dataset.service.jpa.impl.MacrosDefinitionCacheService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.annotation.CacheEvict;
@@ -35,11 +36,14 @@ public class DeleteProjectProcessingStrategy implements ProcessingStrategy<Proje
 
     @Autowired
     private VisibilityAreaService visibilityAreaService;
+    @Autowired
+    private MacrosDefinitionCacheService macrosDefinitionCacheService;
 
     @Override
     @CacheEvict(value = CacheEnum.Constants.PROJECT_CACHE, key = "#projectEvent.getProjectId()")
     public void process(ProjectEvent projectEvent) {
         visibilityAreaService.delete(projectEvent.getProjectId());
+        macrosDefinitionCacheService.evict(projectEvent.getProjectId());
     }
 
     @Override
@@ -0,0 +1,41 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.macros;
+
+/**
+ * Matches macro name against registered macros one character at a time, so tokenizer doesn't build
+ * the consumed text again for each character. Matcher is stateful and is used by one tokenizer.
+ */
+public interface MacroNameMatcher {
+
+    /**
+     * Consumes the character if some macro name starts with consumed characters followed by it.
+     *
+     * @return false if the character is not consumed.
+     */
+    boolean advance(char chr);
+
+    /**
+     * Checks if consumed characters are a full macro name.
+     */
+    boolean isMacroName();
+
+    /**
+     * Forgets consumed characters.
+     */
+    void reset();
+}
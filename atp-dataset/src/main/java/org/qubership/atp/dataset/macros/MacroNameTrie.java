@@ -0,0 +1,119 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.macros;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Case-insensitive prefix tree of macro names. Names and input characters are upper-cased by character,
+ * so lookups don't allocate. The tree is not modified after construction.
+ */
+public class MacroNameTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Builds tree of the names.
+     */
+    public MacroNameTrie(Collection<String> names) {
+        for (String name : names) {
+            Node node = root;
+            for (int i = 0; i < name.length(); i++) {
+                node = node.getOrAddChild(Character.toUpperCase(name.charAt(i)));
+            }
+            node.terminal = true;
+        }
+    }
+
+    public boolean contains(CharSequence name) {
+        Node node = find(name);
+        return node != null && node.terminal;
+    }
+
+    public boolean containsPrefix(CharSequence prefix) {
+        return find(prefix) != null;
+    }
+
+    public MacroNameMatcher matcher() {
+        return new TrieMatcher();
+    }
+
+    private Node find(CharSequence text) {
+        Node node = root;
+        for (int i = 0; i < text.length() && node != null; i++) {
+            node = node.getChild(Character.toUpperCase(text.charAt(i)));
+        }
+        return node;
+    }
+
+    private static class Node {
+
+        private char[] chars = new char[0];
+        private Node[] children = new Node[0];
+        private boolean terminal;
+
+        /**
+         * Linear search, because macro names have few distinct characters on each level.
+         */
+        private Node getChild(char chr) {
+            for (int i = 0; i < chars.length; i++) {
+                if (chars[i] == chr) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node getOrAddChild(char chr) {
+            Node child = getChild(chr);
+            if (child == null) {
+                child = new Node();
+                chars = Arrays.copyOf(chars, chars.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                chars[chars.length - 1] = chr;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+
+    private class TrieMatcher implements MacroNameMatcher {
+
+        private Node node = root;
+
+        @Override
+        public boolean advance(char chr) {
+            Node child = node.getChild(Character.toUpperCase(chr));
+            if (child == null) {
+                return false;
+            }
+            node = child;
+            return true;
+        }
+
+        @Override
+        public boolean isMacroName() {
+            return node.terminal;
+        }
+
+        @Override
+        public void reset() {
+            node = root;
+        }
+    }
+}
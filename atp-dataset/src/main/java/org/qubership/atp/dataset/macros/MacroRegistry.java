@@ -26,4 +26,12 @@ public interface MacroRegistry {
 
     @Nonnull
     Macros getMacros(@Nonnull String key);
+
+    /**
+     * Returns new matcher of macro names for one tokenizer.
+     */
+    @Nonnull
+    default MacroNameMatcher matcher() {
+        return new PrefixCheckingMacroNameMatcher(this);
+    }
 }
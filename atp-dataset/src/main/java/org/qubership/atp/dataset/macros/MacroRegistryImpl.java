@@ -26,10 +26,15 @@ import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+/**
+ * Registry of macros by upper-cased definition. Names are looked up in a prefix tree, which is built again
+ * when macros are registered.
+ */
 @Component
 public class MacroRegistryImpl implements MacroRegistry {
 
     private final Map<String, Macros> macroses;
+    private volatile MacroNameTrie names;
 
     @Autowired
     private List<Macros> macrosList;
@@ -40,28 +45,17 @@ public class MacroRegistryImpl implements MacroRegistry {
 
     public MacroRegistryImpl(Map<String, Macros> macroses) {
         this.macroses = macroses;
+        this.names = new MacroNameTrie(macroses.keySet());
     }
 
     @Override
     public boolean fullyEquals(String name) {
-        name = name.toUpperCase();
-        for (String macro : macroses.keySet()) {
-            if (name.equals(macro)) {
-                return true;
-            }
-        }
-        return false;
+        return names.contains(name);
     }
 
     @Override
     public boolean partiallyEquals(String to) {
-        to = to.toUpperCase();
-        for (String macro : macroses.keySet()) {
-            if (macro.startsWith(to)) {
-                return true;
-            }
-        }
-        return false;
+        return names.containsPrefix(to);
     }
 
     @Nonnull
@@ -72,8 +66,18 @@ public class MacroRegistryImpl implements MacroRegistry {
         return macros;
     }
 
+    @Nonnull
+    @Override
+    public MacroNameMatcher matcher() {
+        return names.matcher();
+    }
+
+    /**
+     * Registers macros from the context.
+     */
     @PostConstruct
     public void init() {
-        this.macrosList.stream().forEach((x) -> this.macroses.put(x.getDefinition().toUpperCase(), x));
+        this.macrosList.forEach(macros -> this.macroses.put(macros.getDefinition().toUpperCase(), macros));
+        this.names = new MacroNameTrie(macroses.keySet());
     }
 }
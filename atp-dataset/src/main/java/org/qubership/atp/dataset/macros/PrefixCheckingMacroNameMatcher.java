@@ -0,0 +1,51 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.macros;
+
+/**
+ * Matcher of registries without prefix tree: consumed characters are checked by
+ * {@link MacroRegistry#partiallyEquals(String)} and {@link MacroRegistry#fullyEquals(String)}.
+ */
+class PrefixCheckingMacroNameMatcher implements MacroNameMatcher {
+
+    private final MacroRegistry registry;
+    private final StringBuilder consumed = new StringBuilder();
+
+    PrefixCheckingMacroNameMatcher(MacroRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean advance(char chr) {
+        consumed.append(chr);
+        if (registry.partiallyEquals(consumed.toString())) {
+            return true;
+        }
+        consumed.setLength(consumed.length() - 1);
+        return false;
+    }
+
+    @Override
+    public boolean isMacroName() {
+        return registry.fullyEquals(consumed.toString());
+    }
+
+    @Override
+    public void reset() {
+        consumed.setLength(0);
+    }
+}
@@ -16,11 +16,12 @@
 
 package org.qubership.atp.dataset.macros.parser;
 
+import org.qubership.atp.dataset.macros.MacroNameMatcher;
 import org.qubership.atp.dataset.macros.MacroRegistry;
 
 class ProbablyFormulaStrat extends Strategy {
 
-    private final MacroRegistry macroFinder;
+    private final MacroNameMatcher nameMatcher;
     private final OpenBrackets brackets;
     private final ParsingState parsingState;
     private final StringBuilder buffer = new StringBuilder();
@@ -29,13 +30,13 @@ class ProbablyFormulaStrat extends Strategy {
     ProbablyFormulaStrat(ParsingState parsingState, MacroRegistry macroFinder, OpenBrackets brackets) {
         super(TokenType.PROBABLY_FORMULA);
         this.parsingState = parsingState;
-        this.macroFinder = macroFinder;
+        this.nameMatcher = macroFinder.matcher();
         this.brackets = brackets;
     }
 
     @Override
     public Strategy read(char chr) {
-        if (chr == '(' && macroFinder.fullyEquals(buffer.toString())) {
+        if (chr == '(' && nameMatcher.isMacroName()) {
             if (prefix != null) {
                 parsingState.pushToken(parsingState.textPart);
             }
@@ -44,7 +45,7 @@ class ProbablyFormulaStrat extends Strategy {
             brackets.goDeeper();
             return formulaStarted;
         }
-        if (macroFinder.partiallyEquals(buffer.toString() + chr)) {
+        if (nameMatcher.advance(chr)) {
             buffer.append(chr);
             return this;
         }
@@ -71,6 +72,7 @@ class ProbablyFormulaStrat extends Strategy {
         super.clearState();
         prefix = null;
         buffer.setLength(0);
+        nameMatcher.reset();
     }
 
     ProbablyFormulaStrat noPrefix() {
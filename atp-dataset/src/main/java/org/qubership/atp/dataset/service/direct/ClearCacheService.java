@@ -16,14 +16,26 @@
 
 package org.qubership.atp.dataset.service.direct;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Evicts parameters and DSL contexts from caches. Inside transaction keys are collected
+ * and evicted by one bulk operation per cache after its completion.
+ */
 public interface ClearCacheService {
 
     void evictParameterCache(UUID parameterId);
 
+    void evictParameterCache(Collection<UUID> parameterIds);
+
     void evictDatasetListContextCache(UUID datasetId);
 
     void evictDatasetListContextCache(Set<UUID> datasetId);
+
+    /**
+     * Evicts DSL contexts which contain any of the DSLs on any level.
+     */
+    void evictDatasetListContextCacheByDataSetLists(Collection<UUID> dataSetListIds);
 }
@@ -16,6 +16,8 @@
 
 package org.qubership.atp.dataset.service.direct;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 import org.qubership.atp.dataset.model.api.DetailedComparisonDsRequest;
@@ -27,6 +29,14 @@ public interface CompareService {
 
     CompareStatus compare(UUID leftId, UUID rightId);
 
+    /**
+     * Compares target datasets with the base one in one pass.
+     * @param baseDataSetId base dataset id
+     * @param targetDataSetIds target dataset ids
+     * @return comparison statuses by target dataset id, in order of target ids
+     */
+    Map<UUID, CompareStatus> compare(UUID baseDataSetId, Collection<UUID> targetDataSetIds);
+
     DetailedComparisonDsResponse detailedComparison(DetailedComparisonDsRequest request);
 
     DetailedComparisonStatus compareAttributeValues(UUID leftDatasetId, UUID rightDataSetId,
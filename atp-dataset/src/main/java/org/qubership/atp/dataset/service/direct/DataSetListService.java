@@ -115,6 +115,18 @@ public interface DataSetListService extends IdentifiedService<DataSetList>, Labe
      */
     List<DataSet> getChildren(@Nonnull UUID dataSetListId, boolean evaluate, @Nullable String labelName);
 
+    /**
+     * Returns a page of datasets under target {@link DataSetList} and their total count.
+     *
+     * @param dataSetListId - id of target {@link DataSetList}.
+     * @param evaluate      - should apply structure changes or not.
+     * @param labelName     label name to filter with
+     * @param offset        count of datasets to skip
+     * @param limit         max count of datasets to return
+     */
+    PaginationResponse<DataSet> getChildren(@Nonnull UUID dataSetListId, boolean evaluate,
+                                            @Nullable String labelName, long offset, int limit);
+
     /**
      * Deletes DS by id.
      */
@@ -203,7 +215,7 @@ public interface DataSetListService extends IdentifiedService<DataSetList>, Labe
     Long getAffectedAttributesCount(UUID dataSetListId);
 
     /**
-     * Evict affected datasets from ATP_DATASETS_DATASET_LIST_CONTEXT_CACHE cache.
+     * Evict affected datasets from DSL context cache.
      * @param updatedDataSetListId updated dataset list id
      */
     void evictAllAffectedDatasetsFromContextCacheByDslId(UUID updatedDataSetListId);
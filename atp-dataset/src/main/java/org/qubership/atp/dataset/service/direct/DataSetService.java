@@ -138,6 +138,20 @@ public interface DataSetService extends IdentifiedService<DataSet>, LabelProvide
      */
     Stream<DataSet> getByParentId(UUID dataSetListId, boolean evaluate, @Nullable String labelName);
 
+    /**
+     * Returns a page of datasets under target {@link DataSetList} and their total count. Structure changes are
+     * applied to datasets of the page only, while the total count includes datasets produced by them.
+     *
+     * @param dataSetListId - id of target {@link DataSetList}.
+     * @param evaluate      - should apply structure changes or not.
+     * @param labelName     - name of a label.
+     * @param offset        - count of datasets to skip.
+     * @param limit         - max count of datasets to return.
+     * @return page of {@link DataSet} under target {@link DataSetList}.
+     */
+    PaginationResponse<DataSet> getByParentId(UUID dataSetListId, boolean evaluate, @Nullable String labelName,
+                                              long offset, int limit);
+
     /**
      * Returns all datasets (id + name) under target {@link DataSetList}.
      *
@@ -161,13 +175,13 @@ public interface DataSetService extends IdentifiedService<DataSet>, LabelProvide
     void lock(UUID dataSetListId, @Nonnull List<UUID> uuids, boolean isLock);
 
     /**
-     * Evict affected datasets from ATP_DATASETS_DATASET_LIST_CONTEXT_CACHE cache.
+     * Evict affected datasets from DSL context cache.
      * @param updatedDataSetListId updated dataset list id
      */
     void evictAllAffectedDatasetsFromContextCacheByDslId(UUID updatedDataSetListId);
 
     /**
-     * Evict affected datasets from ATP_DATASETS_DATASET_LIST_CONTEXT_CACHE cache.
+     * Evict affected datasets from DSL context cache.
      * @param updatedDataSetId updated dataset id
      */
     void evictAllAffectedDatasetsFromContextCacheByDsId(UUID updatedDataSetId);
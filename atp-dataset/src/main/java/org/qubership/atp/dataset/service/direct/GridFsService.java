@@ -41,6 +41,14 @@ public interface GridFsService {
 
     void copy(UUID sourceParameterUuid, UUID targetParameterUuid, boolean isTestPlan);
 
+    /**
+     * Copies files of source parameters to target parameters in parallel, missing files are skipped.
+     *
+     * @param sourceToTarget target parameter uuid mapped to source parameter uuid
+     * @param isTestPlan     target parameters are not looked up, e.g. they are not committed yet
+     */
+    void copyAll(Map<UUID, UUID> sourceToTarget, boolean isTestPlan);
+
     void copyIfExist(UUID sourceParameterUuid, UUID targetParameterUuid, boolean isTestPlan);
 
     FileData getFileInfo(UUID parameterUuid);
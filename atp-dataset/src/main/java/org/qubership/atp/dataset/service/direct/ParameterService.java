@@ -26,6 +26,7 @@ import java.util.stream.Stream;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+import org.qubership.atp.dataset.db.dto.ParameterValueDto;
 import org.qubership.atp.dataset.model.AttributePath;
 import org.qubership.atp.dataset.model.DataSet;
 import org.qubership.atp.dataset.model.Parameter;
@@ -67,6 +68,15 @@ public interface ParameterService extends IdentifiedService<Parameter> {
                                    @Nullable UUID listValueRef,
                                    boolean isJavers);
 
+    /**
+     * Creates or updates values of parameters in bulk. Not overlapped values are written by JDBC batches,
+     * DSL modification time and snapshot are updated once per DSL, caches are evicted once.
+     * Overlapped values are written one by one.
+     *
+     * @param isJavers Specifies whether Javers is enabled or disabled (Versioning)
+     */
+    void setParamsSelectJavers(@Nonnull List<ParameterValueDto> values, boolean isJavers);
+
     /**
      * Updates list of {@link Parameter}. Do not use it for file or {@link ParameterOverlap}.
      */
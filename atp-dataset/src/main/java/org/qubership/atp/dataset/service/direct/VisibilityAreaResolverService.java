@@ -0,0 +1,55 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.direct;
+
+import java.util.UUID;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Resolves visibility area (project) of an entity for authorization checks without loading of the entity.
+ */
+public interface VisibilityAreaResolverService {
+
+    @Nonnull
+    UUID getByDataSetListId(@Nonnull UUID dataSetListId);
+
+    @Nonnull
+    UUID getByDataSetId(@Nonnull UUID dataSetId);
+
+    @Nonnull
+    UUID getByAttributeId(@Nonnull UUID attributeId);
+
+    @Nonnull
+    UUID getByParameterId(@Nonnull UUID parameterId);
+
+    /**
+     * Drops visibility area of DSL, should be called when DSL is deleted or moved to another visibility area.
+     */
+    void evictDataSetList(@Nonnull UUID dataSetListId);
+
+    /**
+     * Drops owner DSL of data set, attribute or parameter, should be called when the entity is deleted
+     * or moved to another DSL.
+     */
+    void evictEntity(@Nonnull UUID entityId);
+
+    /**
+     * Drops all DSLs of visibility area, should be called when visibility area is deleted.
+     */
+    void evictVisibilityArea(@Nonnull UUID visibilityAreaId);
+}
@@ -20,6 +20,7 @@ import static org.qubership.atp.dataset.model.AttributeType.CHANGE;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -56,6 +57,7 @@ import org.qubership.atp.dataset.service.direct.AttributeService;
 import org.qubership.atp.dataset.service.direct.ClearCacheService;
 import org.qubership.atp.dataset.service.direct.DataSetListService;
 import org.qubership.atp.dataset.service.direct.DateAuditorService;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.rest.dto.manager.UiManAttribute;
 import org.qubership.atp.dataset.service.rest.dto.manager.UiManDataSet;
 import org.qubership.atp.dataset.service.rest.dto.manager.UiManDataSetList;
@@ -85,6 +87,7 @@ public class AttributeServiceImpl implements AttributeService {
     private final DataSetListSnapshotService dataSetListSnapshotService;
     private final JpaAttributesSortEnabledRepository jpaAttributesSortEnabledRepository;
     private final ClearCacheService clearCacheService;
+    private final VisibilityAreaResolverService visibilityAreaResolverService;
 
     /**
      * Constructor with autowire.
@@ -98,7 +101,8 @@ public class AttributeServiceImpl implements AttributeService {
             DataSetListSnapshotService dataSetListSnapshotService,
             ParameterRepository parameterRepository,
             JpaAttributesSortEnabledRepository jpaAttributesSortEnabledRepository,
-            ClearCacheService clearCacheService) {
+            ClearCacheService clearCacheService,
+            VisibilityAreaResolverService visibilityAreaResolverService) {
         this.listValueRepository = listValueRepository;
         this.attributeRepository = attributeRepository;
         this.dslServiceProvider = dslServiceProvider;
@@ -108,6 +112,7 @@ public class AttributeServiceImpl implements AttributeService {
         this.parameterRepository = parameterRepository;
         this.jpaAttributesSortEnabledRepository = jpaAttributesSortEnabledRepository;
         this.clearCacheService = clearCacheService;
+        this.visibilityAreaResolverService = visibilityAreaResolverService;
     }
 
     /**
@@ -155,8 +160,9 @@ public class AttributeServiceImpl implements AttributeService {
         Set<UUID> attrRefsForOverlaps = new HashSet<>();
         collectAttributesForOverlapDelete(attribute, attrRefsForOverlaps);
         Set<Parameter> paramsToDelete = new HashSet<>();
+        clearCacheService.evictDatasetListContextCacheByDataSetLists(
+                Collections.singleton(attribute.getDataSetList().getId()));
         for (DataSet ds : dataSets) {
-            clearCacheService.evictDatasetListContextCache(ds.getId());
             paramsToDelete.addAll(ds.getParameters()
                     .stream()
                     .filter(param -> param.getAttribute().getId().equals(attribute.getId())
@@ -264,9 +270,14 @@ public class AttributeServiceImpl implements AttributeService {
     public boolean delete(@Nonnull UUID id) {
         Attribute attribute = attributeRepository.getById(id);
         boolean isDeleted = attributeRepository.delete(id);
+        if (isDeleted) {
+            visibilityAreaResolverService.evictEntity(id);
+        }
         if (isDeleted && attribute != null) {
-            attribute.getParameters()
-                    .forEach(param -> clearCacheService.evictDatasetListContextCache(param.getDataSet().getId()));
+            clearCacheService.evictDatasetListContextCache(attribute.getParameters()
+                    .stream()
+                    .map(param -> param.getDataSet().getId())
+                    .collect(Collectors.toSet()));
             dateAuditorService.updateModifiedFields(attribute.getDataSetList().getId());
             dataSetListSnapshotService.commitEntity(attribute.getDataSetList().getId());
         }
@@ -314,12 +325,11 @@ public class AttributeServiceImpl implements AttributeService {
         Attribute attribute = get(attributeId);
         boolean isDeleted = false;
         if (Objects.nonNull(attribute)) {
-            attribute.getParameters().forEach(param -> {
-                if (param.getListValue().getId().equals(listValueId)) {
-                    clearCacheService.evictParameterCache(param.getId());
-                    clearCacheService.evictDatasetListContextCache(param.getDataSet().getId());
-                }
-            });
+            List<Parameter> affectedParameters = attribute.getParameters()
+                    .stream()
+                    .filter(param -> param.getListValue().getId().equals(listValueId))
+                    .collect(Collectors.toList());
+            evictParameters(affectedParameters);
             checkUsedValueLockDs(attributeId, listValueId);
             isDeleted = listValueRepository.delete(listValueId);
             if (isDeleted) {
@@ -338,10 +348,7 @@ public class AttributeServiceImpl implements AttributeService {
         Attribute attribute = get(attributeId);
         boolean isDeleted = false;
         if (Objects.nonNull(attribute)) {
-            attribute.getParameters().forEach(param -> {
-                clearCacheService.evictParameterCache(param.getId());
-                clearCacheService.evictDatasetListContextCache(param.getDataSet().getId());
-            });
+            evictParameters(attribute.getParameters());
             ids.forEach(iterListValueId -> checkUsedValueLockDs(attributeId, iterListValueId));
             isDeleted = listValueRepository.bulkDelete(ids);
             if (isDeleted) {
@@ -352,6 +359,13 @@ public class AttributeServiceImpl implements AttributeService {
         return isDeleted;
     }
 
+    private void evictParameters(Collection<Parameter> parameters) {
+        clearCacheService.evictParameterCache(parameters.stream().map(Parameter::getId).collect(Collectors.toSet()));
+        clearCacheService.evictDatasetListContextCache(parameters.stream()
+                .map(param -> param.getDataSet().getId())
+                .collect(Collectors.toSet()));
+    }
+
     private void checkUsedValueLockDs(@NotNull UUID attributeId, @NotNull UUID listValueId) {
         List<Parameter> parameters = parameterRepository.getByAttributeId(attributeId);
         parameters.forEach(parameter -> {
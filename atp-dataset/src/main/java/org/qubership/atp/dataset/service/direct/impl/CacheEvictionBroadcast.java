@@ -0,0 +1,113 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.direct.impl;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.qubership.atp.dataset.config.CacheConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers evictions of pod-local caches to the other replicas through Hazelcast topic.
+ * Each replica subscribes local eviction per channel, a message published by a replica is applied
+ * by all the others. Without Hazelcast client caches are not shared, so publishing does nothing.
+ */
+@Slf4j
+@Component
+public class CacheEvictionBroadcast {
+
+    public static final String TOPIC_NAME = "ATP_DATASETS_LOCAL_CACHE_EVICTIONS";
+
+    private final ITopic<EvictionMessage> topic;
+    private final Map<String, Consumer<Set<UUID>>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    public CacheEvictionBroadcast(ObjectProvider<HazelcastInstance> hazelcastInstance) {
+        HazelcastInstance instance = hazelcastInstance.getIfAvailable();
+        if (instance == null) {
+            log.info("Hazelcast client is disabled, local cache evictions are not broadcast");
+            this.topic = null;
+        } else {
+            this.topic = instance.getTopic(TOPIC_NAME);
+            this.topic.addMessageListener(message -> onMessage(message.getMessageObject()));
+        }
+    }
+
+    /**
+     * Registers local eviction for keys received from other replicas on the channel.
+     */
+    public void subscribe(String channel, Consumer<Set<UUID>> localEviction) {
+        subscribers.put(channel, localEviction);
+    }
+
+    /**
+     * Sends keys evicted on this replica to the other ones.
+     */
+    public void publish(String channel, Collection<UUID> ids) {
+        if (topic == null || ids.isEmpty()) {
+            return;
+        }
+        try {
+            topic.publish(new EvictionMessage(CacheConfiguration.CACHE_ID, channel, new ArrayList<>(ids)));
+        } catch (Exception e) {
+            log.error("Failed to broadcast eviction of {} keys from {}", ids.size(), channel, e);
+        }
+    }
+
+    void onMessage(EvictionMessage eviction) {
+        if (CacheConfiguration.CACHE_ID.equals(eviction.getSource())) {
+            return;
+        }
+        Consumer<Set<UUID>> localEviction = subscribers.get(eviction.getChannel());
+        if (localEviction == null) {
+            log.warn("No local cache subscribed to evictions from {}", eviction.getChannel());
+            return;
+        }
+        log.debug("Evict {} keys from {} on request of replica {}", eviction.getIds().size(),
+                eviction.getChannel(), eviction.getSource());
+        localEviction.accept(new HashSet<>(eviction.getIds()));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class EvictionMessage implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -3305771627713384542L;
+        private final UUID source;
+        private final String channel;
+        private final List<UUID> ids;
+    }
+}
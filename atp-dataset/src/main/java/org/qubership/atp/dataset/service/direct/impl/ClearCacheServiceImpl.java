@@ -16,46 +16,189 @@
 
 package org.qubership.atp.dataset.service.direct.impl;
 
-import java.util.Objects;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
 import org.qubership.atp.dataset.constants.CacheEnum;
 import org.qubership.atp.dataset.service.direct.ClearCacheService;
+import org.qubership.atp.dataset.service.jpa.impl.DataSetListContextCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Inside transaction keys are collected into a batch bound to the transaction, DSL contexts are also dropped
+ * at once because it's a local operation. The batch is flushed once after transaction completion:
+ * parameters are removed by one bulk call to Caffeine or Hazelcast, and whole cache is cleared if the batch
+ * is too large. DSL contexts are cached per replica, so their evictions are broadcast to the other replicas.
+ */
 @Slf4j
 @Service
 public class ClearCacheServiceImpl implements ClearCacheService {
 
+    public static final String EVICTION_BATCH_SIZE = "atp.dataset.cache.eviction.batch.size";
+
+    static final String CONTEXTS_BY_DATA_SETS = DataSetListContextCache.CACHE_NAME + ".data_sets";
+    static final String CONTEXTS_BY_DATA_SET_LISTS = DataSetListContextCache.CACHE_NAME + ".data_set_lists";
+    private static final String CACHE_TAG = "cache";
+    private static final String HAZELCAST_KEY_ATTRIBUTE = "__key";
+
     private final CacheManager cacheManager;
+    private final DataSetListContextCache dataSetListContextCache;
+    private final CacheEvictionBroadcast broadcast;
+    private final DistributionSummary parameterBatchSize;
+    private final DistributionSummary contextBatchSize;
+    private final int clearThreshold;
 
-    public ClearCacheServiceImpl(CacheManager cacheManager) {
+    /**
+     * Default constructor.
+     */
+    public ClearCacheServiceImpl(CacheManager cacheManager, DataSetListContextCache dataSetListContextCache,
+                                 CacheEvictionBroadcast broadcast, MeterRegistry meterRegistry,
+                                 @Value("${atp-dataset.cache.eviction.clear-threshold:10000}") int clearThreshold) {
         this.cacheManager = cacheManager;
+        this.dataSetListContextCache = dataSetListContextCache;
+        this.broadcast = broadcast;
+        broadcast.subscribe(CONTEXTS_BY_DATA_SETS, dataSetListContextCache::evictByDataSetIdsNow);
+        broadcast.subscribe(CONTEXTS_BY_DATA_SET_LISTS, dataSetListContextCache::evictByDataSetListIdsNow);
+        this.clearThreshold = clearThreshold;
+        this.parameterBatchSize = batchSizeSummary(meterRegistry, CacheEnum.Constants.PARAMETER_CACHE);
+        this.contextBatchSize = batchSizeSummary(meterRegistry, DataSetListContextCache.CACHE_NAME);
     }
 
     @Override
     public void evictParameterCache(UUID parameterId) {
-        log.info("Remove parameter - \"{}\" from Parameter cache", parameterId);
-        cacheManager.getCache(CacheEnum.Constants.PARAMETER_CACHE).evict(parameterId);
+        evictParameterCache(Collections.singleton(parameterId));
+    }
+
+    @Override
+    public void evictParameterCache(Collection<UUID> parameterIds) {
+        log.debug("Remove parameters - \"{}\" from Parameter cache", parameterIds);
+        PendingEvictions pending = getPendingEvictions();
+        if (pending == null) {
+            evictParameters(new HashSet<>(parameterIds));
+        } else {
+            pending.parameterIds.addAll(parameterIds);
+        }
     }
 
     @Override
     public void evictDatasetListContextCache(UUID datasetId) {
-        log.info("Remove dataset - \"{}\" from DatasetListContext cache", datasetId);
-        cacheManager.getCache(CacheEnum.Constants.DATASET_LIST_CONTEXT_CACHE).evict(datasetId);
+        evictDatasetListContextCache(Collections.singleton(datasetId));
     }
 
     @Override
     public void evictDatasetListContextCache(Set<UUID> datasetIds) {
-        log.info("Remove datasets - \"{}\" from DatasetListContext cache", datasetIds);
-        Cache contextCache = cacheManager.getCache(CacheEnum.Constants.DATASET_LIST_CONTEXT_CACHE);
-        if (Objects.nonNull(contextCache)) {
-            datasetIds.forEach(contextCache::evict);
+        log.debug("Remove datasets - \"{}\" from DatasetListContext cache", datasetIds);
+        dataSetListContextCache.evictByDataSetIdsNow(datasetIds);
+        PendingEvictions pending = getPendingEvictions();
+        if (pending == null) {
+            contextBatchSize.record(datasetIds.size());
+            broadcast.publish(CONTEXTS_BY_DATA_SETS, datasetIds);
+        } else {
+            pending.dataSetIds.addAll(datasetIds);
+        }
+    }
+
+    @Override
+    public void evictDatasetListContextCacheByDataSetLists(Collection<UUID> dataSetListIds) {
+        log.debug("Remove contexts with DSLs - \"{}\" from DatasetListContext cache", dataSetListIds);
+        dataSetListContextCache.evictByDataSetListIdsNow(dataSetListIds);
+        PendingEvictions pending = getPendingEvictions();
+        if (pending == null) {
+            contextBatchSize.record(dataSetListIds.size());
+            broadcast.publish(CONTEXTS_BY_DATA_SET_LISTS, dataSetListIds);
+        } else {
+            pending.dataSetListIds.addAll(dataSetListIds);
+        }
+    }
+
+    /**
+     * Returns batch of the current transaction, it's created and registered on first call.
+     * Returns null outside of transaction.
+     */
+    private PendingEvictions getPendingEvictions() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        PendingEvictions pending = (PendingEvictions) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvictions();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evictParameters(Set<UUID> parameterIds) {
+        if (parameterIds.isEmpty()) {
+            return;
+        }
+        parameterBatchSize.record(parameterIds.size());
+        Cache cache = cacheManager.getCache(CacheEnum.Constants.PARAMETER_CACHE);
+        if (cache == null) {
+            return;
+        }
+        if (parameterIds.size() >= clearThreshold) {
+            log.info("Clear Parameter cache instead of removing {} parameters", parameterIds.size());
+            cache.clear();
+            return;
+        }
+        Object nativeCache = cache.getNativeCache();
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache) {
+            ((com.github.benmanes.caffeine.cache.Cache<UUID, ?>) nativeCache).invalidateAll(parameterIds);
+        } else if (nativeCache instanceof IMap<?, ?> hazelcastMap) {
+            hazelcastMap.removeAll(Predicates.in(HAZELCAST_KEY_ATTRIBUTE, parameterIds.toArray(new UUID[0])));
+        } else {
+            parameterIds.forEach(cache::evict);
+        }
+    }
+
+    private static DistributionSummary batchSizeSummary(MeterRegistry meterRegistry, String cacheName) {
+        return DistributionSummary.builder(EVICTION_BATCH_SIZE)
+                .description("Number of keys evicted from cache by one flush")
+                .tag(CACHE_TAG, cacheName)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Keys evicted during transaction. DSL contexts are dropped once again after completion, so context loaded
+     * by concurrent request before commit isn't kept.
+     */
+    private class PendingEvictions implements TransactionSynchronization {
+
+        private final Set<UUID> parameterIds = new HashSet<>();
+        private final Set<UUID> dataSetIds = new HashSet<>();
+        private final Set<UUID> dataSetListIds = new HashSet<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ClearCacheServiceImpl.this);
+            log.debug("Flush cache evictions: {} parameters, {} data sets, {} DSLs", parameterIds.size(),
+                    dataSetIds.size(), dataSetListIds.size());
+            evictParameters(parameterIds);
+            if (!dataSetIds.isEmpty()) {
+                dataSetListContextCache.evictByDataSetIdsNow(dataSetIds);
+                broadcast.publish(CONTEXTS_BY_DATA_SETS, dataSetIds);
+            }
+            if (!dataSetListIds.isEmpty()) {
+                dataSetListContextCache.evictByDataSetListIdsNow(dataSetListIds);
+                broadcast.publish(CONTEXTS_BY_DATA_SET_LISTS, dataSetListIds);
+            }
+            contextBatchSize.record(dataSetIds.size() + dataSetListIds.size());
         }
     }
 }
@@ -22,15 +22,27 @@ import static org.qubership.atp.dataset.model.enums.DetailedComparisonStatus.INC
 import static org.qubership.atp.dataset.model.enums.DetailedComparisonStatus.NOT_EQUAL;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import jakarta.annotation.Nullable;
+
 import org.qubership.atp.crypt.exception.AtpDecryptException;
+import org.qubership.atp.dataset.db.DataSetComparisonRepository;
+import org.qubership.atp.dataset.db.GridFsRepository;
+import org.qubership.atp.dataset.db.dto.AttributeNameTypeDto;
+import org.qubership.atp.dataset.db.dto.ComparedParameterDto;
 import org.qubership.atp.dataset.db.jpa.ModelsProvider;
 import org.qubership.atp.dataset.db.jpa.entities.ListValueEntity;
 import org.qubership.atp.dataset.exception.attribute.AttributeDslCopyException;
@@ -39,17 +51,20 @@ import org.qubership.atp.dataset.model.api.DetailedComparisonDsResponse;
 import org.qubership.atp.dataset.model.enums.CompareStatus;
 import org.qubership.atp.dataset.model.enums.DetailedComparisonStatus;
 import org.qubership.atp.dataset.model.impl.ComparedAttribute;
+import org.qubership.atp.dataset.model.impl.DataSetShort;
 import org.qubership.atp.dataset.model.impl.file.FileData;
 import org.qubership.atp.dataset.service.direct.CompareService;
 import org.qubership.atp.dataset.service.direct.EncryptionService;
-import org.qubership.atp.dataset.service.jpa.delegates.Attribute;
-import org.qubership.atp.dataset.service.jpa.delegates.AttributeKey;
 import org.qubership.atp.dataset.service.jpa.delegates.DataSet;
 import org.qubership.atp.dataset.service.jpa.delegates.Parameter;
 import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.Multiset;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -60,6 +75,8 @@ public class CompareDatasetServiceImpl implements CompareService {
 
     private final ModelsProvider modelsProvider;
     private final EncryptionService encryptionService;
+    private final DataSetComparisonRepository comparisonRepository;
+    private final GridFsRepository gridFsRepository;
 
     @Override
     public CompareStatus compare(UUID leftDsCaseId, UUID rightDsCaseId) {
@@ -67,84 +84,117 @@ public class CompareDatasetServiceImpl implements CompareService {
         if (leftDsCaseId.equals(rightDsCaseId)) {
             return CompareStatus.OK;
         }
-        List<Parameter> leftParameters = modelsProvider.getSortedParameterByDataSetId(leftDsCaseId);
-        List<Parameter> rightParameters = modelsProvider.getSortedParameterByDataSetId(rightDsCaseId);
-
-        List<Parameter> leftOverlapParameters = modelsProvider.getSortedOverlapParametersByDataSetId(leftDsCaseId);
-        List<Parameter> rightOverlapParameters = modelsProvider.getSortedOverlapParametersByDataSetId(rightDsCaseId);
-
-        int countAttrLeft = modelsProvider.countAttributes(leftDsCaseId);
-        int countAttrRight = modelsProvider.countAttributes(rightDsCaseId);
-        if (countAttrLeft != countAttrRight) {
-            return CompareStatus.WARNING;
-        }
-
-        if (rightParameters.size() != leftParameters.size()) {
-            return CompareStatus.WARNING;
-        }
-
-        if (rightOverlapParameters.size() != leftOverlapParameters.size()) {
-            return CompareStatus.WARNING;
-        }
-
-        for (int i = 0; i < leftParameters.size(); i++) {
-            Parameter leftParameter = leftParameters.get(i);
-            Parameter rightParameter = rightParameters.get(i);
-
-            boolean hasDiff = hasParameterDiff(leftParameter, rightParameter);
-            if (hasDiff) {
-                return CompareStatus.WARNING;
-            }
-        }
-
-        for (int i = 0; i < leftOverlapParameters.size(); i++) {
-            Parameter leftOverlapParameter = leftOverlapParameters.get(i);
-            Parameter rightOverlapParameter = rightOverlapParameters.get(i);
-
-            boolean hasDiff = hasParameterDiff(leftOverlapParameter, rightOverlapParameter);
-            if (hasDiff) {
-                return CompareStatus.WARNING;
-            }
-        }
-
+        CompareStatus status = compare(leftDsCaseId, Collections.singletonList(rightDsCaseId)).get(rightDsCaseId);
         log.info("Finished compare dataset {} with {}", leftDsCaseId, rightDsCaseId);
-        return CompareStatus.OK;
+        return status;
     }
 
-    private boolean hasParameterDiff(Parameter leftParameter, Parameter rightParameter) {
-        Attribute leftAttribute = leftParameter.getAttribute();
-        Attribute rightAttribute = rightParameter.getAttribute();
-
-        if (leftParameter.isOverlap()) {
-            leftAttribute = leftParameter.getAttributeKey().getAttribute();
-            rightAttribute = leftParameter.getAttributeKey().getAttribute();
-        }
-        AttributeTypeName attrTypeLeft = leftAttribute.getAttributeType();
-        AttributeTypeName attrTypeRight = rightAttribute.getAttributeType();
-
-        if (!leftAttribute.getName().equals(rightAttribute.getName())) {
-            return true;
+    /**
+     * Compares datasets with the base one. Parameters of all datasets are read by one query, then
+     * each dataset is reduced to a multiset of attribute name, type and value of its parameters.
+     * Datasets are equal if their data set lists have the same count of attributes and their
+     * multisets are equal.
+     */
+    @Override
+    public Map<UUID, CompareStatus> compare(UUID baseDataSetId, Collection<UUID> targetDataSetIds) {
+        log.info("Started compare dataset {} with {} datasets", baseDataSetId, targetDataSetIds.size());
+        Set<UUID> dataSetIds = new HashSet<>(targetDataSetIds);
+        dataSetIds.add(baseDataSetId);
+        Map<UUID, UUID> dataSetListIds = comparisonRepository.getDataSetListIds(dataSetIds);
+        Map<UUID, Long> attributeCounts =
+                comparisonRepository.countAttributes(new HashSet<>(dataSetListIds.values()));
+        List<ComparedParameterDto> parameters = comparisonRepository.getParameters(dataSetIds);
+        Map<UUID, String> fileNames = getFileNames(parameters);
+        Map<UUID, Multiset<ParameterFingerprint>> fingerprints = new HashMap<>();
+        for (ComparedParameterDto parameter : parameters) {
+            fingerprints.computeIfAbsent(parameter.getDataSetId(), id -> HashMultiset.create())
+                    .add(new ParameterFingerprint(parameter, getComparedValue(parameter, fileNames)));
         }
-
-        if (attrTypeLeft != attrTypeRight) {
-            return true;
+        Long baseAttributeCount = attributeCounts.get(dataSetListIds.get(baseDataSetId));
+        Multiset<ParameterFingerprint> baseFingerprint =
+                fingerprints.getOrDefault(baseDataSetId, ImmutableMultiset.of());
+        Map<UUID, CompareStatus> result = new LinkedHashMap<>();
+        for (UUID targetDataSetId : targetDataSetIds) {
+            boolean isEqual = targetDataSetId.equals(baseDataSetId)
+                    || (Objects.equals(baseAttributeCount, attributeCounts.get(dataSetListIds.get(targetDataSetId)))
+                    && baseFingerprint.equals(fingerprints.getOrDefault(targetDataSetId, ImmutableMultiset.of())));
+            result.put(targetDataSetId, isEqual ? CompareStatus.OK : CompareStatus.WARNING);
         }
+        log.info("Finished compare dataset {} with {} datasets", baseDataSetId, targetDataSetIds.size());
+        return result;
+    }
 
-        switch (attrTypeLeft) {
+    /**
+     * Value to compare parameters by. Encrypted values are compared decrypted, files by their names.
+     */
+    @Nullable
+    private Object getComparedValue(ComparedParameterDto parameter, Map<UUID, String> fileNames) {
+        switch (parameter.getAttributeType()) {
             case CHANGE:
             case TEXT:
-                return hasTextDiff(leftParameter, rightParameter);
+                return parameter.getStringValue();
             case ENCRYPTED:
-                return hasEncryptDiff(leftParameter, rightParameter);
+                return parameter.getStringValue() == null ? null : decrypt(parameter.getStringValue());
             case DSL:
-                return hasDslDiff(leftParameter, rightParameter);
+                return parameter.getDataSetReferenceId();
             case LIST:
-                return hasListDiff(leftParameter, rightParameter);
+                return parameter.getListValueText();
             case FILE:
-                return hasFileDiff(leftParameter, rightParameter);
+                return fileNames.get(parameter.getParameterId());
             default:
-                throw new IllegalStateException("Unexpected value: " + attrTypeLeft);
+                throw new IllegalStateException("Unexpected value: " + parameter.getAttributeType());
+        }
+    }
+
+    /**
+     * Value of parameter to show in detailed comparison, same as
+     * {@link Parameter#getParameterValueByTypeAsObject()}.
+     */
+    @Nullable
+    private Object getDisplayedValue(ComparedParameterDto parameter, Map<UUID, String> fileNames,
+                                     Map<UUID, DataSetShort> referencedDataSets) {
+        switch (parameter.getAttributeType()) {
+            case CHANGE:
+            case ENCRYPTED:
+            case TEXT:
+                return parameter.getStringValue();
+            case FILE:
+                return fileNames.get(parameter.getParameterId());
+            case DSL:
+                return parameter.getDataSetReferenceId() == null
+                        ? null : referencedDataSets.get(parameter.getDataSetReferenceId());
+            case LIST:
+                return parameter.getListValueText() == null ? "" : parameter.getListValueText();
+            default:
+                return null;
+        }
+    }
+
+    private String decrypt(String value) {
+        try {
+            return encryptionService.decrypt(value);
+        } catch (AtpDecryptException ex) {
+            throw new RuntimeException("Failed to decrypt encrypted parameter", ex);
+        }
+    }
+
+    /**
+     * Names of files of FILE parameters, their metadata is read by one query.
+     */
+    private Map<UUID, String> getFileNames(List<ComparedParameterDto> parameters) {
+        List<UUID> fileParameterIds = parameters.stream()
+                .filter(parameter -> AttributeTypeName.FILE.equals(parameter.getAttributeType()))
+                .map(ComparedParameterDto::getParameterId)
+                .collect(toList());
+        Map<UUID, String> fileNames = new HashMap<>();
+        try {
+            gridFsRepository.getGridFsFiles(fileParameterIds).keySet().forEach(parameterId ->
+                    gridFsRepository.getFileInfo(parameterId)
+                            .ifPresent(fileData -> fileNames.put(parameterId, fileData.getFileName())));
+        } finally {
+            gridFsRepository.dropLocalThreadCache();
         }
+        return fileNames;
     }
 
     private DetailedComparisonStatus compareParameters(Parameter leftParameter, Parameter rightParameter) {
@@ -240,39 +290,46 @@ public class CompareDatasetServiceImpl implements CompareService {
         DataSet leftDs = modelsProvider.getDataSetById(leftDsId);
         DataSet rightDs = modelsProvider.getDataSetById(rightDsId);
 
-        List<Parameter> parameters = leftDs.getParameters();
-        parameters.addAll(rightDs.getParameters());
+        List<ComparedParameterDto> parameters = comparisonRepository.getParameters(Arrays.asList(leftDsId, rightDsId));
+        if (leftDsId.equals(rightDsId)) {
+            parameters.addAll(new ArrayList<>(parameters));
+        } else {
+            // parameters of left dataset go first in groups
+            parameters.sort(Comparator.comparing(parameter -> !leftDsId.equals(parameter.getDataSetId())));
+        }
+        Map<UUID, String> fileNames = getFileNames(parameters);
+        Map<UUID, DataSetShort> referencedDataSets = comparisonRepository.getDataSetShorts(parameters.stream()
+                .map(ComparedParameterDto::getDataSetReferenceId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        Map<UUID, String> pathNames = comparisonRepository.getAttributeNames(parameters.stream()
+                .filter(ComparedParameterDto::isOverlap)
+                .flatMap(parameter -> getPath(parameter).stream())
+                .collect(Collectors.toSet()));
+
         // Group parameters by attribute name
         // The list of grouped parameters must not contain more than two entries
-
-        Map<String, List<Parameter>> groupedParameters = parameters.stream()
-                .filter(p -> {
-                    Attribute attr = p.getAttribute();
-                    return Objects.nonNull(attr) && !attr.getEntity().isAttributeKey();
-                })
-                .collect(Collectors.groupingBy(p -> p.getAttribute().getName(), HashMap::new, toList()));
-
-        Map<String, List<Parameter>> groupedParametersOverlap = parameters.stream()
-                .filter(p -> {
-                    AttributeKey attr = p.getAttributeKey();
-                    return Objects.nonNull(attr) && attr.getEntity().isAttributeKey();
-                })
-                .collect(Collectors.groupingBy(p ->
-                                p.getAttributeKey().getPathNames() + "." + p.getAttributeKey().getAttribute().getName(),
-                        HashMap::new, toList()));
-
-        List<ComparedAttribute> comparedAttributes = compareAttributes(leftDsId, rightDsId, groupedParameters);
-        comparedAttributes.addAll(compareAttributes(leftDsId, rightDsId, groupedParametersOverlap));
+        Map<String, List<ComparedParameterDto>> groupedParameters = parameters.stream()
+                .filter(parameter -> !parameter.isOverlap())
+                .collect(Collectors.groupingBy(ComparedParameterDto::getAttributeName, LinkedHashMap::new, toList()));
+        Map<String, List<ComparedParameterDto>> groupedParametersOverlap = parameters.stream()
+                .filter(ComparedParameterDto::isOverlap)
+                .collect(Collectors.groupingBy(parameter -> getPathNames(parameter, pathNames) + "."
+                        + parameter.getAttributeName(), LinkedHashMap::new, toList()));
+
+        ComparedValues values = parameter -> getDisplayedValue(parameter, fileNames, referencedDataSets);
+        List<ComparedAttribute> comparedAttributes =
+                compareAttributes(leftDsId, rightDsId, groupedParameters, fileNames, values);
+        comparedAttributes.addAll(
+                compareAttributes(leftDsId, rightDsId, groupedParametersOverlap, fileNames, values));
 
         // Add to the compared attributes the ones that were not included in the list
         // because the parameter was not present.
         // 1. Get the list of unused attributes for the left and right dataset
-        List<Attribute> notUsedAttributes = modelsProvider.getNotUsedAttributesByDatasetId(leftDsId);
-        notUsedAttributes.addAll(modelsProvider.getNotUsedAttributesByDatasetId(rightDsId));
+        List<AttributeNameTypeDto> notUsedAttributes = getNotUsedAttributes(leftDsId, rightDsId, parameters);
         // 2. Group attributes by name
-        Map<String, List<Attribute>> groupedNotUsedAttributes = notUsedAttributes.stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.groupingBy(Attribute::getName, HashMap::new, toList()));
+        Map<String, List<AttributeNameTypeDto>> groupedNotUsedAttributes = notUsedAttributes.stream()
+                .collect(Collectors.groupingBy(AttributeNameTypeDto::getName, LinkedHashMap::new, toList()));
         // 3. Add to the list of compared attributes
         comparedAttributes.addAll(compareUnusedAttributes(groupedNotUsedAttributes));
 
@@ -295,12 +352,45 @@ public class CompareDatasetServiceImpl implements CompareService {
         );
     }
 
+    private List<UUID> getPath(ComparedParameterDto overlap) {
+        return Arrays.stream(Objects.requireNonNull(overlap.getAttributeKey()).split("_"))
+                .map(UUID::fromString)
+                .collect(toList());
+    }
+
+    private String getPathNames(ComparedParameterDto overlap, Map<UUID, String> pathNames) {
+        return getPath(overlap).stream().map(pathNames::get).map(String::valueOf).collect(Collectors.joining("."));
+    }
+
+    /**
+     * Attributes of data set lists of both datasets, which have no parameters in the dataset.
+     */
+    private List<AttributeNameTypeDto> getNotUsedAttributes(UUID leftDsId, UUID rightDsId,
+                                                            List<ComparedParameterDto> parameters) {
+        Map<UUID, UUID> dataSetListIds = comparisonRepository.getDataSetListIds(Arrays.asList(leftDsId, rightDsId));
+        Map<UUID, List<AttributeNameTypeDto>> attributes = comparisonRepository
+                .getAttributes(new HashSet<>(dataSetListIds.values())).stream()
+                .collect(Collectors.groupingBy(AttributeNameTypeDto::getDataSetListId));
+        List<AttributeNameTypeDto> notUsedAttributes = new ArrayList<>();
+        for (UUID dataSetId : Arrays.asList(leftDsId, rightDsId)) {
+            Set<UUID> usedAttributeIds = parameters.stream()
+                    .filter(parameter -> dataSetId.equals(parameter.getDataSetId()) && !parameter.isOverlap())
+                    .map(ComparedParameterDto::getAttributeId)
+                    .collect(Collectors.toSet());
+            attributes.getOrDefault(dataSetListIds.get(dataSetId), Collections.emptyList()).stream()
+                    .filter(attribute -> !usedAttributeIds.contains(attribute.getId()))
+                    .forEach(notUsedAttributes::add);
+        }
+        return notUsedAttributes;
+    }
+
     private List<ComparedAttribute> compareAttributes(UUID leftDsId, UUID rightDsId,
-                                                      Map<String, List<Parameter>> groupedParameters) {
+                                                      Map<String, List<ComparedParameterDto>> groupedParameters,
+                                                      Map<UUID, String> fileNames, ComparedValues values) {
         List<ComparedAttribute> comparedAttributes = new ArrayList<>();
-        for (Map.Entry<String, List<Parameter>> entry : groupedParameters.entrySet()) {
+        for (Map.Entry<String, List<ComparedParameterDto>> entry : groupedParameters.entrySet()) {
             String attributeName = entry.getKey();
-            List<Parameter> value = entry.getValue();
+            List<ComparedParameterDto> value = entry.getValue();
             if (value.size() > 2) {
                 log.error("Found more than two parameters related to attributes with same name "
                                 + "(attributeName {}, leftDatasetId {}, rightDatasetId {})",
@@ -308,113 +398,88 @@ public class CompareDatasetServiceImpl implements CompareService {
                 continue;
             }
             if (value.size() == 2) {
-                comparedAttributes.add(getComparedAttribute(value.get(0), value.get(1), attributeName));
+                comparedAttributes.add(
+                        getComparedAttribute(value.get(0), value.get(1), attributeName, fileNames, values));
             } else {
-                ComparedAttribute comparedAttribute =
-                        getComparedAttribute(leftDsId, rightDsId, value.get(0), attributeName);
-                comparedAttributes.add(comparedAttribute);
+                comparedAttributes.add(getComparedAttribute(leftDsId, rightDsId, value.get(0), attributeName, values));
             }
         }
         return comparedAttributes;
     }
 
-    private List<ComparedAttribute> compareUnusedAttributes(Map<String, List<Attribute>> notUsedAttribute) {
+    private List<ComparedAttribute> compareUnusedAttributes(Map<String, List<AttributeNameTypeDto>> notUsedAttribute) {
         List<ComparedAttribute> comparedAttributes = new ArrayList<>();
-        for (Map.Entry<String, List<Attribute>> entry : notUsedAttribute.entrySet()) {
-            List<Attribute> attributes = entry.getValue();
+        for (Map.Entry<String, List<AttributeNameTypeDto>> entry : notUsedAttribute.entrySet()) {
+            List<AttributeNameTypeDto> attributes = entry.getValue();
             if (attributes.size() != 2) {
                 // ignore attributes that are not used in only one dataset,
                 // as they will be added when comparing parameters
                 continue;
             }
-            Attribute leftAttribute = attributes.get(0);
-            Attribute rightAttribute = attributes.get(1);
+            AttributeNameTypeDto leftAttribute = attributes.get(0);
+            AttributeNameTypeDto rightAttribute = attributes.get(1);
             comparedAttributes.add(new ComparedAttribute(
                     leftAttribute.getId(),
                     null,
-                    leftAttribute.getAttributeType(),
+                    leftAttribute.getType(),
                     false,
                     rightAttribute.getId(),
                     null,
-                    rightAttribute.getAttributeType(),
+                    rightAttribute.getType(),
                     false,
                     leftAttribute.getName(),
                     // If types are different, they are incompatible
                     // otherwise they are equal
-                    leftAttribute.getAttributeType().equals(rightAttribute.getAttributeType())
+                    leftAttribute.getType().equals(rightAttribute.getType())
                             ? EQUAL : INCOMPATIBLE_TYPES
             ));
         }
         return comparedAttributes;
     }
 
-    private ComparedAttribute getComparedAttribute(Parameter leftParameter,
-                                                   Parameter rightParameter,
-                                                   String attributeName) {
+    private ComparedAttribute getComparedAttribute(ComparedParameterDto leftParameter,
+                                                   ComparedParameterDto rightParameter,
+                                                   String attributeName, Map<UUID, String> fileNames,
+                                                   ComparedValues values) {
         log.debug("Create comparedAttribute for (leftParameterId: {}, rightParameterId: {}, attributeName: {})",
-                leftParameter.getId(), rightParameter.getId(), attributeName);
-
-        if (leftParameter.isOverlap() || rightParameter.isOverlap()) {
-
-            AttributeKey leftAttr = leftParameter.getAttributeKey();
-            AttributeKey rightAttr = rightParameter.getAttributeKey();
-
-            return new ComparedAttribute(
-                    leftAttr.getId(),
-                    leftParameter.getParameterValueByTypeAsObject(),
-                    leftAttr.getAttributeType(),
-                    leftParameter.isOverlap(),
-                    rightAttr.getId(),
-                    rightParameter.getParameterValueByTypeAsObject(),
-                    rightAttr.getAttributeType(),
-                    rightParameter.isOverlap(),
-                    attributeName,
-                    compareParameters(leftParameter, rightParameter));
+                leftParameter.getParameterId(), rightParameter.getParameterId(), attributeName);
+        DetailedComparisonStatus status;
+        if (leftParameter.getAttributeType() != rightParameter.getAttributeType()) {
+            status = INCOMPATIBLE_TYPES;
         } else {
-
-            return new ComparedAttribute(
-                    leftParameter.getAttributeId(),
-                    leftParameter.getParameterValueByTypeAsObject(),
-                    leftParameter.getAttribute().getAttributeType(),
-                    leftParameter.isOverlap(),
-                    rightParameter.getAttributeId(),
-                    rightParameter.getParameterValueByTypeAsObject(),
-                    rightParameter.getAttribute().getAttributeType(),
-                    rightParameter.isOverlap(),
-                    attributeName,
-                    compareParameters(leftParameter, rightParameter));
+            status = Objects.equals(getComparedValue(leftParameter, fileNames),
+                    getComparedValue(rightParameter, fileNames)) ? EQUAL : NOT_EQUAL;
         }
+        return new ComparedAttribute(
+                leftParameter.getAttributeId(),
+                values.get(leftParameter),
+                leftParameter.getAttributeType(),
+                leftParameter.isOverlap(),
+                rightParameter.getAttributeId(),
+                values.get(rightParameter),
+                rightParameter.getAttributeType(),
+                rightParameter.isOverlap(),
+                attributeName,
+                status);
     }
 
-    private ComparedAttribute getComparedAttribute(UUID leftDsId, UUID rightDsId,
-                                                   Parameter parameter, String attributeName) {
-
-        AttributeTypeName attrType;
-        UUID attributeId = parameter.getAttributeId();
-        Object parameterValue = parameter.getParameterValueByTypeAsObject();
-        UUID parameterDatasetId = parameter.getDataSetId();
-
-        if (parameter.isOverlap()) {
-            attrType = parameter.getAttributeKey().getAttributeType();
-        } else {
-            attrType = parameter.getAttribute().getAttributeType();
-        }
-
+    private ComparedAttribute getComparedAttribute(UUID leftDsId, UUID rightDsId, ComparedParameterDto parameter,
+                                                   String attributeName, ComparedValues values) {
         ComparedAttribute comparedAttribute = new ComparedAttribute();
-        if (leftDsId.equals(parameterDatasetId)) {
+        if (leftDsId.equals(parameter.getDataSetId())) {
             log.debug("Create comparedAttribute for (leftParameterId: {}, rightParameterId: {}, attributeName: {})",
-                    parameter.getId(), null, attributeName);
-            comparedAttribute.setLeftAttributeId(attributeId);
-            comparedAttribute.setLeftAttributeValue(parameterValue);
-            comparedAttribute.setLeftAttributeType(attrType);
+                    parameter.getParameterId(), null, attributeName);
+            comparedAttribute.setLeftAttributeId(parameter.getAttributeId());
+            comparedAttribute.setLeftAttributeValue(values.get(parameter));
+            comparedAttribute.setLeftAttributeType(parameter.getAttributeType());
             comparedAttribute.setLeftAttributeIsOverlap(parameter.isOverlap());
         }
-        if (rightDsId.equals(parameterDatasetId)) {
+        if (rightDsId.equals(parameter.getDataSetId())) {
             log.debug("Create comparedAttribute for (leftParameterId: {}, rightParameterId: {}, attributeName: {})",
-                    null, parameter.getId(), attributeName);
-            comparedAttribute.setRightAttributeId(attributeId);
-            comparedAttribute.setRightAttributeValue(parameterValue);
-            comparedAttribute.setRightAttributeType(attrType);
+                    null, parameter.getParameterId(), attributeName);
+            comparedAttribute.setRightAttributeId(parameter.getAttributeId());
+            comparedAttribute.setRightAttributeValue(values.get(parameter));
+            comparedAttribute.setRightAttributeType(parameter.getAttributeType());
             comparedAttribute.setRightAttributeIsOverlap(parameter.isOverlap());
         }
         comparedAttribute.setAttributeName(attributeName);
@@ -466,4 +531,50 @@ public class CompareDatasetServiceImpl implements CompareService {
 
         return compareParameters(leftParameter, rightParameter);
     }
+
+    @FunctionalInterface
+    private interface ComparedValues {
+
+        @Nullable
+        Object get(ComparedParameterDto parameter);
+    }
+
+    /**
+     * Attribute name, type and compared value of parameter. Overlaps are distinguished from
+     * parameters of attributes with the same name.
+     */
+    private static final class ParameterFingerprint {
+
+        private final String attributeName;
+        private final AttributeTypeName attributeType;
+        private final boolean isOverlap;
+        private final Object value;
+
+        private ParameterFingerprint(ComparedParameterDto parameter, @Nullable Object value) {
+            this.attributeName = parameter.getAttributeName();
+            this.attributeType = parameter.getAttributeType();
+            this.isOverlap = parameter.isOverlap();
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ParameterFingerprint)) {
+                return false;
+            }
+            ParameterFingerprint that = (ParameterFingerprint) o;
+            return isOverlap == that.isOverlap
+                    && attributeType == that.attributeType
+                    && attributeName.equals(that.attributeName)
+                    && Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(attributeName, attributeType, isOverlap, value);
+        }
+    }
 }
@@ -60,9 +60,12 @@ import org.qubership.atp.dataset.service.direct.ClearCacheService;
 import org.qubership.atp.dataset.service.direct.DataSetListService;
 import org.qubership.atp.dataset.service.direct.DataSetService;
 import org.qubership.atp.dataset.service.direct.EvaluationService;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.direct.macros.DsEvaluator;
 import org.qubership.atp.dataset.service.jpa.JpaDataSetListService;
 import org.qubership.atp.dataset.service.jpa.impl.DataSetParameterProvider;
+import org.qubership.atp.dataset.service.jpa.impl.DataSetReferenceGraph;
+import org.qubership.atp.dataset.service.jpa.impl.MacrosDefinitionCacheService;
 import org.qubership.atp.dataset.service.jpa.impl.macro.MacroContext;
 import org.qubership.atp.dataset.service.jpa.model.MacroContextService;
 import org.qubership.atp.dataset.service.rest.PaginationResponse;
@@ -71,9 +74,6 @@ import org.qubership.atp.dataset.service.rest.dto.manager.UiManAttribute;
 import org.qubership.atp.dataset.service.rest.dto.manager.UiManDataSetList;
 import org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService;
 import org.qubership.atp.macros.core.calculator.MacrosCalculator;
-import org.qubership.atp.macros.core.client.MacrosFeignClient;
-import org.qubership.atp.macros.core.clients.api.dto.macros.MacrosDto;
-import org.qubership.atp.macros.core.converter.MacrosDtoConvertService;
 import org.qubership.atp.macros.core.model.Macros;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
@@ -102,9 +102,11 @@ public class DataSetListServiceImpl implements DataSetListService {
     private final MacrosCalculator macrosCalculator;
     private final MacroContextService macroContextService;
     private final JpaDataSetListService dataSetListService;
-    private final MacrosFeignClient macrosFeignClient;
+    private final MacrosDefinitionCacheService macrosDefinitionCacheService;
     private final DataSetParameterProvider dataSetParameterProvider;
     private final ClearCacheService clearCacheService;
+    private final VisibilityAreaResolverService visibilityAreaResolverService;
+    private final DataSetReferenceGraph dataSetReferenceGraph;
 
     @Value("${feign.atp.macros.url}")
     private String macroFeignUrl;
@@ -188,11 +190,8 @@ public class DataSetListServiceImpl implements DataSetListService {
         macroContext.setMacroContextService(macroContextService);
         macroContext.setMacrosCalculator(macrosCalculator);
         UUID visibilityArea = dataSetList.getVisibilityArea().getId();
-        List<MacrosDto> macrosDtoList = macrosFeignClient.findNonTechnicalMacrosByProject(visibilityArea).getBody();
-        if (nonNull(macrosDtoList)) {
-            log.info("macrosDtoList size is  {}", macrosDtoList.size());
-        }
-        List<Macros> macros = new MacrosDtoConvertService().convertList(macrosDtoList, Macros.class);
+        List<Macros> macros = macrosDefinitionCacheService.getNonTechnicalMacros(visibilityArea);
+        log.info("macros list size is  {}", macros.size());
         macroContext.setMacros(macros);
         return macroContext;
     }
@@ -321,6 +320,13 @@ public class DataSetListServiceImpl implements DataSetListService {
         return dsService.getByParentId(dataSetListId, evaluate, label).collect(Collectors.toList());
     }
 
+    @Nonnull
+    @Override
+    public PaginationResponse<DataSet> getChildren(@Nonnull UUID dataSetListId, boolean evaluate,
+                                                   @Nullable String label, long offset, int limit) {
+        return dsService.getByParentId(dataSetListId, evaluate, label, offset, limit);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -359,6 +365,7 @@ public class DataSetListServiceImpl implements DataSetListService {
         UUID modifiedBy = userInfoProvider.get().getId();
         Timestamp modifiedWhen = Timestamp.from(Instant.now());
         repo.updateModifiedFields(dataSetListId, modifiedBy, modifiedWhen);
+        dataSetReferenceGraph.updateDataSetList(dataSetListId);
     }
 
     @Override
@@ -366,6 +373,7 @@ public class DataSetListServiceImpl implements DataSetListService {
         log.debug("DataSetListServiceImpl#updateModifiedFields(dataSetListId: {}, modifiedBy: {}, modifiedWhen: {})",
                 dataSetListId, modifiedBy, modifiedWhen.toString());
         repo.updateModifiedFields(dataSetListId, modifiedBy, modifiedWhen);
+        dataSetReferenceGraph.updateDataSetList(dataSetListId);
     }
 
     @Override
@@ -408,6 +416,7 @@ public class DataSetListServiceImpl implements DataSetListService {
                 .collect(Collectors.toSet());
         evictAllAffectedDatasetsFromContextCacheByDslId(dataSetListId);
         repo.delete(dataSetListId);
+        visibilityAreaResolverService.evictDataSetList(dataSetListId);
         affectedDataSetLists.forEach(uuid -> {
             updateModifiedFields(uuid);
             dataSetListSnapshotService.commitEntity(uuid);
@@ -535,7 +544,7 @@ public class DataSetListServiceImpl implements DataSetListService {
     }
 
     /**
-     * Evict affected datasets from ATP_DATASETS_DATASET_LIST_CONTEXT_CACHE cache.
+     * Evict affected datasets from DSL context cache.
      * @param updatedDataSetListId updated dataset list id
      */
     public void evictAllAffectedDatasetsFromContextCacheByDslId(UUID updatedDataSetListId) {
@@ -24,7 +24,6 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -35,7 +34,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jetbrains.annotations.NotNull;
-import org.qubership.atp.dataset.constants.CacheEnum;
 import org.qubership.atp.dataset.db.DataSetListRepository;
 import org.qubership.atp.dataset.db.DataSetRepository;
 import org.qubership.atp.dataset.db.ParameterRepository;
@@ -63,11 +61,12 @@ import org.qubership.atp.dataset.service.direct.DataSetService;
 import org.qubership.atp.dataset.service.direct.DateAuditorService;
 import org.qubership.atp.dataset.service.direct.EvaluationService;
 import org.qubership.atp.dataset.service.direct.ParameterService;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.direct.macros.DsEvaluator;
+import org.qubership.atp.dataset.service.jpa.impl.DataSetReferenceGraph;
 import org.qubership.atp.dataset.service.rest.PaginationResponse;
 import org.qubership.atp.dataset.service.rest.dto.manager.UiManAttribute;
 import org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -98,6 +97,8 @@ public class DataSetServiceImpl implements DataSetService {
     private final DataSetListSnapshotService dataSetListSnapshotService;
     private final ModelsProvider modelsProvider;
     private final ClearCacheService clearCacheService;
+    private final VisibilityAreaResolverService visibilityAreaResolverService;
+    private final DataSetReferenceGraph dataSetReferenceGraph;
 
     @Nonnull
     @Transactional
@@ -269,6 +270,7 @@ public class DataSetServiceImpl implements DataSetService {
         }
         evictAllAffectedDatasetsFromContextCacheByDsId(dataSetId);
         Preconditions.checkArgument(repo.delete(dataSetId), "Can not delete data set %s", dataSetId);
+        visibilityAreaResolverService.evictEntity(dataSetId);
         if (dataSetListId != null) {
             dateAuditorService.updateModifiedFields(dataSetListId);
             dataSetListSnapshotService.findAndCommitIfExists(dataSetListId);
@@ -418,7 +420,6 @@ public class DataSetServiceImpl implements DataSetService {
      */
     @Transactional
     @Override
-    @CacheEvict(value = CacheEnum.Constants.DATASET_LIST_CONTEXT_CACHE, key = "#dsId")
     public Parameter deleteParameterOverlap(@Nonnull UUID dsId,
                                             @Nonnull UUID targetAttrId,
                                             @Nonnull List<UUID> attrPathIds) {
@@ -432,6 +433,7 @@ public class DataSetServiceImpl implements DataSetService {
             dateAuditorService.updateModifiedFields(parameter.getDataSet().getDataSetList().getId());
         }
         dataSetListSnapshotService.findAndCommitIfExists(ds.getDataSetList().getId());
+        clearCacheService.evictDatasetListContextCache(dsId);
         return parameter;
     }
 
@@ -454,6 +456,28 @@ public class DataSetServiceImpl implements DataSetService {
         return evaluator.getDataSets(parent, children.stream());
     }
 
+    @Nonnull
+    @Override
+    public PaginationResponse<DataSet> getByParentId(UUID dataSetListId, boolean evaluate,
+                                                     @Nullable String labelName, long offset, int limit) {
+        DataSetList parent = dslRepo.getById(dataSetListId);
+        if (parent == null) {
+            log.warn("No dsl found by id: " + dataSetListId);
+            return new PaginationResponse<>(Collections.emptyList(), 0);
+        }
+
+        DsEvaluator evaluator = evaluationService.getEvaluator(evaluate, false);
+        List<DataSet> children;
+        if (labelName == null) {
+            children = repo.getByParentId(dataSetListId);
+        } else {
+            children = repo.getByParentIdAndLabel(dataSetListId, labelName);
+        }
+        List<DataSet> page = evaluator.getDataSets(parent, children.stream(), offset, limit)
+                .collect(Collectors.toList());
+        return new PaginationResponse<>(page, evaluator.countDataSets(parent, children.stream()));
+    }
+
     public List<ObjectShortResponse> getByParentId(UUID dataSetListId) {
         return repo.getByParentId(dataSetListId).stream().map(dataSet -> new ObjectShortResponse(dataSet.getId(),
                 dataSet.getName(), dataSet.isLocked())).collect(Collectors.toList());
@@ -585,21 +609,23 @@ public class DataSetServiceImpl implements DataSetService {
     }
 
     /**
-     * Evict affected datasets from ATP_DATASETS_DATASET_LIST_CONTEXT_CACHE cache.
+     * Evict affected datasets from DSL context cache.
      *
      * @param updatedDataSetListId updated dataset list id
      */
     public void evictAllAffectedDatasetsFromContextCacheByDslId(UUID updatedDataSetListId) {
+        dataSetReferenceGraph.updateDataSetList(updatedDataSetListId);
         Set<UUID> affectedDataSetIds = collectAffectedDatasetsByDslId(updatedDataSetListId);
         clearCacheService.evictDatasetListContextCache(affectedDataSetIds);
     }
 
     /**
-     * Evict affected datasets from ATP_DATASETS_DATASET_LIST_CONTEXT_CACHE cache.
+     * Evict affected datasets from DSL context cache.
      *
      * @param updatedDataSetId updated dataset id
      */
     public void evictAllAffectedDatasetsFromContextCacheByDsId(UUID updatedDataSetId) {
+        dataSetReferenceGraph.updateDataSet(updatedDataSetId);
         Set<UUID> affectedDataSetIds = collectAffectedDatasetsByDsId(updatedDataSetId);
         clearCacheService.evictDatasetListContextCache(affectedDataSetIds);
     }
@@ -613,20 +639,8 @@ public class DataSetServiceImpl implements DataSetService {
      */
     @Nonnull
     public Set<UUID> collectAffectedDatasetsByDslId(UUID updatedDataSetListId) {
-        Set<UUID> affectedDatasetListIds = new HashSet<>();
-        affectedDatasetListIds.add(updatedDataSetListId);
-        List<UUID> datasetListIds = modelsProvider.getAffectedDataSetsListIdsByDataSetListId(
-                Collections.singletonList(updatedDataSetListId));
-        affectedDatasetListIds.addAll(datasetListIds);
-        boolean hasNext = !datasetListIds.isEmpty();
-        while (hasNext) {
-            datasetListIds =
-                    modelsProvider.getAffectedDataSetsListIdsByDataSetListId(datasetListIds);
-
-            affectedDatasetListIds.addAll(datasetListIds);
-            hasNext = !datasetListIds.isEmpty();
-        }
-        return modelsProvider.getAffectedDataSetsIdsByDataSetListId(affectedDatasetListIds);
+        return modelsProvider.getAffectedDataSetsIdsByDataSetListId(
+                dataSetReferenceGraph.collectReferencingDataSetListIds(updatedDataSetListId));
     }
 
     /**
@@ -638,12 +652,6 @@ public class DataSetServiceImpl implements DataSetService {
      */
     @Nonnull
     public Set<UUID> collectAffectedDatasetsByDsId(UUID updatedDataSetId) {
-        Set<UUID> affectedDataSetIds = new HashSet<>();
-        affectedDataSetIds.add(updatedDataSetId);
-        modelsProvider.getUniqueDataSetIdsByReferenceDataSetId(updatedDataSetId)
-                .stream()
-                .map(this::collectAffectedDatasetsByDsId)
-                .forEach(affectedDataSetIds::addAll);
-        return affectedDataSetIds;
+        return dataSetReferenceGraph.collectReferencingDataSetIds(updatedDataSetId);
     }
 }
@@ -18,11 +18,17 @@ package org.qubership.atp.dataset.service.direct.impl;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.qubership.atp.dataset.db.GridFsRepository;
 import org.qubership.atp.dataset.db.ParameterRepository;
@@ -37,14 +43,13 @@ import org.qubership.atp.dataset.model.impl.file.FileData;
 import org.qubership.atp.dataset.service.direct.ClearCacheService;
 import org.qubership.atp.dataset.service.direct.GridFsService;
 import org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.mongodb.client.gridfs.model.GridFSFile;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-@AllArgsConstructor
 @Slf4j
 @Service
 public class GridFsServiceImpl implements GridFsService {
@@ -53,6 +58,22 @@ public class GridFsServiceImpl implements GridFsService {
     private final ParameterRepository parameterRepository;
     private final DataSetListSnapshotService commitEntityService;
     private final ClearCacheService clearCacheService;
+    private final Executor fileCopyExecutor;
+
+    /**
+     * Default constructor.
+     */
+    public GridFsServiceImpl(GridFsRepository repository,
+                             ParameterRepository parameterRepository,
+                             DataSetListSnapshotService commitEntityService,
+                             ClearCacheService clearCacheService,
+                             @Qualifier("fileCopyTaskExecutor") Executor fileCopyExecutor) {
+        this.repository = repository;
+        this.parameterRepository = parameterRepository;
+        this.commitEntityService = commitEntityService;
+        this.clearCacheService = clearCacheService;
+        this.fileCopyExecutor = fileCopyExecutor;
+    }
 
     @Override
     public void save(FileData fileData, InputStream file, boolean isTestPlan) {
@@ -83,18 +104,22 @@ public class GridFsServiceImpl implements GridFsService {
     @Override
     public void saveAll(List<FileData> filesData, MultipartFile file) {
         log.info("start saveAll(filesData: {}, file: {})", filesData, file.getOriginalFilename());
+        Set<UUID> parameterIds = new HashSet<>();
+        Set<UUID> dataSetIds = new HashSet<>();
         filesData.forEach(fileData -> {
             try {
                 repository.save(fileData, file.getInputStream());
                 Parameter parameter = parameterRepository.getById(fileData.getParameterUuid());
-                clearCacheService.evictDatasetListContextCache(parameter.getDataSet().getId());
-                clearCacheService.evictParameterCache(parameter.getId());
+                dataSetIds.add(parameter.getDataSet().getId());
+                parameterIds.add(parameter.getId());
             } catch (IOException e) {
                 log.error("Cannot bulk save file resource. fileData: {}, file: {}", fileData,
                         file.getOriginalFilename(), e);
                 throw new FileDsSaveException();
             }
         });
+        clearCacheService.evictDatasetListContextCache(dataSetIds);
+        clearCacheService.evictParameterCache(parameterIds);
     }
 
     @Override
@@ -146,6 +171,63 @@ public class GridFsServiceImpl implements GridFsService {
         save(fileData, stream, isTestPlan);
     }
 
+    /**
+     * Copies files of source parameters to target parameters. Files are found by one query and copied
+     * in parallel, missing files are skipped.
+     *
+     * @param sourceToTarget target parameter uuid mapped to source parameter uuid
+     * @param isTestPlan     target parameters are not looked up, e.g. they are not committed yet
+     */
+    @Override
+    public void copyAll(Map<UUID, UUID> sourceToTarget, boolean isTestPlan) {
+        Map<UUID, GridFSFile> files = repository.getGridFsFiles(sourceToTarget.keySet());
+        List<UUID> copiedTargets = new ArrayList<>(files.size());
+        List<CompletableFuture<Void>> copies = new ArrayList<>(files.size());
+        sourceToTarget.forEach((sourceId, targetId) -> {
+            GridFSFile file = files.get(sourceId);
+            if (file == null) {
+                log.error("File {} not found. Continue copying.", sourceId);
+                return;
+            }
+            copiedTargets.add(targetId);
+            copies.add(CompletableFuture.runAsync(() -> {
+                try {
+                    repository.copy(file, targetId);
+                } finally {
+                    repository.dropLocalThreadCache();
+                }
+            }, fileCopyExecutor));
+        });
+        try {
+            CompletableFuture.allOf(copies.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        if (!isTestPlan) {
+            afterCopyAll(copiedTargets);
+        }
+    }
+
+    private void afterCopyAll(List<UUID> targetParameterUuids) {
+        Set<UUID> dataSetListIds = new HashSet<>();
+        Set<UUID> dataSetIds = new HashSet<>();
+        Set<UUID> parameterIds = new HashSet<>();
+        for (UUID targetParameterUuid : targetParameterUuids) {
+            Parameter parameter = parameterRepository.getById(targetParameterUuid);
+            if (parameter != null) {
+                dataSetListIds.add(parameter.getDataSet().getDataSetList().getId());
+                dataSetIds.add(parameter.getDataSet().getId());
+                parameterIds.add(parameter.getId());
+            }
+        }
+        dataSetListIds.forEach(commitEntityService::findAndCommitIfExists);
+        clearCacheService.evictParameterCache(parameterIds);
+        clearCacheService.evictDatasetListContextCache(dataSetIds);
+    }
+
     /**
      * Copies file by source parameter id to target parameter.
      */
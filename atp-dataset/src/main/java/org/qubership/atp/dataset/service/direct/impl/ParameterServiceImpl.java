@@ -21,6 +21,8 @@ import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -38,9 +40,10 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.qubership.atp.crypt.exception.AtpEncryptException;
-import org.qubership.atp.dataset.constants.CacheEnum;
 import org.qubership.atp.dataset.db.ParameterRepository;
 import org.qubership.atp.dataset.db.dto.ParameterDataDto;
+import org.qubership.atp.dataset.db.dto.ParameterDto;
+import org.qubership.atp.dataset.db.dto.ParameterValueDto;
 import org.qubership.atp.dataset.db.utils.Proxies;
 import org.qubership.atp.dataset.exception.attribute.AttributeNotFoundException;
 import org.qubership.atp.dataset.exception.attribute.AttributeTypeException;
@@ -65,14 +68,15 @@ import org.qubership.atp.dataset.service.direct.DateAuditorService;
 import org.qubership.atp.dataset.service.direct.EncryptionService;
 import org.qubership.atp.dataset.service.direct.GridFsService;
 import org.qubership.atp.dataset.service.direct.ParameterService;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.collect.Table;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -93,6 +97,7 @@ public class ParameterServiceImpl implements ParameterService {
     private final DataSetListSnapshotService dataSetListSnapshotService;
     private final EncryptionService encryptionService;
     private final ClearCacheServiceImpl clearCacheService;
+    private final VisibilityAreaResolverService visibilityAreaResolverService;
 
     @Nonnull
     private ParameterDataDto extractData(@Nonnull Parameter parameter, UUID newParentId) {
@@ -134,14 +139,77 @@ public class ParameterServiceImpl implements ParameterService {
      */
     @NotNull
     @Transactional
-    @CacheEvict(value = CacheEnum.Constants.DATASET_LIST_CONTEXT_CACHE, key = "#dsId")
     public Parameter setParamSelectJavers(@NotNull UUID dsId, @NotNull UUID targetAttrId,
                                           @Nullable List<UUID> attrPathIds,
                                           @Nullable String stringValue,
                                           @Nullable UUID dsRef,
                                           @Nullable UUID listValueRef,
                                           boolean isJavers) {
-        return setParameter(dsId, targetAttrId, attrPathIds, stringValue, dsRef, listValueRef, isJavers);
+        Parameter parameter = setParameter(dsId, targetAttrId, attrPathIds, stringValue, dsRef, listValueRef,
+                isJavers);
+        clearCacheService.evictDatasetListContextCache(dsId);
+        return parameter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void setParamsSelectJavers(@Nonnull List<ParameterValueDto> values, boolean isJavers) {
+        if (values.isEmpty()) {
+            return;
+        }
+        Map<UUID, UUID> dataSetListIds = new HashMap<>();
+        for (ParameterValueDto value : values) {
+            dataSetListIds.computeIfAbsent(value.getDataSetId(), dataSetId -> {
+                DataSet dataSet = dsServiceProvider.get().get(dataSetId);
+                Preconditions.checkArgument(!(Objects.isNull(dataSet) || dataSet.isLocked()),
+                        "Can not change parameter with attribute id: %s because dataset id locked: %s",
+                        value.getAttributeId(), dataSetId);
+                return dataSet.getDataSetList().getId();
+            });
+        }
+        List<ParameterValueDto> plainValues = new ArrayList<>();
+        for (ParameterValueDto value : values) {
+            if (value.isOverlap()) {
+                setParameter(value.getDataSetId(), value.getAttributeId(), value.getAttributePathIds(),
+                        value.getStringValue(), value.getDataSetReferenceId(), value.getListValueId(), false);
+            } else {
+                plainValues.add(value);
+            }
+        }
+        Table<UUID, UUID, UUID> existingIds = repo.getIdsByDataSetIdsAndAttributeIds(
+                plainValues.stream().map(ParameterValueDto::getDataSetId).collect(Collectors.toSet()),
+                plainValues.stream().map(ParameterValueDto::getAttributeId).collect(Collectors.toSet()));
+        List<ParameterDto> updated = new ArrayList<>();
+        List<ParameterDto> created = new ArrayList<>();
+        for (ParameterValueDto value : plainValues) {
+            ParameterDataDto data = prepareData(value.getAttributeId(), value.getDataSetId(),
+                    value.getStringValue(), value.getListValueId(), value.getDataSetReferenceId(), false);
+            UUID id = existingIds.get(value.getDataSetId(), value.getAttributeId());
+            if (id != null) {
+                updated.add(new ParameterDto(id, value.getDataSetId(), value.getAttributeId(), data));
+            } else {
+                id = UUID.randomUUID();
+                existingIds.put(value.getDataSetId(), value.getAttributeId(), id);
+                created.add(new ParameterDto(id, value.getDataSetId(), value.getAttributeId(), data));
+            }
+        }
+        log.debug("Bulk set of parameters: {} updated, {} created, {} overlaps", updated.size(), created.size(),
+                values.size() - plainValues.size());
+        repo.batchUpdate(updated);
+        repo.batchCreate(created);
+        clearCacheService.evictParameterCache(updated.stream().map(ParameterDto::getId).collect(Collectors.toSet()));
+        clearCacheService.evictDatasetListContextCache(dataSetListIds.keySet());
+        boolean hasValues = values.stream().anyMatch(value -> ObjectUtils.anyNotNull(value.getStringValue(),
+                value.getDataSetReferenceId(), value.getListValueId()));
+        for (UUID dataSetListId : new HashSet<>(dataSetListIds.values())) {
+            dateAuditorService.updateModifiedFields(dataSetListId);
+            if (isJavers && hasValues) {
+                dataSetListSnapshotService.commitEntity(dataSetListId);
+            }
+        }
     }
 
     /**
@@ -483,6 +551,7 @@ public class ParameterServiceImpl implements ParameterService {
         } else {
             DataSetList dataSetList = parameter.getDataSet().getDataSetList();
             repo.delete(parameter);
+            visibilityAreaResolverService.evictEntity(parameter.getId());
             dateAuditorService.updateModifiedFields(dataSetList.getId());
             if (isJavers) {
                 log.debug("Javers activated");
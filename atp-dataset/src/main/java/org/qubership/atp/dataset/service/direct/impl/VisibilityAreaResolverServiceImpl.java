@@ -0,0 +1,161 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.direct.impl;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.annotation.Nonnull;
+
+import org.qubership.atp.dataset.db.VisibilityAreaIdRepository;
+import org.qubership.atp.dataset.exception.EntityNotFoundException;
+import org.qubership.atp.dataset.exception.attribute.AttributeNotFoundException;
+import org.qubership.atp.dataset.exception.dataset.DataSetNotFoundException;
+import org.qubership.atp.dataset.exception.datasetlist.DataSetListNotFoundException;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps two bounded caches: DSL to its visibility area, and data set, attribute or parameter to its DSL.
+ * Move of DSL to another visibility area affects only the first cache, while import may move an entity
+ * to another DSL, so the importer evicts the entity from the second one.
+ * Caches are pod-local, so evictions are broadcast to the other replicas by {@link CacheEvictionBroadcast},
+ * and entries expire soon anyway, since they answer authorization checks.
+ */
+@Slf4j
+@Service
+public class VisibilityAreaResolverServiceImpl implements VisibilityAreaResolverService {
+
+    static final String DATA_SET_LISTS = "va_resolver.data_set_lists";
+    static final String ENTITIES = "va_resolver.entities";
+    static final String VISIBILITY_AREAS = "va_resolver.visibility_areas";
+
+    private final VisibilityAreaIdRepository repository;
+    private final Cache<UUID, UUID> dataSetListVisibilityAreas;
+    private final Cache<UUID, UUID> entityDataSetLists;
+    private final CacheEvictionBroadcast broadcast;
+
+    /**
+     * Default constructor.
+     */
+    public VisibilityAreaResolverServiceImpl(VisibilityAreaIdRepository repository,
+                                             CacheEvictionBroadcast broadcast,
+                                             @Value("${atp-dataset.va-resolver.cache.max-size:100000}")
+                                             long maximumSize,
+                                             @Value("${atp-dataset.va-resolver.cache.expire-after-write-sec:300}")
+                                             long expireAfterWriteSec) {
+        this.repository = repository;
+        this.broadcast = broadcast;
+        this.dataSetListVisibilityAreas = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSec))
+                .build();
+        this.entityDataSetLists = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSec))
+                .build();
+        broadcast.subscribe(DATA_SET_LISTS, dataSetListVisibilityAreas::invalidateAll);
+        broadcast.subscribe(ENTITIES, entityDataSetLists::invalidateAll);
+        broadcast.subscribe(VISIBILITY_AREAS,
+                visibilityAreaIds -> dataSetListVisibilityAreas.asMap().values().removeIf(visibilityAreaIds::contains));
+    }
+
+    @Nonnull
+    @Override
+    public UUID getByDataSetListId(@Nonnull UUID dataSetListId) {
+        return resolve(dataSetListVisibilityAreas, dataSetListId, repository::getVisibilityAreaIdByDataSetListId,
+                DataSetListNotFoundException::new);
+    }
+
+    @Nonnull
+    @Override
+    public UUID getByDataSetId(@Nonnull UUID dataSetId) {
+        return getByDataSetListId(resolve(entityDataSetLists, dataSetId, repository::getDataSetListIdByDataSetId,
+                DataSetNotFoundException::new));
+    }
+
+    @Nonnull
+    @Override
+    public UUID getByAttributeId(@Nonnull UUID attributeId) {
+        return getByDataSetListId(resolve(entityDataSetLists, attributeId,
+                repository::getDataSetListIdByAttributeId, AttributeNotFoundException::new));
+    }
+
+    @Nonnull
+    @Override
+    public UUID getByParameterId(@Nonnull UUID parameterId) {
+        return getByDataSetListId(resolve(entityDataSetLists, parameterId,
+                repository::getDataSetListIdByParameterId,
+                () -> new EntityNotFoundException("Parameter not found")));
+    }
+
+    @Override
+    public void evictDataSetList(@Nonnull UUID dataSetListId) {
+        log.debug("Remove DSL \"{}\" from visibility area resolver cache", dataSetListId);
+        evict(DATA_SET_LISTS, dataSetListId, () -> dataSetListVisibilityAreas.invalidate(dataSetListId));
+    }
+
+    @Override
+    public void evictEntity(@Nonnull UUID entityId) {
+        evict(ENTITIES, entityId, () -> entityDataSetLists.invalidate(entityId));
+    }
+
+    @Override
+    public void evictVisibilityArea(@Nonnull UUID visibilityAreaId) {
+        log.debug("Remove DSLs of visibility area \"{}\" from visibility area resolver cache", visibilityAreaId);
+        evict(VISIBILITY_AREAS, visibilityAreaId,
+                () -> dataSetListVisibilityAreas.asMap().values().removeIf(visibilityAreaId::equals));
+    }
+
+    /**
+     * Evicts at once and once again after transaction completion, because the entity is still visible
+     * for concurrent lookups until the transaction is committed. Other replicas evict after completion only.
+     */
+    private void evict(String channel, UUID id, Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                    broadcast.publish(channel, Collections.singleton(id));
+                }
+            });
+        } else {
+            broadcast.publish(channel, Collections.singleton(id));
+        }
+    }
+
+    private static UUID resolve(Cache<UUID, UUID> cache, UUID id, Function<UUID, UUID> loader,
+                                Supplier<RuntimeException> notFound) {
+        UUID result = cache.get(id, loader);
+        if (result == null) {
+            throw notFound.get();
+        }
+        return result;
+    }
+}
@@ -25,6 +25,7 @@ import jakarta.annotation.Nullable;
 import org.jetbrains.annotations.NotNull;
 import org.qubership.atp.dataset.db.VisibilityAreaRepository;
 import org.qubership.atp.dataset.model.VisibilityArea;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.direct.VisibilityAreaService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -34,12 +35,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class VisibilityAreaServiceImpl implements VisibilityAreaService {
 
     protected VisibilityAreaRepository repo;
+    protected VisibilityAreaResolverService visibilityAreaResolverService;
 
     @Autowired
     public void setRepo(VisibilityAreaRepository repo) {
         this.repo = repo;
     }
 
+    @Autowired
+    public void setVisibilityAreaResolverService(VisibilityAreaResolverService visibilityAreaResolverService) {
+        this.visibilityAreaResolverService = visibilityAreaResolverService;
+    }
+
     @Nonnull
     @Transactional
     public VisibilityArea create(@Nonnull String name) {
@@ -82,5 +89,6 @@ public class VisibilityAreaServiceImpl implements VisibilityAreaService {
     @Transactional
     public void delete(@Nonnull UUID id) {
         repo.delete(id);
+        visibilityAreaResolverService.evictVisibilityArea(id);
     }
 }
@@ -28,6 +28,7 @@ import java.util.Objects;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
+import org.qubership.atp.dataset.db.dto.ParameterValueDto;
 import org.qubership.atp.dataset.model.AttributeType;
 import org.qubership.atp.dataset.model.Parameter;
 import org.qubership.atp.dataset.service.direct.ParameterService;
@@ -68,7 +69,6 @@ public class DatasetLinkAttributeImportConverter extends AbstractAttributeConver
         final String datasetReference = datasetParameterValue.getDatasetReference();
         final String refDatasetKey = getDatasetKey(datasetListReference, datasetReference);
         final UUID refDatasetId = importContext.getRefDatasetId(refDatasetKey);
-        final boolean isJavers = importContext.isJavers();
 
         List<UUID> attributePath = importModel.getPath();
         boolean isDataChanges = false;
@@ -100,10 +100,9 @@ public class DatasetLinkAttributeImportConverter extends AbstractAttributeConver
             log.info("Import parameter for dsl attribute Key '{}' Id '{}' in dataset '{}' with value '{}' "
                             + "and reference dataset '{}'", keyAttributeValue, attributeId, datasetName,
                     parameterValue, refDatasetId);
-            Parameter parameter = parameterService.setParamSelectJavers(datasetId, attributeId, attributePath,
-                    null, refDatasetId, null, isJavers);
+            importContext.addParameterValue(new ParameterValueDto(datasetId, attributeId, attributePath,
+                    null, refDatasetId, null));
             isDataChanges = true;
-            log.debug("Parameter with has been successfully imported: {}", parameter);
         } else if (StringUtils.isEmpty(datasetReference) && isRootDslAttribute
                 && StringUtils.isNotEmpty(targetRefDsName)) {
             final DataSet dataset = importContext.getDataset(datasetId);
@@ -23,7 +23,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import org.qubership.atp.crypt.ConverterTools;
-import org.qubership.atp.dataset.model.Parameter;
+import org.qubership.atp.dataset.db.dto.ParameterValueDto;
 import org.qubership.atp.dataset.service.direct.ParameterService;
 import org.qubership.atp.dataset.service.direct.importexport.models.AttributeImportContext;
 import org.qubership.atp.dataset.service.direct.importexport.models.AttributeImportModel;
@@ -58,16 +58,13 @@ public class EncryptedAttributeImportConverter extends AbstractAttributeConverte
         final List<UUID> attributePath = importModel.getPath();
         final String keyAttributeValue = importModel.getKey();
         final boolean isParameterShouldBeOverwritten = !PARAM_VALUE_OVERWRITE_STAMP.equals(parameterValue);
-        final boolean isJavers = importContext.isJavers();
         log.debug("Is parameter should be overwritten: {}", isParameterShouldBeOverwritten);
 
         if (isParameterShouldBeOverwritten) {
             log.info("Import parameter for encrypted attribute Key '{}' Id '{}' in dataset '{}' with path '{}'",
                     keyAttributeValue, attributeId, datasetName, attributePath);
-            Parameter parameter = parameterService.setParamSelectJavers(datasetId, attributeId, attributePath,
-                    encodedParameterValue,null, null, isJavers);
-
-            log.debug("Parameter with has been successfully imported: {}", parameter);
+            importContext.addParameterValue(new ParameterValueDto(datasetId, attributeId, attributePath,
+                    encodedParameterValue, null, null));
         }
 
         return new ParameterImportResponse(datasetId);
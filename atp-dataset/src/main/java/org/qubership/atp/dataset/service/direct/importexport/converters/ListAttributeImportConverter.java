@@ -29,7 +29,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
-import org.qubership.atp.dataset.model.Parameter;
+import org.qubership.atp.dataset.db.dto.ParameterValueDto;
 import org.qubership.atp.dataset.service.direct.ParameterService;
 import org.qubership.atp.dataset.service.direct.importexport.models.AttributeImportContext;
 import org.qubership.atp.dataset.service.direct.importexport.models.AttributeImportModel;
@@ -83,10 +83,9 @@ public class ListAttributeImportConverter extends AbstractAttributeConverter imp
             log.info("Import parameter for list attribute Key '{}' Id '{}' in dataset name '{}' with value '{}', path "
                             + "'{}' and list value id '{}'", keyAttributeValue, attributeId, datasetName,
                     parameterValue, attributePath, listValueId);
-            Parameter parameter = parameterService.setParamSelectJavers(datasetId, attributeId, attributePath,
-                    null, null, listValueId, isJavers);
+            importContext.addParameterValue(new ParameterValueDto(datasetId, attributeId, attributePath,
+                    null, null, listValueId));
             isDataChanges = true;
-            log.debug("Parameter with has been successfully imported: {}", parameter);
         } else if (StringUtils.isNotEmpty(paramValueTarget) && StringUtils.isEmpty(parameterValue) && hasNotParent) {
             final DataSet dataset = importContext.getDataset(datasetId);
             final UUID datasetListId = dataset.getDataSetList().getId();
@@ -24,7 +24,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
-import org.qubership.atp.dataset.model.Parameter;
+import org.qubership.atp.dataset.db.dto.ParameterValueDto;
 import org.qubership.atp.dataset.service.direct.ParameterService;
 import org.qubership.atp.dataset.service.direct.importexport.models.AttributeImportContext;
 import org.qubership.atp.dataset.service.direct.importexport.models.AttributeImportModel;
@@ -56,7 +56,6 @@ public class TextAttributeImportConverter extends AbstractAttributeConverter imp
         final String keyAttributeValue = importModel.getKey();
         final String parameterValue = datasetParameterValue.getTextValue();
         boolean isDataChanges = false;
-        final boolean isJavers = importContext.isJavers();
 
         boolean attributeShouldOverlap = isAttributeShouldOverlap(importModel, datasetParameterValue, importContext,
                 (parameter) -> !parameterValue.equals(parameter.getText()));
@@ -70,10 +69,9 @@ public class TextAttributeImportConverter extends AbstractAttributeConverter imp
             log.info("Import parameter for text attribute Key '{}' Name '{}' in dataset '{}' with value '{}'"
                             + " and path '{}'", keyAttributeValue, attributeName, datasetName, parameterValue,
                     attributePath);
-            Parameter parameter = parameterService.setParamSelectJavers(datasetId, attributeId, attributePath,
-                    parameterValue,null, null, isJavers);
+            importContext.addParameterValue(new ParameterValueDto(datasetId, attributeId, attributePath,
+                    parameterValue, null, null));
             isDataChanges = true;
-            log.debug("Parameter with has been successfully imported to target database. Parameter: {} ", parameter);
         } else {
             log.debug("Parameter import is complete. This parameter already exists in the target database, "
                             + "datasetParameterValue: {}", datasetParameterValue);
@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -62,7 +63,7 @@ public class XlsxToListConverter {
 
     private final OPCPackage xlsxPackage;
 
-    private final List<Map<Integer, String>> sheetConvertList;
+    private final Consumer<Map<Integer, String>> rowConsumer;
 
     /**
      * Creates a new XLSX -&gt; ListMap converter.
@@ -72,8 +73,20 @@ public class XlsxToListConverter {
      * @param sheetConvertList The XLSX converted to ListMap
      */
     public XlsxToListConverter(OPCPackage pkg, List<Map<Integer, String>> sheetConvertList) {
+        this(pkg, sheetConvertList::add);
+    }
+
+    /**
+     * Creates a new XLSX -&gt; row consumer converter. Each row is passed to the consumer
+     * as soon as it is parsed, so the sheet is never held in memory as a whole.
+     * Missing rows are passed as empty rows to keep row indexes.
+     *
+     * @param pkg The XLSX package to process
+     * @param rowConsumer The consumer of parsed rows
+     */
+    public XlsxToListConverter(OPCPackage pkg, Consumer<Map<Integer, String>> rowConsumer) {
         this.xlsxPackage = pkg;
-        this.sheetConvertList = sheetConvertList;
+        this.rowConsumer = rowConsumer;
     }
 
     /**
@@ -131,18 +144,25 @@ public class XlsxToListConverter {
 
         private int currentRow = -1;
         private int currentCol = -1;
+        private int nextRow = 0;
+        private Map<Integer, String> currentRowCells;
 
         @Override
         public void startRow(int rowNum) {
+            // Fill missing rows
+            for (; nextRow < rowNum; nextRow++) {
+                rowConsumer.accept(new LinkedHashMap<>());
+            }
             // Prepare for this row
             currentRow = rowNum;
             currentCol = -1;
-            sheetConvertList.add(new LinkedHashMap<>());
+            currentRowCells = new LinkedHashMap<>();
         }
 
         @Override
         public void endRow(int rowNum) {
-            log.debug("End of row then do nothing");
+            rowConsumer.accept(currentRowCells);
+            nextRow = rowNum + 1;
         }
 
         @Override
@@ -162,7 +182,7 @@ public class XlsxToListConverter {
             }
 
             currentCol = thisCol;
-            sheetConvertList.get(currentRow).put(thisCol, formattedValue);
+            currentRowCells.put(thisCol, formattedValue);
         }
     }
 }
@@ -20,9 +20,11 @@ import static org.qubership.atp.dataset.service.direct.importexport.utils.Stream
 import static org.qubership.atp.dataset.service.direct.importexport.utils.StreamUtils.toNameIdEntityMap;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -31,6 +33,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.qubership.atp.dataset.db.dto.ParameterValueDto;
 import org.qubership.atp.dataset.db.jpa.entities.ListValueEntity;
 import org.qubership.atp.dataset.model.Parameter;
 import org.qubership.atp.dataset.service.direct.importexport.utils.ImportUtils;
@@ -65,6 +68,7 @@ public class AttributeImportContext {
     // parameters
     private Map<String, Parameter> attributeParametersMap = new HashMap<>();
     private Map<String, String> targetDslOverlaps = new HashMap<>();
+    private List<ParameterValueDto> pendingParameterValues = new ArrayList<>();
 
     /**
      * Set datasets to context.
@@ -177,6 +181,19 @@ public class AttributeImportContext {
         return this.attributeParametersMap.get(datasetParameterKey);
     }
 
+    public void addParameterValue(ParameterValueDto parameterValue) {
+        this.pendingParameterValues.add(parameterValue);
+    }
+
+    /**
+     * Returns parameter values queued since the previous call and clears the queue.
+     */
+    public List<ParameterValueDto> pollParameterValues() {
+        List<ParameterValueDto> values = this.pendingParameterValues;
+        this.pendingParameterValues = new ArrayList<>();
+        return values;
+    }
+
     public void clearParametersContext() {
         this.attributeParametersMap.clear();
     }
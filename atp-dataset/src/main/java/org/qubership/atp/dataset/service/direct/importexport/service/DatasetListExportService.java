@@ -21,54 +21,80 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.EnumUtils;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.util.WorkbookUtil;
 import org.apache.poi.xssf.streaming.SXSSFRow;
 import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.qubership.atp.dataset.exception.excel.ExcelExportNotExistDatasetListlException;
 import org.qubership.atp.dataset.exception.excel.ExcelExportUnexpectedException;
 import org.qubership.atp.dataset.service.direct.DataSetListService;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.direct.importexport.converters.AttributeExportConverter;
 import org.qubership.atp.dataset.service.direct.importexport.converters.AttributeTypeConverterEnum;
 import org.qubership.atp.dataset.service.rest.dto.manager.UiManAttribute;
 import org.qubership.atp.dataset.service.rest.dto.manager.UiManDataSet;
 import org.qubership.atp.dataset.service.rest.dto.manager.UiManDataSetList;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
-@AllArgsConstructor
 public class DatasetListExportService {
 
     private static final String ATTRIBUTE_NAME_COLUMN = "Attribute";
     private static final String ATTRIBUTE_TYPE_COLUMN = "Type";
     private static final String EXCEL_EXT = ".xlsx";
     private static final String OUT_OF_SCOPE = "OOS";
+    private static final String DATASET_LISTS_FILE_NAME = "DataSetLists";
     private static final int START_ROW_INDEX = 0;
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+    private static final int MAX_SHEET_NAME_LENGTH = 31;
     public static final String DEFAULT_PASSWORD_MASK = "********";
     public static final String REFERENCE_DELIMITER = "->";
     public static final int ATTRIBUTE_NAME_COLUMN_INDEX = 0;
     public static final int ATTRIBUTE_TYPE_COLUMN_INDEX = 1;
     public static final int SHIFT_PARAMETER_COLUMN_INDEX = 2;
-    public static int nextRowIndex;
 
     private final DataSetListService dslService;
 
     private final DataSetListImportExportFactory factory;
 
+    private final VisibilityAreaResolverService visibilityAreaResolverService;
+
+    private final Executor exportExecutor;
+
+    /**
+     * Service of DSL export to Excel files. Each export writes its own workbook,
+     * so exports may run concurrently.
+     */
+    public DatasetListExportService(DataSetListService dslService,
+                                    DataSetListImportExportFactory factory,
+                                    VisibilityAreaResolverService visibilityAreaResolverService,
+                                    @Qualifier("excelExportTaskExecutor") Executor exportExecutor) {
+        this.dslService = dslService;
+        this.factory = factory;
+        this.visibilityAreaResolverService = visibilityAreaResolverService;
+        this.exportExecutor = exportExecutor;
+    }
+
     /**
      * Perform export DSL to a file.
      *
@@ -78,14 +104,39 @@ public class DatasetListExportService {
     public File exportDataSetList(UUID datasetListId) {
         log.info("Start main process exporting Excel file, "
                 + "and start process building a tree DSL from the DB, datasetListId = '{}'", datasetListId);
-        UiManDataSetList dslData = dslService.getAsTree(datasetListId, false);
+        UiManDataSetList dslData = getAsTree(datasetListId);
         log.info("Finish process building a tree DSL from the DB");
-        if (Objects.isNull(dslData)) {
-            throw new ExcelExportNotExistDatasetListlException(datasetListId);
-        }
         return convertDataToExcelFile(dslData);
     }
 
+    /**
+     * Perform export of several DSLs to one file, sheet per DSL in the order of provided ids.
+     * DSL trees are built in parallel, sheets are written as soon as the tree of the DSL is ready.
+     *
+     * @param visibilityAreaId visibility area of all exported DSLs
+     * @param datasetListIds   DSL identifiers
+     * @return export File
+     */
+    public File exportDataSetLists(UUID visibilityAreaId, List<UUID> datasetListIds) {
+        log.info("Start exporting {} DSLs of visibility area '{}' to Excel file", datasetListIds.size(),
+                visibilityAreaId);
+        for (UUID datasetListId : datasetListIds) {
+            if (!visibilityAreaId.equals(visibilityAreaResolverService.getByDataSetListId(datasetListId))) {
+                throw new ExcelExportNotExistDatasetListlException(datasetListId);
+            }
+        }
+        List<CompletableFuture<UiManDataSetList>> trees = datasetListIds.stream()
+                .map(datasetListId -> CompletableFuture.supplyAsync(() -> getAsTree(datasetListId), exportExecutor))
+                .collect(Collectors.toList());
+        return writeExcelFile(DATASET_LISTS_FILE_NAME, workbook -> {
+            Set<String> sheetNames = new HashSet<>();
+            for (CompletableFuture<UiManDataSetList> tree : trees) {
+                UiManDataSetList dslData = joinTree(tree);
+                writeSheet(workbook, getUniqueSheetName(dslData.getName(), sheetNames), dslData);
+            }
+        });
+    }
+
     /**
      * Convert DataSetList entity to File format.
      *
@@ -94,53 +145,99 @@ public class DatasetListExportService {
      */
     public File convertDataToExcelFile(UiManDataSetList dslData) {
         log.info("Start process exporting to Excel file");
-        String dslName = dslData.getName().replaceAll("[:\\\\/|?*\"<>\\[\\]]", "_");
-        Map<UUID, String> dataSetMap = new LinkedHashMap<>();
-        List<UiManDataSet> dataSets = dslData.getDataSets();
-        dataSets.forEach(dataSet -> dataSetMap.put(dataSet.getId(), dataSet.getName()));
+        String dslName = getSafeName(dslData.getName());
+        return writeExcelFile(dslName, workbook -> writeSheet(workbook, dslName, dslData));
+    }
+
+    private UiManDataSetList getAsTree(UUID datasetListId) {
+        UiManDataSetList dslData = dslService.getAsTree(datasetListId, false);
+        if (Objects.isNull(dslData)) {
+            throw new ExcelExportNotExistDatasetListlException(datasetListId);
+        }
+        return dslData;
+    }
+
+    private UiManDataSetList joinTree(CompletableFuture<UiManDataSetList> tree) {
+        try {
+            return tree.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private File writeExcelFile(String fileName, WorkbookWriter workbookWriter) {
         try {
-            File file = new File(Files.createTempFile(dslName, EXCEL_EXT).toString());
+            File file = new File(Files.createTempFile(fileName, EXCEL_EXT).toString());
             try (FileOutputStream outputStream = new FileOutputStream(file);
-                SXSSFWorkbook workbook = new SXSSFWorkbook(100)) {
+                SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE)) {
                 workbook.setCompressTempFiles(true);
-                // Create Sheet
-                SXSSFSheet sheet = workbook.createSheet(dslName);
-                // Populate Headers
-                List<String> dsNamesListNames = new ArrayList<>();
-                dsNamesListNames.add(ATTRIBUTE_NAME_COLUMN);
-                dsNamesListNames.add(ATTRIBUTE_TYPE_COLUMN);
-                dsNamesListNames.addAll(dataSetMap.values());
-                SXSSFRow headerRow = sheet.createRow(START_ROW_INDEX);
-                formExcelHeaderRow(workbook, headerRow, dsNamesListNames);
-
-                // Populate Attributes and Parameters
-                nextRowIndex = START_ROW_INDEX + 1;
-                List<UiManAttribute> dslAttributesList = dslData.getAttributes();
-                dslAttributesList.forEach(attrItem -> {
-                    String attrName = attrItem.getName();
-                    String attrType = getAttributeType(attrItem);
-                    mapAttributeToRow(sheet, attrName, attrType, dataSetMap.keySet(), attrItem);
-                    if (AttributeTypeConverterEnum.DSL.getName().equals(attrType)) {
-                        mapAttributeReferencesToRow(sheet, dataSetMap.keySet(), attrItem, attrName);
-                    }
-                });
-
+                workbookWriter.write(workbook);
                 workbook.write(outputStream);
                 workbook.dispose();
                 log.info("Finish process exporting to Excel file, and finish exporting.");
                 return file;
+            } catch (ExcelExportNotExistDatasetListlException e) {
+                throw e;
             } catch (Exception e) {
-                log.error("Error while creating export data file for DSL: " + dslName, e);
-                throw new ExcelExportUnexpectedException(dslName, e);
+                log.error("Error while creating export data file for DSL: " + fileName, e);
+                throw new ExcelExportUnexpectedException(fileName, e);
             } finally {
                 file.deleteOnExit();
             }
         } catch (IOException e) {
-            log.error("Error while creating export data file for DSL: " + dslName, e);
-            throw new ExcelExportUnexpectedException(dslName, e);
+            log.error("Error while creating export data file for DSL: " + fileName, e);
+            throw new ExcelExportUnexpectedException(fileName, e);
         }
     }
 
+    /**
+     * Writes DSL to a new sheet of the workbook. Rows are appended after the last created row of the sheet,
+     * so no row state is shared between exports.
+     */
+    private void writeSheet(SXSSFWorkbook workbook, String sheetName, UiManDataSetList dslData) {
+        Map<UUID, String> dataSetMap = new LinkedHashMap<>();
+        List<UiManDataSet> dataSets = dslData.getDataSets();
+        dataSets.forEach(dataSet -> dataSetMap.put(dataSet.getId(), dataSet.getName()));
+        // Create Sheet
+        SXSSFSheet sheet = workbook.createSheet(sheetName);
+        // Populate Headers
+        List<String> dsNamesListNames = new ArrayList<>();
+        dsNamesListNames.add(ATTRIBUTE_NAME_COLUMN);
+        dsNamesListNames.add(ATTRIBUTE_TYPE_COLUMN);
+        dsNamesListNames.addAll(dataSetMap.values());
+        SXSSFRow headerRow = sheet.createRow(START_ROW_INDEX);
+        formExcelHeaderRow(workbook, headerRow, dsNamesListNames);
+
+        // Populate Attributes and Parameters
+        List<UiManAttribute> dslAttributesList = dslData.getAttributes();
+        dslAttributesList.forEach(attrItem -> {
+            String attrName = attrItem.getName();
+            String attrType = getAttributeType(attrItem);
+            mapAttributeToRow(sheet, attrName, attrType, dataSetMap.keySet(), attrItem);
+            if (AttributeTypeConverterEnum.DSL.getName().equals(attrType)) {
+                mapAttributeReferencesToRow(sheet, dataSetMap.keySet(), attrItem, attrName);
+            }
+        });
+    }
+
+    private String getSafeName(String dslName) {
+        return dslName.replaceAll("[:\\\\/|?*\"<>\\[\\]]", "_");
+    }
+
+    private String getUniqueSheetName(String dslName, Set<String> usedNames) {
+        String baseName = WorkbookUtil.createSafeSheetName(getSafeName(dslName));
+        String sheetName = baseName;
+        for (int index = 1; !usedNames.add(sheetName.toLowerCase()); index++) {
+            String suffix = " (" + index + ")";
+            sheetName = baseName.substring(0, Math.min(baseName.length(),
+                    MAX_SHEET_NAME_LENGTH - suffix.length())) + suffix;
+        }
+        return sheetName;
+    }
+
     /**
      * Form Excel header row of export file.
      *
@@ -170,7 +267,7 @@ public class DatasetListExportService {
      * @return new Excel row
      */
     private SXSSFRow createNewRowAndSetAttrNameAndType(SXSSFSheet sheet, String attrName, String attrType) {
-        SXSSFRow row = sheet.createRow(DatasetListExportService.nextRowIndex++);
+        SXSSFRow row = sheet.createRow(sheet.getPhysicalNumberOfRows());
         row.createCell(ATTRIBUTE_NAME_COLUMN_INDEX).setCellValue(attrName);
         row.createCell(ATTRIBUTE_TYPE_COLUMN_INDEX).setCellValue(attrType);
         return row;
@@ -226,4 +323,10 @@ public class DatasetListExportService {
             }
         }
     }
+
+    @FunctionalInterface
+    private interface WorkbookWriter {
+
+        void write(SXSSFWorkbook workbook) throws Exception;
+    }
 }
@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
@@ -33,10 +34,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.qubership.atp.dataset.db.dto.ParameterValueDto;
 import org.qubership.atp.dataset.exception.excel.ExcelImportEmptyExcelException;
 import org.qubership.atp.dataset.exception.excel.ExcelImportNotExistingAttributeException;
 import org.qubership.atp.dataset.exception.excel.ExcelImportNotExistingChildAttributeException;
@@ -46,7 +49,6 @@ import org.qubership.atp.dataset.exception.excel.ImportExcelNotEqualsAttributeTy
 import org.qubership.atp.dataset.exception.excel.ImportExcelNotSupportedAttributeTypeException;
 import org.qubership.atp.dataset.model.AttributeType;
 import org.qubership.atp.dataset.model.Parameter;
-import org.qubership.atp.dataset.service.direct.ClearCacheService;
 import org.qubership.atp.dataset.service.direct.ParameterService;
 import org.qubership.atp.dataset.service.direct.importexport.converters.AttributeImportConverter;
 import org.qubership.atp.dataset.service.direct.importexport.converters.XlsxToListConverter;
@@ -67,15 +69,16 @@ import org.qubership.atp.dataset.service.jpa.delegates.Attribute;
 import org.qubership.atp.dataset.service.jpa.delegates.AttributeKey;
 import org.qubership.atp.dataset.service.jpa.delegates.DataSet;
 import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.google.common.collect.ImmutableMap;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 //@Isolated
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 @Slf4j
 public class DatasetListImportService {
 
@@ -83,6 +86,8 @@ public class DatasetListImportService {
             Arrays.asList(AttributeType.TEXT, AttributeType.LIST, AttributeType.DSL, AttributeType.ENCRYPTED);
 
     private static final String UNDERSCORE = "_";
+    private static final String EMPTY_FILE_CONTENT_ERROR_MESSAGE =
+            "Failed to import data set list. Reason: empty import file content";
     private static final Map<String, Integer> requiredHeadingIndexesMap = ImmutableMap.of("Attribute", 0, "Type", 1);
 
     private final DataSetListImportExportFactory factory;
@@ -90,7 +95,9 @@ public class DatasetListImportService {
     private final JpaDataSetService dataSetService;
     private final JpaAttributeService attributeService;
     private final ParameterService parameterService;
-    private final ClearCacheService clearCacheService;
+
+    @Value("${atp-dataset.excel.import.chunk-size:1000}")
+    private int chunkSize = 1000;
 
     /**
      * Import attribute parameters into specified dataset list from Excel file.
@@ -107,44 +114,38 @@ public class DatasetListImportService {
         log.info("Start process importing from Excel file, [ProjectId] = '{}', [DslId] = '{}'",
                 targetProjectId, targetDslId);
         validateDataSetsAreNotLocked(targetDslId);
-        //Read XLSX file and convert to ListMap
+        // Sheet rows are streamed from the package on each pass instead of being materialized as a whole
         OPCPackage pkg = OPCPackage.open(inputStream);
-        List<Map<Integer, String>> sheetConvertList = new ArrayList<>();
         try {
-            XlsxToListConverter xlsxToListConverter = new XlsxToListConverter(pkg, sheetConvertList);
-            xlsxToListConverter.process();
+            // Prepare import context
+            ImportContextCollector contextCollector = new ImportContextCollector(targetProjectId, targetDslId,
+                    isJavers);
+            new XlsxToListConverter(pkg, contextCollector).process();
+            AttributeImportContext context = contextCollector.complete();
+
+            // Validate import file schema
+            ImportFileSchemaValidator schemaValidator = new ImportFileSchemaValidator(targetDslId, context);
+            new XlsxToListConverter(pkg, schemaValidator).process();
+            schemaValidator.complete();
+
+            log.info("Start final phase importing excel to DataBase, [ProjectId] = '{}', [DslId] = '{}'",
+                    targetProjectId, targetDslId);
+
+            ChunkedRowsImporter rowsImporter = new ChunkedRowsImporter(context);
+            new XlsxToListConverter(pkg, rowsImporter).process();
+            DatasetListImportResponse response = rowsImporter.complete();
+
+            log.info("Finish process importing from Excel file: [ProjectId] = '{}', [DslId] = '{}'",
+                    targetProjectId, targetDslId);
+            return response;
         } finally {
             pkg.revert();
         }
-
-        ListIterator<Map<Integer, String>> rowsIterator = sheetConvertList.listIterator();
-
-        // Prepare import context
-        AttributeImportContext context = prepareImportContext(targetProjectId, targetDslId,
-                sheetConvertList.listIterator(), isJavers);
-
-        // Validate import file schema
-        validateImportFileSchema(targetDslId, sheetConvertList.listIterator(), context);
-
-        // skip heading row
-        rowsIterator.next();
-
-        log.info("Start final phase importing excel to DataBase, [ProjectId] = '{}', [DslId] = '{}'",
-                targetProjectId, targetDslId);
-
-        DatasetListImportResponse response = importExcel(rowsIterator, context);
-
-        log.info("Finish process importing from Excel file: [ProjectId] = '{}', [DslId] = '{}'",
-                targetProjectId, targetDslId);
-        return response;
     }
 
-    private DatasetListImportResponse importExcel(ListIterator<Map<Integer, String>> rowsIterator,
-                                                  AttributeImportContext context) {
+    private void importExcel(ListIterator<Map<Integer, String>> rowsIterator, AttributeImportContext context,
+                             DatasetListImportResponse importResponse) {
         try {
-            // Prepare import response
-            DatasetListImportResponse importResponse = new DatasetListImportResponse();
-
             // Iterating throw all Excel file rows
             while (rowsIterator.hasNext()) {
                 Map<Integer, String> row = rowsIterator.next();
@@ -175,14 +176,41 @@ public class DatasetListImportService {
                 // import attribute parameters
                 importAttributeParameters(model, importConverter, context, importResponse);
             }
-
-            return importResponse;
         } catch (Exception ex) {
             log.error("Unexpected error while excel import", ex);
             throw new ExcelImportUnexpectedException(ex);
         }
     }
 
+    /**
+     * Writes parameter values collected by converters with a single bulk call. If the write fails, parameters
+     * reported as imported since the previous write are moved to errors.
+     *
+     * @param context                  import context
+     * @param response                 import response
+     * @param successCountsByAttribute count of successfully imported parameters per attribute before the write
+     */
+    private void writeParameterValues(AttributeImportContext context, DatasetListImportResponse response,
+                              Map<AttributeImportResponse, Integer> successCountsByAttribute) {
+        List<ParameterValueDto> parameterValues = context.pollParameterValues();
+        log.debug("Write {} imported parameter values", parameterValues.size());
+        try {
+            parameterService.setParamsSelectJavers(parameterValues, context.isJavers());
+        } catch (Exception e) {
+            log.error("Failed to write {} imported parameter values", parameterValues.size(), e);
+            for (AttributeImportResponse attributeResponse : response.getAttributes()) {
+                List<ParameterImportResponse> success = attributeResponse.getSuccess();
+                int writtenCount = successCountsByAttribute.getOrDefault(attributeResponse, 0);
+                List<ParameterImportResponse> notWritten = success.subList(writtenCount, success.size());
+                notWritten.forEach(parameterResponse -> attributeResponse.setError(new ParameterImportResponse(
+                        parameterResponse.getDataSetId(), String.format("Failed to import attribute: '%s' in "
+                                + "dataset id: '%s', Reason: '%s'", attributeResponse.getAttributeName(),
+                        parameterResponse.getDataSetId(), e.getMessage()))));
+                notWritten.clear();
+            }
+        }
+    }
+
     /**
      * Imports attribute and its children parameters. All exceptions are handled silently, collecting reasons into
      * import response.
@@ -208,13 +236,6 @@ public class DatasetListImportService {
                 ParameterImportResponse successParameterImportResponse = converter.importAttributeParameter(
                         model, datasetParameterValue, context);
                 if (Objects.nonNull(successParameterImportResponse.getDataSetId())) {
-                    Parameter parameter =
-                            parameterService.getByDataSetIdAttributeId(datasetParameterValue.getDatasetId(),
-                                    model.getId());
-                    if (parameter != null) {
-                        clearCacheService.evictParameterCache(parameter.getId());
-                        clearCacheService.evictDatasetListContextCache(datasetParameterValue.getDatasetId());
-                    }
                     attributeResponse.setSuccess(successParameterImportResponse);
                 }
             } catch (Exception e) {
@@ -307,57 +328,9 @@ public class DatasetListImportService {
      */
     void validateImportFileSchema(UUID targetDslId, ListIterator<Map<Integer, String>> rowsIterator,
                                   AttributeImportContext context) {
-        log.info("Start validating import file schema, target dataset list: {}", targetDslId);
-
-        String emptyFileContentErrorMessage = "Failed to import data set list. Reason: empty import file content";
-        if (!rowsIterator.hasNext()) {
-            log.error(emptyFileContentErrorMessage);
-            throw new ExcelImportEmptyExcelException();
-        }
-
-        final Map<Integer, String> headingRow = rowsIterator.next();
-        if (isBlankRow(headingRow)) {
-            log.error(emptyFileContentErrorMessage);
-            throw new ExcelImportEmptyExcelException();
-        }
-
-        validateRequiredHeading(headingRow);
-
-        final Map<String, UUID> existedDslAttributesMap = getDslAttributesMap(targetDslId);
-        while (rowsIterator.hasNext()) {
-            final Map<Integer, String> row = rowsIterator.next();
-            if (isBlankRow(row)) {
-                log.debug("Skip blank row");
-                continue;
-            }
-            final String attributeName = ImportUtils.getAttributeName(row);
-            log.debug("Attribute name: {}", attributeName);
-
-            boolean isListRefNestedAttribute = attributeName.contains(ImportUtils.DSL_ATTRIBUTE_REF_DELIMITER);
-            log.debug("Is list ref nested attribute: {}", isListRefNestedAttribute);
-
-            boolean isAttributeExistsInDslSchema = existedDslAttributesMap.containsKey(attributeName);
-            log.debug("Is attribute exists in DSL schema: {}", isAttributeExistsInDslSchema);
-
-            boolean isAttributeChildExistsInDslSchema = context.getAttributesNameMap().containsKey(attributeName);
-            log.debug("Is attribute child exists in DSL schema: {}", isAttributeExistsInDslSchema);
-
-            if (!isAttributeExistsInDslSchema && !isListRefNestedAttribute) {
-                log.error(String.format("Failed to import data set list: attribute '%s' doesn't exist "
-                        + "in DSL schema", attributeName));
-                throw new ExcelImportNotExistingAttributeException(attributeName);
-            } else if (!isAttributeChildExistsInDslSchema && isListRefNestedAttribute) {
-                log.error(String.format("Failed to import child dsl : attribute '%s' doesn't "
-                        + "exist in DSL schema", attributeName));
-                throw new ExcelImportNotExistingChildAttributeException(attributeName);
-            }
-
-            final AttributeType attributeType = validateAttributeTypeCells(row, attributeName, context);
-
-            validateDslCellParameterValues(row, attributeName, attributeType, context);
-        }
-
-        log.info("Finish validating import file schema, target dataset list: {}", targetDslId);
+        ImportFileSchemaValidator schemaValidator = new ImportFileSchemaValidator(targetDslId, context);
+        rowsIterator.forEachRemaining(schemaValidator);
+        schemaValidator.complete();
     }
 
     private AttributeType validateAttributeTypeCells(Map<Integer, String> row, String attributeName,
@@ -431,55 +404,9 @@ public class DatasetListImportService {
     AttributeImportContext prepareImportContext(UUID targetProjectId, UUID targetDslId,
                                                 ListIterator<Map<Integer, String>> rowsIterator,
                                                 boolean isJavers) {
-        log.info("Start preparing attribute import context with versioning Javers = '{}', target dataset list: {}",
-                isJavers, targetDslId);
-        AttributeImportContext importContext = new AttributeImportContext();
-        importContext.setJavers(isJavers);
-        importContext.setTargetDslId(targetDslId);
-
-        final Map<Integer, String> headingRow = rowsIterator.next();
-        final int headingRowSize = headingRow.size();
-        final Map<String, Integer> existedDatasetsIndexMap = getExistedDatasetsCellIndexMap(headingRow);
-        importContext.setDatasetsCellIndexMap(existedDatasetsIndexMap);
-        log.debug("Existed datasets: {}", existedDatasetsIndexMap.keySet());
-
-        final List<DataSet> dslDatasets = dataSetService.getByDataSetListId(targetDslId);
-        importContext.setDatasets(dslDatasets);
-        createNotExistedImportedDatasets(importContext);
-        log.debug("Existed DSL datasets: {}", StreamUtils.extractIds(dslDatasets, DataSet::getId));
-
-        final List<Attribute> attributes = attributeService.getByDataSetListId(targetDslId);
-        importContext.setAttributes(attributes);
-        log.debug("Existed DSL attributes: {}", StreamUtils.extractIds(attributes, Attribute::getId));
-
-        checkNames(targetProjectId);
-
-        final List<DataSetList> projectDatasetLists = dataSetListService.getByVisibilityAreaId(targetProjectId);
-        Map<String, DataSetList> projectDslMap = StreamUtils.toEntityMap(projectDatasetLists, DataSetList::getName);
-        log.debug("Existed dataset lists: {}", StreamUtils.extractIds(projectDatasetLists, DataSetList::getId));
-
-        final Map<String, Set<String>> referencedDslDatasetsMap = new HashMap<>();
-        prepareAttributesMap(rowsIterator, referencedDslDatasetsMap, importContext, headingRowSize);
-        final Set<UUID> refDatasetListIds = referencedDslDatasetsMap.keySet()
-                .stream()
-                .map(projectDslMap::get)
-                .map(DataSetList::getId)
-                .collect(Collectors.toSet());
-        log.debug("Existed dataset list ids: {}", refDatasetListIds);
-
-        final List<DataSet> refDslDatasets = dataSetService.getByDataSetListIdIn(refDatasetListIds);
-        importContext.setRefDatasets(refDslDatasets);
-        log.debug("Existed ref DSL datasets: {}", StreamUtils.extractIds(refDslDatasets, DataSet::getId));
-
-        final Map<String, Set<UUID>> refDslDatasetsMap = getRefDslDatasetsMap(referencedDslDatasetsMap, importContext);
-        importContext.setRefDslDatasetIdsMap(refDslDatasetsMap);
-
-        final List<AttributeKey> overlaps = attributeService.getAttributeKeysByDatasetListId(targetDslId);
-        importContext.setOverlaps(overlaps);
-
-        log.info("Finish preparing attribute import context, target dataset list: {}", targetDslId);
-
-        return importContext;
+        ImportContextCollector contextCollector = new ImportContextCollector(targetProjectId, targetDslId, isJavers);
+        rowsIterator.forEachRemaining(contextCollector);
+        return contextCollector.complete();
     }
 
     private void checkNames(UUID visibilityAreaId) {
@@ -516,75 +443,70 @@ public class DatasetListImportService {
     }
 
     /**
-     * Parses all imported Excel file, finds all DSL attribute cells and gets referenced DSL datasets map.
+     * Finds DSL attribute cells in the row and collects referenced DSL datasets map.
      * Example of DSL attribute cell format, "DSL 3 -> DS 5"
      *
-     * @param rowsIterator  Excel file rows iterator
-     * @param importContext import context
+     * @param row               Excel file row
+     * @param refDslDatasetsMap referenced DSL to dataset names map
+     * @param importContext     import context
+     * @param headingRowSize    count of heading row cells
      */
-    private void prepareAttributesMap(ListIterator<Map<Integer, String>> rowsIterator,
-                                      Map<String, Set<String>> refDslDatasetsMap,
+    private void collectDslReferences(Map<Integer, String> row, Map<String, Set<String>> refDslDatasetsMap,
                                       AttributeImportContext importContext, int headingRowSize) {
-        log.debug("Get referenced dataset list names");
-
-        while (rowsIterator.hasNext()) {
-            final Map<Integer, String> row = rowsIterator.next();
-            if (!isBlankRow(row)) {
-                final String attributeTypeValue = getAttributeType(row);
-                final String attributeName = ImportUtils.getAttributeName(row);
-                final AttributeType attributeType = AttributeType.valueOf(attributeTypeValue);
-                log.debug("Attribute type: {}", attributeType);
-
-                boolean isDslAttributeType = AttributeType.DSL.equals(attributeType);
-                if (isDslAttributeType) {
-                    //bind the DSL iteration cycle to the length of the Excel table header
-                    for (int idxRow = 0; idxRow < headingRowSize; idxRow++) {
-                        final String parameterValue = ImportUtils.getCellValue(row, idxRow);
-                        log.debug("Parameter value: {}", parameterValue);
-
-                        // dataset column index should be greater than last required heading
-                        boolean isDatasetColumn = idxRow > ImportUtils.ATTR_TYPE_ROW_INDEX;
-                        log.debug("Is dataset column: {}", isDatasetColumn);
+        if (!isBlankRow(row)) {
+            final String attributeTypeValue = getAttributeType(row);
+            final String attributeName = ImportUtils.getAttributeName(row);
+            final AttributeType attributeType = AttributeType.valueOf(attributeTypeValue);
+            log.debug("Attribute type: {}", attributeType);
+
+            boolean isDslAttributeType = AttributeType.DSL.equals(attributeType);
+            if (isDslAttributeType) {
+                //bind the DSL iteration cycle to the length of the Excel table header
+                for (int idxRow = 0; idxRow < headingRowSize; idxRow++) {
+                    final String parameterValue = ImportUtils.getCellValue(row, idxRow);
+                    log.debug("Parameter value: {}", parameterValue);
 
-                        boolean isDslSubAttribute = ImportUtils.isArrowDelimiterPresent(attributeName);
-                        log.debug("Is DSL reference attribute: {}", isDslSubAttribute);
+                    // dataset column index should be greater than last required heading
+                    boolean isDatasetColumn = idxRow > ImportUtils.ATTR_TYPE_ROW_INDEX;
+                    log.debug("Is dataset column: {}", isDatasetColumn);
 
-                        boolean isParameterContainDslPrefix = ImportUtils.isArrowDelimiterPresent(parameterValue);
+                    boolean isDslSubAttribute = ImportUtils.isArrowDelimiterPresent(attributeName);
+                    log.debug("Is DSL reference attribute: {}", isDslSubAttribute);
 
-                        if (isDatasetColumn) {
-                            final String parameterDsRefName;
-                            if (isParameterContainDslPrefix) {
-                                parameterDsRefName = ImportUtils.getParameterDsRefName(parameterValue);
-                            } else {
-                                parameterDsRefName = parameterValue;
-                            }
+                    boolean isParameterContainDslPrefix = ImportUtils.isArrowDelimiterPresent(parameterValue);
 
-                            final Attribute attribute = importContext.getAttribute(attributeName);
-                            if (Objects.isNull(attribute)) {
-                                log.warn("Skip DSL mapping for unresolved attribute '{}'", attributeName);
-                                continue;
-                            }
-                            final DataSetList dataSetList = attribute.getTypeDataSetList();
-                            if (Objects.isNull(dataSetList)) {
-                                log.warn("Skip DSL mapping for attribute '{}' because referenced DSL is absent",
-                                        attributeName);
-                                continue;
-                            }
-                            final String parameterDslRefName = dataSetList.getName();
-                            final List<Attribute> refAttributes = dataSetList.getAttributes();
-                            importContext.setAttributes(attributeName, refAttributes);
-                            if (Objects.nonNull(parameterDsRefName)) {
-                                refDslDatasetsMap.computeIfAbsent(parameterDslRefName, param -> new HashSet<>())
-                                        .add(parameterDsRefName);
-                            }
+                    if (isDatasetColumn) {
+                        final String parameterDsRefName;
+                        if (isParameterContainDslPrefix) {
+                            parameterDsRefName = ImportUtils.getParameterDsRefName(parameterValue);
+                        } else {
+                            parameterDsRefName = parameterValue;
+                        }
 
-                            log.debug("DSL ref name: {}, DS ref name: {}", parameterDslRefName, parameterDsRefName);
+                        final Attribute attribute = importContext.getAttribute(attributeName);
+                        if (Objects.isNull(attribute)) {
+                            log.warn("Skip DSL mapping for unresolved attribute '{}'", attributeName);
+                            continue;
                         }
+                        final DataSetList dataSetList = attribute.getTypeDataSetList();
+                        if (Objects.isNull(dataSetList)) {
+                            log.warn("Skip DSL mapping for attribute '{}' because referenced DSL is absent",
+                                    attributeName);
+                            continue;
+                        }
+                        final String parameterDslRefName = dataSetList.getName();
+                        final List<Attribute> refAttributes = dataSetList.getAttributes();
+                        importContext.setAttributes(attributeName, refAttributes);
+                        if (Objects.nonNull(parameterDsRefName)) {
+                            refDslDatasetsMap.computeIfAbsent(parameterDslRefName, param -> new HashSet<>())
+                                    .add(parameterDsRefName);
+                        }
+
+                        log.debug("DSL ref name: {}, DS ref name: {}", parameterDslRefName, parameterDsRefName);
                     }
                 }
             }
         }
-        log.debug("Result referenced dataset list datasets map: {}", refDslDatasetsMap);
     }
 
     /**
@@ -700,4 +622,214 @@ public class DatasetListImportService {
         });
         log.debug("Finish required headings validation");
     }
+
+    /**
+     * Collects import context from streamed Excel file rows. Heading row defines imported datasets, DSL attribute
+     * rows define referenced datasets which are loaded at once after all rows are passed.
+     */
+    private class ImportContextCollector implements Consumer<Map<Integer, String>> {
+
+        private final UUID targetProjectId;
+        private final UUID targetDslId;
+        private final boolean isJavers;
+        private final Map<String, Set<String>> referencedDslDatasetsMap = new HashMap<>();
+        private AttributeImportContext importContext;
+        private int headingRowSize;
+
+        ImportContextCollector(UUID targetProjectId, UUID targetDslId, boolean isJavers) {
+            this.targetProjectId = targetProjectId;
+            this.targetDslId = targetDslId;
+            this.isJavers = isJavers;
+        }
+
+        @Override
+        public void accept(Map<Integer, String> row) {
+            if (Objects.isNull(importContext)) {
+                initImportContext(row);
+            } else {
+                collectDslReferences(row, referencedDslDatasetsMap, importContext, headingRowSize);
+            }
+        }
+
+        private void initImportContext(Map<Integer, String> headingRow) {
+            log.info("Start preparing attribute import context with versioning Javers = '{}', target dataset list: {}",
+                    isJavers, targetDslId);
+            importContext = new AttributeImportContext();
+            importContext.setJavers(isJavers);
+            importContext.setTargetDslId(targetDslId);
+
+            headingRowSize = headingRow.size();
+            final Map<String, Integer> existedDatasetsIndexMap = getExistedDatasetsCellIndexMap(headingRow);
+            importContext.setDatasetsCellIndexMap(existedDatasetsIndexMap);
+            log.debug("Existed datasets: {}", existedDatasetsIndexMap.keySet());
+
+            final List<DataSet> dslDatasets = dataSetService.getByDataSetListId(targetDslId);
+            importContext.setDatasets(dslDatasets);
+            createNotExistedImportedDatasets(importContext);
+            log.debug("Existed DSL datasets: {}", StreamUtils.extractIds(dslDatasets, DataSet::getId));
+
+            final List<Attribute> attributes = attributeService.getByDataSetListId(targetDslId);
+            importContext.setAttributes(attributes);
+            log.debug("Existed DSL attributes: {}", StreamUtils.extractIds(attributes, Attribute::getId));
+
+            checkNames(targetProjectId);
+        }
+
+        /**
+         * Loads referenced datasets and overlaps collected from passed rows.
+         *
+         * @return attribute import context
+         */
+        AttributeImportContext complete() {
+            if (Objects.isNull(importContext)) {
+                log.error(EMPTY_FILE_CONTENT_ERROR_MESSAGE);
+                throw new ExcelImportEmptyExcelException();
+            }
+            final List<DataSetList> projectDatasetLists = dataSetListService.getByVisibilityAreaId(targetProjectId);
+            Map<String, DataSetList> projectDslMap = StreamUtils.toEntityMap(projectDatasetLists,
+                    DataSetList::getName);
+            log.debug("Existed dataset lists: {}", StreamUtils.extractIds(projectDatasetLists, DataSetList::getId));
+            log.debug("Result referenced dataset list datasets map: {}", referencedDslDatasetsMap);
+
+            final Set<UUID> refDatasetListIds = referencedDslDatasetsMap.keySet()
+                    .stream()
+                    .map(projectDslMap::get)
+                    .map(DataSetList::getId)
+                    .collect(Collectors.toSet());
+            log.debug("Existed dataset list ids: {}", refDatasetListIds);
+
+            final List<DataSet> refDslDatasets = dataSetService.getByDataSetListIdIn(refDatasetListIds);
+            importContext.setRefDatasets(refDslDatasets);
+            log.debug("Existed ref DSL datasets: {}", StreamUtils.extractIds(refDslDatasets, DataSet::getId));
+
+            final Map<String, Set<UUID>> refDslDatasetsMap = getRefDslDatasetsMap(referencedDslDatasetsMap,
+                    importContext);
+            importContext.setRefDslDatasetIdsMap(refDslDatasetsMap);
+
+            final List<AttributeKey> overlaps = attributeService.getAttributeKeysByDatasetListId(targetDslId);
+            importContext.setOverlaps(overlaps);
+
+            log.info("Finish preparing attribute import context, target dataset list: {}", targetDslId);
+
+            return importContext;
+        }
+    }
+
+    /**
+     * Validates streamed Excel file rows and throws exception if some specified attribute is missed in database.
+     * Also validates required import file headings.
+     */
+    private class ImportFileSchemaValidator implements Consumer<Map<Integer, String>> {
+
+        private final UUID targetDslId;
+        private final AttributeImportContext context;
+        private Map<String, UUID> existedDslAttributesMap;
+
+        ImportFileSchemaValidator(UUID targetDslId, AttributeImportContext context) {
+            log.info("Start validating import file schema, target dataset list: {}", targetDslId);
+            this.targetDslId = targetDslId;
+            this.context = context;
+        }
+
+        @Override
+        public void accept(Map<Integer, String> row) {
+            if (Objects.isNull(existedDslAttributesMap)) {
+                if (isBlankRow(row)) {
+                    log.error(EMPTY_FILE_CONTENT_ERROR_MESSAGE);
+                    throw new ExcelImportEmptyExcelException();
+                }
+                validateRequiredHeading(row);
+                existedDslAttributesMap = getDslAttributesMap(targetDslId);
+                return;
+            }
+            if (isBlankRow(row)) {
+                log.debug("Skip blank row");
+                return;
+            }
+            final String attributeName = ImportUtils.getAttributeName(row);
+            log.debug("Attribute name: {}", attributeName);
+
+            boolean isListRefNestedAttribute = attributeName.contains(ImportUtils.DSL_ATTRIBUTE_REF_DELIMITER);
+            log.debug("Is list ref nested attribute: {}", isListRefNestedAttribute);
+
+            boolean isAttributeExistsInDslSchema = existedDslAttributesMap.containsKey(attributeName);
+            log.debug("Is attribute exists in DSL schema: {}", isAttributeExistsInDslSchema);
+
+            boolean isAttributeChildExistsInDslSchema = context.getAttributesNameMap().containsKey(attributeName);
+            log.debug("Is attribute child exists in DSL schema: {}", isAttributeExistsInDslSchema);
+
+            if (!isAttributeExistsInDslSchema && !isListRefNestedAttribute) {
+                log.error(String.format("Failed to import data set list: attribute '%s' doesn't exist "
+                        + "in DSL schema", attributeName));
+                throw new ExcelImportNotExistingAttributeException(attributeName);
+            } else if (!isAttributeChildExistsInDslSchema && isListRefNestedAttribute) {
+                log.error(String.format("Failed to import child dsl : attribute '%s' doesn't "
+                        + "exist in DSL schema", attributeName));
+                throw new ExcelImportNotExistingChildAttributeException(attributeName);
+            }
+
+            final AttributeType attributeType = validateAttributeTypeCells(row, attributeName, context);
+
+            validateDslCellParameterValues(row, attributeName, attributeType, context);
+        }
+
+        void complete() {
+            if (Objects.isNull(existedDslAttributesMap)) {
+                log.error(EMPTY_FILE_CONTENT_ERROR_MESSAGE);
+                throw new ExcelImportEmptyExcelException();
+            }
+            log.info("Finish validating import file schema, target dataset list: {}", targetDslId);
+        }
+    }
+
+    /**
+     * Imports streamed Excel file rows by chunks of {@code chunkSize} rows. Parameter values of each chunk are
+     * written with one bulk call, so only a chunk of rows and its parameter values are held in memory.
+     * Chunk is cut only before a top level attribute row, DSL child rows are always kept with their parent.
+     */
+    private class ChunkedRowsImporter implements Consumer<Map<Integer, String>> {
+
+        private final AttributeImportContext context;
+        private final DatasetListImportResponse response = new DatasetListImportResponse();
+        private final List<Map<Integer, String>> chunk = new ArrayList<>();
+        private boolean isHeadingSkipped;
+
+        ChunkedRowsImporter(AttributeImportContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public void accept(Map<Integer, String> row) {
+            if (!isHeadingSkipped) {
+                isHeadingSkipped = true;
+                return;
+            }
+            if (chunk.size() >= chunkSize && isTopLevelAttributeRow(row)) {
+                importChunk();
+            }
+            chunk.add(row);
+        }
+
+        DatasetListImportResponse complete() {
+            importChunk();
+            return response;
+        }
+
+        private void importChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            log.debug("Import chunk of {} rows", chunk.size());
+            Map<AttributeImportResponse, Integer> successCountsByAttribute = new IdentityHashMap<>();
+            response.getAttributes().forEach(attributeResponse ->
+                    successCountsByAttribute.put(attributeResponse, attributeResponse.getSuccess().size()));
+            importExcel(chunk.listIterator(), context, response);
+            writeParameterValues(context, response, successCountsByAttribute);
+            chunk.clear();
+        }
+
+        private boolean isTopLevelAttributeRow(Map<Integer, String> row) {
+            return !isBlankRow(row) && !ImportUtils.isArrowDelimiterPresent(ImportUtils.getAttributeName(row));
+        }
+    }
 }
@@ -44,6 +44,18 @@ public class CachingParamEvaluator implements DsEvaluator {
         return structureChangeStrategy.getDataSets(parent, children);
     }
 
+    @Nonnull
+    @Override
+    public Stream<DataSet> getDataSets(@Nonnull DataSetList parent, @Nonnull Stream<DataSet> children,
+                                       long offset, int limit) {
+        return structureChangeStrategy.getDataSets(parent, children, offset, limit);
+    }
+
+    @Override
+    public long countDataSets(@Nonnull DataSetList parent, @Nonnull Stream<DataSet> children) {
+        return structureChangeStrategy.countDataSets(parent, children);
+    }
+
     @Nullable
     @Override
     public DataSet getDataSetById(MixInId dataSet) {
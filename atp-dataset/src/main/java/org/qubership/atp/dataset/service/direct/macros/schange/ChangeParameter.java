@@ -27,12 +27,16 @@ import java.util.stream.Stream;
 
 import jakarta.annotation.Nonnull;
 
+import org.qubership.atp.dataset.db.DataSetListRepository;
+import org.qubership.atp.dataset.db.utils.Proxies;
 import org.qubership.atp.dataset.model.Attribute;
+import org.qubership.atp.dataset.model.AttributeType;
 import org.qubership.atp.dataset.model.DataSet;
+import org.qubership.atp.dataset.model.DataSetList;
 import org.qubership.atp.dataset.model.Parameter;
+import org.qubership.atp.dataset.model.impl.AttributeImpl;
 import org.qubership.atp.dataset.model.utils.Change;
 import org.qubership.atp.dataset.model.utils.ChangeType;
-import org.qubership.atp.dataset.model.utils.Utils;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
@@ -41,7 +45,7 @@ import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 
 class ChangeParameter {
-    private static final int UUID_LENGTH = 36;
+    static final int UUID_LENGTH = 36;
     protected final Attribute targetAttribute;
     protected final Parameter targetParameter;
     protected final Change change;
@@ -65,11 +69,6 @@ class ChangeParameter {
         }
     }
 
-    public static Stream<List<MultiplicationEntry>> getCombinations(Stream<ChangeParameter> changes) {
-        return Utils.combinations(getMultiplications(changes).collect(Collectors.toList()),
-                Collectors.toList());
-    }
-
     public static List<MultiplicationEntry> getCombination(Stream<ChangeParameter> changes, String metadata) {
         Iterator<String> toChose = Splitter.fixedLength(UUID_LENGTH).splitToList(metadata).iterator();
         Iterator<List<MultiplicationEntry>> toChoseFrom = ChangeParameter.getMultiplications(changes).iterator();
@@ -154,6 +153,7 @@ class ChangeParameter {
     public static class Multiplication extends ChangeParameter {
         protected final UUID dataSetListId;
         protected final List<UUID> dataSetIds;
+        private Attribute replacement;
 
         private Multiplication(@Nonnull Attribute targetAttribute,
                                @Nonnull Parameter targetParameter,
@@ -169,5 +169,16 @@ class ChangeParameter {
                     .collect(Collectors.toList());
         }
 
+        /**
+         * Target attribute turned into a reference to the multiplied data set list. It is the same for every
+         * combination, so it is built once.
+         */
+        Attribute getReplacement(@Nonnull Attribute of, @Nonnull DataSetListRepository dslRepo) {
+            if (replacement == null) {
+                replacement = new AttributeImpl(of.getId(), of.getName(), of.getDataSetList(), AttributeType.DSL,
+                        Proxies.withId(DataSetList.class, dataSetListId, dslRepo::getById), null, null);
+            }
+            return replacement;
+        }
     }
 }
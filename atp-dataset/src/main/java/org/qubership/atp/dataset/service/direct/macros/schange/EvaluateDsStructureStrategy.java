@@ -28,5 +28,24 @@ public interface EvaluateDsStructureStrategy {
     @Nonnull
     Stream<DataSet> getDataSets(@Nonnull DataSetList parent, @Nonnull Stream<DataSet> children);
 
+    /**
+     * Returns a page of data sets provided by {@link #getDataSets(DataSetList, Stream)}.
+     *
+     * @param offset count of data sets to skip.
+     * @param limit  max count of data sets to return.
+     */
+    @Nonnull
+    default Stream<DataSet> getDataSets(@Nonnull DataSetList parent, @Nonnull Stream<DataSet> children,
+                                        long offset, int limit) {
+        return getDataSets(parent, children).skip(offset).limit(limit);
+    }
+
+    /**
+     * Returns count of data sets provided by {@link #getDataSets(DataSetList, Stream)}.
+     */
+    default long countDataSets(@Nonnull DataSetList parent, @Nonnull Stream<DataSet> children) {
+        return getDataSets(parent, children).count();
+    }
+
     DataSet getDataSetById(MixInId dataSet);
 }
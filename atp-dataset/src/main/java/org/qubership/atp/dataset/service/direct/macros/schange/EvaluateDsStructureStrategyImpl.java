@@ -16,7 +16,9 @@
 
 package org.qubership.atp.dataset.service.direct.macros.schange;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -35,6 +37,7 @@ import org.qubership.atp.dataset.service.direct.AliasWrapperService;
 import org.qubership.atp.dataset.service.direct.macros.EvaluateDsParamStrategyImpl;
 
 import com.google.common.base.Preconditions;
+import com.google.common.math.LongMath;
 
 public class EvaluateDsStructureStrategyImpl implements EvaluateDsStructureStrategy {
 
@@ -63,7 +66,50 @@ public class EvaluateDsStructureStrategyImpl implements EvaluateDsStructureStrat
         if (structureChanges.isEmpty()) {
             return children;
         }
-        return children.flatMap(ds -> this.applyStructureChanges(structureChanges, parent, ds));
+        return children.flatMap(ds -> applyStructureChanges(parent, ds,
+                MultiplicationCombinations.of(ChangeParameter.getChanges(structureChanges, ds)), 0, Long.MAX_VALUE));
+    }
+
+    /**
+     * Skips data sets by counting their combinations, so only combinations of the page are built.
+     */
+    @Nonnull
+    @Override
+    public Stream<DataSet> getDataSets(@Nonnull DataSetList parent, @Nonnull Stream<DataSet> children,
+                                       long offset, int limit) {
+        Preconditions.checkArgument(offset >= 0, "Offset should not be negative: %s", offset);
+        Preconditions.checkArgument(limit >= 0, "Limit should not be negative: %s", limit);
+        Collection<Attribute> structureChanges = parent.getAttributes(AttributeType.CHANGE);
+        if (structureChanges.isEmpty()) {
+            return children.skip(offset).limit(limit);
+        }
+        List<DataSet> page = new ArrayList<>(Math.min(limit, 100));
+        long toSkip = offset;
+        Iterator<DataSet> iterator = children.iterator();
+        while (page.size() < limit && iterator.hasNext()) {
+            DataSet ds = iterator.next();
+            MultiplicationCombinations combinations =
+                    MultiplicationCombinations.of(ChangeParameter.getChanges(structureChanges, ds));
+            if (toSkip >= combinations.size()) {
+                toSkip -= combinations.size();
+                continue;
+            }
+            long to = LongMath.saturatedAdd(toSkip, limit - page.size());
+            applyStructureChanges(parent, ds, combinations, toSkip, to).forEach(page::add);
+            toSkip = 0;
+        }
+        return page.stream();
+    }
+
+    @Override
+    public long countDataSets(@Nonnull DataSetList parent, @Nonnull Stream<DataSet> children) {
+        Collection<Attribute> structureChanges = parent.getAttributes(AttributeType.CHANGE);
+        if (structureChanges.isEmpty()) {
+            return children.count();
+        }
+        return children.mapToLong(ds -> MultiplicationCombinations
+                        .of(ChangeParameter.getChanges(structureChanges, ds)).size())
+                .reduce(0, LongMath::saturatedAdd);
     }
 
     @Override
@@ -85,28 +131,43 @@ public class EvaluateDsStructureStrategyImpl implements EvaluateDsStructureStrat
         return applyStructureChanges(dsl, ds, combination);
     }
 
+    /**
+     * Builds data sets for combinations from {@code from} inclusive to {@code to} exclusive. The name template
+     * and its evaluator do not depend on a combination, so they are prepared once per source data set.
+     */
     @Nonnull
-    private Stream<DataSet> applyStructureChanges(@Nonnull Collection<Attribute> structureChanges,
-                                                  DataSetList dsl,
-                                                  DataSet ds) {
-        Stream<ChangeParameter> changes = ChangeParameter.getChanges(structureChanges, ds);
-        Stream<List<MultiplicationEntry>> combinations = ChangeParameter.getCombinations(changes);
-        return combinations.map(combination -> applyStructureChanges(dsl, ds, combination));
+    private Stream<DataSet> applyStructureChanges(DataSetList dsl,
+                                                  DataSet ds,
+                                                  MultiplicationCombinations combinations,
+                                                  long from,
+                                                  long to) {
+        if (from >= combinations.size()) {
+            return Stream.empty();
+        }
+        String nameTemplate = getNameTemplate(dsl, ds);
+        EvaluateDsParamStrategyImpl macrosEval = createNameEvaluator();
+        return combinations.stream(from, to)
+                .map(combination -> applyStructureChanges(dsl, ds, combination, nameTemplate, macrosEval));
     }
 
     private DataSet applyStructureChanges(DataSetList dsl, DataSet ds, List<MultiplicationEntry> combination) {
+        return applyStructureChanges(dsl, ds, combination, getNameTemplate(dsl, ds), createNameEvaluator());
+    }
+
+    private DataSet applyStructureChanges(DataSetList dsl, DataSet ds, List<MultiplicationEntry> combination,
+                                          String nameTemplate, EvaluateDsParamStrategyImpl macrosEval) {
         DataSet dataSet = MultiplicationMixin.create(combination, dslRepo, dsRepo, dsl, ds);
-        String name = evaluateName(dsl, dataSet);
-        dataSet.setName(name);
+        dataSet.setName(macrosEval.evaluateText(dataSet, nameTemplate));
         return dataSet;
     }
 
-    private String evaluateName(DataSetList dsl, DataSet dataSet) {
-        String name = org.qubership.atp.dataset.utils.Utils.replacePlaceholders(dataSet.getName(), macros ->
+    private String getNameTemplate(DataSetList dsl, DataSet ds) {
+        String name = org.qubership.atp.dataset.utils.Utils.replacePlaceholders(ds.getName(), macros ->
                 "#REF_THIS(" + macros + ")");
-        name = aliasWrapperService.wrapToAlias(name, dsl.getVisibilityArea(), dsl);
-        EvaluateDsParamStrategyImpl macrosEval = new EvaluateDsParamStrategyImpl(registry, aliasWrapperService,
-                NoCache.INSTANCE, false);
-        return macrosEval.evaluateText(dataSet, name);
+        return aliasWrapperService.wrapToAlias(name, dsl.getVisibilityArea(), dsl);
+    }
+
+    private EvaluateDsParamStrategyImpl createNameEvaluator() {
+        return new EvaluateDsParamStrategyImpl(registry, aliasWrapperService, NoCache.INSTANCE, false);
     }
 }
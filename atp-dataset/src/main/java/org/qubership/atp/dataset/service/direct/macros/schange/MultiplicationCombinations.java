@@ -0,0 +1,85 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.direct.macros.schange;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import jakarta.annotation.Nonnull;
+
+import com.google.common.base.Preconditions;
+import com.google.common.math.LongMath;
+
+/**
+ * Cartesian product of the multiplications of a data set, addressed by index instead of being expanded.
+ * The last multiplication changes the fastest, so combinations go in the same order as nested loops over
+ * the multiplications would give. Entries are shared between all combinations.
+ */
+class MultiplicationCombinations {
+
+    private final List<List<MultiplicationEntry>> dimensions;
+    private final long size;
+
+    private MultiplicationCombinations(List<List<MultiplicationEntry>> dimensions) {
+        this.dimensions = dimensions;
+        long product = dimensions.isEmpty() ? 0 : 1;
+        for (List<MultiplicationEntry> dimension : dimensions) {
+            product = LongMath.saturatedMultiply(product, dimension.size());
+        }
+        this.size = product;
+    }
+
+    @Nonnull
+    public static MultiplicationCombinations of(@Nonnull Stream<ChangeParameter> changes) {
+        return new MultiplicationCombinations(ChangeParameter.getMultiplications(changes)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Count of combinations, {@link Long#MAX_VALUE} if it does not fit into long.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Decodes index as a mixed radix number, each digit of which selects an entry of the multiplication.
+     */
+    @Nonnull
+    public List<MultiplicationEntry> get(long index) {
+        Preconditions.checkArgument(index >= 0 && index < size, "No combination %s of %s", index, size);
+        MultiplicationEntry[] result = new MultiplicationEntry[dimensions.size()];
+        long rest = index;
+        for (int position = result.length - 1; position >= 0; position--) {
+            List<MultiplicationEntry> dimension = dimensions.get(position);
+            result[position] = dimension.get((int) (rest % dimension.size()));
+            rest /= dimension.size();
+        }
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Lazily builds combinations from {@code from} inclusive to {@code to} exclusive.
+     */
+    @Nonnull
+    public Stream<List<MultiplicationEntry>> stream(long from, long to) {
+        return LongStream.range(Math.max(from, 0), Math.min(to, size)).mapToObj(this::get);
+    }
+}
@@ -19,9 +19,25 @@ package org.qubership.atp.dataset.service.direct.macros.schange;
 import java.util.AbstractMap;
 import java.util.UUID;
 
+import org.qubership.atp.dataset.db.DataSetRepository;
+import org.qubership.atp.dataset.db.utils.Proxies;
+import org.qubership.atp.dataset.model.DataSet;
+
 public class MultiplicationEntry extends AbstractMap.SimpleEntry<ChangeParameter.Multiplication, UUID> {
 
+    private transient DataSet dataSetReference;
+
     public MultiplicationEntry(ChangeParameter.Multiplication source, UUID dataSetId) {
         super(source, dataSetId);
     }
+
+    /**
+     * Lazy reference to the selected data set, shared by all combinations containing this entry.
+     */
+    DataSet getDataSetReference(DataSetRepository dsRepo) {
+        if (dataSetReference == null) {
+            dataSetReference = Proxies.withId(DataSet.class, getValue(), dsRepo::getById);
+        }
+        return dataSetReference;
+    }
 }
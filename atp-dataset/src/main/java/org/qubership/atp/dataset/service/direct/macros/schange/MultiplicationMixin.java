@@ -17,18 +17,13 @@
 package org.qubership.atp.dataset.service.direct.macros.schange;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.qubership.atp.dataset.db.DataSetListRepository;
 import org.qubership.atp.dataset.db.DataSetRepository;
-import org.qubership.atp.dataset.db.utils.Proxies;
 import org.qubership.atp.dataset.model.Attribute;
-import org.qubership.atp.dataset.model.AttributeType;
 import org.qubership.atp.dataset.model.DataSet;
 import org.qubership.atp.dataset.model.DataSetList;
 import org.qubership.atp.dataset.model.Parameter;
-import org.qubership.atp.dataset.model.impl.AttributeImpl;
 import org.qubership.atp.dataset.model.impl.DataSetImpl;
 import org.qubership.atp.dataset.model.impl.MixInIdImpl;
 import org.qubership.atp.dataset.model.impl.ParameterImpl;
@@ -63,26 +58,23 @@ public class MultiplicationMixin extends TraverseMixinSupport {
 
     @Override
     public Attribute proxy(Attribute of) {
-        Optional<Attribute> replaceWith = entries.stream()
-                .filter(entry -> entry.getKey().targetAttribute.getId().equals(of.getId()))
-                .findAny()
-                .map(entry -> new AttributeImpl(of.getId(), of.getName(), of.getDataSetList(),
-                        AttributeType.DSL,
-                        Proxies.withId(DataSetList.class, entry.getKey().dataSetListId,
-                                dslRepo::getById),
-                        null, null));
-        return super.proxy(replaceWith.orElse(of));
+        for (MultiplicationEntry entry : entries) {
+            if (entry.getKey().targetAttribute.getId().equals(of.getId())) {
+                return super.proxy(entry.getKey().getReplacement(of, dslRepo));
+            }
+        }
+        return super.proxy(of);
     }
 
     @Override
     public Parameter proxy(Parameter of) {
-        Optional<Parameter> replaceWith = entries.stream()
-                .filter(entry -> entry.getKey().targetParameter.getId().equals(of.getId()))
-                .findAny()
-                .map(entry -> new ParameterImpl(of.getId(), proxy(of.getAttribute()), of.getDataSet(),
-                        null, null, Proxies.withId(DataSet.class,
-                        entry.getValue(), dsRepo::getById)));
-        return super.proxy(replaceWith.orElse(of));
+        for (MultiplicationEntry entry : entries) {
+            if (entry.getKey().targetParameter.getId().equals(of.getId())) {
+                return super.proxy(new ParameterImpl(of.getId(), proxy(of.getAttribute()), of.getDataSet(),
+                        null, null, entry.getDataSetReference(dsRepo)));
+            }
+        }
+        return super.proxy(of);
     }
 
     @Override
@@ -90,8 +82,11 @@ public class MultiplicationMixin extends TraverseMixinSupport {
         if (!ds.equals(of)) {
             return of;
         }
-        String metadata = entries.stream().map(entry -> entry.getValue().toString()).collect(Collectors.joining());
-        return super.proxy(new DataSetImpl(new MixInIdImpl(ds.getId(), metadata), ds.getName(),
+        StringBuilder metadata = new StringBuilder(entries.size() * ChangeParameter.UUID_LENGTH);
+        for (MultiplicationEntry entry : entries) {
+            metadata.append(entry.getValue());
+        }
+        return super.proxy(new DataSetImpl(new MixInIdImpl(ds.getId(), metadata.toString()), ds.getName(),
                 dsl, ds.getParameters(), ds.getLabels(), ds.isLocked()));
     }
 }
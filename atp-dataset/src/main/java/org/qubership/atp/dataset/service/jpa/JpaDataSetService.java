@@ -16,6 +16,8 @@
 
 package org.qubership.atp.dataset.service.jpa;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
@@ -35,15 +37,23 @@ import org.springframework.transaction.annotation.Transactional;
 public interface JpaDataSetService {
     DataSetTree getDataSetTreeInAtpFormat(UUID dataSetId, boolean evaluate, String atpContext, ContextType contextType);
 
+    void writeDataSetTreeInAtpFormat(UUID dataSetId, boolean evaluate, String atpContext, ContextType contextType,
+                                     OutputStream outputStream) throws IOException;
+
     List<JSONObject> getDataSetTreeInAtpFormat(
             UUID dataSetId, boolean evaluate, String atpContext, ContextType contextType, Integer numberOfCopies);
 
+    void writeDataSetTreesInAtpFormat(UUID dataSetId, boolean evaluate, String atpContext, ContextType contextType,
+                                      int numberOfCopies, OutputStream outputStream) throws IOException;
+
     void remove(UUID id);
 
     DataSetListContext getDatasetListContext(UUID dataSetId);
 
     String getDataSetTreeInItfFormat(UUID dataSetId);
 
+    void writeDataSetTreeInItfFormat(UUID dataSetId, OutputStream outputStream) throws IOException;
+
     @Transactional
     DataSet create(String name, UUID dataSetListId);
 
@@ -39,6 +39,14 @@ public class AttributeKey extends AbstractObjectWrapper<AttributeKeyEntity> {
         super(entity);
     }
 
+    /**
+     * Attribute key with already loaded overlap parameter.
+     */
+    public AttributeKey(AttributeKeyEntity entity, Parameter parameter) {
+        super(entity);
+        this.cachedParameter = parameter;
+    }
+
     public UUID getId() {
         return entity.getId();
     }
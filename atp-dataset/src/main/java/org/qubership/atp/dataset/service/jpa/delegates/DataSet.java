@@ -16,6 +16,7 @@
 
 package org.qubership.atp.dataset.service.jpa.delegates;
 
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -26,8 +27,6 @@ import org.qubership.atp.dataset.db.jpa.entities.AttributeKeyEntity;
 import org.qubership.atp.dataset.db.jpa.entities.DataSetEntity;
 import org.qubership.atp.dataset.db.jpa.entities.LabelEntity;
 import org.qubership.atp.dataset.db.jpa.entities.ParameterEntity;
-import org.qubership.atp.dataset.exception.file.FileDsCopyException;
-import org.qubership.atp.dataset.exception.file.FileDsNotFoundToCopyException;
 import org.qubership.atp.dataset.model.impl.DataSetShort;
 import org.qubership.atp.dataset.service.jpa.model.copy.AttributeCopyData;
 
@@ -121,6 +120,7 @@ public class DataSet extends AbstractObjectWrapper<DataSetEntity> {
         if (dataSetToRemove != null) {
             dataSets.remove(dataSetToRemove);
         }
+        evictDataSetColumnIndex();
     }
 
     /**
@@ -187,10 +187,12 @@ public class DataSet extends AbstractObjectWrapper<DataSetEntity> {
 
     public void setName(String name) {
         entity.setName(name);
+        evictDataSetColumnIndex();
     }
 
     public void setOrdering(Long ordering) {
         entity.setOrdering(ordering);
+        evictDataSetColumnIndex();
     }
 
     /**
@@ -203,13 +205,22 @@ public class DataSet extends AbstractObjectWrapper<DataSetEntity> {
         if (dataSetList == null) {
             throw new Error("Can't find Data Set List by id " + dataSetListId);
         }
+        evictDataSetColumnIndex();
         entity.setDataSetList(dataSetList.getEntity());
+        evictDataSetColumnIndex();
+    }
+
+    private void evictDataSetColumnIndex() {
+        if (entity.getDataSetList() != null) {
+            modelsProvider.evictDataSetColumnIndex(entity.getDataSetList().getId());
+        }
     }
 
     /**
      * Copy parameters to another dataset. Needed attributes map.
      */
     public void copyParametersTo(DataSet anotherDataSet, Map<UUID, AttributeCopyData> attributesMap) {
+        Map<UUID, UUID> fileParameters = new HashMap<>();
         for (Parameter parameter : getParameters()) {
             Attribute oldAttribute = parameter.getAttribute();
             if (oldAttribute == null) {
@@ -229,11 +240,7 @@ public class DataSet extends AbstractObjectWrapper<DataSetEntity> {
                         copyParameter.setDataSetReferenceId(parameter.getDataSetReferenceId());
                         break;
                     case FILE:
-                        try {
-                            gridFsService.copy(parameter.getId(), copyParameter.getId(), false);
-                        } catch (IllegalStateException | FileDsNotFoundToCopyException | FileDsCopyException e) {
-                            log.error("File " + parameter.getId() + " not found. Continue copying.", e);
-                        }
+                        fileParameters.put(parameter.getId(), copyParameter.getId());
                         break;
                     case LIST:
                         if (parameter.getListValue() != null) {
@@ -248,6 +255,7 @@ public class DataSet extends AbstractObjectWrapper<DataSetEntity> {
                         oldAttribute.getDataSetList().getId());
             }
         }
+        gridFsService.copyAll(fileParameters, false);
     }
 
     public DataSetShort getShortInfo() {
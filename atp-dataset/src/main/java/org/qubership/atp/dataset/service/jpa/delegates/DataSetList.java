@@ -38,16 +38,16 @@ import org.qubership.atp.dataset.db.jpa.entities.DataSetListEntity;
 import org.qubership.atp.dataset.db.jpa.entities.LabelEntity;
 import org.qubership.atp.dataset.db.jpa.entities.ParameterEntity;
 import org.qubership.atp.dataset.db.jpa.entities.TestPlanEntity;
-import org.qubership.atp.dataset.db.jpa.entities.VisibilityAreaEntity;
-import org.qubership.atp.dataset.exception.file.FileDsCopyException;
-import org.qubership.atp.dataset.exception.file.FileDsNotFoundToCopyException;
 import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
+import org.qubership.atp.dataset.service.jpa.model.DataSetColumnIndex;
 import org.qubership.atp.dataset.service.jpa.model.copy.AttributeCopyData;
 import org.qubership.atp.dataset.service.jpa.model.copy.DataSetListCopyData;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContextPrefetch;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import jakarta.annotation.Nullable;
+import jakarta.persistence.NoResultException;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -121,6 +121,13 @@ public class DataSetList extends AbstractObjectWrapper<DataSetListEntity> {
      * Overlaps by datasets.
      */
     public List<AttributeKey> getAttributeKeysByDataSet(UUID dataSetId) {
+        DataSetListContextPrefetch prefetch = modelsProvider.getContextPrefetch();
+        if (prefetch != null) {
+            List<AttributeKey> prefetched = prefetch.getAttributeKeys(getId(), dataSetId);
+            if (prefetched != null) {
+                return new LinkedList<>(prefetched);
+            }
+        }
         List<AttributeKey> result = new LinkedList<>();
         String nativeQuery = "select * from attribute_key where datasetlist_id = :dsl_id and dataset_id = :ds_id";
         entityManager
@@ -169,83 +176,36 @@ public class DataSetList extends AbstractObjectWrapper<DataSetListEntity> {
      * Takes Data Sets Ids list, returns their columns.
      */
     public List<Integer> getDataSetsColumns(List<UUID> dataSetIds) {
-        List<Integer> result = new LinkedList<>();
-        String nativeQuery =
-                "select num from ("
-                        + "Select id, row_number() over(ORDER BY ordering) num"
-                        + " from Dataset ds"
-                        + " where ds.datasetlist_id = :list_id"
-                        + " order by ordering"
-                        + ") ds_ordered"
-                        + " where id in (:ds_ids)";
-        List<Number> queryResult = entityManager.createNativeQuery(nativeQuery)
-                .setParameter("list_id", getId())
-                .setParameter("ds_ids", dataSetIds)
-                .getResultList();
-        queryResult.forEach(number -> result.add(number.intValue() - 1));
-        return result;
+        return getDataSetColumnIndex().getColumns(dataSetIds);
     }
 
     /**
      * Gets DS name, returns its column.
      */
     public Integer getDataSetColumnByName(String dataSetName) {
-        String nativeQuery =
-                "select num from ("
-                        + "Select name, row_number() over(ORDER BY ordering) num"
-                        + " from Dataset ds"
-                        + " where ds.datasetlist_id = :list_id"
-                        + " order by ordering"
-                        + ") ds_ordered"
-                        + " where name = :ds_name";
-        return toInteger(entityManager
-                .createNativeQuery(nativeQuery)
-                .setParameter("list_id", getId())
-                .setParameter("ds_name", dataSetName)
-                .getSingleResult()) - 1;
+        Integer column = getDataSetColumnIndex().getColumnByName(dataSetName);
+        if (column == null) {
+            throw new NoResultException("Data set '" + dataSetName + "' not found in DSL " + getId());
+        }
+        return column;
     }
 
     /**
      * Gets DS id, returns its column.
      */
     public Integer getDataSetColumnById(UUID dataSetId) {
-        String nativeQuery =
-                "select num from ("
-                        + "Select id, row_number() over(ORDER BY ordering) num"
-                        + " from Dataset ds"
-                        + " where ds.datasetlist_id = :list_id"
-                        + " order by ordering"
-                        + ") ds_ordered"
-                        + " where id = :ds_id";
-        return toInteger(entityManager
-                .createNativeQuery(nativeQuery)
-                .setParameter("list_id", getId())
-                .setParameter("ds_id", dataSetId)
-                .getSingleResult()) - 1;
+        Integer column = getDataSetColumnIndex().getColumnById(dataSetId);
+        if (column == null) {
+            throw new NoResultException("Data set " + dataSetId + " not found in DSL " + getId());
+        }
+        return column;
     }
 
     /**
      * Get columns by dataset ids.
      */
     public List<Integer> getDataSetColumnsByIds(List<UUID> dataSetIds) {
-        String nativeQuery =
-                "select num from ("
-                        + "Select id, row_number() over(ORDER BY ordering) num"
-                        + " from Dataset ds"
-                        + " where ds.datasetlist_id = :list_id"
-                        + " order by ordering"
-                        + ") ds_ordered"
-                        + " where id in :ds_ids";
-        List untypedResult = entityManager
-                .createNativeQuery(nativeQuery)
-                .setParameter("list_id", getId())
-                .setParameter("ds_ids", dataSetIds)
-                .getResultList();
-        List<Integer> result = new ArrayList<>();
-        for (Object o : untypedResult) {
-            result.add(toInteger(o) - 1);
-        }
-        return result;
+        return new ArrayList<>(getDataSetColumnIndex().getColumns(dataSetIds));
     }
 
     /**
@@ -263,20 +223,11 @@ public class DataSetList extends AbstractObjectWrapper<DataSetListEntity> {
      * Gets DS column, returns DS.
      */
     public DataSet getDataSetByColumn(int columnNumber) {
-        String nativeQuery =
-                "select * from ("
-                        + "Select *, row_number() over(ORDER BY ordering) num"
-                        + " from Dataset ds"
-                        + " where ds.datasetlist_id = :list_id"
-                        + " order by ordering"
-                        + ") ds_ordered"
-                        + " where num  = :row_num";
-        DataSetEntity result = (DataSetEntity) entityManager
-                .createNativeQuery(nativeQuery, DataSetEntity.class)
-                .setParameter("list_id", getId())
-                .setParameter("row_num", columnNumber + 1)
-                .getSingleResult();
-        return modelsProvider.getDataSet(result);
+        UUID dataSetId = getDataSetColumnIndex().getDataSetId(columnNumber);
+        if (dataSetId == null) {
+            throw new NoResultException("No data set in column " + columnNumber + " of DSL " + getId());
+        }
+        return modelsProvider.getDataSetById(dataSetId);
     }
 
     /**
@@ -309,11 +260,14 @@ public class DataSetList extends AbstractObjectWrapper<DataSetListEntity> {
      * How many DSs this DSL has.
      */
     public Integer getDataSetsCount() {
-        String nativeQuery = "select count(1) from dataset where datasetlist_id = :list_id";
-        return toInteger(entityManager
-                .createNativeQuery(nativeQuery)
-                .setParameter("list_id", getId())
-                .getSingleResult());
+        return getDataSetColumnIndex().size();
+    }
+
+    /**
+     * Columns of DSs, loaded once per request.
+     */
+    public DataSetColumnIndex getDataSetColumnIndex() {
+        return modelsProvider.getDataSetColumnIndex(getId());
     }
 
     public List<LabelEntity> getLabels() {
@@ -417,6 +371,7 @@ public class DataSetList extends AbstractObjectWrapper<DataSetListEntity> {
         dataSetEntity.setDataSetList(entity);
         dataSetEntity.setOrdering(order);
         save(dataSetEntity);
+        modelsProvider.evictDataSetColumnIndex(getId());
         return modelsProvider.getDataSet(dataSetEntity);
     }
 
@@ -429,6 +384,7 @@ public class DataSetList extends AbstractObjectWrapper<DataSetListEntity> {
         dataSetEntity.setDataSetList(entity);
         dataSetEntity.setOrdering(getLastDataSetsOrderNumber() + 1);
         insert(dataSetEntity, id);
+        modelsProvider.evictDataSetColumnIndex(getId());
         return modelsProvider.getDataSet(dataSetEntity);
     }
 
@@ -538,25 +494,45 @@ public class DataSetList extends AbstractObjectWrapper<DataSetListEntity> {
      */
     public DataSetListCopyData duplicate(@Nullable String postfix, String prevNamePattern,
                                          @Nullable UUID sagaSessionId) {
-        final String copyPostfix = StringUtils.isEmpty(postfix) ? "Copy" : postfix;
-        final String copyName = getNextCopyName(copyPostfix, prevNamePattern);
+        return copy(getCopyName(postfix, prevNamePattern), sagaSessionId);
+    }
 
-        return copy(entity.getVisibilityArea(), copyName, sagaSessionId);
+    /**
+     * Name of the DSL copy, see {@link #duplicate(String, String, UUID)}.
+     */
+    public String getCopyName(@Nullable String postfix, String prevNamePattern) {
+        final String copyPostfix = StringUtils.isEmpty(postfix) ? "Copy" : postfix;
+        return getNextCopyName(copyPostfix, prevNamePattern);
     }
 
     /**
-     * Copy DSL to selected VA with selected name.
+     * Creates DSL with selected name and without content in VA of this DSL.
      */
-    private DataSetListCopyData copy(VisibilityAreaEntity visibilityArea, String name, @Nullable UUID sagaSessionId) {
+    public DataSetList createEmptyCopy(String name, @Nullable UUID sagaSessionId) {
         DataSetListEntity dataSetListCopy = new DataSetListEntity();
         Timestamp dslCopyTime = Timestamp.from(Instant.now());
-        dataSetListCopy.setVisibilityArea(visibilityArea);
+        dataSetListCopy.setVisibilityArea(entity.getVisibilityArea());
         dataSetListCopy.setName(name);
         dataSetListCopy.setCreatedWhen(dslCopyTime);
         dataSetListCopy.setModifiedWhen(dslCopyTime);
         dataSetListCopy.setSagaSessionId(sagaSessionId);
         save(dataSetListCopy);
-        DataSetList dataSetList = modelsProvider.getDataSetList(dataSetListCopy);
+        return modelsProvider.getDataSetList(dataSetListCopy);
+    }
+
+    /**
+     * Reloads DSL entity with its collections, e.g. after content was changed by plain SQL.
+     */
+    public void refresh() {
+        entityManager.refresh(entity);
+        modelsProvider.evictDataSetColumnIndex(getId());
+    }
+
+    /**
+     * Copy DSL with selected name.
+     */
+    private DataSetListCopyData copy(String name, @Nullable UUID sagaSessionId) {
+        DataSetList dataSetList = createEmptyCopy(name, sagaSessionId);
         DataSetListCopyData dataSetListCopyData = new DataSetListCopyData(dataSetList);
         Map<UUID, AttributeCopyData> attributesMap = copyAttributesTo(dataSetList);
         dataSetListCopyData.setAttributesMap(attributesMap);
@@ -577,6 +553,7 @@ public class DataSetList extends AbstractObjectWrapper<DataSetListEntity> {
                 dataSetListCopy.getName());
         Map<UUID, UUID> dataSetsMap = dataSetListCopyData.getDataSetsMap();
         Map<UUID, AttributeCopyData> attributesMap = dataSetListCopyData.getAttributesMap();
+        Map<UUID, UUID> fileOverlaps = new HashMap<>();
         for (AttributeKey attributeKey : getAttributeKeys()) {
             AttributeCopyData attributeCopyData = attributesMap.get(attributeKey.getAttribute().getId());
             Attribute newAttribute;
@@ -604,11 +581,7 @@ public class DataSetList extends AbstractObjectWrapper<DataSetListEntity> {
                     }
                     break;
                 case FILE:
-                    try {
-                        gridFsService.copy(oldOverlap.getId(), newOverlap.getId(), true);
-                    } catch (IllegalStateException | FileDsNotFoundToCopyException | FileDsCopyException e) {
-                        log.error("File {} not found. Continue copying.", oldOverlap.getId(), e);
-                    }
+                    fileOverlaps.put(oldOverlap.getId(), newOverlap.getId());
                     break;
                 case DSL:
                     UUID originalDataSetReference = oldOverlap.getDataSetReferenceId();
@@ -622,6 +595,7 @@ public class DataSetList extends AbstractObjectWrapper<DataSetListEntity> {
                 default:
             }
         }
+        gridFsService.copyAll(fileOverlaps, true);
         log.info("Finish copy overlaps keys for Dataset List with id {} and name {}", dataSetListCopy.getId(),
                 dataSetListCopy.getName());
     }
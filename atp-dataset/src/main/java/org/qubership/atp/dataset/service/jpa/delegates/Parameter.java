@@ -31,6 +31,7 @@ import org.qubership.atp.dataset.db.jpa.entities.ListValueEntity;
 import org.qubership.atp.dataset.db.jpa.entities.ParameterEntity;
 import org.qubership.atp.dataset.exception.file.FileDsNotFoundException;
 import org.qubership.atp.dataset.model.impl.file.FileData;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContextPrefetch;
 
 public class Parameter extends AbstractObjectWrapper<ParameterEntity> {
 
@@ -229,6 +230,10 @@ public class Parameter extends AbstractObjectWrapper<ParameterEntity> {
      * Get parent DS name.
      */
     public String dataReferencedDataSetName() {
+        DataSetListContextPrefetch prefetch = modelsProvider.getContextPrefetch();
+        if (prefetch != null && prefetch.containsDataSet(getDataSetReferenceId())) {
+            return prefetch.getDataSetName(getDataSetReferenceId());
+        }
         String nativeQuery = "select name from dataset where id = :ds_id";
         try {
             return (String) entityManager.createNativeQuery(nativeQuery)
@@ -27,6 +27,7 @@ import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
 import org.qubership.atp.dataset.service.jpa.model.copy.DataSetListCopyData;
 import org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.stereotype.Service;
@@ -42,9 +43,18 @@ public class DataSetListAsyncService {
     protected ModelsProvider modelsProvider;
 
     private final DataSetListSnapshotService commitEntityService;
+    private final DataSetListBulkCopyService bulkCopyService;
+    private final boolean bulkCopyEnabled;
 
-    public DataSetListAsyncService(DataSetListSnapshotService commitEntityService) {
+    /**
+     * Default constructor.
+     */
+    public DataSetListAsyncService(DataSetListSnapshotService commitEntityService,
+                                   DataSetListBulkCopyService bulkCopyService,
+                                   @Value("${atp-dataset.dsl.copy.bulk.enabled:true}") boolean bulkCopyEnabled) {
         this.commitEntityService = commitEntityService;
+        this.bulkCopyService = bulkCopyService;
+        this.bulkCopyEnabled = bulkCopyEnabled;
     }
 
     /**
@@ -57,7 +67,9 @@ public class DataSetListAsyncService {
                                                  String prevNamePattern, @Nullable UUID sagaSessionId) {
         DataSetList dataSetList = modelsProvider.getDataSetListById(dataSetListId);
         log.info("Start copy Dataset List with id {} and name {}.", dataSetListId, dataSetList.getName());
-        DataSetListCopyData duplicateData = dataSetList.duplicate(postfix, prevNamePattern, sagaSessionId);
+        DataSetListCopyData duplicateData = bulkCopyEnabled
+                ? bulkCopyService.duplicate(dataSetList, postfix, prevNamePattern, sagaSessionId)
+                : dataSetList.duplicate(postfix, prevNamePattern, sagaSessionId);
         commitEntityService.findAndCommitIfExists(duplicateData.getCopyId());
         DataSetList dataSetListCopy = duplicateData.getDataSetListCopy();
         log.info("Finish copy Dataset List with id {} and name {}. New id {} and new name {}",
@@ -0,0 +1,95 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.annotation.Nullable;
+
+import org.qubership.atp.dataset.db.DataSetListCopyRepository;
+import org.qubership.atp.dataset.db.jpa.ModelsProvider;
+import org.qubership.atp.dataset.service.direct.GridFsService;
+import org.qubership.atp.dataset.service.jpa.delegates.Attribute;
+import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
+import org.qubership.atp.dataset.service.jpa.model.copy.AttributeCopyData;
+import org.qubership.atp.dataset.service.jpa.model.copy.DataSetListBulkCopyData;
+import org.qubership.atp.dataset.service.jpa.model.copy.DataSetListCopyData;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deep copy of DSL, which writes its content by {@link DataSetListCopyRepository} batches
+ * instead of saving every copied entity, and copies GridFS files concurrently.
+ * Result is the same as of {@link DataSetList#duplicate(String, String, UUID)}.
+ */
+@Slf4j
+@Service
+public class DataSetListBulkCopyService {
+
+    private final ModelsProvider modelsProvider;
+    private final DataSetListCopyRepository copyRepository;
+    private final GridFsService gridFsService;
+
+    /**
+     * Default constructor.
+     */
+    public DataSetListBulkCopyService(ModelsProvider modelsProvider,
+                                      DataSetListCopyRepository copyRepository,
+                                      GridFsService gridFsService) {
+        this.modelsProvider = modelsProvider;
+        this.copyRepository = copyRepository;
+        this.gridFsService = gridFsService;
+    }
+
+    /**
+     * Copies a DSL with the same name using postfix or, if postfix is not specified, uses (N) postfix
+     * where N - is copy number.
+     */
+    @Transactional
+    public DataSetListCopyData duplicate(DataSetList dataSetList, @Nullable String postfix, String prevNamePattern,
+                                         @Nullable UUID sagaSessionId) {
+        long startTime = System.currentTimeMillis();
+        DataSetList copy = dataSetList.createEmptyCopy(
+                dataSetList.getCopyName(postfix, prevNamePattern), sagaSessionId);
+        DataSetListBulkCopyData bulkCopyData = copyRepository.copy(dataSetList.getId(), copy.getId());
+        // parameter copies are not committed yet, so files are saved without parameter lookup
+        gridFsService.copyAll(bulkCopyData.getFileParametersMap(), true);
+        copy.refresh();
+        log.debug("DSL {} copied to {} in {} ms: {} attributes, {} data sets, {} files", dataSetList.getId(),
+                copy.getId(), System.currentTimeMillis() - startTime, bulkCopyData.getAttributesMap().size(),
+                bulkCopyData.getDataSetsMap().size(), bulkCopyData.getFileParametersMap().size());
+        return toCopyData(copy, bulkCopyData);
+    }
+
+    private DataSetListCopyData toCopyData(DataSetList copy, DataSetListBulkCopyData bulkCopyData) {
+        Map<UUID, Attribute> attributeCopies = new HashMap<>();
+        for (Attribute attribute : modelsProvider.getAttributesByDataSetListId(copy.getId())) {
+            attributeCopies.put(attribute.getId(), attribute);
+        }
+        Map<UUID, AttributeCopyData> attributesMap = new HashMap<>();
+        bulkCopyData.getAttributesMap().forEach((attributeId, copyId) -> attributesMap.put(attributeId,
+                new AttributeCopyData(attributeCopies.get(copyId), bulkCopyData.getListValuesMap(attributeId))));
+        DataSetListCopyData copyData = new DataSetListCopyData(copy);
+        copyData.setAttributesMap(attributesMap);
+        copyData.setDataSetsMap(bulkCopyData.getDataSetsMap());
+        return copyData;
+    }
+}
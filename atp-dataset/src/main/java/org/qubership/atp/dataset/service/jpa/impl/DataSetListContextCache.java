@@ -0,0 +1,229 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.impl;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.qubership.atp.dataset.config.CacheStatisticsMetrics;
+import org.qubership.atp.dataset.db.jpa.ModelsProvider;
+import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps unevaluated DSL contexts between requests.
+ * Each entry remembers modification time of every DSL in its reference graph. Entry is checked by one query
+ * on each access, and only groups of the changed DSLs are built again, if it is possible.
+ * Entries which contain evicted data sets are dropped, expiration is a backstop for changes
+ * which don't update DSL modification time. Size of the cache is limited by total count of data sets
+ * and parameters in contexts, because one context may be thousand times larger than another.
+ * Contexts are cached detached from JPA delegates, see {@link DataSetListContext#detach()}. The cache is local
+ * to replica, its evictions are broadcast by {@link org.qubership.atp.dataset.service.direct.ClearCacheService}.
+ */
+@Slf4j
+@Service
+public class DataSetListContextCache implements MeterBinder {
+
+    public static final String CACHE_NAME = "dsl_context";
+
+    private final ModelsProvider modelsProvider;
+    private final Cache<Key, CachedContext> contexts;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Default constructor.
+     */
+    public DataSetListContextCache(ModelsProvider modelsProvider,
+                                   @Value("${atp-dataset.dsl.context.cache.max-weight:2000000}") long maximumWeight,
+                                   @Value("${atp-dataset.dsl.context.cache.expire-after-write-sec:600}")
+                                   long expireAfterWriteSec) {
+        this.modelsProvider = modelsProvider;
+        this.contexts = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Key key, CachedContext cached) -> cached.getWeight())
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSec))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CacheStatisticsMetrics.monitor(registry, CACHE_NAME, contexts);
+    }
+
+    /**
+     * Returns actual context of DSL for the columns and attribute types. Context is built by the builder
+     * if it is not cached yet, or if it can't be updated partially.
+     */
+    public DataSetListContext get(UUID dataSetListId,
+                                  List<Integer> dataSetColumns,
+                                  Collection<AttributeTypeName> attributeTypesToLoad,
+                                  Supplier<DataSetListContext> builder) {
+        Key key = new Key(dataSetListId, dataSetColumns, attributeTypesToLoad);
+        long invalidationsBeforeLoad = invalidations.get();
+        CachedContext cached = contexts.getIfPresent(key);
+        DataSetListContext context;
+        Map<UUID, Timestamp> modifiedWhen;
+        if (cached == null) {
+            context = builder.get();
+            modifiedWhen = modelsProvider.getDataSetListsModifiedWhen(context.collectDataSetListIds());
+        } else {
+            Map<UUID, Timestamp> actualModifiedWhen =
+                    modelsProvider.getDataSetListsModifiedWhen(cached.getModifiedWhen().keySet());
+            Set<UUID> changedDataSetListIds = cached.getChangedDataSetListIds(actualModifiedWhen);
+            if (changedDataSetListIds.isEmpty()) {
+                return cached.getContext();
+            }
+            context = cached.getContext().rebuildGroups(changedDataSetListIds, modelsProvider::getAttributeById);
+            if (context == null) {
+                log.debug("DSL {} context is built from scratch, changed DSLs {}", dataSetListId,
+                        changedDataSetListIds);
+                context = builder.get();
+            } else {
+                log.debug("DSL {} context is partially rebuilt, changed DSLs {}", dataSetListId,
+                        changedDataSetListIds);
+            }
+            modifiedWhen = getModifiedWhen(context.collectDataSetListIds(), actualModifiedWhen);
+        }
+        if (invalidations.get() == invalidationsBeforeLoad) {
+            contexts.put(key, new CachedContext(context.detach(), modifiedWhen, context.collectDataSetIds(),
+                    (int) Math.min(Integer.MAX_VALUE, 1 + context.countDataSetsAndParameters())));
+        }
+        return context;
+    }
+
+    /**
+     * Drops contexts which contain any of the data sets on any level.
+     * Inside transaction contexts are dropped once more after its completion, so context loaded
+     * by concurrent request before commit isn't kept.
+     */
+    public void evictByDataSetIds(Collection<UUID> dataSetIds) {
+        Set<UUID> evictedDataSetIds = new HashSet<>(dataSetIds);
+        evict(evictedDataSetIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(evictedDataSetIds);
+                }
+            });
+        }
+    }
+
+    /**
+     * Drops contexts which contain any of the data sets on any level, without repeating it after
+     * transaction completion.
+     */
+    public void evictByDataSetIdsNow(Collection<UUID> dataSetIds) {
+        evict(new HashSet<>(dataSetIds));
+    }
+
+    /**
+     * Drops contexts which contain any of the DSLs on any level, without repeating it after
+     * transaction completion.
+     */
+    public void evictByDataSetListIdsNow(Collection<UUID> dataSetListIds) {
+        Set<UUID> evictedDataSetListIds = new HashSet<>(dataSetListIds);
+        invalidations.incrementAndGet();
+        contexts.asMap().values().removeIf(cached ->
+                !Collections.disjoint(cached.getModifiedWhen().keySet(), evictedDataSetListIds));
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        contexts.invalidateAll();
+    }
+
+    private void evict(Set<UUID> dataSetIds) {
+        invalidations.incrementAndGet();
+        contexts.asMap().values().removeIf(cached -> !Collections.disjoint(cached.getDataSetIds(), dataSetIds));
+    }
+
+    private Map<UUID, Timestamp> getModifiedWhen(Set<UUID> dataSetListIds, Map<UUID, Timestamp> knownModifiedWhen) {
+        Map<UUID, Timestamp> result = new HashMap<>();
+        Set<UUID> unknownDataSetListIds = new HashSet<>();
+        for (UUID dataSetListId : dataSetListIds) {
+            if (knownModifiedWhen.containsKey(dataSetListId)) {
+                result.put(dataSetListId, knownModifiedWhen.get(dataSetListId));
+            } else {
+                unknownDataSetListIds.add(dataSetListId);
+            }
+        }
+        result.putAll(modelsProvider.getDataSetListsModifiedWhen(unknownDataSetListIds));
+        return result;
+    }
+
+    @EqualsAndHashCode
+    private static class Key {
+        private final UUID dataSetListId;
+        private final List<Integer> dataSetColumns;
+        private final Set<AttributeTypeName> attributeTypes;
+
+        Key(UUID dataSetListId, List<Integer> dataSetColumns, Collection<AttributeTypeName> attributeTypes) {
+            this.dataSetListId = dataSetListId;
+            this.dataSetColumns = List.copyOf(dataSetColumns);
+            this.attributeTypes = attributeTypes.isEmpty()
+                    ? EnumSet.noneOf(AttributeTypeName.class)
+                    : EnumSet.copyOf(attributeTypes);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedContext {
+        private final DataSetListContext context;
+        private final Map<UUID, Timestamp> modifiedWhen;
+        private final Set<UUID> dataSetIds;
+        private final int weight;
+
+        Set<UUID> getChangedDataSetListIds(Map<UUID, Timestamp> actualModifiedWhen) {
+            Set<UUID> result = new HashSet<>();
+            modifiedWhen.forEach((dataSetListId, cachedModifiedWhen) -> {
+                if (!actualModifiedWhen.containsKey(dataSetListId)
+                        || !Objects.equals(cachedModifiedWhen, actualModifiedWhen.get(dataSetListId))) {
+                    result.add(dataSetListId);
+                }
+            });
+            return result;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.impl;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.qubership.atp.dataset.db.jpa.ModelsProvider;
+import org.qubership.atp.dataset.db.jpa.entities.AttributeEntity;
+import org.qubership.atp.dataset.db.jpa.entities.AttributeKeyEntity;
+import org.qubership.atp.dataset.db.jpa.entities.DataSetEntity;
+import org.qubership.atp.dataset.db.jpa.entities.DataSetListEntity;
+import org.qubership.atp.dataset.db.jpa.entities.ParameterEntity;
+import org.qubership.atp.dataset.service.jpa.delegates.AttributeKey;
+import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
+import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
+import org.qubership.atp.dataset.service.jpa.model.DataSetColumnIndex;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContextPrefetch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds full {@link DataSetListContext} from data, fetched in bulk before construction.
+ * Hierarchy is walked level by level: for each level DSLs with attributes, data sets with labels and
+ * parameters, overlaps with their parameters and DSL reference attributes with parameters are loaded
+ * by a few set based queries, so the context constructors find entities in persistence context
+ * and overlaps in {@link DataSetListContextPrefetch} instead of querying them one by one.
+ */
+@Slf4j
+@Service
+public class DataSetListContextLoader {
+
+    @Autowired
+    protected ModelsProvider modelsProvider;
+    @Value("${atp-dataset.dsl.context.prefetch.enabled:true}")
+    protected boolean prefetchEnabled;
+
+    /**
+     * New DSL context for data set columns with the whole hierarchy.
+     */
+    public DataSetListContext load(DataSetList dataSetList,
+                                   List<Integer> dataSetColumns,
+                                   List<AttributeTypeName> attributeTypeNames) {
+        if (!prefetchEnabled) {
+            return new DataSetListContext(dataSetList, dataSetColumns, attributeTypeNames, null);
+        }
+        modelsProvider.setContextPrefetch(prefetch(dataSetList, dataSetColumns));
+        try {
+            return new DataSetListContext(dataSetList, dataSetColumns, attributeTypeNames, null);
+        } finally {
+            modelsProvider.removeContextPrefetch();
+        }
+    }
+
+    /**
+     * Loads reference closure of DSL for data set columns.
+     */
+    public DataSetListContextPrefetch prefetch(DataSetList dataSetList, List<Integer> dataSetColumns) {
+        DataSetListContextPrefetch prefetch = new DataSetListContextPrefetch();
+        DataSetColumnIndex columnIndex = dataSetList.getDataSetColumnIndex();
+        Set<UUID> dataSetListIds = new HashSet<>();
+        dataSetListIds.add(dataSetList.getId());
+        Set<UUID> dataSetIds = new HashSet<>();
+        for (Integer dataSetColumn : dataSetColumns) {
+            UUID dataSetId = columnIndex.getDataSetId(dataSetColumn);
+            if (dataSetId != null) {
+                dataSetIds.add(dataSetId);
+            }
+        }
+        Set<UUID> loadedDataSetListIds = new HashSet<>();
+        Set<UUID> loadedDataSetIds = new HashSet<>();
+        Set<UUID> referenceAttributeIds = new HashSet<>();
+        int level = 0;
+        while (!dataSetListIds.isEmpty() || !dataSetIds.isEmpty()) {
+            loadedDataSetListIds.addAll(dataSetListIds);
+            loadedDataSetIds.addAll(dataSetIds);
+            Set<UUID> nextDataSetListIds = new HashSet<>();
+            Set<UUID> nextDataSetIds = new HashSet<>();
+            Set<UUID> levelReferenceAttributeIds = loadDataSetLists(dataSetListIds, nextDataSetListIds);
+            loadReferenceAttributes(levelReferenceAttributeIds);
+            referenceAttributeIds.addAll(levelReferenceAttributeIds);
+            loadDataSets(dataSetIds, referenceAttributeIds, prefetch, nextDataSetIds);
+            nextDataSetListIds.removeAll(loadedDataSetListIds);
+            nextDataSetIds.removeAll(loadedDataSetIds);
+            dataSetListIds = nextDataSetListIds;
+            dataSetIds = nextDataSetIds;
+            level++;
+        }
+        log.debug("Prefetched {} DSLs and {} data sets on {} levels for DSL {}",
+                loadedDataSetListIds.size(), loadedDataSetIds.size(), level, dataSetList.getId());
+        return prefetch;
+    }
+
+    /**
+     * Loads DSLs with attributes, returns ids of DSL reference attributes.
+     */
+    private Set<UUID> loadDataSetLists(Set<UUID> dataSetListIds, Set<UUID> referencedDataSetListIds) {
+        Set<UUID> referenceAttributeIds = new HashSet<>();
+        if (dataSetListIds.isEmpty()) {
+            return referenceAttributeIds;
+        }
+        for (DataSetListEntity dataSetList : modelsProvider.getDataSetListsWithAttributes(dataSetListIds)) {
+            for (AttributeEntity attribute : dataSetList.getAttributes()) {
+                if (AttributeTypeName.DSL.equals(AttributeTypeName.getTypeById(attribute.getAttributeTypeId()))
+                        && attribute.getTypeDataSetListId() != null) {
+                    referenceAttributeIds.add(attribute.getId());
+                    referencedDataSetListIds.add(attribute.getTypeDataSetListId());
+                }
+            }
+        }
+        return referenceAttributeIds;
+    }
+
+    /**
+     * Loads data sets with parameters and overlaps. Data sets, referenced by DSL parameters and overlaps,
+     * go to the next level.
+     */
+    private void loadDataSets(Set<UUID> dataSetIds, Set<UUID> referenceAttributeIds,
+                              DataSetListContextPrefetch prefetch, Set<UUID> referencedDataSetIds) {
+        if (dataSetIds.isEmpty()) {
+            return;
+        }
+        for (DataSetEntity dataSet : modelsProvider.getDataSetsWithParameters(dataSetIds)) {
+            prefetch.addDataSet(dataSet.getId(), dataSet.getName());
+            for (ParameterEntity parameter : dataSet.getParameters()) {
+                if (parameter.getDataSetReferenceId() != null
+                        && referenceAttributeIds.contains(parameter.getAttribute().getId())) {
+                    referencedDataSetIds.add(parameter.getDataSetReferenceId());
+                }
+            }
+        }
+        List<AttributeKeyEntity> attributeKeys = modelsProvider.getAttributeKeysByDataSetIds(dataSetIds);
+        if (attributeKeys.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<ParameterEntity>> overlapParameters = new HashMap<>();
+        List<UUID> attributeKeyIds = new LinkedList<>();
+        attributeKeys.forEach(attributeKey -> attributeKeyIds.add(attributeKey.getId()));
+        for (ParameterEntity parameter : modelsProvider.getParametersByAttributeIds(attributeKeyIds)) {
+            overlapParameters.computeIfAbsent(parameter.getAttribute().getId(), id -> new LinkedList<>())
+                    .add(parameter);
+            if (parameter.getDataSetReferenceId() != null) {
+                referencedDataSetIds.add(parameter.getDataSetReferenceId());
+            }
+        }
+        for (AttributeKeyEntity attributeKey : attributeKeys) {
+            List<ParameterEntity> parameters = overlapParameters.getOrDefault(attributeKey.getId(), List.of());
+            AttributeKey overlap = parameters.size() == 1
+                    ? new AttributeKey(attributeKey, modelsProvider.getParameter(parameters.get(0)))
+                    : new AttributeKey(attributeKey);
+            prefetch.addAttributeKey(
+                    attributeKey.getDataSetList().getId(), attributeKey.getDataSet().getId(), overlap
+            );
+        }
+    }
+
+    /**
+     * Initializes parameters of DSL reference attributes, which groups match with data sets of upper level.
+     */
+    private void loadReferenceAttributes(Set<UUID> referenceAttributeIds) {
+        if (!referenceAttributeIds.isEmpty()) {
+            modelsProvider.getAttributesWithParameters(referenceAttributeIds);
+        }
+    }
+}
@@ -16,9 +16,13 @@
 
 package org.qubership.atp.dataset.service.jpa.impl;
 
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.qubership.atp.dataset.db.jpa.ModelsProvider;
@@ -36,19 +40,27 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Service
 public class DataSetListContextService {
-    protected ThreadLocal<List<DataSetListContext>> threadLocalValue = new ThreadLocal<>();
+    protected ThreadLocal<Map<UUID, List<LocalContext>>> threadLocalValue = new ThreadLocal<>();
     @Autowired
     protected ModelsProvider modelsProvider;
+    @Autowired
+    protected DataSetListContextCache dataSetListContextCache;
+    @Autowired
+    protected DataSetListContextLoader dataSetListContextLoader;
 
+    /**
+     * Context of the current request. Lazy loading by path needs attributes of groups, so detached contexts
+     * taken from {@link DataSetListContextCache} are skipped for it.
+     */
     private DataSetListContext getCachedDataSetListContext(
-            UUID dataSetListId, List<Integer> loadedColumns, List<AttributeTypeName> attributeTypesToLoad) {
-        List<DataSetListContext> dataSetListContexts = threadLocalValue.get();
+            UUID dataSetListId, List<Integer> loadedColumns, List<AttributeTypeName> attributeTypesToLoad,
+            List<UUID> pathRestrictions) {
+        Map<UUID, List<LocalContext>> dataSetListContexts = threadLocalValue.get();
         if (dataSetListContexts != null) {
-            for (DataSetListContext dataSetListContext : dataSetListContexts) {
-                if (dataSetListContext.getDataSetListId().equals(dataSetListId)
-                    && new HashSet<>(dataSetListContext.getLoadedColumns()).containsAll(loadedColumns)
-                    && new HashSet<>(dataSetListContext.getLoadedAttributes()).containsAll(attributeTypesToLoad)) {
-                        return dataSetListContext;
+            for (LocalContext localContext : dataSetListContexts.getOrDefault(dataSetListId, List.of())) {
+                if (localContext.contains(loadedColumns, attributeTypesToLoad)
+                        && (pathRestrictions == null || !localContext.context.isDetached())) {
+                    return localContext.context;
                 }
             }
         }
@@ -65,16 +77,15 @@ public class DataSetListContextService {
                                                     List<Integer> dataSetColumns,
                                                     List<AttributeTypeName> attributeTypesToLoad,
                                                     List<UUID> pathRestrictions, Pageable pageable) {
-        DataSetList dataSetList = modelsProvider.getDataSetListById(dataSetListId);
-        if (dataSetList != null) {
+        if (pageable != null) {
             DataSetListContext dataSetListContext = getCachedDataSetListContext(
-                    dataSetListId, dataSetColumns, attributeTypesToLoad
+                    dataSetListId, dataSetColumns, attributeTypesToLoad, pathRestrictions
             );
             if (dataSetListContext != null) {
                 return dataSetListContext;
             }
             DataSetListContext newContext = new DataSetListContext(
-                    dataSetList,
+                    getDataSetList(dataSetListId),
                     dataSetColumns,
                     attributeTypesToLoad,
                     pathRestrictions,
@@ -85,51 +96,88 @@ public class DataSetListContextService {
             }
             return newContext;
         }
-        log.error("Data Set List not found {}", dataSetListId);
-        throw new DataSetListNotFoundException();
+        return getDataSetListContext(dataSetListId, dataSetColumns, attributeTypesToLoad, pathRestrictions);
     }
 
     /**
      * Returns unevaluated DSL structure.
      * pathRestrictions - Used for DSL lazy loading performance. Shows which groups should be loaded,
      * and the last node will be fully loaded.
+     * Full structure is taken from {@link DataSetListContextCache} or built by {@link DataSetListContextLoader}.
      * */
     @Transactional(readOnly = true)
     public DataSetListContext getDataSetListContext(UUID dataSetListId,
                                                     List<Integer> dataSetColumns,
                                                     List<AttributeTypeName> attributeTypesToLoad,
                                                     List<UUID> pathRestrictions) {
-        DataSetList dataSetList = modelsProvider.getDataSetListById(dataSetListId);
-        if (dataSetList != null) {
-            DataSetListContext dataSetListContext = getCachedDataSetListContext(
-                    dataSetListId, dataSetColumns, attributeTypesToLoad
-            );
-            if (dataSetListContext != null) {
-                return dataSetListContext;
-            }
-            DataSetListContext newContext = new DataSetListContext(
-                    dataSetList,
+        DataSetListContext dataSetListContext = getCachedDataSetListContext(
+                dataSetListId, dataSetColumns, attributeTypesToLoad, pathRestrictions
+        );
+        if (dataSetListContext != null) {
+            return dataSetListContext;
+        }
+        if (pathRestrictions != null) {
+            return new DataSetListContext(
+                    getDataSetList(dataSetListId),
                     dataSetColumns,
                     attributeTypesToLoad,
                     pathRestrictions
             );
-            if (pathRestrictions == null) {
-                addNewContext(newContext);
-            }
-            return newContext;
         }
-        log.error("Data Set List not found {}", dataSetListId);
-        throw new DataSetListNotFoundException();
+        DataSetListContext newContext = dataSetListContextCache.get(
+                dataSetListId,
+                dataSetColumns,
+                attributeTypesToLoad,
+                () -> dataSetListContextLoader.load(
+                        getDataSetList(dataSetListId),
+                        dataSetColumns,
+                        attributeTypesToLoad
+                )
+        );
+        addNewContext(newContext);
+        return newContext;
+    }
+
+    private DataSetList getDataSetList(UUID dataSetListId) {
+        DataSetList dataSetList = modelsProvider.getDataSetListById(dataSetListId);
+        if (dataSetList == null) {
+            log.error("Data Set List not found {}", dataSetListId);
+            throw new DataSetListNotFoundException();
+        }
+        return dataSetList;
     }
 
     private void addNewContext(DataSetListContext newContext) {
         if (threadLocalValue.get() == null) {
-            threadLocalValue.set(new LinkedList<>());
+            threadLocalValue.set(new HashMap<>());
         }
-        threadLocalValue.get().add(newContext);
+        threadLocalValue.get()
+                .computeIfAbsent(newContext.getDataSetListId(), dataSetListId -> new LinkedList<>())
+                .add(new LocalContext(newContext));
     }
 
     public void dropLocalThreadCache() {
         threadLocalValue.remove();
     }
+
+    /**
+     * Context of the current request with loaded columns and attribute types prepared for lookups.
+     */
+    protected static class LocalContext {
+        private final DataSetListContext context;
+        private final Set<Integer> loadedColumns;
+        private final Set<AttributeTypeName> loadedAttributes;
+
+        LocalContext(DataSetListContext context) {
+            this.context = context;
+            this.loadedColumns = new HashSet<>(context.getLoadedColumns());
+            this.loadedAttributes = context.getLoadedAttributes().isEmpty()
+                    ? EnumSet.noneOf(AttributeTypeName.class)
+                    : EnumSet.copyOf(context.getLoadedAttributes());
+        }
+
+        boolean contains(List<Integer> columns, List<AttributeTypeName> attributeTypes) {
+            return loadedColumns.containsAll(columns) && loadedAttributes.containsAll(attributeTypes);
+        }
+    }
 }
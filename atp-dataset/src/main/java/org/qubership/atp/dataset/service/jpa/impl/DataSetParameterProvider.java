@@ -36,9 +36,6 @@ import org.qubership.atp.dataset.service.jpa.model.tree.params.ReferenceDataSetL
 import org.qubership.atp.dataset.service.jpa.model.tree.params.TextParameter;
 import org.qubership.atp.dataset.service.jpa.model.tree.params.macros.ParameterPositionContext;
 import org.qubership.atp.macros.core.calculator.MacrosCalculator;
-import org.qubership.atp.macros.core.client.MacrosFeignClient;
-import org.qubership.atp.macros.core.clients.api.dto.macros.MacrosDto;
-import org.qubership.atp.macros.core.converter.MacrosDtoConvertService;
 import org.qubership.atp.macros.core.model.Macros;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
@@ -60,7 +57,7 @@ public class DataSetParameterProvider {
     @Autowired
     protected ModelsProvider modelsProvider;
     @Autowired
-    protected MacrosFeignClient macrosFeignClient;
+    protected MacrosDefinitionCacheService macrosDefinitionCacheService;
     @Autowired
     @Getter
     protected MacrosCalculator macrosCalculator;
@@ -214,8 +211,6 @@ public class DataSetParameterProvider {
      * Get model macros.
      */
     public List<Macros> getAtpMacros(UUID visibilityAreaId) {
-        List<MacrosDto> macrosDtoList = macrosFeignClient
-                .findAllByProject(visibilityAreaId).getBody();
-        return new MacrosDtoConvertService().convertList(macrosDtoList, Macros.class);
+        return macrosDefinitionCacheService.getAllMacros(visibilityAreaId);
     }
 }
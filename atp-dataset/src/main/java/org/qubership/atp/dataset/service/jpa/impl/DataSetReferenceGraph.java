@@ -0,0 +1,396 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.impl;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.qubership.atp.dataset.db.dto.ReferenceEdgeResponse;
+import org.qubership.atp.dataset.db.dto.ReferenceTargetResponse;
+import org.qubership.atp.dataset.db.jpa.ModelsProvider;
+import org.qubership.atp.dataset.exception.dataset.DataSetNotFoundException;
+import org.qubership.atp.dataset.exception.datasetlist.DataSetListNotFoundException;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
+import org.qubership.atp.dataset.service.direct.impl.CacheEvictionBroadcast;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps reverse references between DSLs and between data sets, so everything affected by a change
+ * is collected in memory instead of a query per reference level.
+ * Graph of a project holds references to its DSLs and data sets from any project, it's loaded by two queries
+ * on first use. References of a DSL and its data sets are reloaded after commit of each transaction which
+ * updates modification time of the DSL, and other replicas reload them on broadcast message. The periodic check replaces graphs which differ
+ * from database, and expiration is a backstop for changes which don't pass through the update methods.
+ */
+@Slf4j
+@Service
+public class DataSetReferenceGraph {
+
+    public static final String GRAPH_PROJECTS = "atp.dataset.reference.graph.projects";
+    public static final String GRAPH_EDGES = "atp.dataset.reference.graph.edges";
+    public static final String GRAPH_INCONSISTENCIES = "atp.dataset.reference.graph.inconsistencies";
+
+    static final String DATA_SET_LISTS = "reference_graph.data_set_lists";
+    static final String DATA_SETS = "reference_graph.data_sets";
+
+    private static final String TYPE_TAG = "type";
+
+    private final ModelsProvider modelsProvider;
+    private final VisibilityAreaResolverService visibilityAreaResolverService;
+    private final CacheEvictionBroadcast broadcast;
+    private final Cache<UUID, ProjectGraph> graphs;
+    private final Counter inconsistencies;
+
+    /**
+     * Default constructor.
+     */
+    @Autowired
+    public DataSetReferenceGraph(ModelsProvider modelsProvider,
+                                 VisibilityAreaResolverService visibilityAreaResolverService,
+                                 CacheEvictionBroadcast broadcast,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${atp-dataset.reference.graph.max-size:1000}") long maximumSize,
+                                 @Value("${atp-dataset.reference.graph.expire-after-write-sec:3600}")
+                                 long expireAfterWriteSec) {
+        this.modelsProvider = modelsProvider;
+        this.visibilityAreaResolverService = visibilityAreaResolverService;
+        this.broadcast = broadcast;
+        this.graphs = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSec))
+                .build();
+        broadcast.subscribe(DATA_SET_LISTS, this::reloadDataSetLists);
+        broadcast.subscribe(DATA_SETS, this::reloadDataSets);
+        Gauge.builder(GRAPH_PROJECTS, graphs, Cache::estimatedSize)
+                .description("Number of projects with loaded reference graph")
+                .register(meterRegistry);
+        registerEdgesGauge(meterRegistry, "dsl", graph -> graph.dataSetLists.getEdgeCount());
+        registerEdgesGauge(meterRegistry, "ds", graph -> graph.dataSets.getEdgeCount());
+        this.inconsistencies = Counter.builder(GRAPH_INCONSISTENCIES)
+                .description("Number of reference graphs replaced by consistency check")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns DSL and all DSLs which reference it directly or through other DSLs.
+     */
+    public Set<UUID> collectReferencingDataSetListIds(UUID dataSetListId) {
+        return collectReferencing(dataSetListId, id -> {
+            try {
+                return getGraph(visibilityAreaResolverService.getByDataSetListId(id)).dataSetLists;
+            } catch (DataSetListNotFoundException e) {
+                log.debug("DSL {} is not found, referencing DSLs aren't collected", id);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Returns data set and all data sets which reference it directly or through other data sets.
+     */
+    public Set<UUID> collectReferencingDataSetIds(UUID dataSetId) {
+        return collectReferencing(dataSetId, id -> {
+            try {
+                return getGraph(visibilityAreaResolverService.getByDataSetId(id)).dataSets;
+            } catch (DataSetNotFoundException | DataSetListNotFoundException e) {
+                log.debug("Data set {} is not found, referencing data sets aren't collected", id);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Reloads DSLs referenced by attributes of the DSL and data sets referenced by parameters of its data sets
+     * after commit, on all replicas. It's called on every modification of the DSL.
+     */
+    public void updateDataSetList(UUID dataSetListId) {
+        PendingUpdates pending = getPendingUpdates();
+        if (pending == null) {
+            reloadDataSetLists(Set.of(dataSetListId));
+            broadcast.publish(DATA_SET_LISTS, Set.of(dataSetListId));
+        } else {
+            pending.dataSetListIds.add(dataSetListId);
+        }
+    }
+
+    /**
+     * Reloads data sets referenced by parameters of the data set after commit, on all replicas.
+     */
+    public void updateDataSet(UUID dataSetId) {
+        PendingUpdates pending = getPendingUpdates();
+        if (pending == null) {
+            reloadDataSets(Set.of(dataSetId));
+            broadcast.publish(DATA_SETS, Set.of(dataSetId));
+        } else {
+            pending.dataSetIds.add(dataSetId);
+        }
+    }
+
+    /**
+     * Compares loaded graphs with database and replaces divergent ones. Graph updated during the check
+     * is skipped till the next run, because loaded references may be older than the update.
+     */
+    @Scheduled(fixedDelayString = "${atp-dataset.reference.graph.check.delay-ms:900000}",
+            initialDelayString = "${atp-dataset.reference.graph.check.delay-ms:900000}")
+    public void checkConsistency() {
+        for (Map.Entry<UUID, ProjectGraph> entry : graphs.asMap().entrySet()) {
+            ProjectGraph graph = entry.getValue();
+            long modifications = graph.getModifications();
+            ProjectGraph actual = load(entry.getKey());
+            if (graph.getModifications() != modifications || graph.hasSameReferences(actual)) {
+                continue;
+            }
+            log.warn("Reference graph of project {} differs from database and is replaced", entry.getKey());
+            inconsistencies.increment();
+            graphs.asMap().replace(entry.getKey(), graph, actual);
+        }
+    }
+
+    private void reloadDataSetLists(Set<UUID> dataSetListIds) {
+        if (graphs.asMap().isEmpty()) {
+            return;
+        }
+        for (UUID dataSetListId : dataSetListIds) {
+            replaceReferences(Set.of(dataSetListId), modelsProvider.getReferencedDataSetLists(dataSetListId),
+                    graph -> graph.dataSetLists);
+            replaceReferences(new HashSet<>(modelsProvider.getDataSetsIdsByDataSetListId(dataSetListId)),
+                    modelsProvider.getDataSetReferencesFromDataSetList(dataSetListId), graph -> graph.dataSets);
+        }
+    }
+
+    private void reloadDataSets(Set<UUID> dataSetIds) {
+        if (graphs.asMap().isEmpty()) {
+            return;
+        }
+        for (UUID dataSetId : dataSetIds) {
+            replaceReferences(Set.of(dataSetId), modelsProvider.getReferencedDataSets(dataSetId),
+                    graph -> graph.dataSets);
+        }
+    }
+
+    /**
+     * References of the sources are split by project of the referenced entity, each loaded graph keeps its part.
+     */
+    private void replaceReferences(Set<UUID> sourceIds, List<ReferenceTargetResponse> references,
+                                   Function<ProjectGraph, ReferenceIndex> index) {
+        Map<UUID, Map<UUID, Set<UUID>>> targetsByProject = new HashMap<>();
+        for (ReferenceTargetResponse reference : references) {
+            targetsByProject.computeIfAbsent(reference.getVisibilityAreaId(), id -> new HashMap<>())
+                    .computeIfAbsent(reference.getSourceId(), id -> new HashSet<>())
+                    .add(reference.getTargetId());
+        }
+        graphs.asMap().forEach((projectId, graph) -> {
+            Map<UUID, Set<UUID>> targets = targetsByProject.getOrDefault(projectId, Map.of());
+            for (UUID sourceId : sourceIds) {
+                index.apply(graph).replaceReferences(sourceId, targets.getOrDefault(sourceId, Set.of()));
+            }
+        });
+    }
+
+    private Set<UUID> collectReferencing(UUID id, Function<UUID, ReferenceIndex> indexOf) {
+        Set<UUID> result = new HashSet<>();
+        result.add(id);
+        Deque<UUID> queue = new ArrayDeque<>();
+        queue.add(id);
+        while (!queue.isEmpty()) {
+            UUID targetId = queue.poll();
+            // referencing entities are in the graph of the project of the referenced one
+            ReferenceIndex index = indexOf.apply(targetId);
+            if (index == null) {
+                continue;
+            }
+            for (UUID referencing : index.getReferencing(targetId)) {
+                if (result.add(referencing)) {
+                    queue.add(referencing);
+                }
+            }
+        }
+        return result;
+    }
+
+    private ProjectGraph getGraph(UUID projectId) {
+        return graphs.get(projectId, this::load);
+    }
+
+    private ProjectGraph load(UUID projectId) {
+        ProjectGraph graph = new ProjectGraph(
+                new ReferenceIndex(modelsProvider.getDataSetListReferencesToVisibilityAreaId(projectId)),
+                new ReferenceIndex(modelsProvider.getDataSetReferencesToVisibilityAreaId(projectId)));
+        log.debug("Reference graph of project {} is loaded: {} DSL and {} data set references",
+                projectId, graph.dataSetLists.getEdgeCount(), graph.dataSets.getEdgeCount());
+        return graph;
+    }
+
+    /**
+     * Returns updates of the current transaction, they are created and registered on first call.
+     * Returns null outside of transaction.
+     */
+    private PendingUpdates getPendingUpdates() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        PendingUpdates pending = (PendingUpdates) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingUpdates();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private void registerEdgesGauge(MeterRegistry meterRegistry, String type, ToLongFunction<ProjectGraph> edges) {
+        Gauge.builder(GRAPH_EDGES, graphs,
+                        cache -> cache.asMap().values().stream().mapToLong(edges).sum())
+                .description("Number of references kept in reference graphs")
+                .tag(TYPE_TAG, type)
+                .register(meterRegistry);
+    }
+
+    /**
+     * DSLs and data sets changed during transaction. Rolled back changes are not applied.
+     */
+    private class PendingUpdates implements TransactionSynchronization {
+
+        private final Set<UUID> dataSetListIds = new HashSet<>();
+        private final Set<UUID> dataSetIds = new HashSet<>();
+
+        @Override
+        public void afterCommit() {
+            reloadDataSetLists(dataSetListIds);
+            reloadDataSets(dataSetIds);
+            broadcast.publish(DATA_SET_LISTS, dataSetListIds);
+            broadcast.publish(DATA_SETS, dataSetIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DataSetReferenceGraph.this);
+        }
+    }
+
+    private static final class ProjectGraph {
+
+        private final ReferenceIndex dataSetLists;
+        private final ReferenceIndex dataSets;
+
+        private ProjectGraph(ReferenceIndex dataSetLists, ReferenceIndex dataSets) {
+            this.dataSetLists = dataSetLists;
+            this.dataSets = dataSets;
+        }
+
+        private long getModifications() {
+            return dataSetLists.getModifications() + dataSets.getModifications();
+        }
+
+        private boolean hasSameReferences(ProjectGraph other) {
+            return dataSetLists.hasSameReferences(other.dataSetLists) && dataSets.hasSameReferences(other.dataSets);
+        }
+    }
+
+    /**
+     * References of one kind to entities of one project, in both directions.
+     * Updates are serialized, lookups don't take the lock.
+     */
+    static final class ReferenceIndex {
+
+        private final Map<UUID, Set<UUID>> references = new ConcurrentHashMap<>();
+        private final Map<UUID, Set<UUID>> referencedBy = new ConcurrentHashMap<>();
+        private final AtomicLong edgeCount = new AtomicLong();
+        private final AtomicLong modifications = new AtomicLong();
+
+        ReferenceIndex(Collection<ReferenceEdgeResponse> edges) {
+            for (ReferenceEdgeResponse edge : edges) {
+                if (references.computeIfAbsent(edge.getSourceId(), newSet()).add(edge.getTargetId())) {
+                    referencedBy.computeIfAbsent(edge.getTargetId(), newSet()).add(edge.getSourceId());
+                    edgeCount.incrementAndGet();
+                }
+            }
+        }
+
+        Set<UUID> getReferencing(UUID targetId) {
+            return referencedBy.getOrDefault(targetId, Set.of());
+        }
+
+        synchronized void replaceReferences(UUID sourceId, Set<UUID> actual) {
+            Set<UUID> current = references.getOrDefault(sourceId, Set.of());
+            if (current.equals(actual)) {
+                return;
+            }
+            modifications.incrementAndGet();
+            for (UUID targetId : current) {
+                if (!actual.contains(targetId)) {
+                    referencedBy.computeIfPresent(targetId, (id, sources) -> {
+                        sources.remove(sourceId);
+                        return sources.isEmpty() ? null : sources;
+                    });
+                }
+            }
+            for (UUID targetId : actual) {
+                referencedBy.computeIfAbsent(targetId, newSet()).add(sourceId);
+            }
+            edgeCount.addAndGet(actual.size() - current.size());
+            if (actual.isEmpty()) {
+                references.remove(sourceId);
+            } else {
+                Set<UUID> updated = ConcurrentHashMap.newKeySet();
+                updated.addAll(actual);
+                references.put(sourceId, updated);
+            }
+        }
+
+        long getEdgeCount() {
+            return edgeCount.get();
+        }
+
+        long getModifications() {
+            return modifications.get();
+        }
+
+        boolean hasSameReferences(ReferenceIndex other) {
+            return Objects.equals(references, other.references);
+        }
+
+        private static Function<UUID, Set<UUID>> newSet() {
+            return id -> ConcurrentHashMap.newKeySet();
+        }
+    }
+}
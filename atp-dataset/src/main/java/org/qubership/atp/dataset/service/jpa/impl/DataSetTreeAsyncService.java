@@ -0,0 +1,76 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Future;
+
+import org.qubership.atp.dataset.service.jpa.ContextType;
+import org.qubership.atp.dataset.service.jpa.impl.macro.MacroContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetContext;
+import org.qubership.atp.dataset.service.jpa.model.tree.ds.DataSetTree;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.AsyncResult;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evaluates copies of DS tree for bulk ATP requests on a bounded executor.
+ * Macros are evaluated during serialization, so each copy is serialized in the worker thread with its own
+ * {@link MacroContext}. Thread local caches of the worker are dropped by the executor after each copy,
+ * and kept when the copy is run by the requesting thread.
+ */
+@Service
+@Slf4j
+public class DataSetTreeAsyncService {
+
+    static final byte[] EMPTY_TREE = "{}".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    protected DataSetParameterProvider dataSetParameterProvider;
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Builds and serializes DS tree copy.
+     */
+    @Async("atpBulkEvaluationExecutor")
+    @Transactional(readOnly = true)
+    public Future<byte[]> serializeTreeCopy(DataSetContext rootDataSet,
+                                            boolean evaluate,
+                                            MacroContext macroContext,
+                                            ContextType contextType) {
+        try {
+            DataSetTree tree = new DataSetTree(
+                    rootDataSet,
+                    rootDataSet.getColumnNumber(),
+                    evaluate,
+                    macroContext,
+                    macroContext.getDataSetListContext(),
+                    dataSetParameterProvider,
+                    contextType
+            );
+            return new AsyncResult<>(objectMapper.writeValueAsBytes(tree));
+        } catch (Exception e) {
+            log.error("Cannot write tree", e);
+            return new AsyncResult<>(EMPTY_TREE);
+        }
+    }
+}
@@ -28,7 +28,6 @@ import java.util.stream.Collectors;
 
 import jakarta.annotation.Nullable;
 
-import org.qubership.atp.dataset.constants.CacheEnum;
 import org.qubership.atp.dataset.db.jpa.ModelsProvider;
 import org.qubership.atp.dataset.db.jpa.entities.ListValueEntity;
 import org.qubership.atp.dataset.db.jpa.repositories.JpaListValueRepository;
@@ -37,6 +36,7 @@ import org.qubership.atp.dataset.exception.attribute.AttributeExistsException;
 import org.qubership.atp.dataset.exception.attribute.AttributeNotFoundException;
 import org.qubership.atp.dataset.exception.attribute.AttributePositionException;
 import org.qubership.atp.dataset.service.direct.DateAuditorService;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.jpa.DataSetServiceException;
 import org.qubership.atp.dataset.service.jpa.JpaAttributeService;
 import org.qubership.atp.dataset.service.jpa.delegates.AbstractObjectWrapper;
@@ -47,7 +47,6 @@ import org.qubership.atp.dataset.service.jpa.delegates.ListValue;
 import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
 import org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -67,6 +66,8 @@ public class JpaAttributeServiceImpl implements JpaAttributeService {
     protected DataSetListSnapshotService dataSetListSnapshotService;
     @Autowired
     protected DateAuditorService dateAuditorService;
+    @Autowired
+    protected VisibilityAreaResolverService visibilityAreaResolverService;
 
     private final Map<UUID, AttributeKeyIdsDbUpdate> foundedAttributeKeyIdAndDatasetIdUpdate = new HashMap<>();
 
@@ -80,7 +81,6 @@ public class JpaAttributeServiceImpl implements JpaAttributeService {
 
     @Override
     @Transactional(rollbackFor = {AttributeExistsException.class})
-    @CacheEvict(value = CacheEnum.Constants.DATASET_LIST_CONTEXT_CACHE, key = "#dataSetListId")
     public Attribute create(String name,
                             AttributeTypeName type,
                             UUID dataSetListId,
@@ -139,6 +139,7 @@ public class JpaAttributeServiceImpl implements JpaAttributeService {
         Attribute attribute = modelsProvider.getAttributeById(id);
         if (attribute != null) {
             attribute.remove();
+            visibilityAreaResolverService.evictEntity(id);
         }
     }
 
@@ -35,6 +35,7 @@ import jakarta.annotation.Nullable;
 import org.qubership.atp.dataset.db.jpa.ModelsProvider;
 import org.qubership.atp.dataset.exception.attribute.AttributeNotFoundException;
 import org.qubership.atp.dataset.exception.datasetlist.DataSetListNotFoundException;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.jpa.DataSetServiceException;
 import org.qubership.atp.dataset.service.jpa.JpaDataSetListService;
 import org.qubership.atp.dataset.service.jpa.delegates.Attribute;
@@ -68,6 +69,8 @@ public class JpaDataSetListServiceImpl implements JpaDataSetListService {
     protected DataSetParameterProvider parameterProvider;
     @Autowired
     protected DataSetListAsyncService dataSetListAsyncService;
+    @Autowired
+    protected VisibilityAreaResolverService visibilityAreaResolverService;
 
     /**
      * For top level DSL.
@@ -145,6 +148,7 @@ public class JpaDataSetListServiceImpl implements JpaDataSetListService {
         if (targetVisibilityAreaId != null) {
             for (DataSetList dataSetList : copies) {
                 dataSetList.setVisibilityArea(targetVisibilityAreaId);
+                visibilityAreaResolverService.evictDataSetList(dataSetList.getId());
             }
         }
         duration = (System.currentTimeMillis() - startTime) / 1000;
@@ -194,6 +198,7 @@ public class JpaDataSetListServiceImpl implements JpaDataSetListService {
         DataSetList object = modelsProvider.getDataSetListById(dataSetListId);
         if (object != null) {
             object.remove();
+            visibilityAreaResolverService.evictDataSetList(dataSetListId);
         }
     }
 
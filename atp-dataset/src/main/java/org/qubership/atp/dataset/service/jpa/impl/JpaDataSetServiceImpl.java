@@ -18,22 +18,28 @@ package org.qubership.atp.dataset.service.jpa.impl;
 
 import static java.util.stream.Collectors.toList;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.Nullable;
 
 import org.apache.commons.lang3.StringUtils;
 import org.json.simple.JSONObject;
-import org.qubership.atp.dataset.constants.CacheEnum;
 import org.qubership.atp.dataset.db.jpa.ModelsProvider;
 import org.qubership.atp.dataset.exception.attribute.AttributeParentDslCopyException;
 import org.qubership.atp.dataset.exception.attribute.AttributeParentDslNotExistException;
@@ -65,24 +71,23 @@ import org.qubership.atp.dataset.service.jpa.model.MacroContextService;
 import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetContext;
 import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContext;
 import org.qubership.atp.dataset.service.jpa.model.tree.ds.DataSetTree;
+import org.qubership.atp.dataset.service.jpa.model.tree.ds.DataSetTreeWriter;
 import org.qubership.atp.dataset.service.jpa.model.tree.ds.itf.ItfContextSerializer;
 import org.qubership.atp.dataset.service.rest.dto.manager.AbstractEntityResponse;
 import org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService;
 import org.qubership.atp.macros.core.calculator.MacrosCalculator;
-import org.qubership.atp.macros.core.client.MacrosFeignClient;
-import org.qubership.atp.macros.core.clients.api.dto.macros.MacrosDto;
-import org.qubership.atp.macros.core.converter.MacrosDtoConvertService;
 import org.qubership.atp.macros.core.model.Macros;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -109,7 +114,7 @@ public class JpaDataSetServiceImpl implements JpaDataSetService {
     @Lazy
     protected JpaDataSetService self;
     @Autowired
-    protected MacrosFeignClient macrosFeignClient;
+    protected MacrosDefinitionCacheService macrosDefinitionCacheService;
     @Autowired
     protected MacrosCalculator macrosCalculator;
     @Autowired
@@ -122,6 +127,10 @@ public class JpaDataSetServiceImpl implements JpaDataSetService {
     protected JpaAttributeService jpaAttributeService;
     @Autowired
     protected GridFsService gridFsService;
+    @Autowired
+    protected DataSetTreeAsyncService dataSetTreeAsyncService;
+    @Value("${atp-dataset.atp.bulk.thread.pool-size:4}")
+    protected int bulkEvaluationPoolSize;
     protected ObjectMapper objectMapper = new ObjectMapper();
 
     @Override
@@ -129,13 +138,44 @@ public class JpaDataSetServiceImpl implements JpaDataSetService {
     public DataSetTree getDataSetTreeInAtpFormat(UUID dataSetId, boolean evaluate,
                                                  String atpContextString, ContextType contextType) {
         DataSetListContext dataSetListContext = self.getDatasetListContext(dataSetId);
+        MacroContext macroContext = createAtpMacroContext(dataSetId, atpContextString, dataSetListContext);
+        return getTree(dataSetId, evaluate, macroContext, contextType);
+    }
+
+    /**
+     * Same tree as {@link #getDataSetTreeInAtpFormat(UUID, boolean, String, ContextType)} returns,
+     * but written to the stream while parameters are resolved.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void writeDataSetTreeInAtpFormat(UUID dataSetId, boolean evaluate, String atpContextString,
+                                            ContextType contextType, OutputStream outputStream) throws IOException {
+        DataSetListContext dataSetListContext = self.getDatasetListContext(dataSetId);
+        MacroContext macroContext = createAtpMacroContext(dataSetId, atpContextString, dataSetListContext);
+        JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream);
+        createTreeWriter(dataSetId, evaluate, macroContext, contextType, jsonGenerator).writeInAtpFormat();
+    }
+
+    /**
+     * Same tree as {@link #getDataSetTreeInItfFormat(UUID)} returns,
+     * but written to the stream while parameters are resolved.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void writeDataSetTreeInItfFormat(UUID dataSetId, OutputStream outputStream) throws IOException {
+        DataSetListContext dataSetListContext = self.getDatasetListContext(dataSetId);
+        MacroContext macroContext = createAtpMacroContext(dataSetId, null, dataSetListContext);
+        JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream);
+        createTreeWriter(dataSetId, true, macroContext, ContextType.OBJECT, jsonGenerator).writeInItfFormat();
+    }
+
+    private MacroContext createAtpMacroContext(UUID dataSetId, String atpContextString,
+                                               DataSetListContext dataSetListContext) {
         MacroContext macroContext = new MacroContext();
         macroContext.setMacroContextService(macroContextService);
         macroContext.setMacrosCalculator(macrosCalculator);
 
-        List<MacrosDto> macrosDtoList = macrosFeignClient
-                .findAllByProject(dataSetListContext.getVisibilityAreaId()).getBody();
-        List<Macros> macros = new MacrosDtoConvertService().convertList(macrosDtoList, Macros.class);
+        List<Macros> macros = macrosDefinitionCacheService.getAllMacros(dataSetListContext.getVisibilityAreaId());
         macroContext.setMacros(macros);
 
         macroContext.setDataSetListContext(dataSetListContext);
@@ -145,7 +185,21 @@ public class JpaDataSetServiceImpl implements JpaDataSetService {
         if (StringUtils.isNotEmpty(atpContextString)) {
             macroContext.addAtpDataSetContext(atpContextString);
         }
-        return getTree(dataSetId, evaluate, macroContext, contextType);
+        return macroContext;
+    }
+
+    private DataSetTreeWriter createTreeWriter(UUID dataSetId, boolean evaluate, MacroContext macroContext,
+                                               ContextType contextType, JsonGenerator jsonGenerator) {
+        DataSetListContext dataSetListContext = macroContext.getDataSetListContext();
+        return new DataSetTreeWriter(
+                findRootDataSet(dataSetId, dataSetListContext),
+                evaluate,
+                macroContext,
+                dataSetListContext,
+                dataSetParameterProvider,
+                contextType,
+                jsonGenerator
+        );
     }
 
     @Override
@@ -159,12 +213,9 @@ public class JpaDataSetServiceImpl implements JpaDataSetService {
         DataSetListContext dataSetListContext = self.getDatasetListContext(dataSetId);
         List<JSONObject> result = new ArrayList<>();
         int cnt = numberOfCopies;
-        List<MacrosDto> macrosDtoList = macrosFeignClient
-                .findNonTechnicalMacrosByProject(dataSetListContext.getVisibilityAreaId()).getBody();
-        if (null != macrosDtoList) {
-            log.info("size for macrosDtoList received is: {}", macrosDtoList.size());
-        }
-        List<Macros> macros = new MacrosDtoConvertService().convertList(macrosDtoList, Macros.class);
+        List<Macros> macros = macrosDefinitionCacheService
+                .getNonTechnicalMacros(dataSetListContext.getVisibilityAreaId());
+        log.info("size for macros list received is: {}", macros.size());
         while (cnt > 0) {
             MacroContext macroContext = new MacroContext();
             macroContext.setMacroContextService(macroContextService);
@@ -188,12 +239,79 @@ public class JpaDataSetServiceImpl implements JpaDataSetService {
         return result;
     }
 
+    /**
+     * Evaluates copies of DS tree in parallel and writes them to the stream as JSON array in order.
+     * Not more copies than the bulk evaluation pool has threads are evaluated ahead of the written one,
+     * so memory doesn't grow with the number of copies. Unwritten copies are cancelled if writing fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void writeDataSetTreesInAtpFormat(UUID dataSetId,
+                                             boolean evaluate,
+                                             String atpContextString,
+                                             ContextType contextType,
+                                             int numberOfCopies,
+                                             OutputStream outputStream) throws IOException {
+        log.info("writeDataSetTreesInAtpFormat start. numberOfCopies={}", numberOfCopies);
+        DataSetListContext dataSetListContext = self.getDatasetListContext(dataSetId);
+        DataSetContext rootDataSet = findRootDataSet(dataSetId, dataSetListContext);
+        List<Macros> macros = macrosDefinitionCacheService
+                .getNonTechnicalMacros(dataSetListContext.getVisibilityAreaId());
+        int windowSize = Math.max(1, bulkEvaluationPoolSize);
+        Deque<Future<byte[]>> copies = new ArrayDeque<>(windowSize);
+        int submitted = 0;
+        try {
+            outputStream.write('[');
+            for (int written = 0; written < numberOfCopies; written++) {
+                while (submitted < numberOfCopies && copies.size() < windowSize) {
+                    copies.add(submitTreeCopy(rootDataSet, evaluate, atpContextString, contextType,
+                            dataSetListContext, macros));
+                    submitted++;
+                }
+                if (written > 0) {
+                    outputStream.write(',');
+                }
+                outputStream.write(getCopy(copies.poll()));
+            }
+            outputStream.write(']');
+            outputStream.flush();
+        } finally {
+            copies.forEach(copy -> copy.cancel(true));
+        }
+        log.info("writeDataSetTreesInAtpFormat end. result.size = {}", numberOfCopies);
+    }
+
+    private Future<byte[]> submitTreeCopy(DataSetContext rootDataSet, boolean evaluate, String atpContextString,
+                                          ContextType contextType, DataSetListContext dataSetListContext,
+                                          List<Macros> macros) {
+        MacroContext macroContext = new MacroContext();
+        macroContext.setMacroContextService(macroContextService);
+        macroContext.setDataSetListContext(dataSetListContext);
+        macroContext.setMacrosCalculator(macrosCalculator);
+        macroContext.setMacros(macros);
+        if (StringUtils.isNotEmpty(atpContextString)) {
+            macroContext.addAtpDataSetContext(atpContextString);
+        }
+        return dataSetTreeAsyncService.serializeTreeCopy(rootDataSet, evaluate, macroContext, contextType);
+    }
+
+    private byte[] getCopy(Future<byte[]> copy) throws IOException {
+        try {
+            return copy.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Evaluation of DS tree copies was interrupted");
+        } catch (ExecutionException e) {
+            log.error("Cannot write tree", e.getCause());
+            return DataSetTreeAsyncService.EMPTY_TREE;
+        }
+    }
+
     private void cleanCache() {
         cacheCleanupService.cleanMacroContextCache();
     }
 
     @Override
-    @Cacheable(value = CacheEnum.Constants.DATASET_LIST_CONTEXT_CACHE, key = "#dataSetId")
     public DataSetListContext getDatasetListContext(UUID dataSetId) {
         UUID dslId = modelsProvider.getDatasetListIdByDatasetId(dataSetId);
         return dataSetListService.getDataSetListContext(dslId, Collections.singletonList(dataSetId));
@@ -384,18 +502,22 @@ public class JpaDataSetServiceImpl implements JpaDataSetService {
 
     private DataSetTree getTree(UUID dataSetId, boolean evaluate, MacroContext macroContext, ContextType contextType) {
         DataSetListContext dataSetListContext = macroContext.getDataSetListContext();
-        List<DataSetContext> rootDataSets = dataSetListContext.getDataSets();
-        for (DataSetContext rootDataSet : rootDataSets) {
+        DataSetContext rootDataSet = findRootDataSet(dataSetId, dataSetListContext);
+        return new DataSetTree(
+                rootDataSet,
+                rootDataSet.getColumnNumber(),
+                evaluate,
+                macroContext,
+                dataSetListContext,
+                dataSetParameterProvider,
+                contextType
+        );
+    }
+
+    private DataSetContext findRootDataSet(UUID dataSetId, DataSetListContext dataSetListContext) {
+        for (DataSetContext rootDataSet : dataSetListContext.getDataSets()) {
             if (rootDataSet.getId().equals(dataSetId)) {
-                return new DataSetTree(
-                        rootDataSet,
-                        rootDataSet.getColumnNumber(),
-                        evaluate,
-                        macroContext,
-                        dataSetListContext,
-                        dataSetParameterProvider,
-                        contextType
-                );
+                return rootDataSet;
             }
         }
         log.error("Data Set not found. Id='" + dataSetId + "'");
@@ -19,10 +19,10 @@ package org.qubership.atp.dataset.service.jpa.impl;
 import java.util.List;
 import java.util.UUID;
 
-import org.qubership.atp.dataset.constants.CacheEnum;
 import org.qubership.atp.dataset.db.jpa.ModelsProvider;
 import org.qubership.atp.dataset.service.direct.ClearCacheService;
 import org.qubership.atp.dataset.service.direct.DateAuditorService;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.jpa.DataSetServiceException;
 import org.qubership.atp.dataset.service.jpa.JpaParameterService;
 import org.qubership.atp.dataset.service.jpa.delegates.Attribute;
@@ -31,7 +31,6 @@ import org.qubership.atp.dataset.service.jpa.delegates.Parameter;
 import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
 import org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -50,6 +49,8 @@ public class JpaParameterServiceImpl implements JpaParameterService {
     protected DateAuditorService dateAuditorService;
     @Autowired
     protected ClearCacheService clearCacheService;
+    @Autowired
+    protected VisibilityAreaResolverService visibilityAreaResolverService;
 
     @Override
     @Transactional
@@ -60,7 +61,6 @@ public class JpaParameterServiceImpl implements JpaParameterService {
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheEnum.Constants.DATASET_LIST_CONTEXT_CACHE, key = "#dataSetId")
     public Parameter createParameter(
             UUID dataSetId,
             UUID attributeId,
@@ -71,6 +71,7 @@ public class JpaParameterServiceImpl implements JpaParameterService {
         Parameter parameter = createParameterWithoutCommitting(dataSetId, attributeId, value,
                 dataSetReference, listValueReference);
         dataSetListSnapshotService.commitEntity(parameter.getDataSet().getDataSetList().getId());
+        clearCacheService.evictDatasetListContextCache(dataSetId);
         return parameter;
     }
 
@@ -231,6 +232,7 @@ public class JpaParameterServiceImpl implements JpaParameterService {
         Parameter parameter = modelsProvider.getParameterById(id);
         if (parameter != null) {
             parameter.remove();
+            visibilityAreaResolverService.evictEntity(id);
             dataSetListSnapshotService.commitEntity(parameter.getAttribute().getDataSetList().getId());
         }
     }
@@ -243,6 +245,7 @@ public class JpaParameterServiceImpl implements JpaParameterService {
         Parameter parameter = modelsProvider.getParameterById(id);
         if (parameter != null) {
             parameter.remove();
+            visibilityAreaResolverService.evictEntity(id);
         }
     }
 
@@ -23,6 +23,7 @@ import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.dataset.db.jpa.ModelsProvider;
 import org.qubership.atp.dataset.exception.visibilityarea.VisibilityAreaNameException;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.jpa.DataSetServiceException;
 import org.qubership.atp.dataset.service.jpa.JpaDataSetListService;
 import org.qubership.atp.dataset.service.jpa.JpaVisibilityAreaService;
@@ -38,6 +39,8 @@ public class JpaVisibilityAreaServiceImpl implements JpaVisibilityAreaService {
     protected ModelsProvider modelsProvider;
     @Autowired
     protected JpaDataSetListService dataSetListService;
+    @Autowired
+    protected VisibilityAreaResolverService visibilityAreaResolverService;
 
     @Override
     @Transactional(readOnly = true)
@@ -81,6 +84,7 @@ public class JpaVisibilityAreaServiceImpl implements JpaVisibilityAreaService {
     @Transactional
     public void deleteById(UUID visibilityAreaId) {
         modelsProvider.getVisibilityAreaById(visibilityAreaId).remove();
+        visibilityAreaResolverService.evictVisibilityArea(visibilityAreaId);
     }
 
     @Override
@@ -0,0 +1,176 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.impl;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.qubership.atp.dataset.constants.CacheEnum;
+import org.qubership.atp.macros.core.client.MacrosFeignClient;
+import org.qubership.atp.macros.core.clients.api.dto.macros.MacrosDto;
+import org.qubership.atp.macros.core.converter.MacrosDtoConvertService;
+import org.qubership.atp.macros.core.model.Macros;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps macros of visibility area, converted from atp-macros DTOs, in {@link CacheEnum#MACROS_CACHE}.
+ * Entry older than refresh-ahead period is returned as is and reloaded in background,
+ * entry older than cache TTL is reloaded synchronously.
+ */
+@Slf4j
+@Service
+public class MacrosDefinitionCacheService {
+
+    private static final String ALL_MACROS_SUFFIX = "_ALL";
+    private static final String NON_TECHNICAL_MACROS_SUFFIX = "_NON_TECHNICAL";
+
+    private final MacrosFeignClient macrosFeignClient;
+    private final CacheManager cacheManager;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final long refreshAheadMillis;
+    private final long timeToLiveMillis;
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Default constructor.
+     */
+    @Autowired
+    public MacrosDefinitionCacheService(MacrosFeignClient macrosFeignClient,
+                                        CacheManager cacheManager,
+                                        @Qualifier("macrosRefreshTaskExecutor") Executor refreshExecutor,
+                                        @Value("${atp-dataset.macros.cache.refresh-ahead-sec:240}")
+                                        long refreshAheadSec) {
+        this(macrosFeignClient, cacheManager, refreshExecutor, Clock.systemUTC(), refreshAheadSec);
+    }
+
+    MacrosDefinitionCacheService(MacrosFeignClient macrosFeignClient,
+                                 CacheManager cacheManager,
+                                 Executor refreshExecutor,
+                                 Clock clock,
+                                 long refreshAheadSec) {
+        this.macrosFeignClient = macrosFeignClient;
+        this.cacheManager = cacheManager;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.timeToLiveMillis = CacheEnum.MACROS_CACHE.getTimeToLiveSec() * 1000L;
+        this.refreshAheadMillis = Math.min(refreshAheadSec * 1000L, timeToLiveMillis);
+    }
+
+    /**
+     * Returns all macros of visibility area.
+     */
+    public List<Macros> getAllMacros(UUID visibilityAreaId) {
+        return getMacros(visibilityAreaId + ALL_MACROS_SUFFIX, visibilityAreaId,
+                macrosFeignClient::findAllByProject);
+    }
+
+    /**
+     * Returns non-technical macros of visibility area.
+     */
+    public List<Macros> getNonTechnicalMacros(UUID visibilityAreaId) {
+        return getMacros(visibilityAreaId + NON_TECHNICAL_MACROS_SUFFIX, visibilityAreaId,
+                macrosFeignClient::findNonTechnicalMacrosByProject);
+    }
+
+    /**
+     * Drops cached macros of visibility area, so the next request loads them from atp-macros.
+     */
+    public void evict(UUID visibilityAreaId) {
+        log.debug("Remove macros of visibility area \"{}\" from Macros cache", visibilityAreaId);
+        Cache cache = getCache();
+        if (cache != null) {
+            cache.evict(visibilityAreaId + ALL_MACROS_SUFFIX);
+            cache.evict(visibilityAreaId + NON_TECHNICAL_MACROS_SUFFIX);
+        }
+    }
+
+    private List<Macros> getMacros(String key, UUID visibilityAreaId,
+                                   Function<UUID, ResponseEntity<List<MacrosDto>>> loader) {
+        Cache cache = getCache();
+        CachedMacros cached = cache == null ? null : cache.get(key, CachedMacros.class);
+        long now = clock.millis();
+        if (cached == null || now - cached.getLoadedAt() >= timeToLiveMillis) {
+            return load(cache, key, visibilityAreaId, loader).getMacros();
+        }
+        if (now - cached.getLoadedAt() >= refreshAheadMillis && refreshingKeys.add(key)) {
+            try {
+                refreshExecutor.execute(() -> {
+                    try {
+                        load(cache, key, visibilityAreaId, loader);
+                    } catch (Exception e) {
+                        log.warn("Cannot refresh macros of visibility area {}", visibilityAreaId, e);
+                    } finally {
+                        refreshingKeys.remove(key);
+                    }
+                });
+            } catch (RuntimeException e) {
+                refreshingKeys.remove(key);
+                log.warn("Cannot schedule refresh of macros of visibility area {}", visibilityAreaId, e);
+            }
+        }
+        return cached.getMacros();
+    }
+
+    private CachedMacros load(Cache cache, String key, UUID visibilityAreaId,
+                              Function<UUID, ResponseEntity<List<MacrosDto>>> loader) {
+        List<MacrosDto> macrosDtoList = loader.apply(visibilityAreaId).getBody();
+        List<Macros> macros = macrosDtoList == null
+                ? Collections.emptyList()
+                : new MacrosDtoConvertService().convertList(macrosDtoList, Macros.class);
+        CachedMacros loaded = new CachedMacros(new ArrayList<>(macros), clock.millis());
+        if (cache != null) {
+            try {
+                cache.put(key, loaded);
+            } catch (RuntimeException e) {
+                log.warn("Cannot put macros of visibility area {} to cache", visibilityAreaId, e);
+            }
+        }
+        return loaded;
+    }
+
+    private Cache getCache() {
+        return cacheManager.getCache(CacheEnum.Constants.MACROS_CACHE);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class CachedMacros implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private ArrayList<Macros> macros;
+        private long loadedAt;
+    }
+}
@@ -16,13 +16,14 @@
 
 package org.qubership.atp.dataset.service.jpa.impl.macro;
 
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.qubership.atp.dataset.service.jpa.model.PathStep;
 
 public class CachedDslMacroResultContainer {
-    private List<CachedDslMacroResult> cachedValues = new LinkedList<>();
+    private Map<CachedDslMacroResultKey, CachedDslMacroResult> cachedValues = new HashMap<>();
 
     /**
      * Returns matched DSL parameter cache.
@@ -30,45 +31,26 @@ public class CachedDslMacroResultContainer {
     public CachedDslMacroResult getCachedValue(
             PathStep dataSetList, PathStep dataSet, List<PathStep> attributeGroups, PathStep attribute
     ) {
-        for (CachedDslMacroResult cachedValue : cachedValues) {
-            if (cachedValue.getDataSetList().matches(
-                    dataSetList.getName(),
-                    dataSetList.getId()
-                )
-                && cachedValue.getDataSet().matches(dataSet)
-                && cachedValue.getAttribute().matches(attribute)
-                && cachedValue.getAttributeGroups().size() == attributeGroups.size()
-            ) {
-                boolean groupsMatch = true;
-                for (int i = 0; i < attributeGroups.size(); i++) {
-                    if (!cachedValue.getAttributeGroups().get(i).matches(
-                            attributeGroups.get(i)
-                    )) {
-                        groupsMatch = false;
-                    }
-                }
-
-                if (groupsMatch) {
-                    return cachedValue;
-                }
-            }
-        }
-
-        return null;
+        return cachedValues.get(new CachedDslMacroResultKey(dataSetList, dataSet, attributeGroups, attribute));
     }
 
     /**
-     * Add new DSL parameter value to cache.
+     * Add new DSL parameter value to cache. Value stored first for the same path is kept.
      * */
     public void storeValue(
             PathStep dataSetList, PathStep dataSet, List<PathStep> attributeGroups, PathStep attribute, String value
     ) {
+        CachedDslMacroResultKey key = new CachedDslMacroResultKey(dataSetList, dataSet, attributeGroups, attribute);
         CachedDslMacroResult newValue = new CachedDslMacroResult();
         newValue.setDataSetList(dataSetList);
         newValue.setDataSet(dataSet);
-        newValue.setAttributeGroups(new LinkedList<>(attributeGroups));
+        newValue.setAttributeGroups(key.getAttributeGroups());
         newValue.setAttribute(attribute);
         newValue.setValue(value);
-        cachedValues.add(newValue);
+        cachedValues.putIfAbsent(key, newValue);
+    }
+
+    public int size() {
+        return cachedValues.size();
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.impl.macro;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.qubership.atp.dataset.service.jpa.model.PathStep;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Structural key of REF_DSL macro result: DSL, DS, attribute groups path and attribute.
+ * */
+@Getter
+@EqualsAndHashCode
+public class CachedDslMacroResultKey {
+    private final PathStep dataSetList;
+    private final PathStep dataSet;
+    private final List<PathStep> attributeGroups;
+    private final PathStep attribute;
+
+    /**
+     * Default constructor. Attribute groups are copied, so key is not affected by further path changes.
+     * */
+    public CachedDslMacroResultKey(
+            PathStep dataSetList, PathStep dataSet, List<PathStep> attributeGroups, PathStep attribute
+    ) {
+        this.dataSetList = dataSetList;
+        this.dataSet = dataSet;
+        this.attributeGroups = new ArrayList<>(attributeGroups);
+        this.attribute = attribute;
+    }
+}
@@ -17,6 +17,7 @@
 package org.qubership.atp.dataset.service.jpa.model;
 
 import org.qubership.atp.dataset.db.GridFsRepository;
+import org.qubership.atp.dataset.db.jpa.ModelsProvider;
 import org.qubership.atp.dataset.service.jpa.impl.DataSetListContextService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -29,6 +30,8 @@ public class CacheCleanupService {
     protected MacroContextService macroContextService;
     @Autowired
     protected GridFsRepository gridFsRepository;
+    @Autowired
+    protected ModelsProvider modelsProvider;
 
     /**
      * Method called when request finished.
@@ -37,6 +40,7 @@ public class CacheCleanupService {
         cleanDataSetListContextCache();
         cleanMacroContextCache();
         cleanGridFsServiceCache();
+        cleanModelsProviderCache();
     }
 
     public void cleanMacroContextCache() {
@@ -50,4 +54,8 @@ public class CacheCleanupService {
     public void cleanGridFsServiceCache() {
         gridFsRepository.dropLocalThreadCache();
     }
+
+    public void cleanModelsProviderCache() {
+        modelsProvider.dropLocalThreadCache();
+    }
 }
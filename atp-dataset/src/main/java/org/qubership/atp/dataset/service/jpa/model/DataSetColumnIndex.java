@@ -0,0 +1,94 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Columns of DSL data sets, ordered by data set ordering. Column numbers start from 0.
+ * Replaces row_number() queries, so all lookups in DSL cost one query.
+ * */
+public class DataSetColumnIndex {
+    private final List<UUID> dataSetIds;
+    private final Map<UUID, Integer> columnsById;
+    private final Map<String, Integer> columnsByName;
+
+    /**
+     * Index by data set ids and names in column order.
+     * */
+    public DataSetColumnIndex(List<UUID> dataSetIds, List<String> dataSetNames) {
+        this.dataSetIds = new ArrayList<>(dataSetIds);
+        this.columnsById = new HashMap<>();
+        this.columnsByName = new HashMap<>();
+        for (int column = 0; column < dataSetIds.size(); column++) {
+            columnsById.put(dataSetIds.get(column), column);
+            String name = dataSetNames.get(column);
+            if (name != null) {
+                columnsByName.putIfAbsent(name, column);
+            }
+        }
+    }
+
+    @Nullable
+    public Integer getColumnById(UUID dataSetId) {
+        return columnsById.get(dataSetId);
+    }
+
+    @Nullable
+    public Integer getColumnByName(String dataSetName) {
+        return columnsByName.get(dataSetName);
+    }
+
+    /**
+     * Data set id by column, null if there is no such column.
+     * */
+    @Nullable
+    public UUID getDataSetId(int column) {
+        if (column < 0 || column >= dataSetIds.size()) {
+            return null;
+        }
+        return dataSetIds.get(column);
+    }
+
+    /**
+     * Columns of the data sets in column order. Data sets of other DSLs are skipped.
+     * */
+    public List<Integer> getColumns(Collection<UUID> dataSetIds) {
+        Set<UUID> requestedIds = new HashSet<>(dataSetIds);
+        List<Integer> result = new LinkedList<>();
+        for (int column = 0; column < this.dataSetIds.size(); column++) {
+            if (requestedIds.contains(this.dataSetIds.get(column))) {
+                result.add(column);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return dataSetIds.size();
+    }
+}
@@ -267,10 +267,8 @@ public class MacroContextServiceImpl implements MacroContextService {
             );
         }
         if (result == null) {
-            result = new ImmutablePair<>(
-                    dataSetList.getDataSetColumnByName(dataSetToSearch.getName()),
-                    dataSetList.getDataSetByName(dataSetToSearch.getName()).getId()
-            );
+            Integer column = dataSetList.getDataSetColumnByName(dataSetToSearch.getName());
+            result = new ImmutablePair<>(column, dataSetList.getDataSetColumnIndex().getDataSetId(column));
         }
         if (result == null) {
             throw new DataSetServiceException("Data Set not found " + dataSetToSearch);
@@ -21,6 +21,7 @@ import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.dataset.model.utils.Utils;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 /**
@@ -28,7 +29,9 @@ import lombok.Getter;
  * that reference macro can have reference to some parameter with list of UUIDs OR list of String?
  * or some mixed collection.
  * To check reference match we need to check ID, if it's null - check name.
+ * Equal path steps always match each other, so path steps can be used as hash keys.
  * */
+@EqualsAndHashCode
 public class PathStep {
     @Getter
     private String name;
@@ -0,0 +1,42 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.model.copy;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Data;
+
+/**
+ * Ids mapping of DSL rows, copied by batch inserts, and files which are still to be copied.
+ */
+@Data
+public class DataSetListBulkCopyData {
+    private Map<UUID, UUID> attributesMap = new LinkedHashMap<>();
+    private Map<UUID, Map<UUID, UUID>> listValuesMap = new HashMap<>();
+    private Map<UUID, UUID> dataSetsMap = new LinkedHashMap<>();
+    private Map<UUID, UUID> fileParametersMap = new LinkedHashMap<>();
+
+    /**
+     * List values mapping of source attribute.
+     */
+    public Map<UUID, UUID> getListValuesMap(UUID attributeId) {
+        return listValuesMap.computeIfAbsent(attributeId, id -> new LinkedHashMap<>());
+    }
+}
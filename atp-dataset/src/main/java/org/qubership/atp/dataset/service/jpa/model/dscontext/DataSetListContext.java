@@ -18,9 +18,13 @@ package org.qubership.atp.dataset.service.jpa.model.dscontext;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.qubership.atp.dataset.service.jpa.delegates.Attribute;
 import org.qubership.atp.dataset.service.jpa.delegates.AttributeKey;
@@ -30,6 +34,8 @@ import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
 import org.qubership.atp.dataset.service.jpa.model.tree.OverlapNode;
 import org.springframework.data.domain.Pageable;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -51,6 +57,9 @@ public class DataSetListContext implements Serializable {
     private OverlapNode rootOverlapNode;
     @Setter
     private List<UUID> pathRestrictions = null;
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private boolean detached;
 
     public DataSetListContext(UUID dataSetListId) {
         this.dataSetListId = dataSetListId;
@@ -89,6 +98,186 @@ public class DataSetListContext implements Serializable {
         makeContext(dataSetList, dataSetColumns, attributeTypeNames, pageable);
     }
 
+    private DataSetListContext(DataSetListContext source) {
+        visibilityAreaId = source.visibilityAreaId;
+        dataSetListId = source.dataSetListId;
+        dataSetListName = source.dataSetListName;
+        dataSets = source.dataSets;
+        groups = source.groups;
+        loadedColumns = source.loadedColumns;
+        loadedAttributes = source.loadedAttributes;
+        rootOverlapNode = source.rootOverlapNode.copy();
+        pathRestrictions = source.pathRestrictions;
+        detached = source.detached;
+    }
+
+    /**
+     * Copy of the context which doesn't hold JPA delegates, so it can outlive the session which loaded it.
+     * Attributes of groups are dropped and overlaps keep only overlapped attribute ids, data sets and
+     * parameters are plain data already.
+     * */
+    public DataSetListContext detach() {
+        DataSetListContext copy = new DataSetListContext(this);
+        copy.rootOverlapNode = rootOverlapNode.detach();
+        copy.groups = GroupContext.detach(groups);
+        copy.detached = true;
+        return copy;
+    }
+
+    /**
+     * Ids of the DSL and all DSLs referenced in its hierarchy.
+     * */
+    public Set<UUID> collectDataSetListIds() {
+        Set<UUID> result = new HashSet<>();
+        result.add(dataSetListId);
+        forEachGroup(groups, group -> result.add(group.getDataSetListId()));
+        return result;
+    }
+
+    /**
+     * Ids of the data sets on all levels of hierarchy.
+     * */
+    public Set<UUID> collectDataSetIds() {
+        Set<UUID> result = new HashSet<>();
+        addDataSetIds(dataSets, result);
+        forEachGroup(groups, group -> addDataSetIds(group.getDataSets(), result));
+        return result;
+    }
+
+    /**
+     * Number of data sets and parameters on all levels of hierarchy, used as estimation of the context size.
+     * */
+    public long countDataSetsAndParameters() {
+        return countDataSetsAndParameters(dataSets, groups);
+    }
+
+    /**
+     * Copy of the context, where groups of changed DSLs are built again, and the rest of hierarchy is reused.
+     * Returns null if the context has to be built from scratch: root DSL is changed,
+     * or some changed group is affected by overlaps, so it can't be built apart from upper levels.
+     * */
+    public DataSetListContext rebuildGroups(Set<UUID> changedDataSetListIds,
+                                            Function<UUID, Attribute> attributeProvider) {
+        if (changedDataSetListIds.contains(dataSetListId)) {
+            return null;
+        }
+        DataSetListContext copy = new DataSetListContext(this);
+        CycleChecker cycleChecker = new CycleChecker();
+        cycleChecker.openNode(dataSetListId);
+        List<GroupContext> rebuiltGroups = copy.rebuildGroups(
+                groups, dataSets, new LinkedList<>(), changedDataSetListIds, attributeProvider, cycleChecker
+        );
+        if (rebuiltGroups == null) {
+            return null;
+        }
+        copy.groups = rebuiltGroups;
+        return copy;
+    }
+
+    private List<GroupContext> rebuildGroups(List<GroupContext> sourceGroups,
+                                             List<DataSetContext> parentDataSets,
+                                             List<UUID> parentPath,
+                                             Set<UUID> changedDataSetListIds,
+                                             Function<UUID, Attribute> attributeProvider,
+                                             CycleChecker cycleChecker) {
+        List<GroupContext> result = new LinkedList<>();
+        for (GroupContext group : sourceGroups) {
+            if (changedDataSetListIds.contains(group.getDataSetListId())) {
+                GroupContext rebuiltGroup = rebuildGroup(
+                        group, parentDataSets, parentPath, attributeProvider, cycleChecker
+                );
+                if (rebuiltGroup == null) {
+                    return null;
+                }
+                result.add(rebuiltGroup);
+            } else if (containsDataSetLists(group, changedDataSetListIds)) {
+                cycleChecker.openNode(group.getDataSetListId());
+                List<GroupContext> rebuiltGroups = rebuildGroups(
+                        group.getGroups(), group.getDataSets(), group.getCurrentPath(),
+                        changedDataSetListIds, attributeProvider, cycleChecker
+                );
+                cycleChecker.closeNode(group.getDataSetListId());
+                if (rebuiltGroups == null) {
+                    return null;
+                }
+                result.add(new GroupContext(group, rebuiltGroups));
+            } else {
+                result.add(group);
+            }
+        }
+        return result;
+    }
+
+    private GroupContext rebuildGroup(GroupContext group,
+                                      List<DataSetContext> parentDataSets,
+                                      List<UUID> parentPath,
+                                      Function<UUID, Attribute> attributeProvider,
+                                      CycleChecker cycleChecker) {
+        if (rootOverlapNode.containsOverlapsUnderPath(group.getCurrentPath())) {
+            return null;
+        }
+        for (DataSetContext parentDataSet : parentDataSets) {
+            if (rootOverlapNode.containsOverlap(parentPath, parentDataSet.getColumnNumber(), group.getId())) {
+                return null;
+            }
+        }
+        Attribute referenceAttribute = attributeProvider.apply(group.getId());
+        if (referenceAttribute == null || referenceAttribute.getTypeDataSetList() == null
+                || !group.getDataSetListId().equals(referenceAttribute.getTypeDataSetList().getId())) {
+            return null;
+        }
+        cycleChecker.openNode(group.getDataSetListId());
+        GroupContext rebuiltGroup = new GroupContext(
+                parentDataSets,
+                referenceAttribute,
+                rootOverlapNode,
+                parentPath,
+                loadedAttributes,
+                cycleChecker,
+                null,
+                group.getDataSetListId(),
+                null
+        );
+        cycleChecker.closeNode(group.getDataSetListId());
+        return rebuiltGroup;
+    }
+
+    private static boolean containsDataSetLists(GroupContext group, Set<UUID> dataSetListIds) {
+        for (GroupContext nestedGroup : group.getGroups()) {
+            if (dataSetListIds.contains(nestedGroup.getDataSetListId())
+                    || containsDataSetLists(nestedGroup, dataSetListIds)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void forEachGroup(List<GroupContext> groups, Consumer<GroupContext> action) {
+        for (GroupContext group : groups) {
+            action.accept(group);
+            forEachGroup(group.getGroups(), action);
+        }
+    }
+
+    private static long countDataSetsAndParameters(List<DataSetContext> dataSets, List<GroupContext> groups) {
+        long result = dataSets.size();
+        for (DataSetContext dataSet : dataSets) {
+            result += dataSet.getParameters().size();
+        }
+        for (GroupContext group : groups) {
+            result += countDataSetsAndParameters(group.getDataSets(), group.getGroups());
+        }
+        return result;
+    }
+
+    private static void addDataSetIds(List<DataSetContext> dataSets, Set<UUID> result) {
+        for (DataSetContext dataSet : dataSets) {
+            if (dataSet.getId() != null) {
+                result.add(dataSet.getId());
+            }
+        }
+    }
+
     private void makeContext(
             DataSetList dataSetList, List<Integer> dataSetColumns, List<AttributeTypeName> attributeTypeNames,
             Pageable pageable) {
@@ -0,0 +1,74 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.model.dscontext;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.qubership.atp.dataset.service.jpa.delegates.AttributeKey;
+
+/**
+ * Data of DSL hierarchy, loaded in bulk before {@link DataSetListContext} construction,
+ * which JPA wrappers would otherwise read with a native query per row:
+ * overlaps of data sets and names of referenced data sets.
+ * Answers only for prefetched data sets, so wrappers fall back to own queries for the rest.
+ */
+public class DataSetListContextPrefetch {
+
+    private final Map<UUID, String> dataSetNames = new HashMap<>();
+    private final Map<UUID, Map<UUID, List<AttributeKey>>> attributeKeys = new HashMap<>();
+
+    /**
+     * Registers prefetched data set. Its overlaps are expected to be added after it.
+     */
+    public void addDataSet(UUID dataSetId, String name) {
+        dataSetNames.put(dataSetId, name);
+        attributeKeys.putIfAbsent(dataSetId, new HashMap<>());
+    }
+
+    /**
+     * Adds overlap of prefetched data set.
+     */
+    public void addAttributeKey(UUID dataSetListId, UUID dataSetId, AttributeKey attributeKey) {
+        attributeKeys.computeIfAbsent(dataSetId, id -> new HashMap<>())
+                .computeIfAbsent(dataSetListId, id -> new LinkedList<>())
+                .add(attributeKey);
+    }
+
+    public boolean containsDataSet(UUID dataSetId) {
+        return dataSetNames.containsKey(dataSetId);
+    }
+
+    public String getDataSetName(UUID dataSetId) {
+        return dataSetNames.get(dataSetId);
+    }
+
+    /**
+     * Overlaps of DSL in data set or null if data set is not prefetched.
+     */
+    public List<AttributeKey> getAttributeKeys(UUID dataSetListId, UUID dataSetId) {
+        Map<UUID, List<AttributeKey>> dataSetAttributeKeys = attributeKeys.get(dataSetId);
+        if (dataSetAttributeKeys == null) {
+            return null;
+        }
+        return dataSetAttributeKeys.getOrDefault(dataSetListId, Collections.emptyList());
+    }
+}
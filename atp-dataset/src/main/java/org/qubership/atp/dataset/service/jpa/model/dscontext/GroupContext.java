@@ -56,6 +56,49 @@ public class GroupContext implements Serializable {
     private boolean isLastPage = false;
 
 
+    /**
+     * Copy of the group with another nested groups. Data sets and attributes are shared.
+     */
+    GroupContext(GroupContext source, List<GroupContext> groups) {
+        order = source.order;
+        name = source.name;
+        id = source.id;
+        dataSetListId = source.dataSetListId;
+        dataSetListName = source.dataSetListName;
+        currentPath = source.currentPath;
+        dataSets = source.dataSets;
+        attributes = source.attributes;
+        isLastPage = source.isLastPage;
+        this.groups = groups;
+    }
+
+    /**
+     * Copies of the groups without attributes, which are JPA delegates. See {@link DataSetListContext#detach()}.
+     */
+    static List<GroupContext> detach(List<GroupContext> groups) {
+        List<GroupContext> result = new LinkedList<>();
+        for (GroupContext group : groups) {
+            GroupContext copy = new GroupContext(group, detach(group.groups));
+            copy.attributes = new LinkedList<>();
+            result.add(copy);
+        }
+        return result;
+    }
+
+    /**
+     * Group context of already resolved level. Data sets and nested groups are added by caller.
+     */
+    public GroupContext(UUID id, String name, long order, UUID dataSetListId, String dataSetListName,
+                        List<UUID> currentPath) {
+        this.id = id;
+        this.name = name;
+        this.order = order;
+        this.dataSetListId = dataSetListId;
+        this.dataSetListName = dataSetListName;
+        this.currentPath = currentPath;
+        this.attributes = new LinkedList<>();
+    }
+
     /**
      * Group context with hierarchy.
      */
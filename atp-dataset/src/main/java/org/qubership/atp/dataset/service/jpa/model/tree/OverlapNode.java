@@ -51,6 +51,45 @@ public class OverlapNode implements Serializable {
         overlaps = new Overlap[columns];
     }
 
+    /**
+     * Copy of the overlaps hierarchy, which can be extended without affecting the source.
+     * Attribute keys are shared.
+     * */
+    public OverlapNode copy() {
+        OverlapNode copy = new OverlapNode(id, dataSetListId, overlaps.length);
+        for (int column = 0; column < overlaps.length; column++) {
+            if (overlaps[column] != null) {
+                Overlap overlapCopy = new Overlap();
+                overlapCopy.getOverlappedAttributes().putAll(overlaps[column].getOverlappedAttributes());
+                copy.overlaps[column] = overlapCopy;
+            }
+        }
+        for (OverlapNode childNode : childNodes) {
+            copy.childNodes.add(childNode.copy());
+        }
+        return copy;
+    }
+
+    /**
+     * Copy of the overlaps hierarchy which keeps only ids of overlapped attributes, without attribute keys.
+     * {@link #getOverlap} of the copy returns null, use {@link #containsOverlap} to check presence.
+     * */
+    public OverlapNode detach() {
+        OverlapNode copy = new OverlapNode(id, dataSetListId, overlaps.length);
+        for (int column = 0; column < overlaps.length; column++) {
+            if (overlaps[column] != null) {
+                Overlap overlapCopy = new Overlap();
+                overlaps[column].getOverlappedAttributes().keySet()
+                        .forEach(attributeId -> overlapCopy.getOverlappedAttributes().put(attributeId, null));
+                copy.overlaps[column] = overlapCopy;
+            }
+        }
+        for (OverlapNode childNode : childNodes) {
+            copy.childNodes.add(childNode.detach());
+        }
+        return copy;
+    }
+
     /**
      * New overlap to structure. If field already overlapped - operation will skipped,
      * to save hierarchy multiple overlaps.
@@ -111,6 +150,21 @@ public class OverlapNode implements Serializable {
         }
     }
 
+    /**
+     * True if attribute is overlapped by path and column, works for detached hierarchy too.
+     * */
+    public boolean containsOverlap(List<UUID> path, int column, UUID attributeId) {
+        if (path.isEmpty()) {
+            return overlaps[column] != null && overlaps[column].getOverlappedAttributes().containsKey(attributeId);
+        }
+        for (OverlapNode childNode : childNodes) {
+            if (childNode.getId().equals(path.get(0))) {
+                return childNode.containsOverlap(path.subList(1, path.size()), column, attributeId);
+            }
+        }
+        return false;
+    }
+
     /**
      * True if there is any overlaps by path OR deeper.
      * */
@@ -126,4 +180,29 @@ public class OverlapNode implements Serializable {
             return false;
         }
     }
+
+    /**
+     * True if there is any overlap by path or deeper in any column.
+     * */
+    public boolean containsOverlapsUnderPath(List<UUID> path) {
+        if (path.isEmpty()) {
+            for (Overlap overlap : overlaps) {
+                if (overlap != null) {
+                    return true;
+                }
+            }
+            for (OverlapNode childNode : childNodes) {
+                if (childNode.containsOverlapsUnderPath(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (OverlapNode childNode : childNodes) {
+            if (childNode.getId().equals(path.get(0))) {
+                return childNode.containsOverlapsUnderPath(path.subList(1, path.size()));
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,344 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.model.tree.ds;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.atp.dataset.service.jpa.ContextType;
+import org.qubership.atp.dataset.service.jpa.impl.DataSetParameterProvider;
+import org.qubership.atp.dataset.service.jpa.impl.macro.MacroContext;
+import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.GroupContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.ParameterContext;
+import org.qubership.atp.dataset.service.jpa.model.tree.params.AbstractParameter;
+import org.qubership.atp.dataset.service.jpa.model.tree.params.macros.ParameterPositionContext;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes DS tree to {@link JsonGenerator} while it is resolved from {@link DataSetListContext}.
+ * Output is the same as serialized {@link DataSetTree} (or {@link DataSetTree} serialized by
+ * {@link org.qubership.atp.dataset.service.jpa.model.tree.ds.itf.ItfContextSerializer}), but every resolved
+ * parameter is written and released at once, so memory doesn't depend on tree size.
+ * Fields and groups which could be omitted as empty are written only when their first parameter is written.
+ * */
+public class DataSetTreeWriter {
+    private final DataSetContext rootDataSet;
+    private final int column;
+    private final boolean evaluate;
+    private final MacroContext macroContext;
+    private final DataSetListContext dataSetListContext;
+    private final DataSetParameterProvider dataSetParameterProvider;
+    private final ContextType contextType;
+    private final JsonGenerator jsonGenerator;
+    private final List<DeferredWrite> deferredWrites = new ArrayList<>();
+
+    /**
+     * Default constructor.
+     * */
+    public DataSetTreeWriter(
+            DataSetContext rootDataSet,
+            boolean evaluate,
+            MacroContext macroContext,
+            DataSetListContext dataSetListContext,
+            DataSetParameterProvider dataSetParameterProvider,
+            ContextType contextType,
+            JsonGenerator jsonGenerator
+    ) {
+        this.rootDataSet = rootDataSet;
+        this.column = rootDataSet.getColumnNumber();
+        this.evaluate = evaluate;
+        this.macroContext = macroContext;
+        this.dataSetListContext = dataSetListContext;
+        this.dataSetParameterProvider = dataSetParameterProvider;
+        this.contextType = contextType;
+        this.jsonGenerator = jsonGenerator;
+    }
+
+    /**
+     * Writes tree in ATP format.
+     * */
+    public void writeInAtpFormat() throws IOException {
+        jsonGenerator.writeStartObject();
+        int mark = deferredWrites.size();
+        defer(() -> jsonGenerator.writeObjectFieldStart("parameters"));
+        for (ParameterContext parameterContext : rootDataSet.getParameters()) {
+            AbstractParameter parameter = resolveRootParameter(parameterContext);
+            writeAtpParameter(parameterContext.getName(), parameter);
+        }
+        endDeferredObject(mark);
+        jsonGenerator.writeObjectFieldStart("groups");
+        for (GroupContext group : dataSetListContext.getGroups()) {
+            writeAtpGroup(group);
+        }
+        jsonGenerator.writeEndObject();
+        jsonGenerator.writeEndObject();
+        jsonGenerator.flush();
+    }
+
+    /**
+     * Writes tree in ITF format.
+     * */
+    public void writeInItfFormat() throws IOException {
+        jsonGenerator.writeStartObject();
+        for (Object attribute : sortByOrder(rootDataSet.getParameters(), dataSetListContext.getGroups()).values()) {
+            if (attribute instanceof ParameterContext) {
+                ParameterContext parameterContext = (ParameterContext) attribute;
+                writeItfParameter(parameterContext.getName(), resolveRootParameter(parameterContext));
+            } else {
+                writeItfGroup((GroupContext) attribute);
+            }
+        }
+        jsonGenerator.writeEndObject();
+        jsonGenerator.flush();
+    }
+
+    private void writeAtpGroup(GroupContext groupContext) throws IOException {
+        DataSetContext dataSet = getDataSetByColumnNumber(groupContext.getDataSets());
+        boolean resolved = isResolved(groupContext, dataSet);
+        int mark = deferredWrites.size();
+        defer(() -> {
+            jsonGenerator.writeObjectFieldStart(groupContext.getName());
+            jsonGenerator.writeStringField("type", AttributeTypeName.DSL.name());
+            if (resolved && StringUtils.isNotEmpty(dataSet.getName())) {
+                jsonGenerator.writeStringField("value", dataSet.getName());
+            }
+            if (StringUtils.isNotEmpty(groupContext.getDataSetListName())) {
+                jsonGenerator.writeStringField("dsl", groupContext.getDataSetListName());
+            }
+        });
+        if (contextType != ContextType.NO_NULL_VALUES) {
+            flushDeferred();
+        }
+        if (resolved) {
+            int parametersMark = deferredWrites.size();
+            defer(() -> jsonGenerator.writeObjectFieldStart("parameters"));
+            for (ParameterContext parameterContext : getGroupParameters(dataSet)) {
+                AbstractParameter parameter = resolveGroupParameter(groupContext, dataSet, parameterContext);
+                if (!(contextType == ContextType.NO_NULL_VALUES && parameter.isNullValue())) {
+                    writeAtpParameter(parameterContext.getName(), parameter);
+                }
+            }
+            endDeferredObject(parametersMark);
+            int groupsMark = deferredWrites.size();
+            defer(() -> jsonGenerator.writeObjectFieldStart("groups"));
+            for (GroupContext childGroup : groupContext.getGroups()) {
+                writeAtpGroup(childGroup);
+            }
+            endDeferredObject(groupsMark);
+        }
+        if (discardDeferred(mark)) {
+            return;
+        }
+        if (dataSet != null && dataSet.getId() != null) {
+            jsonGenerator.writeStringField("dataSetId", dataSet.getId().toString());
+        }
+        jsonGenerator.writeEndObject();
+    }
+
+    private void writeAtpParameter(String name, AbstractParameter parameter) throws IOException {
+        flushDeferred();
+        jsonGenerator.writeFieldName(name);
+        jsonGenerator.writeObject(parameter);
+    }
+
+    private void writeItfGroup(GroupContext groupContext) throws IOException {
+        DataSetContext dataSet = getDataSetByColumnNumber(groupContext.getDataSets());
+        if (dataSet == null || dataSet.getId() == null) {
+            if (contextType != ContextType.NO_NULL_VALUES || hasNotNullParameters(groupContext, dataSet)) {
+                flushDeferred();
+                jsonGenerator.writeStringField(groupContext.getName(), "");
+            }
+            return;
+        }
+        int mark = deferredWrites.size();
+        defer(() -> jsonGenerator.writeObjectFieldStart(groupContext.getName()));
+        if (contextType != ContextType.NO_NULL_VALUES) {
+            flushDeferred();
+        }
+        if (isResolved(groupContext, dataSet)) {
+            for (Object attribute : sortByOrder(getGroupParameters(dataSet), groupContext.getGroups()).values()) {
+                if (attribute instanceof ParameterContext) {
+                    ParameterContext parameterContext = (ParameterContext) attribute;
+                    AbstractParameter parameter = resolveGroupParameter(groupContext, dataSet, parameterContext);
+                    if (!(contextType == ContextType.NO_NULL_VALUES && parameter.isNullValue())) {
+                        writeItfParameter(parameterContext.getName(), parameter);
+                    }
+                } else {
+                    writeItfGroup((GroupContext) attribute);
+                }
+            }
+        }
+        endDeferredObject(mark);
+    }
+
+    private void writeItfParameter(String name, AbstractParameter parameter) throws IOException {
+        flushDeferred();
+        jsonGenerator.writeStringField(name, StringUtils.defaultIfEmpty(parameter.getInItfFormatValue(), ""));
+    }
+
+    /**
+     * Same conditions as in {@link DataSetGroup}: parameters and child groups are resolved only for these groups.
+     * */
+    private boolean isResolved(GroupContext groupContext, DataSetContext dataSet) {
+        if (dataSet == null) {
+            return false;
+        }
+        if (contextType == ContextType.OBJECT) {
+            return dataSet.getId() != null;
+        }
+        if (contextType == ContextType.OBJECT_EXTENDED) {
+            return dataSet.getId() == null && dataSetListContext.getRootOverlapNode()
+                    .containsOverlapsInPath(groupContext.getCurrentPath(), column);
+        }
+        return true;
+    }
+
+    /**
+     * Group without DS selected is written as empty string, but it's skipped for {@link ContextType#NO_NULL_VALUES}
+     * if neither it nor its child groups have not null parameters.
+     * */
+    private boolean hasNotNullParameters(GroupContext groupContext, DataSetContext dataSet) {
+        if (!isResolved(groupContext, dataSet)) {
+            return false;
+        }
+        for (ParameterContext parameterContext : getGroupParameters(dataSet)) {
+            if (!resolveGroupParameter(groupContext, dataSet, parameterContext).isNullValue()) {
+                return true;
+            }
+        }
+        for (GroupContext childGroup : groupContext.getGroups()) {
+            if (hasNotNullParameters(childGroup, getDataSetByColumnNumber(childGroup.getDataSets()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<ParameterContext> getGroupParameters(DataSetContext dataSet) {
+        if (contextType != ContextType.OBJECT_EXTENDED) {
+            return dataSet.getParameters();
+        }
+        List<ParameterContext> overlaps = new ArrayList<>();
+        for (ParameterContext parameterContext : dataSet.getParameters()) {
+            if (parameterContext.isOverlap()) {
+                overlaps.add(parameterContext);
+            }
+        }
+        return overlaps;
+    }
+
+    private AbstractParameter resolveRootParameter(ParameterContext parameterContext) {
+        return resolveParameter(parameterContext, new ParameterPositionContext(
+                Collections.emptyList(),
+                column,
+                rootDataSet.getId(),
+                parameterContext.getOrder(),
+                dataSetListContext.getDataSetListId()
+        ));
+    }
+
+    private AbstractParameter resolveGroupParameter(GroupContext groupContext, DataSetContext dataSet,
+                                                    ParameterContext parameterContext) {
+        return resolveParameter(parameterContext, new ParameterPositionContext(
+                groupContext.getCurrentPath(),
+                column,
+                dataSet.getId(),
+                parameterContext.getOrder(),
+                groupContext.getDataSetListId()
+        ));
+    }
+
+    private AbstractParameter resolveParameter(ParameterContext parameterContext,
+                                               ParameterPositionContext positionContext) {
+        return dataSetParameterProvider.getDataSetParameterResolved(
+                macroContext.getDataSetListContext().getDataSetListId(),
+                parameterContext.getParameterId(),
+                parameterContext.getType(),
+                evaluate,
+                macroContext,
+                positionContext
+        );
+    }
+
+    private DataSetContext getDataSetByColumnNumber(List<DataSetContext> dataSets) {
+        for (DataSetContext dataSet : dataSets) {
+            if (dataSet.getColumnNumber() == column) {
+                return dataSet;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * ITF format keeps attributes ordered, parameter and group with the same order are written once.
+     * */
+    private static Map<Long, Object> sortByOrder(List<ParameterContext> parameters, List<GroupContext> groups) {
+        Map<Long, Object> attributes = new TreeMap<>();
+        for (ParameterContext parameter : parameters) {
+            attributes.put(parameter.getOrder(), parameter);
+        }
+        for (GroupContext group : groups) {
+            attributes.put(group.getOrder(), group);
+        }
+        return attributes;
+    }
+
+    private void defer(DeferredWrite write) {
+        deferredWrites.add(write);
+    }
+
+    private void flushDeferred() throws IOException {
+        for (DeferredWrite write : deferredWrites) {
+            write.write();
+        }
+        deferredWrites.clear();
+    }
+
+    /**
+     * Drops writes deferred since mark.
+     *
+     * @return true if nothing was written since mark.
+     * */
+    private boolean discardDeferred(int mark) {
+        if (deferredWrites.size() > mark) {
+            deferredWrites.subList(mark, deferredWrites.size()).clear();
+            return true;
+        }
+        return false;
+    }
+
+    private void endDeferredObject(int mark) throws IOException {
+        if (!discardDeferred(mark)) {
+            jsonGenerator.writeEndObject();
+        }
+    }
+
+    @FunctionalInterface
+    private interface DeferredWrite {
+        void write() throws IOException;
+    }
+}
@@ -19,12 +19,17 @@ package org.qubership.atp.dataset.service.rest.facade;
 import static org.qubership.atp.dataset.service.jpa.impl.MetricsService.ATP_MAX_SIZE_DOWNLOAD_FILE_PER_PROJECT_TOTAL;
 import static org.qubership.atp.dataset.service.jpa.impl.MetricsService.ATP_MAX_SIZE_UPLOAD_FILE_PER_PROJECT_TOTAL;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import jakarta.annotation.Nullable;
+
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.atp.dataset.exception.file.FileDsReadException;
 import org.qubership.atp.dataset.model.Parameter;
 import org.qubership.atp.dataset.model.impl.file.FileData;
 import org.qubership.atp.dataset.service.direct.ConcurrentModificationService;
@@ -34,6 +39,7 @@ import org.qubership.atp.dataset.service.jpa.impl.MetricsService;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -41,6 +47,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.PathVariable;
 
 import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -49,44 +56,108 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Service
 public class AttachmentControllerFacade {
+    private static final String BYTES_UNIT = "bytes";
+
     private final GridFsService gridFsService;
     private final ParameterService parameterService;
     private final ConcurrentModificationService concurrentModificationService;
     private final MetricsService metricsService;
 
     /**
-     * Download file by parameter id.
+     * Download file by parameter id. The GridFS download stream is passed to the response as is, a single
+     * byte range is served with 206 status when the Range header is provided.
      */
-    public ResponseEntity<InputStreamResource> getAttachmentByParameterId(UUID parameterUuid) {
+    public ResponseEntity<InputStreamResource> getAttachmentByParameterId(UUID parameterUuid,
+                                                                          @Nullable String range) {
         UUID projectId = parameterService.get(parameterUuid).getDataSet().getDataSetList().getVisibilityArea().getId();
         Optional<InputStream> optional = gridFsService.get(parameterUuid);
-        FileData info = gridFsService.getFileInfo(parameterUuid);
 
         if (optional.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
-        InputStreamResource inputStreamResource = new InputStreamResource(optional.get());
-        ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
-                .filename(info.getFileName(), StandardCharsets.UTF_8)
-                .build();
+        InputStream stream = optional.get();
+        FileData info = gridFsService.getFileInfo(parameterUuid);
         GridFSFile attachment = gridFsService.getGridFsFile(parameterUuid);
-        metricsService.registerMetricFileSize(attachment.getLength(), projectId,
-                ATP_MAX_SIZE_DOWNLOAD_FILE_PER_PROJECT_TOTAL);
-        return ResponseEntity
-                .ok()
-                .contentType(MediaType.parseMediaType(info.getContentType()))
-                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
-                .body(inputStreamResource);
+        long length = attachment.getLength();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(info.getContentType()));
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.builder("attachment")
+                .filename(info.getFileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        headers.set(HttpHeaders.ACCEPT_RANGES, BYTES_UNIT);
+
+        Optional<HttpRange> httpRange = parseSingleRange(range);
+        if (httpRange.isEmpty()) {
+            headers.setContentLength(length);
+            metricsService.registerMetricFileSize(length, projectId, ATP_MAX_SIZE_DOWNLOAD_FILE_PER_PROJECT_TOTAL);
+            return ResponseEntity.ok().headers(headers).body(new InputStreamResource(stream));
+        }
+        long start;
+        long end;
+        try {
+            start = httpRange.get().getRangeStart(length);
+            end = httpRange.get().getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            start = length;
+            end = length - 1;
+        }
+        if (start > end) {
+            closeQuietly(stream, parameterUuid);
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, BYTES_UNIT + " */" + length)
+                    .build();
+        }
+        try {
+            // GridFS download stream skips whole chunks without reading them
+            ByteStreams.skipFully(stream, start);
+        } catch (IOException e) {
+            log.error("Cannot skip {} bytes of file for parameter {}", start, parameterUuid, e);
+            closeQuietly(stream, parameterUuid);
+            throw new FileDsReadException();
+        }
+        long rangeLength = end - start + 1;
+        headers.setContentLength(rangeLength);
+        headers.set(HttpHeaders.CONTENT_RANGE, BYTES_UNIT + " " + start + "-" + end + "/" + length);
+        metricsService.registerMetricFileSize(rangeLength, projectId, ATP_MAX_SIZE_DOWNLOAD_FILE_PER_PROJECT_TOTAL);
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .headers(headers)
+                .body(new InputStreamResource(ByteStreams.limit(stream, rangeLength)));
+    }
+
+    /**
+     * Returns the only requested range. Malformed headers and multipart ranges are ignored,
+     * the whole file is returned in such case.
+     */
+    private Optional<HttpRange> parseSingleRange(@Nullable String range) {
+        if (StringUtils.isBlank(range)) {
+            return Optional.empty();
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? Optional.of(ranges.get(0)) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignore invalid range header: {}", range);
+            return Optional.empty();
+        }
+    }
+
+    private void closeQuietly(InputStream stream, UUID parameterUuid) {
+        try {
+            stream.close();
+        } catch (IOException e) {
+            log.warn("Cannot close file stream for parameter {}", parameterUuid, e);
+        }
     }
 
     /**
      * Download file by attribute and dataset id.
      */
     public ResponseEntity<InputStreamResource> getAttachmentByAttributeIdAndDatasetId(
-            UUID attributeId, UUID datasetId) {
+            UUID attributeId, UUID datasetId, @Nullable String range) {
         Parameter parameter = parameterService.getByDataSetIdAttributeId(datasetId, attributeId);
         Preconditions.checkNotNull(parameter.getId(), "Could not get parameters id");
-        return getAttachmentByParameterId(parameter.getId());
+        return getAttachmentByParameterId(parameter.getId(), range);
     }
 
     /**
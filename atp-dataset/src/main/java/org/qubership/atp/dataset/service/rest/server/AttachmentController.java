@@ -25,6 +25,7 @@ import org.qubership.atp.dataset.model.impl.file.FileData;
 import org.qubership.atp.dataset.service.rest.facade.AttachmentControllerFacade;
 import org.qubership.atp.integration.configuration.configuration.AuditAction;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -32,6 +33,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -54,26 +56,28 @@ public class AttachmentController /*extends AttachmentControllerApi*/ {
      * @return file;
      */
     @PreAuthorize("@entityAccess.checkAccess("
-            + "@parameterServiceImpl.get(#parameterUuid).getDataSet().getDataSetList().getVisibilityArea().getId(),"
+            + "@visibilityAreaResolverServiceImpl.getByParameterId(#parameterUuid),"
             + "'READ')")
     @AuditAction(auditAction = "Get file by parameter: {{#parameterUuid}}")
     @GetMapping(value = "/{parameterUuid}", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
     public ResponseEntity<InputStreamResource> getAttachmentByParameterId(
-            @PathVariable("parameterUuid") UUID parameterUuid) {
-        return attachmentControllerFacade.getAttachmentByParameterId(parameterUuid);
+            @PathVariable("parameterUuid") UUID parameterUuid,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range) {
+        return attachmentControllerFacade.getAttachmentByParameterId(parameterUuid, range);
     }
 
     /**
      * Download file by attribute and dataset id.
      */
     @PreAuthorize("@entityAccess.checkAccess("
-            + "@dataSetServiceImpl.get(#datasetId).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#datasetId),'READ')")
     @AuditAction(auditAction = "Get file by attribute: {{#attributeId}} and dataset: {{#datasetId}}")
     @GetMapping(value = "/attributeId/{attributeId}/dataset/{datasetId}", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
     public ResponseEntity<InputStreamResource> getAttachmentByAttributeIdAndDatasetId(
             @PathVariable("attributeId") UUID attributeId,
-            @PathVariable("datasetId") UUID datasetId) {
-        return attachmentControllerFacade.getAttachmentByAttributeIdAndDatasetId(attributeId, datasetId);
+            @PathVariable("datasetId") UUID datasetId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range) {
+        return attachmentControllerFacade.getAttachmentByAttributeIdAndDatasetId(attributeId, datasetId, range);
     }
 
     /**
@@ -86,7 +90,7 @@ public class AttachmentController /*extends AttachmentControllerApi*/ {
      * @return transfer object of {@link FileData}
      */
     @PreAuthorize("@entityAccess.checkAccess("
-            + "@parameterServiceImpl.get(#parameterUuid).getDataSet().getDataSetList().getVisibilityArea().getId(),"
+            + "@visibilityAreaResolverServiceImpl.getByParameterId(#parameterUuid),"
             + "'UPDATE')")
     @AuditAction(auditAction = "Upload file by parameter: {{#parameterUuid}}")
     @PostMapping("/{parameterUuid}")
@@ -106,7 +110,7 @@ public class AttachmentController /*extends AttachmentControllerApi*/ {
      * @return transfer object of {@link FileData}
      */
     @PreAuthorize("@entityAccess.checkAccess("
-            + "@dataSetServiceImpl.get(#datasetId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#datasetId),'UPDATE')")
     @AuditAction(auditAction = "Upload file by attribute: {{#attributeId}} and dataset: {{#datasetId}}")
     @PostMapping("/attributeId/{attributeId}/dataset/{datasetId}")
     public ResponseEntity<FileData> uploadByAttributeIdAndDatasetId(@PathVariable("attributeId") UUID attributeId,
@@ -125,7 +129,7 @@ public class AttachmentController /*extends AttachmentControllerApi*/ {
      * Delete attachment from parameter.
      */
     @PreAuthorize("@entityAccess.checkAccess("
-            + "@parameterServiceImpl.get(#parameterId).getDataSet().getDataSetList().getVisibilityArea().getId(),"
+            + "@visibilityAreaResolverServiceImpl.getByParameterId(#parameterId),"
             + "'DELETE')")
     @AuditAction(auditAction = "Delete file by parameter: {{#parameterUuid}}")
     @DeleteMapping("/{parameterUuid}")
@@ -137,7 +141,7 @@ public class AttachmentController /*extends AttachmentControllerApi*/ {
      * Delete attachment from parameter.
      */
     @PreAuthorize("@entityAccess.checkAccess("
-            + "@dataSetServiceImpl.get(#datasetId).getDataSetList().getVisibilityArea().getId(),'DELETE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#datasetId),'DELETE')")
     @AuditAction(auditAction = "Delete file by attribute: {{#attributeId}} and dataset: {{#datasetId}}")
     @DeleteMapping("/attributeId/{attributeId}/dataset/{datasetId}")
     public ResponseEntity<Void> deleteByAttributeIdAndDatasetId(@PathVariable("attributeId") UUID attributeId,
@@ -76,7 +76,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'CREATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'CREATE')")
     @PutMapping("/dsl/{dataSetListId}")
     @AuditAction(auditAction = "Create new attribute with name: {{#name}} in dataset list: {{#dataSetListId}}")
     @Operation(summary = "Creates new attribute with provided name and order.")
@@ -113,7 +113,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@attributeServiceImpl.get(#attributeId).getDataSetList().getVisibilityArea().getId(),'DELETE')")
+            + "@visibilityAreaResolverServiceImpl.getByAttributeId(#attributeId),'DELETE')")
     @DeleteMapping("/{attributeId}")
     @AuditAction(auditAction = "Delete attribute: {{#attributeId}}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -134,7 +134,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'DELETE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'DELETE')")
     @DeleteMapping("/dsl/{dataSetListId}/all")
     @AuditAction(auditAction = "Delete attributes in dataset list: {{#dataSetListId}}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -161,7 +161,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/dsl/{dataSetListId}")
     @AuditAction(auditAction = "Get attributes in dataset list: {{#dataSetListId}}")
     @Operation(
@@ -178,7 +178,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/dsl/{dataSetListId}/itf")
     @AuditAction(auditAction = "attributes in ITF format from dataset list: {{#dataSetListId}}")
     @Operation(summary = "Returns all attributes by dataSetList id in itf format: [attr1.attr2, attr1].")
@@ -191,7 +191,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@attributeServiceImpl.get(#attributeId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByAttributeId(#attributeId),'UPDATE')")
     @PostMapping("/{attributeId}")
     @AuditAction(auditAction = "Rename attribute: {{#attributeId}} on {{#name}}")
     @Operation(summary = "Renames selected attribute.")
@@ -214,7 +214,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@attributeServiceImpl.get(#attributeId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByAttributeId(#attributeId),'UPDATE')")
     @PutMapping("/{attributeId}/dataSetListReference")
     @AuditAction(auditAction = "Update dataset list reference in attribute: {{#attributeId}}")
     @Operation(summary = "Update DSL reference.")
@@ -230,7 +230,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@attributeServiceImpl.get(#attributeId).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByAttributeId(#attributeId),'READ')")
     @GetMapping("/{attributeId}")
     @AuditAction(auditAction = "Update dataset list reference in attribute: {{#attributeId}}")
     @Operation(summary = "Returns attribute.")
@@ -243,7 +243,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@attributeServiceImpl.get(#attributeId).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByAttributeId(#attributeId),'READ')")
     @GetMapping("/{attributeId}/options")
     @AuditAction(auditAction = "Get options attribute: {{#attributeId}}")
     public Object getOptions(@PathVariable("attributeId") UUID attributeId) {
@@ -255,7 +255,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@attributeServiceImpl.get(#attributeId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByAttributeId(#attributeId),'UPDATE')")
     @PutMapping("/{attributeId}/listValues")
     @AuditAction(auditAction = "Create new list value for attribute: {{#attributeId}}")
     @Operation(summary = "Creates new list value for provided attribute.")
@@ -281,7 +281,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@attributeServiceImpl.get(#attributeId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByAttributeId(#attributeId),'UPDATE')")
     @PostMapping("/{attributeId}/listValues")
     @AuditAction(auditAction = "Create new list values for attribute: {{#attributeId}} by text")
     @Operation(summary = "Creates new list values for provided attribute by text.")
@@ -303,7 +303,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@attributeServiceImpl.get(#attributeId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByAttributeId(#attributeId),'UPDATE')")
     @DeleteMapping("/{attributeId}/listValues/{listValueId}")
     @AuditAction(auditAction = "Delete list value: {{#listValueId}} in attribute: {{#attributeId}}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -325,7 +325,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@attributeServiceImpl.get(#attributeId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByAttributeId(#attributeId),'UPDATE')")
     @DeleteMapping("/{attributeId}/bulk")
     @AuditAction(auditAction = "Bulk delete list value: {{#listValueIds}} in attribute: {{#attributeId}}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -356,7 +356,7 @@ public class AttributeController {
 
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@attributeServiceImpl.get(#attributeId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByAttributeId(#attributeId),'UPDATE')")
     @PostMapping("/{attributeId}/position")
     @AuditAction(auditAction = "Set position of attribute: {{#attributeId}}")
     @Operation(summary = "Creates new list values for provided attribute by text.")
@@ -375,7 +375,7 @@ public class AttributeController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@attributeServiceImpl.get(#targetAttrId).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByAttributeId(#targetAttrId),'READ')")
     @PostMapping("/{dataSetListId}/existedValues")
     @AuditAction(auditAction = "Get parameters value and datasets id of attribute: {{#targetAttrId}}")
     @Operation(summary = "Sort Attribute values.")
@@ -24,6 +24,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -34,6 +35,8 @@ import org.qubership.atp.dataset.model.DataSet;
 import org.qubership.atp.dataset.model.Label;
 import org.qubership.atp.dataset.model.MixInId;
 import org.qubership.atp.dataset.model.Parameter;
+import org.qubership.atp.dataset.model.api.CompareDsBulkRequest;
+import org.qubership.atp.dataset.model.api.CompareDsBulkResponse;
 import org.qubership.atp.dataset.model.api.CompareDsRequest;
 import org.qubership.atp.dataset.model.api.CompareDsResponse;
 import org.qubership.atp.dataset.model.api.CopyDsAttributeBulkRequest;
@@ -108,7 +111,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(), 'CREATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId), 'CREATE')")
     @PutMapping("/{dataSetListId}/ds")
     @AuditAction(auditAction = "Creates new dataset with name: {{#name}} in dataset list: {{#dataSetListId}}")
     @Operation(summary = "Creates new DS with name provided.")
@@ -131,7 +134,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(), 'DELETE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId), 'DELETE')")
     @DeleteMapping("/{dataSetId}")
     @AuditAction(auditAction = "Delete dataset: {{#dataSetId}}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -189,7 +192,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'READ')")
     @GetMapping("/{dataSetId}")
     @AuditAction(auditAction = "Get dataset: {{#dataSetId}}")
     @Operation(summary = "Returns dataSet by id.")
@@ -202,7 +205,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId.getUuid()).getDataSetList().getVisibilityArea().getId(), 'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId.getUuid()), 'READ')")
     @GetMapping("/{dataSetId}/legacy/itf")
     @AuditAction(auditAction = "Get dataset: {{#dataSetId}} in ITF format")
     @Operation(summary = "Returns dataSet by id in ITF format: "
@@ -216,7 +219,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId.getUuid()).getDataSetList().getVisibilityArea().getId(), 'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId.getUuid()), 'READ')")
     @PostMapping("/{dataSetId}/legacy/atp")
     @AuditAction(auditAction = "Get dataset: {{#dataSetId}} in ITF format + atp macros")
     @Operation(summary = "Returns dataSet by id in ITF format + atp macros")
@@ -252,7 +255,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(), 'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId), 'READ')")
     @PostMapping("/{dataSetId}/atp")
     @AuditAction(auditAction = "Get dataset: {{#dataSetId}} in ATP format + atp macros")
     @Operation(summary = "Returns dataSet by id in ITF format + atp macros")
@@ -264,6 +267,29 @@ public class DataSetController {
         return dataSetService.getDataSetTreeInAtpFormat(dataSetId, isEvaluate, atpContext, ContextType.FULL);
     }
 
+    /**
+     * Streams dataSet by id in ATP format + atp macros. Parameters are written to the response while they are
+     * resolved, so the whole tree is never held in memory.
+     */
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId), 'READ')")
+    @PostMapping("/{dataSetId}/atp/stream")
+    @AuditAction(auditAction = "Get dataset: {{#dataSetId}} in ATP format + atp macros")
+    @Operation(summary = "Streams dataSet by id in ATP format + atp macros")
+    public ResponseEntity<StreamingResponseBody> streamAtpContext(
+            @PathVariable("dataSetId") UUID dataSetId,
+            @RequestParam(value = "evaluate", required = false) QueryParamFlag evaluate,
+            @RequestParam(value = "contextType", required = false, defaultValue = "FULL") ContextType contextType,
+            @RequestBody(required = false) String atpContext) {
+        boolean isEvaluate = QueryParamFlag.isPresent(evaluate);
+        StreamingResponseBody stream = outputStream -> dataSetService.writeDataSetTreeInAtpFormat(
+                dataSetId, isEvaluate, atpContext, contextType, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(stream);
+    }
+
     /**
      * Gets atp context full.
      * Bulk method.
@@ -278,7 +304,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(), 'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId), 'READ')")
     @PostMapping("/{dataSetId}/atp/bulk")
     @AuditAction(auditAction = "Get dataset: {{#dataSetId}} in ATP format + atp macros")
     @Operation(summary = "Returns dataSet by id in ITF format + atp macros")
@@ -293,13 +319,47 @@ public class DataSetController {
                 .getDataSetTreeInAtpFormat(dataSetId, isEvaluate, atpContext, ContextType.FULL, countOfEvaluates);
     }
 
+    /**
+     * Streaming bulk method.
+     * Evaluates countOfEvaluates copies in parallel and writes them to the response as JSON array
+     * in the same format as bulk methods do.
+     *
+     * @param dataSetId the data set id
+     * @param evaluate the evaluate
+     * @param countOfEvaluates the count of evaluates
+     * @param contextType the type of tree, FULL by default
+     * @param atpContext the atp context
+     * @return the stream of atp contexts
+     */
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId), 'READ')")
+    @PostMapping("/{dataSetId}/atp/bulk/stream")
+    @AuditAction(auditAction = "Get dataset: {{#dataSetId}} in ATP format + atp macros")
+    @Operation(summary = "Streams copies of dataSet by id in ATP format + atp macros")
+    public ResponseEntity<StreamingResponseBody> streamAtpContexts(
+            @PathVariable("dataSetId") UUID dataSetId,
+            @RequestParam(value = "evaluate", required = false) QueryParamFlag evaluate,
+            @RequestParam(value = "countOfEvaluates", required = false, defaultValue = "1") Integer countOfEvaluates,
+            @RequestParam(value = "contextType", required = false, defaultValue = "FULL") ContextType contextType,
+            @RequestBody(required = false) String atpContext) {
+        boolean isEvaluate = QueryParamFlag.isPresent(evaluate);
+        log.info("Request for Data Set stream in ATP format '{}' with evaluate={}, countOfEvaluates={}",
+                dataSetId, isEvaluate, countOfEvaluates);
+        StreamingResponseBody stream = outputStream -> dataSetService.writeDataSetTreesInAtpFormat(
+                dataSetId, isEvaluate, atpContext, contextType, countOfEvaluates, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(stream);
+    }
+
     /**
      * Returns dataSet by id in ATP format + atp macros. Table model - if DS is not selected,
      * that means there is no parameters at all.
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(), 'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId), 'READ')")
     @PostMapping("/{dataSetId}/atp/object")
     @AuditAction(auditAction = "Get dataset: {{#dataSetId}} in ATP format + atp macros")
     @Operation(summary = "Returns dataSet by id in ITF format + atp macros")
@@ -329,7 +389,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(), 'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId), 'READ')")
     @PostMapping("/{dataSetId}/atp/object/bulk")
     @AuditAction(auditAction = "Get dataset: {{#dataSetId}} in ATP format + atp macros")
     @Operation(summary = "Returns dataSet by id in ITF format + atp macros")
@@ -350,7 +410,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(), 'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId), 'READ')")
     @PostMapping("/{dataSetId}/atp/optimized")
     @AuditAction(auditAction = "Get dataset: {{#dataSetId}} in ATP format + atp macros")
     @Operation(summary = "Returns dataSet by id in ITF format + atp macros")
@@ -379,7 +439,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(), 'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId), 'READ')")
     @PostMapping("/{dataSetId}/atp/optimized/bulk")
     @AuditAction(auditAction = "Get dataset: {{#dataSetId}} in ATP format + atp macros")
     @Operation(summary = "Returns dataSet by id in ITF format + atp macros")
@@ -400,7 +460,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(), 'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId), 'READ')")
     @PostMapping("/{dataSetId}/atp/objectExtended")
     @AuditAction(auditAction = "Get dataset: {{#dataSetId}} in ATP format + atp macros")
     @Operation(summary = "Returns dataSet by id in ATP format + atp macros")
@@ -419,7 +479,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(), 'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId), 'READ')")
     @Operation(summary = "Returns dataSet by id in ITF format + atp macros")
     @GetMapping(value = "/{dataSetId}/itf", produces = MediaType.APPLICATION_JSON_VALUE)
     @AuditAction(auditAction = "Get dataset: {{#dataSetId}} in ITF format")
@@ -427,12 +487,29 @@ public class DataSetController {
         return dataSetService.getDataSetTreeInItfFormat(dataSetId);
     }
 
+    /**
+     * Streams dataSet by id in ITF format + atp macros.
+     */
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId), 'READ')")
+    @Operation(summary = "Streams dataSet by id in ITF format + atp macros")
+    @GetMapping(value = "/{dataSetId}/itf/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @AuditAction(auditAction = "Get dataset: {{#dataSetId}} in ITF format")
+    public ResponseEntity<StreamingResponseBody> streamItfContext(@PathVariable("dataSetId") UUID dataSetId) {
+        StreamingResponseBody stream = outputStream -> dataSetService.writeDataSetTreeInItfFormat(
+                dataSetId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(stream);
+    }
+
     /**
      * Renames DS.
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'UPDATE')")
     @PostMapping("/{dataSetId}")
     @AuditAction(auditAction = "Rename dataset: {{#dataSetId}} on {{#name}}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -453,7 +530,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'READ')")
     @PostMapping("/{dataSetId}/parameters")
     @AuditAction(auditAction = "Get attribute of dataset: {{#dataSetId}}")
     public UiManAttribute getUiAttribute(@PathVariable("dataSetId") UUID dataSetId,
@@ -470,7 +547,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'READ')")
     @GetMapping("/affected/by")
     @AuditAction(auditAction = "Get dataset: {{#dataSetId}} or TableResponse with overridden parameters")
     @Operation(
@@ -491,7 +568,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetsIds.get(0)).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetsIds.get(0)),'UPDATE')")
     @PostMapping("/reset/affected/by")
     @AuditAction(auditAction = "Reset to default value overridden parameters in dataset list: {{#dataSetListId}}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -513,7 +590,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'CREATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'CREATE')")
     @PutMapping("/{dataSetId}/copy")
     @AuditAction(auditAction = "Copy dataset: {{#dataSetId}} with name: {{#name}}")
     @Operation(summary = "Copy DS with name provided.")
@@ -526,7 +603,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dsId).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dsId),'READ')")
     @GetMapping("/parent/path")
     @AuditAction(auditAction = "Get path to dataset: {{#dsId}}")
     @Operation(
@@ -557,7 +634,7 @@ public class DataSetController {
 
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'READ')")
     @GetMapping("/{dataSetId}/affectedDatasets")
     @AuditAction(auditAction = "Get all affected dataSets by changes at reference: {{#dataSetId}} with pagination")
     @Operation(summary = "Returns all affected dataSets by specified reference with pagination support.")
@@ -569,7 +646,7 @@ public class DataSetController {
 
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'READ')")
     @GetMapping("/{dataSetId}/affectedDatasetsCount")
     @Operation(summary = "Returns all affected dataSets count by specified reference.")
     @AuditAction(auditAction = "Get count of affected dataSets by changes at reference: {{#dataSetId}}")
@@ -582,7 +659,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'UPDATE')")
     @PostMapping("/reset/by")
     @Operation(summary = "Reset all selected datasets, at changed attribute. "
             + "dataSetIds is ids of datasets in which we want to reset overridden parameters with attributeId provided")
@@ -605,7 +682,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'UPDATE')")
     @PutMapping("/{dataSetId}/label")
     @AuditAction(auditAction = "Add label: {{#name}} to dataset: {{#dataSetId}}")
     public ResponseEntity<Label> addLabel(@PathVariable("dataSetId") UUID dataSetId,
@@ -624,7 +701,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'READ')")
     @GetMapping("/{dataSetId}/label")
     @AuditAction(auditAction = "Get labels for dataset: {{#dataSetId}}")
     public List<Label> getLabels(@PathVariable("dataSetId") UUID dataSetId) {
@@ -636,7 +713,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'UPDATE')")
     @DeleteMapping("/{dataSetId}/label/{labelId}")
     @AuditAction(auditAction = "Delete label: {{#labelId}} for dataset: {{#dataSetId}}")
     public ResponseEntity<Boolean> deleteLabel(@PathVariable("dataSetId") UUID dataSetId,
@@ -657,7 +734,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetJson.get(\"id\").asText()).getDataSetList().getVisibilityArea().getId(),"
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetJson.get(\"id\").asText()),"
             + "'UPDATE')")
     @PostMapping("/restore")
     @AuditAction(auditAction = "Restore dataset in dataset list: {{#dataSetListId}}")
@@ -673,7 +750,7 @@ public class DataSetController {
 
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/{dataSetListId}/short")
     @AuditAction(auditAction = "Get datasets short in dataset list: {{#dataSetListId}}")
     @Operation(
@@ -688,7 +765,7 @@ public class DataSetController {
 
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'UPDATE')")
     @PostMapping("/{dataSetId}/position")
     @AuditAction(auditAction = "Set position of dataset: {{#dataSetId}}")
     @Operation(summary = "Creates new list values for provided attribute by text.")
@@ -703,10 +780,10 @@ public class DataSetController {
     @PreAuthorize("#isLock "
             + "? @entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(), 'LOCK') "
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId), 'LOCK') "
             + ": @entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(), 'UNLOCK')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId), 'UNLOCK')")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PostMapping("/lock/update")
     @AuditAction(auditAction = "Lock datasets: {{#dataSetListId}} in dataset list: {{#dataSetId}}")
@@ -727,7 +804,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetsIds.get(0)).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetsIds.get(0)),'READ')")
     @PostMapping("/listOfDatasets")
     @Operation(summary = "Returns dataSets by id-s.")
     public List<DataSet> getDataSetsByIds(@RequestBody List<UUID> dataSetsIds) {
@@ -750,9 +827,26 @@ public class DataSetController {
         return new CompareDsResponse(status);
     }
 
+    /**
+     * Compare target datasets with the base one.
+     */
+    @PreAuthorize("@entityAccess.isAuthenticated()")
+    @PostMapping("/compare/bulk")
+    @Operation(summary = "Compare Datasets with the base one")
+    public List<CompareDsBulkResponse> compareDsAtpBulk(@RequestBody CompareDsBulkRequest request) {
+        UUID baseDataSetId = request.getBaseDataSetId();
+        List<UUID> targetDataSetIds = request.getTargetDataSetIds();
+        if (isNull(baseDataSetId) || isNull(targetDataSetIds) || targetDataSetIds.contains(null)) {
+            throw new DataSetIdNotSpecifiedException();
+        }
+        return compare.compare(baseDataSetId, targetDataSetIds).entrySet().stream()
+                .map(entry -> new CompareDsBulkResponse(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#request.getLeftDatasetId()).getDataSetList().getVisibilityArea().getId(),"
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#request.getLeftDatasetId()),"
             + "'READ')")
     @PostMapping("/compare/detailed")
     @Operation(summary = "Detailed comparison datasets")
@@ -765,7 +859,7 @@ public class DataSetController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#request.getTargetDataSetId()).getDataSetList().getVisibilityArea().getId(),"
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#request.getTargetDataSetId()),"
             + "'UPDATE')")
     @PostMapping("/compare/copy")
     @Operation(summary = "Copy attribute from source dataset to target dataset")
@@ -778,7 +872,7 @@ public class DataSetController {
 
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetServiceImpl.get(#request.getTargetDataSetId()).getDataSetList().getVisibilityArea().getId(),"
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#request.getTargetDataSetId()),"
             + "'UPDATE')")
     @PostMapping("/compare/copy/bulk")
     @Operation(summary = "Copy all attributes from source dataset to target dataset")
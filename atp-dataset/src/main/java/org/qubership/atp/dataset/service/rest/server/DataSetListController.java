@@ -34,6 +34,7 @@ import org.qubership.atp.auth.springbootstarter.entities.UserInfo;
 import org.qubership.atp.auth.springbootstarter.ssl.Provider;
 import org.qubership.atp.dataset.db.jpa.entities.AttributesSortType;
 import org.qubership.atp.dataset.db.jpa.entities.UserSettingsEntity;
+import org.qubership.atp.dataset.exception.dataset.DataSetPageException;
 import org.qubership.atp.dataset.model.DataSet;
 import org.qubership.atp.dataset.model.DataSetList;
 import org.qubership.atp.dataset.model.Label;
@@ -91,6 +92,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class DataSetListController {
 
+    static final int MAX_DATA_SETS_PAGE_SIZE = 1000;
+
     private final DataSetListService dslService;
     private final DataSetListCheckService dataSetListCheckService;
     private final ConcurrentModificationService concurrentModificationService;
@@ -124,7 +127,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'DELETE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'DELETE')")
     @DeleteMapping("/{dataSetListId}")
     @AuditAction(auditAction = "Delete dataset list: {{#dataSetListId}}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -176,7 +179,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/{dataSetListId}")
     @AuditAction(auditAction = "Get information about dataset list: {{#dataSetListId}}")
     @Operation(summary = "Returns information about the selected DSL.")
@@ -206,7 +209,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @PostMapping("/{dataSetListId}/filters")
     @Operation(summary = "Returns information about the selected DSL.")
     @AuditAction(auditAction = "Get information about dataset list: {{#dataSetListId}}")
@@ -240,7 +243,7 @@ public class DataSetListController {
 
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/{dataSetListId}/ds/{ds}")
     @AuditAction(auditAction = "Get information about dataset: {{#dsId}} in dataset list: {{#dataSetListId}}")
     @Operation(summary = "Returns information about the selected DS under DSL.")
@@ -254,7 +257,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/{dataSetListId}/full")
     @AuditAction(auditAction = "Get information about datasets in dataset list: {{#dataSetListId}}")
     @Operation(
@@ -275,7 +278,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/{dataSetListId}/ds")
     @AuditAction(auditAction = "Get datasets in dataset list: {{#dataSetListId}}")
     @Operation(
@@ -292,6 +295,33 @@ public class DataSetListController {
                 labelName);
     }
 
+    /**
+     * See {@link DataSetListService#getChildren(UUID, boolean, String, long, int)}.
+     * Limit is reduced to {@value #MAX_DATA_SETS_PAGE_SIZE}, since each dataset of the page is built.
+     */
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET.getName(),"
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
+    @GetMapping("/{dataSetListId}/ds/page")
+    @AuditAction(auditAction = "Get page of datasets in dataset list: {{#dataSetListId}}")
+    @Operation(summary = "Returns a page of datasets of the selected DSL and their total count.")
+    @JsonView(View.CreatedModified.class)
+    public PaginationResponse<DataSet> getDataSetsPage(@PathVariable("dataSetListId") UUID dataSetListId,
+                                                       @RequestParam(value = "skipEvaluate", required = false)
+                                                               QueryParamFlag skipEvaluate,
+                                                       @RequestParam(value = "label", required = false)
+                                                               String labelName,
+                                                       @RequestParam(value = "offset", required = false,
+                                                               defaultValue = "0") Long offset,
+                                                       @RequestParam(value = "limit", required = false,
+                                                               defaultValue = "100") Integer limit) {
+        if (offset < 0 || limit < 0) {
+            throw new DataSetPageException();
+        }
+        return dslService.getChildren(dataSetListId, !(Objects.isNull(skipEvaluate) || skipEvaluate.isPresent()),
+                labelName, offset, Math.min(limit, MAX_DATA_SETS_PAGE_SIZE));
+    }
+
     /**
      * List of dataset with DataSetId, Name, DataSetListId.
      */
@@ -307,7 +337,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'UPDATE')")
     @PostMapping("/{dataSetListId}")
     @AuditAction(auditAction = "Rename dataset list: {{#dataSetListId}}")
     @Operation(summary = "Renames selected DSL.")
@@ -329,7 +359,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'UPDATE')")
     @PutMapping("/{dataSetListId}/label")
     @AuditAction(auditAction = "Add label for dataset list: {{#dataSetListId}}")
     public ResponseEntity<Label> addLabel(@PathVariable("dataSetListId") UUID dataSetListId,
@@ -347,7 +377,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/{dataSetListId}/label")
     @AuditAction(auditAction = "Get labels for dataset list: {{#dataSetListId}}")
     public List<Label> getLabels(@PathVariable("dataSetListId") UUID dataSetListId) {
@@ -359,7 +389,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'UPDATE')")
     @DeleteMapping("/{dataSetListId}/label/{labelId}")
     @AuditAction(auditAction = "Delete label: {{#labelId}} for dataset list: {{#dataSetListId}}")
     public ResponseEntity<Boolean> deleteLabel(
@@ -430,7 +460,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/{dataSetListId}/getAffected")
     @AuditAction(auditAction = "Get affected attribute by deleting dataset list: {{#dataSetListId}}")
     @Operation(summary = "Get affected attribute by deleting dsl( data set storage).")
@@ -445,7 +475,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/{dataSetListId}/getAffectedCount")
     @AuditAction(auditAction = "Get affected attribute count by deleting dataset list: {{#dataSetListId}}")
     @Operation(summary = "Get affected attributes count by deleting dsl( data set storage).")
@@ -458,7 +488,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/{dataSetListId}/getAffectedDSL")
     @AuditAction(auditAction = "Get affected dataset list by deleting dataset list: {{#dataSetListId}}")
     @ResponseStatus(HttpStatus.PARTIAL_CONTENT)
@@ -480,7 +510,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/{dataSetListId}/modifiedWhen")
     @AuditAction(auditAction = "Get dataset list: {{#dataSetListId}} modifiedWhen")
     @Operation(summary = "Get dsl modifiedWhen.")
@@ -516,7 +546,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/{dataSetListId}/exists")
     @AuditAction(auditAction = "Check if dsl exists")
     @Operation(summary = "Check if dsl exists.")
@@ -540,7 +570,7 @@ public class DataSetListController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @PostMapping(path = "/{dataSetListId}/export/excel")
     @AuditAction(auditAction = "Export dataset lists: {{#dataSetListId}} to excel file")
     @Operation(summary = "Export dataset list to excel file")
@@ -550,12 +580,28 @@ public class DataSetListController {
                     "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
     }
 
+    /**
+     * Export several data set lists of visibility area to excel file, sheet per data set list.
+     */
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
+            + "#vaId,'READ')")
+    @PostMapping(path = "/va/{vaId}/export/excel")
+    @AuditAction(auditAction = "Export dataset lists: {{#dataSetListIds}} to excel file")
+    @Operation(summary = "Export dataset lists to excel file")
+    public ResponseEntity<InputStreamResource> exportDataSetLists(@PathVariable("vaId") UUID vaId,
+                                                                  @RequestBody List<UUID> dataSetListIds) {
+        File fileExcel = datasetListExportService.exportDataSetLists(vaId, dataSetListIds);
+        return HttpUtils.buildFileResponseEntity(fileExcel,
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+    }
+
     /**
      * Import data set list from excel file.
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'UPDATE')")
     @PostMapping(value = "/{dataSetListId}/import/excel")
     @AuditAction(auditAction = "Import dataset lists: {{#dataSetListId}} to excel file")
     @Operation(summary = "Import dataset list from excel file")
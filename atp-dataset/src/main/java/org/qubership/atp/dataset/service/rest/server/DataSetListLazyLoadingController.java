@@ -46,7 +46,7 @@ public class DataSetListLazyLoadingController {
      * */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId),'READ')")
     @GetMapping("/{dataSetListId}")
     @AuditAction(auditAction = "Get information about dataset lists: {{#dataSetListId}}")
     @Operation(summary = "Returns information about the selected DSL.")
@@ -81,7 +81,7 @@ public class DataSetListLazyLoadingController {
      * */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).DATASET_LIST.getName(),"
-            + "@dataSetListServiceImpl.get(#dataSetListId).getVisibilityArea().getId(), 'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetListId(#dataSetListId), 'READ')")
     @GetMapping("/{dataSetListId}/ReferenceByPath/rows/{attributePath}")
     @AuditAction(auditAction = "Get information about referenced dataset lists by attr path")
     @Operation(summary = "Returns information about the selected DSL.")
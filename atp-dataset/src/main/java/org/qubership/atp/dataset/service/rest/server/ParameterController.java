@@ -74,7 +74,7 @@ public class ParameterController {
      * Creates new parameter with provided text.
      */
     @PreAuthorize("@entityAccess.checkAccess("
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'CREATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'CREATE')")
     @PutMapping("/ds/{dataSetId}/attribute/{attributeId}")
     @AuditAction(auditAction = "Create new parameter for dataset: {{#dataSetId}} and attribute: {{#attributeId}}")
     @Operation(summary = "Creates new parameter with provided text.")
@@ -102,7 +102,7 @@ public class ParameterController {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'UPDATE')")
     @PostMapping("/ds/{dataSetId}/attribute/{attributeId}")
     @AuditAction(auditAction = "Update parameter value for dataset: {{#dataSetId}} and attribute: {{#attributeId}}")
     @Operation(summary = "Updates value of the selected parameter.")
@@ -153,7 +153,7 @@ public class ParameterController {
      * Bulk update value of parameters.
      */
     @PreAuthorize("@entityAccess.checkAccess("
-            + "@attributeServiceImpl.get(#attributeId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByAttributeId(#attributeId),'UPDATE')")
     @PostMapping(value = "/bulk/attribute/{attributeId}",
             consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @AuditAction(auditAction = "Bulk update value of parameters in attribute: {{#attributeId}}")
@@ -183,7 +183,7 @@ public class ParameterController {
      * @return HttpStatus
      */
     @PreAuthorize("@entityAccess.checkAccess("
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'DELETE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'DELETE')")
     @DeleteMapping
     @AuditAction(auditAction = "Delete parameter value for dataset: {{#dataSetId}} and attribute: {{#attributeId}}")
     @Operation(summary = "Deletes value of the selected parameter.")
@@ -237,7 +237,7 @@ public class ParameterController {
      * Returns the parameters of selected DSL and DS.
      */
     @PreAuthorize("@entityAccess.checkAccess("
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'READ')")
     @GetMapping("/ds/{dataSetId}")
     @AuditAction(auditAction = "Get parameters value in dataset: {{#dataSetId}}")
     @Operation(
@@ -262,7 +262,7 @@ public class ParameterController {
      * @return - original value overridden parameter.
      */
     @PreAuthorize("@entityAccess.checkAccess("
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'READ')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'READ')")
     @PostMapping("/get/original")
     @AuditAction(auditAction = "Get original parameter value for dataset: {{#dataSetId}} "
             + "and attribute: {{#targetAttrId}}")
@@ -58,7 +58,7 @@ public class ParameterControllerV2 {
      */
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.dataset.model.UserManagementEntities).ATTRIBUTE.getName(),"
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'UPDATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'UPDATE')")
     @PostMapping("/ds/{dataSetId}/attribute/{attributeId}")
     @AuditAction(auditAction = "Update parameter value for dataset: {{#dataSetId}} and attribute: {{#attributeId}}")
     @Operation(summary = "Updates value of the selected parameter.")
@@ -79,7 +79,7 @@ public class ParameterControllerV2 {
      * Creates new parameter with provided text.
      */
     @PreAuthorize("@entityAccess.checkAccess("
-            + "@dataSetServiceImpl.get(#dataSetId).getDataSetList().getVisibilityArea().getId(),'CREATE')")
+            + "@visibilityAreaResolverServiceImpl.getByDataSetId(#dataSetId),'CREATE')")
     @PutMapping("/ds/{dataSetId}/attribute/{attributeId}")
     @AuditAction(auditAction = "Create new parameter for dataset: {{#dataSetId}} and attribute: {{#attributeId}}")
     @Operation(summary = "Creates new parameter with provided text.")
@@ -16,6 +16,12 @@
 
 package org.qubership.atp.dataset.service.ws;
 
+import java.util.concurrent.Executor;
+
+import org.qubership.atp.dataset.service.ws.event.EventExecutor;
+import org.qubership.atp.dataset.service.ws.event.EventExecutorImpl;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
@@ -25,18 +31,42 @@ import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 @EnableWebSocket
 public class WebSocketConfig implements WebSocketConfigurer {
 
+    private final Executor senderExecutor;
+    private final Executor closeExecutor;
+    private final MeterRegistry meterRegistry;
+    @Value("${atp-dataset.ws.send.max-backlog:1000}")
+    private int maxBacklog;
+
+    public WebSocketConfig(@Qualifier("webSocketSendTaskExecutor") Executor senderExecutor,
+                           @Qualifier("webSocketCloseTaskExecutor") Executor closeExecutor,
+                           MeterRegistry meterRegistry) {
+        this.senderExecutor = senderExecutor;
+        this.closeExecutor = closeExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
         registry.addHandler(getSocketHandler(), "/DS").setAllowedOrigins("*");
     }
 
+    /**
+     * Executor of collaboration events, events are sent to sessions asynchronously.
+     */
+    @Bean
+    public EventExecutor eventExecutor() {
+        return new EventExecutorImpl(senderExecutor, closeExecutor, maxBacklog, meterRegistry);
+    }
+
     @Bean
     public WebSocketHandler getSocketHandler() {
-        return new WebSocketDsHandler();
+        return new WebSocketDsHandler(eventExecutor());
     }
 
     @Bean
@@ -19,7 +19,6 @@ package org.qubership.atp.dataset.service.ws;
 import org.qubership.atp.dataset.mdc.MdcField;
 import org.qubership.atp.dataset.service.ws.event.Event;
 import org.qubership.atp.dataset.service.ws.event.EventExecutor;
-import org.qubership.atp.dataset.service.ws.event.EventExecutorImpl;
 import org.qubership.atp.dataset.service.ws.event.EventType;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.slf4j.Logger;
@@ -35,7 +34,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class WebSocketDsHandler extends TextWebSocketHandler {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketDsHandler.class);
-    private static final EventExecutor executor = EventExecutorImpl.getInstance();
+    private final EventExecutor executor;
+
+    public WebSocketDsHandler(EventExecutor executor) {
+        this.executor = executor;
+    }
 
     @Override
     public void handleTextMessage(WebSocketSession session, TextMessage messageRequest) throws Exception {
@@ -17,29 +17,62 @@
 package org.qubership.atp.dataset.service.ws.event;
 
 import java.io.IOException;
-import java.util.Collection;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
 import org.qubership.atp.dataset.service.ws.entities.Pair;
 import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 public class EventExecutorImpl implements EventExecutor {
 
+    public static final String WS_OUTBOUND_QUEUE_DEPTH = "atp.dataset.ws.outbound.queue.depth";
+    public static final String WS_SEND_LATENCY = "atp.dataset.ws.send.latency";
+    public static final String WS_SESSION_OVERFLOW = "atp.dataset.ws.session.overflow";
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final EventHandler handler = new EventHandler();
-    private static final EventExecutor instance = new EventExecutorImpl();
 
-    public static EventExecutor getInstance() {
-        return instance;
+    private final Map<WebSocketSession, SessionMessageQueue> queues = new ConcurrentHashMap<>();
+    private final Executor senderExecutor;
+    private final Executor closeExecutor;
+    private final int maxBacklog;
+    private final Timer sendLatency;
+    private final Counter sessionOverflow;
+
+    /**
+     * Creates executor which sends events on the sender executor. Session which has more than
+     * {@code maxBacklog} unsent events is disconnected on the close executor, so closing of stuck
+     * sessions does not occupy sender threads.
+     */
+    public EventExecutorImpl(@Nonnull Executor senderExecutor, @Nonnull Executor closeExecutor, int maxBacklog,
+                             @Nonnull MeterRegistry meterRegistry) {
+        this.senderExecutor = senderExecutor;
+        this.closeExecutor = closeExecutor;
+        this.maxBacklog = maxBacklog;
+        this.sendLatency = Timer.builder(WS_SEND_LATENCY)
+                .description("Time from event broadcast to its delivery to websocket session")
+                .register(meterRegistry);
+        this.sessionOverflow = Counter.builder(WS_SESSION_OVERFLOW)
+                .description("Websocket sessions disconnected because of exceeded backlog of unsent events")
+                .register(meterRegistry);
+        Gauge.builder(WS_OUTBOUND_QUEUE_DEPTH, queues,
+                        sessionQueues -> sessionQueues.values().stream().mapToInt(SessionMessageQueue::size).sum())
+                .description("Unsent events of all websocket sessions")
+                .register(meterRegistry);
     }
 
     /**
@@ -48,8 +81,18 @@ public class EventExecutorImpl implements EventExecutor {
     @Override
     public void execute(@Nullable WebSocketSession socket, @Nonnull Event event) {
         EventType eventType = event.getEventType();
+        if (EventType.CLOSE == eventType && socket != null) {
+            SessionMessageQueue queue = queues.remove(socket);
+            if (queue != null) {
+                queue.close();
+            }
+        }
         if (EventType.UNSELECT == eventType || EventType.CLOSE == eventType) {
             Pair<String, String> dsPath = handler.getDsPath(socket);
+            if (dsPath.getFirst() == null) {
+                // socket has no selected DSL (e.g. closed after unselection), nobody to notify
+                return;
+            }
             event.setSessionId(dsPath.getSecond());
             event.setDataSetListId(dsPath.getFirst());
             handler.remove(event);
@@ -62,7 +105,7 @@ public class EventExecutorImpl implements EventExecutor {
             String hostsList = serialize(handler.getHosts(event.getSessionId(), event.getDataSetListId()));
             if (socket != null) {
                 event.setValue(hostsList);
-                sendEvent(event, socket);
+                sendEvent(socket, new TextMessage(serialize(event)), null);
             }
             return;
         }
@@ -73,21 +116,57 @@ public class EventExecutorImpl implements EventExecutor {
     }
 
     private void broadCastEvent(WebSocketSession sourceSocket, @Nonnull Event event) {
-        Collection<WebSocketSession> sockets = handler.getWebSockets(event);
-        Stream<WebSocketSession> webSocketStream = sockets.stream().filter(webSocket -> webSocket != sourceSocket
-                && webSocket.isOpen());
-        List<WebSocketSession> collect = webSocketStream.toList();
-        collect.forEach(socket -> sendEvent(event, socket));
+        TextMessage message = null;
+        // overflowed session is removed from the handler while sending, so sessions are copied
+        for (WebSocketSession socket : new ArrayList<>(handler.getWebSockets(event))) {
+            if (socket == sourceSocket || !socket.isOpen()) {
+                continue;
+            }
+            if (message == null) {
+                message = new TextMessage(serialize(event));
+            }
+            sendEvent(socket, message, getCoalesceKey(event));
+        }
+    }
+
+    /**
+     * Only the latest selection state of a cell by a user matters, so pending SELECT and UNSELECT events
+     * of the same user and cell are replaced by the newer one. Events of other cells are kept,
+     * otherwise unselection of the previous cell would be lost.
+     */
+    @Nullable
+    private String getCoalesceKey(@Nonnull Event event) {
+        EventType eventType = event.getEventType();
+        if (EventType.SELECT == eventType || EventType.UNSELECT == eventType) {
+            return String.join("/", event.getSessionId(), event.getDataSetListId(), event.getDatasetId(),
+                    event.getAttributeId());
+        }
+        return null;
     }
 
-    private void sendEvent(@Nonnull Event event, WebSocketSession socket) {
-        if (socket.isOpen()) {
+    private void sendEvent(WebSocketSession socket, TextMessage message, @Nullable String coalesceKey) {
+        SessionMessageQueue queue = queues.computeIfAbsent(socket,
+                session -> new SessionMessageQueue(session, senderExecutor, maxBacklog, sendLatency));
+        if (!queue.offer(message, coalesceKey)) {
+            disconnect(socket, queue);
+        }
+    }
+
+    private void disconnect(WebSocketSession socket, SessionMessageQueue queue) {
+        if (!queues.remove(socket, queue)) {
+            return;
+        }
+        LoggerFactory.getLogger(EventExecutorImpl.class)
+                .warn("Session {} exceeded backlog of {} events and is disconnected", socket.getId(), maxBacklog);
+        sessionOverflow.increment();
+        handler.remove(socket);
+        closeExecutor.execute(() -> {
             try {
-                socket.sendMessage(new TextMessage(serialize(event)));
+                socket.close(CloseStatus.SESSION_NOT_RELIABLE);
             } catch (IOException e) {
-                LoggerFactory.getLogger(EventExecutorImpl.class).error("Failed to send event", e);
+                LoggerFactory.getLogger(EventExecutorImpl.class).error("Failed to close session", e);
             }
-        }
+        });
     }
 
     private String serialize(@Nonnull Object event) {
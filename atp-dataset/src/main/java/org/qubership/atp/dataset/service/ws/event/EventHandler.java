@@ -68,6 +68,9 @@ public class EventHandler {
         Pair<String, String> dsPath = getDsPath(webSocket);
         String dslId = dsPath.getFirst();
         String sessionId = dsPath.getSecond();
+        if (dslId == null) {
+            return;
+        }
         removeFromMap(dslId, sessionId, SOCKET_MAP);
         removeFromMap(dslId, sessionId, sessionHandler);
     }
@@ -0,0 +1,142 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.ws.event;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbound messages of one websocket session. Messages are sent one by one on the sender executor,
+ * so a slow session occupies at most one sender thread and never blocks the thread which produced
+ * the event.
+ */
+@Slf4j
+class SessionMessageQueue implements Runnable {
+
+    private final WebSocketSession session;
+    private final Executor senderExecutor;
+    private final int maxBacklog;
+    private final Timer sendLatency;
+    private final Deque<PendingMessage> messages = new ArrayDeque<>();
+    private boolean isDraining;
+    private boolean isClosed;
+
+    SessionMessageQueue(@Nonnull WebSocketSession session, @Nonnull Executor senderExecutor, int maxBacklog,
+                        @Nonnull Timer sendLatency) {
+        this.session = session;
+        this.senderExecutor = senderExecutor;
+        this.maxBacklog = maxBacklog;
+        this.sendLatency = sendLatency;
+    }
+
+    /**
+     * Queues message for sending. Pending message with the same coalesce key is replaced,
+     * the new one goes to the tail of the queue.
+     *
+     * @return false if the queue is closed or the backlog limit is exceeded, the queue is closed then
+     */
+    boolean offer(@Nonnull TextMessage message, @Nullable String coalesceKey) {
+        synchronized (this) {
+            if (isClosed) {
+                return false;
+            }
+            if (coalesceKey != null) {
+                messages.removeIf(pending -> coalesceKey.equals(pending.coalesceKey));
+            }
+            if (messages.size() >= maxBacklog) {
+                close();
+                return false;
+            }
+            messages.add(new PendingMessage(message, coalesceKey, System.nanoTime()));
+            if (isDraining) {
+                return true;
+            }
+            isDraining = true;
+        }
+        try {
+            senderExecutor.execute(this);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                isDraining = false;
+            }
+            log.error("Failed to schedule sending events to session {}", session.getId(), e);
+        }
+        return true;
+    }
+
+    synchronized int size() {
+        return messages.size();
+    }
+
+    synchronized void close() {
+        isClosed = true;
+        messages.clear();
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            PendingMessage pending;
+            synchronized (this) {
+                pending = messages.poll();
+                if (pending == null) {
+                    isDraining = false;
+                    return;
+                }
+            }
+            send(pending);
+        }
+    }
+
+    private void send(PendingMessage pending) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.sendMessage(pending.message);
+            sendLatency.record(System.nanoTime() - pending.queuedAt, TimeUnit.NANOSECONDS);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to send event to session {}", session.getId(), e);
+        }
+    }
+
+    private static final class PendingMessage {
+
+        private final TextMessage message;
+        private final String coalesceKey;
+        private final long queuedAt;
+
+        private PendingMessage(TextMessage message, @Nullable String coalesceKey, long queuedAt) {
+            this.message = message;
+            this.coalesceKey = coalesceKey;
+            this.queuedAt = queuedAt;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.versioning.model.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.javers.core.metamodel.annotation.Entity;
+import org.javers.core.metamodel.annotation.Id;
+import org.javers.core.metamodel.annotation.TypeName;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Attribute of delta {@link DataSetListSnapshot}. It's committed as a separate entity,
+ * so a new snapshot is stored only when the attribute or its parameters are changed.
+ */
+@Getter
+@ToString
+@Entity
+@TypeName("DataSetListAttributeSnapshot")
+public class DataSetListAttributeSnapshot {
+    @Id
+    private final UUID id;
+    private final UUID dataSetListId;
+    private final AttributeSnapshot attribute;
+
+    /**
+     * Constructor.
+     */
+    public DataSetListAttributeSnapshot(UUID dataSetListId, AttributeSnapshot attribute) {
+        this.id = attribute.getId();
+        this.dataSetListId = dataSetListId;
+        this.attribute = attribute;
+    }
+
+    /**
+     * Hash of attribute content. Unlike {@link AttributeSnapshot#hashCode()} it doesn't depend on JVM,
+     * so unchanged attribute has the same hash after restart.
+     */
+    public long getContentHash() {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        put(hasher, attribute.getId());
+        put(hasher, attribute.getName());
+        put(hasher, attribute.getType());
+        put(hasher, attribute.getOrdering());
+        put(hasher, attribute.getDataSetListReference());
+        for (ListValueSnapshot listValue : attribute.getListValues()) {
+            put(hasher, listValue.getId());
+            put(hasher, listValue.getName());
+        }
+        for (ParameterSnapshot parameter : attribute.getParameters()) {
+            put(hasher, parameter.getId());
+            put(hasher, parameter.getDataSetId());
+            put(hasher, parameter.getText());
+            put(hasher, parameter.getType());
+            put(hasher, parameter.getDataSetReference());
+            put(hasher, parameter.getListValueId());
+            put(hasher, parameter.getListValueName());
+            FileDataSnapshot fileData = parameter.getFileData();
+            if (fileData != null) {
+                put(hasher, fileData.getFileName());
+                put(hasher, fileData.getFileType());
+                put(hasher, fileData.getContentType());
+                put(hasher, fileData.getUrl());
+            }
+        }
+        return hasher.hash().asLong();
+    }
+
+    private static void put(Hasher hasher, Object value) {
+        String string = Objects.toString(value, null);
+        if (string == null) {
+            hasher.putInt(-1);
+        } else {
+            hasher.putInt(string.length()).putString(string, StandardCharsets.UTF_8);
+        }
+    }
+}
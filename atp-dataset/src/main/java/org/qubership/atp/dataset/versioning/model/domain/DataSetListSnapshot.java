@@ -16,6 +16,8 @@
 
 package org.qubership.atp.dataset.versioning.model.domain;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -43,29 +45,66 @@ public class DataSetListSnapshot {
     @Id
     private final UUID id;
     private final List<DataSetSnapshot> dataSets = new LinkedList<>();
-    private final List<AttributeSnapshot> attributes = new LinkedList<>();
+    private List<AttributeSnapshot> attributes = new LinkedList<>();
     private final List<AttributeKeySnapshot> overlaps = new LinkedList<>();
     private final String name;
     private final UUID visibilityAreaId;
+    /**
+     * Attributes of delta snapshot, they are stored as separate entities.
+     */
+    private final List<DataSetListAttributeSnapshot> attributeEntities = new LinkedList<>();
+    /**
+     * Content hashes of attributes of delta snapshot by attribute id, null for full snapshot.
+     * Any attribute change changes the hashes, so the snapshot gets a new version.
+     */
+    @ToString.Exclude
+    private final Map<UUID, Long> attributeHashes;
 
     /**
      * Constructor from domain model.
      */
     public DataSetListSnapshot(DataSetList model) {
+        this(model, false);
+    }
+
+    /**
+     * Constructor from domain model. Attributes of delta snapshot are not stored in the snapshot itself,
+     * see {@link #getAttributeEntities()}.
+     */
+    public DataSetListSnapshot(DataSetList model, boolean isDelta) {
         id = model.getId();
         name = model.getName();
         visibilityAreaId = model.getVisibilityArea().getId();
         for (DataSet dataSet : model.getDataSets()) {
             dataSets.add(new DataSetSnapshot(dataSet));
         }
+        attributeHashes = isDelta ? new HashMap<>() : null;
         for (Attribute attribute : model.getAttributes()) {
-            attributes.add(new AttributeSnapshot(attribute));
+            if (isDelta) {
+                DataSetListAttributeSnapshot attributeEntity =
+                        new DataSetListAttributeSnapshot(id, new AttributeSnapshot(attribute));
+                attributeEntities.add(attributeEntity);
+                attributeHashes.put(attributeEntity.getId(), attributeEntity.getContentHash());
+            } else {
+                attributes.add(new AttributeSnapshot(attribute));
+            }
         }
         for (Map.Entry<AttributeKey, Parameter> entry : model.getOverLapParametersMapping().entrySet()) {
             overlaps.add(new AttributeKeySnapshot(entry.getKey(), entry.getValue()));
         }
     }
 
+    public boolean isDelta() {
+        return attributeHashes != null;
+    }
+
+    /**
+     * Sets attributes of delta snapshot read from their own snapshots.
+     */
+    public void restoreAttributes(Collection<AttributeSnapshot> restoredAttributes) {
+        attributes = new LinkedList<>(restoredAttributes);
+    }
+
     public Set<UUID> getAttributeIds() {
         return getAttributes().stream()
                 .map(AttributeSnapshot::getId).collect(Collectors.toSet());
@@ -22,6 +22,7 @@ import org.qubership.atp.dataset.versioning.model.domain.DataSetListSnapshot;
 
 public interface DataSetListSnapshotService {
     String RESTORED_TO_PROPERTY = "RestoredTo";
+    String DATA_SET_LIST_ID_PROPERTY = "DataSetListId";
 
     void commitEntity(UUID dataSetListId);
 
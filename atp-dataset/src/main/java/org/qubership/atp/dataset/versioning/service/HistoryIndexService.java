@@ -0,0 +1,49 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.versioning.service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.qubership.atp.dataset.service.rest.dto.versioning.HistoryItemResponseDto;
+
+/**
+ * Precomputed DSL history items, so history pages are read without comparing snapshots.
+ */
+public interface HistoryIndexService {
+
+    /**
+     * Returns history page from the index or empty optional if the index of DSL is not up to date.
+     * In that case indexing of DSL is scheduled.
+     */
+    Optional<HistoryItemResponseDto> findHistory(UUID dataSetListId, Integer offset, Integer limit);
+
+    /**
+     * Schedules indexing of new DSL snapshots after the current transaction is committed.
+     */
+    void indexAfterCommit(UUID dataSetListId);
+
+    /**
+     * Indexes DSL snapshots which are not indexed yet.
+     */
+    void index(UUID dataSetListId);
+
+    /**
+     * Indexes snapshots of all existing DSLs.
+     */
+    void backfill();
+}
@@ -17,6 +17,7 @@
 package org.qubership.atp.dataset.versioning.service.impl;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -24,33 +25,53 @@ import org.javers.core.Javers;
 import org.javers.repository.jql.InstanceIdDTO;
 import org.javers.repository.jql.JqlQuery;
 import org.javers.repository.jql.QueryBuilder;
+import org.javers.shadow.Shadow;
 import org.qubership.atp.dataset.db.jpa.ModelsProvider;
 import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
 import org.qubership.atp.dataset.versioning.exception.DataSetListIdNotFound;
 import org.qubership.atp.dataset.versioning.model.domain.DataSetListSnapshot;
 import org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService;
+import org.qubership.atp.dataset.versioning.service.HistoryIndexService;
 import org.qubership.atp.dataset.versioning.service.JaversCommitService;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.google.common.collect.ImmutableMap;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-@AllArgsConstructor
 @Service
 @ConditionalOnProperty(prefix = "atp-dataset", name = "javers.enabled", matchIfMissing = true)
 @Slf4j
 public class DataSetListSnapshotServiceImpl implements DataSetListSnapshotService {
 
-    @Autowired
     private final ModelsProvider modelsProvider;
-    @Autowired
     private final JaversCommitService javersCommitService;
-    @Autowired
     private final Javers javers;
+    private final DeltaSnapshotResolver deltaSnapshotResolver;
+    private final HistoryIndexService historyIndexService;
+    private final boolean isDeltaEnabled;
+
+    /**
+     * Constructor.
+     *
+     * @param isDeltaEnabled if true, only changed attributes of DSL get new snapshots
+     */
+    public DataSetListSnapshotServiceImpl(ModelsProvider modelsProvider,
+                                          JaversCommitService javersCommitService,
+                                          Javers javers,
+                                          DeltaSnapshotResolver deltaSnapshotResolver,
+                                          HistoryIndexService historyIndexService,
+                                          @Value("${atp-dataset.javers.snapshot.delta.enabled:false}")
+                                          boolean isDeltaEnabled) {
+        this.modelsProvider = modelsProvider;
+        this.javersCommitService = javersCommitService;
+        this.javers = javers;
+        this.deltaSnapshotResolver = deltaSnapshotResolver;
+        this.historyIndexService = historyIndexService;
+        this.isDeltaEnabled = isDeltaEnabled;
+    }
 
     @Override
     @Transactional
@@ -81,6 +102,7 @@ public class DataSetListSnapshotServiceImpl implements DataSetListSnapshotServic
     @Override
     public void deleteDataSetList(UUID id) {
         javersCommitService.commitShallowDeleteById(InstanceIdDTO.instanceId(id, DataSetListSnapshot.class));
+        historyIndexService.indexAfterCommit(id);
     }
 
     @Override
@@ -89,18 +111,24 @@ public class DataSetListSnapshotServiceImpl implements DataSetListSnapshotServic
                 .byInstanceId(id, DataSetListSnapshot.class)
                 .withVersion(revisionId)
                 .build();
-        Object result = javers.findShadows(query)
+        Shadow<DataSetListSnapshot> shadow = javers.<DataSetListSnapshot>findShadows(query)
                 .stream()
                 .findFirst()
-                .orElseThrow(DataSetListIdNotFound::new)
-                .get();
-        return (DataSetListSnapshot) result;
+                .orElseThrow(DataSetListIdNotFound::new);
+        return deltaSnapshotResolver.resolve(shadow).get();
     }
 
     private void commitWithProperties(DataSetList dsl, Map<String, String> properties) {
         log.debug("Preparing DataSetList for commit: {}", dsl.getId());
-        DataSetListSnapshot dataSetListSnapshot = new DataSetListSnapshot(dsl);
-        javersCommitService.commitWithExtraProperties(dataSetListSnapshot, properties);
+        DataSetListSnapshot dataSetListSnapshot = new DataSetListSnapshot(dsl, isDeltaEnabled);
+        Map<String, String> commitProperties = properties;
+        if (isDeltaEnabled) {
+            // attribute snapshots of delta DSL snapshot are found by this property
+            commitProperties = new HashMap<>(properties);
+            commitProperties.put(DATA_SET_LIST_ID_PROPERTY, dsl.getId().toString());
+        }
+        javersCommitService.commitWithExtraProperties(dataSetListSnapshot, commitProperties);
         log.debug("Snapshot of DataSetList committed: {}", dataSetListSnapshot);
+        historyIndexService.indexAfterCommit(dsl.getId());
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.versioning.service.impl;
+
+import static org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService.DATA_SET_LIST_ID_PROPERTY;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.javers.core.Javers;
+import org.javers.core.commit.CommitId;
+import org.javers.repository.jql.JqlQuery;
+import org.javers.repository.jql.QueryBuilder;
+import org.javers.shadow.Shadow;
+import org.qubership.atp.dataset.versioning.exception.DataSetListIdNotFound;
+import org.qubership.atp.dataset.versioning.model.domain.AttributeSnapshot;
+import org.qubership.atp.dataset.versioning.model.domain.DataSetListAttributeSnapshot;
+import org.qubership.atp.dataset.versioning.model.domain.DataSetListSnapshot;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Restores attributes of delta DSL snapshots, so they can be used the same way as full ones.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeltaSnapshotResolver {
+
+    private static final int MIN_PAGE_SIZE = 100;
+
+    private final Javers javers;
+
+    /**
+     * Fills attributes of delta snapshot with the latest attribute snapshots made not later than
+     * the commit of the shadow. Attribute snapshots of the DSL are read from the newest by pages,
+     * so usually one query is enough. Full snapshots are left as is.
+     *
+     * @param shadow DSL shadow
+     * @return the same shadow
+     * @throws DataSetListIdNotFound if snapshots of some attributes are not found
+     */
+    public Shadow<DataSetListSnapshot> resolve(Shadow<DataSetListSnapshot> shadow) {
+        DataSetListSnapshot snapshot = shadow.get();
+        if (snapshot.getId() == null || !snapshot.isDelta()
+                || (snapshot.getAttributes() != null && !snapshot.getAttributes().isEmpty())) {
+            // full, deleted or already resolved snapshot
+            return shadow;
+        }
+        CommitId commitId = shadow.getCommitMetadata().getId();
+        Set<UUID> attributeIds = snapshot.getAttributeHashes().keySet();
+        Map<UUID, AttributeSnapshot> attributes = new HashMap<>();
+        // unchanged attributes are usually in the initial commit, so a page covers it and a few edits
+        int pageSize = Math.max(attributeIds.size() * 2, MIN_PAGE_SIZE);
+        int skip = 0;
+        List<Shadow<DataSetListAttributeSnapshot>> attributeShadows;
+        do {
+            JqlQuery query = QueryBuilder.byClass(DataSetListAttributeSnapshot.class)
+                    .withCommitProperty(DATA_SET_LIST_ID_PROPERTY, snapshot.getId().toString())
+                    .toCommitId(commitId)
+                    .skip(skip)
+                    .limit(pageSize)
+                    .build();
+            attributeShadows = javers.findShadows(query);
+            for (Shadow<DataSetListAttributeSnapshot> attributeShadow : attributeShadows) {
+                DataSetListAttributeSnapshot attribute = attributeShadow.get();
+                if (attributeIds.contains(attribute.getId())) {
+                    // shadows are ordered from the newest
+                    attributes.putIfAbsent(attribute.getId(), attribute.getAttribute());
+                }
+            }
+            skip += pageSize;
+        } while (attributes.size() < attributeIds.size() && attributeShadows.size() == pageSize);
+        if (attributes.size() < attributeIds.size()) {
+            log.error("Snapshots of {} attributes of DSL {} at commit {} are not found",
+                    attributeIds.size() - attributes.size(), snapshot.getId(), commitId);
+            throw new DataSetListIdNotFound();
+        }
+        List<AttributeSnapshot> sortedAttributes = new ArrayList<>(attributes.values());
+        sortedAttributes.sort(Comparator.comparing(AttributeSnapshot::getOrdering,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        snapshot.restoreAttributes(sortedAttributes);
+        return shadow;
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.versioning.service.impl;
+
+import static org.qubership.atp.dataset.db.jpa.entities.JvGlobalIdEntity.DATA_SET_LIST_TYPE_NAME;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+
+import org.qubership.atp.dataset.db.jpa.entities.HistoryItemEntity;
+import org.qubership.atp.dataset.db.jpa.entities.HistoryItemId;
+import org.qubership.atp.dataset.db.jpa.entities.JvGlobalIdEntity;
+import org.qubership.atp.dataset.db.jpa.repositories.JpaDataSetListRepository;
+import org.qubership.atp.dataset.db.jpa.repositories.JpaHistoryItemRepository;
+import org.qubership.atp.dataset.db.jpa.repositories.JpaJvSnapshotRepository;
+import org.qubership.atp.dataset.service.rest.dto.versioning.HistoryItemDto;
+import org.qubership.atp.dataset.service.rest.dto.versioning.HistoryItemResponseDto;
+import org.qubership.atp.dataset.service.rest.dto.versioning.PageInfoDto;
+import org.qubership.atp.dataset.versioning.service.HistoryIndexService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.google.common.util.concurrent.Striped;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class HistoryIndexServiceImpl implements HistoryIndexService {
+
+    private static final int INDEX_PAGE_SIZE = 100;
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final HistoryItemsCalculator historyItemsCalculator;
+    private final JpaHistoryItemRepository historyItemRepository;
+    private final JpaJvSnapshotRepository snapshotRepository;
+    private final JpaDataSetListRepository dataSetListRepository;
+    private final Executor historyIndexExecutor;
+    private final boolean isEnabled;
+    private final int backfillPageSize;
+    private final Striped<Lock> locks = Striped.lock(64);
+    private final Set<UUID> scheduledIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor.
+     *
+     * @param isEnabled if false, history is always calculated from snapshots
+     */
+    public HistoryIndexServiceImpl(HistoryItemsCalculator historyItemsCalculator,
+                                   JpaHistoryItemRepository historyItemRepository,
+                                   JpaJvSnapshotRepository snapshotRepository,
+                                   JpaDataSetListRepository dataSetListRepository,
+                                   @Qualifier("historyIndexTaskExecutor") Executor historyIndexExecutor,
+                                   @Value("${atp-dataset.history.index.enabled:true}") boolean isEnabled,
+                                   @Value("${atp-dataset.history.index.backfill.page-size:100}")
+                                   int backfillPageSize) {
+        this.historyItemsCalculator = historyItemsCalculator;
+        this.historyItemRepository = historyItemRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.dataSetListRepository = dataSetListRepository;
+        this.historyIndexExecutor = historyIndexExecutor;
+        this.isEnabled = isEnabled;
+        this.backfillPageSize = backfillPageSize;
+    }
+
+    @Override
+    public Optional<HistoryItemResponseDto> findHistory(UUID dataSetListId, Integer offset, Integer limit) {
+        if (!isEnabled) {
+            return Optional.empty();
+        }
+        Long latestVersion = findLatestVersion(dataSetListId);
+        if (!Objects.equals(latestVersion, historyItemRepository.findMaxVersion(dataSetListId))) {
+            log.debug("History index of DSL {} is not up to date", dataSetListId);
+            schedule(dataSetListId);
+            return Optional.empty();
+        }
+        PageInfoDto pageInfo = new PageInfoDto();
+        pageInfo.setOffset(offset);
+        pageInfo.setLimit(limit);
+        pageInfo.setItemsTotalCount((int) historyItemRepository.countByDataSetListId(dataSetListId));
+        HistoryItemResponseDto response = new HistoryItemResponseDto();
+        response.setPageInfo(pageInfo);
+        response.setHistoryItems(historyItemRepository.findPage(dataSetListId, offset, limit).stream()
+                .map(HistoryIndexServiceImpl::toDto)
+                .filter(HistoryItemsCalculator::isDataSetNameFound)
+                .collect(Collectors.toList()));
+        return Optional.of(response);
+    }
+
+    @Override
+    public void indexAfterCommit(UUID dataSetListId) {
+        if (!isEnabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    schedule(dataSetListId);
+                }
+            });
+        } else {
+            schedule(dataSetListId);
+        }
+    }
+
+    @Override
+    public void index(UUID dataSetListId) {
+        Lock lock = locks.get(dataSetListId);
+        lock.lock();
+        try {
+            doIndex(dataSetListId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void backfill() {
+        if (!isEnabled) {
+            return;
+        }
+        log.info("History index backfill started");
+        UUID lastId = MIN_UUID;
+        List<UUID> ids;
+        do {
+            ids = dataSetListRepository.findIdsAfter(lastId, backfillPageSize);
+            ids.forEach(this::indexQuietly);
+            if (!ids.isEmpty()) {
+                lastId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == backfillPageSize);
+        log.info("History index backfill completed");
+    }
+
+    /**
+     * Each DSL is queued once, a commit made while DSL is being indexed queues it again.
+     */
+    private void schedule(UUID dataSetListId) {
+        if (!scheduledIds.add(dataSetListId)) {
+            return;
+        }
+        try {
+            historyIndexExecutor.execute(() -> {
+                scheduledIds.remove(dataSetListId);
+                indexQuietly(dataSetListId);
+            });
+        } catch (RejectedExecutionException e) {
+            scheduledIds.remove(dataSetListId);
+            log.debug("History indexing of DSL {} is postponed, executor is busy", dataSetListId);
+        }
+    }
+
+    private void indexQuietly(UUID dataSetListId) {
+        try {
+            index(dataSetListId);
+        } catch (Exception e) {
+            log.error("Failed to index history of DSL {}", dataSetListId, e);
+        }
+    }
+
+    private void doIndex(UUID dataSetListId) {
+        Long latestVersion = findLatestVersion(dataSetListId);
+        Long indexedVersion = historyItemRepository.findMaxVersion(dataSetListId);
+        if (latestVersion == null || Objects.equals(latestVersion, indexedVersion)) {
+            return;
+        }
+        if (indexedVersion != null && indexedVersion > latestVersion) {
+            log.warn("History index of DSL {} is ahead of snapshots, it will be rebuilt", dataSetListId);
+            historyItemRepository.deleteByDataSetListIdIn(Collections.singleton(dataSetListId));
+            indexedVersion = null;
+        }
+        long fromVersion = indexedVersion == null ? 0 : indexedVersion;
+        long count = latestVersion - fromVersion;
+        // pages may overlap if DSL is committed meanwhile, so items are collected by version
+        TreeMap<Long, HistoryItemDto> items = new TreeMap<>();
+        for (long offset = 0; offset < count; offset += INDEX_PAGE_SIZE) {
+            int limit = (int) Math.min(INDEX_PAGE_SIZE, count - offset);
+            List<HistoryItemDto> page = historyItemsCalculator.calculate(dataSetListId, (int) offset, limit);
+            for (HistoryItemDto item : page) {
+                if (item.getVersion() == null) {
+                    log.warn("Version of DSL {} commit {} is not found, history is not indexed",
+                            dataSetListId, item.getCommitId());
+                    return;
+                }
+                if (item.getVersion() > fromVersion) {
+                    items.putIfAbsent(item.getVersion().longValue(), item);
+                }
+            }
+            if (page.size() < limit) {
+                break;
+            }
+        }
+        if (!isContiguous(items, indexedVersion)) {
+            log.debug("DSL {} was committed during indexing, it will be indexed later", dataSetListId);
+            return;
+        }
+        List<HistoryItemEntity> entities = new ArrayList<>(items.size());
+        items.values().forEach(item -> entities.add(toEntity(dataSetListId, item)));
+        try {
+            historyItemRepository.saveAll(entities);
+            log.debug("Indexed {} history items of DSL {}", entities.size(), dataSetListId);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("History of DSL {} is being indexed concurrently", dataSetListId);
+        }
+    }
+
+    /**
+     * Versions must follow the indexed one without gaps, otherwise the index would look complete
+     * while some items are missing.
+     */
+    private static boolean isContiguous(TreeMap<Long, HistoryItemDto> items, Long indexedVersion) {
+        if (items.isEmpty()) {
+            return false;
+        }
+        long expected = indexedVersion == null ? items.firstKey() : indexedVersion + 1;
+        for (Long version : items.keySet()) {
+            if (version != expected++) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Long findLatestVersion(UUID dataSetListId) {
+        return snapshotRepository.findMaxVersionByTypeNameAndLocalId(DATA_SET_LIST_TYPE_NAME,
+                JvGlobalIdEntity.toLocalId(dataSetListId));
+    }
+
+    private static HistoryItemEntity toEntity(UUID dataSetListId, HistoryItemDto item) {
+        HistoryItemEntity entity = new HistoryItemEntity();
+        entity.setId(new HistoryItemId(dataSetListId, item.getVersion().longValue()));
+        entity.setCommitId(item.getCommitId());
+        entity.setModifiedWhen(item.getModifiedWhen());
+        entity.setModifiedBy(item.getModifiedBy());
+        entity.setAttribute(item.getAttribute());
+        entity.setDataSet(item.getDataSet());
+        entity.setChangeSummary(item.getChangeSummary());
+        entity.setOldValue(item.getOldValue());
+        entity.setNewValue(item.getNewValue());
+        return entity;
+    }
+
+    private static HistoryItemDto toDto(HistoryItemEntity entity) {
+        HistoryItemDto item = new HistoryItemDto();
+        item.setVersion(Math.toIntExact(entity.getId().getVersion()));
+        item.setCommitId(entity.getCommitId());
+        item.setModifiedWhen(entity.getModifiedWhen());
+        item.setModifiedBy(entity.getModifiedBy());
+        item.setAttribute(entity.getAttribute());
+        item.setDataSet(entity.getDataSet());
+        item.setChangeSummary(entity.getChangeSummary());
+        item.setOldValue(entity.getOldValue());
+        item.setNewValue(entity.getNewValue());
+        return item;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.versioning.service.impl;
+
+import static org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService.RESTORED_TO_PROPERTY;
+
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.javers.core.Javers;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.repository.jql.JqlQuery;
+import org.javers.repository.jql.QueryBuilder;
+import org.javers.shadow.Shadow;
+import org.qubership.atp.dataset.constants.Constants;
+import org.qubership.atp.dataset.service.rest.dto.versioning.ChangeSummary;
+import org.qubership.atp.dataset.service.rest.dto.versioning.HistoryItemDto;
+import org.qubership.atp.dataset.versioning.model.domain.DataSetListSnapshot;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Calculates DSL history items by comparing adjacent shadows.
+ */
+@Slf4j
+@Service
+public class HistoryItemsCalculator {
+
+    private static final String DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+
+    private final Javers javers;
+    private final JaversHistoryCacheableService javersHistoryCacheableService;
+
+    public HistoryItemsCalculator(Javers javers, JaversHistoryCacheableService javersHistoryCacheableService) {
+        this.javers = javers;
+        this.javersHistoryCacheableService = javersHistoryCacheableService;
+    }
+
+    /**
+     * Calculates history items of DSL snapshots from the newest one. Items of not found datasets are
+     * included, see {@link #isDataSetNameFound(HistoryItemDto)}.
+     *
+     * @param id     DSL id
+     * @param offset number of the newest snapshots to skip
+     * @param limit  max number of items
+     * @return history items with versions
+     */
+    public List<HistoryItemDto> calculate(UUID id, Integer offset, Integer limit) {
+        List<HistoryItemDto> historyItems = new ArrayList<>(limit);
+
+        List<Shadow<DataSetListSnapshot>> shadows = javers.findShadows(getQuery(id, offset, limit));
+        Optional<Shadow<DataSetListSnapshot>> beforeMainPack = getShadowBeforeMainPack(id, offset, limit);
+
+        for (int i = 0; i < shadows.size(); i++) {
+            Shadow<DataSetListSnapshot> shadow = shadows.get(i);
+            Optional<Shadow<DataSetListSnapshot>> previousShadow;
+            if (i == shadows.size() - 1) { // the last element of loop
+                previousShadow = beforeMainPack;
+            } else {
+                previousShadow = Optional.of(shadows.get(i + 1));
+            }
+            log.trace("Comparing two DSL history shadows. Old: {}, new: {}", previousShadow, shadow);
+            historyItems.add(processTwoShadows(shadow, previousShadow));
+        }
+        fillHistoryMetadata(id, historyItems);
+        return historyItems;
+    }
+
+    /**
+     * Items of datasets which are not found are not shown.
+     */
+    public static boolean isDataSetNameFound(HistoryItemDto historyItemDto) {
+        return !Constants.NOT_FOUND_NAME_DS.equalsIgnoreCase(historyItemDto.getDataSet());
+    }
+
+    private Optional<Shadow<DataSetListSnapshot>> getShadowBeforeMainPack(
+            UUID id,
+            Integer offset,
+            Integer limit
+    ) {
+        List<Shadow<DataSetListSnapshot>> shadows = javers.findShadows(getQuery(id, offset + limit, 1));
+        if (CollectionUtils.isEmpty(shadows)) {
+            return Optional.empty();
+        } else {
+            return Optional.of(shadows.get(0));
+        }
+    }
+
+    private HistoryItemDto processTwoShadows(
+            Shadow<DataSetListSnapshot> actualShadow,
+            Optional<Shadow<DataSetListSnapshot>> oldShadow
+    ) {
+        HistoryItemDto historyItem;
+        boolean isDslCreated = oldShadow.isEmpty();
+        boolean isDlsDeleted = actualShadow.get().getId() == null;
+        boolean isRestored = actualShadow.getCommitMetadata().getProperties().get(RESTORED_TO_PROPERTY) != null;
+        if (isDslCreated) {
+            historyItem = dslCreatedChanges();
+        } else if (isDlsDeleted) {
+            historyItem = dslDeletedChanges();
+        } else if (isRestored) {
+            historyItem = dslRestoredChanges(Integer.valueOf(
+                    actualShadow.getCommitMetadata().getProperties().get(RESTORED_TO_PROPERTY)));
+        } else {
+            historyItem = javersHistoryCacheableService.compareTwoShadows(actualShadow, oldShadow.get());
+        }
+        historyItem.setCommitId(actualShadow.getCommitMetadata().getId().valueAsNumber());
+        if (isDataSetNameFound(historyItem)) {
+            historyItem.setModifiedWhen(actualShadow.getCommitMetadata().getCommitDate().format(DATE_FORMATTER));
+            historyItem.setModifiedBy(actualShadow.getCommitMetadata().getAuthor());
+        }
+        return historyItem;
+    }
+
+    private HistoryItemDto dslCreatedChanges() {
+        HistoryItemDto historyItem = new HistoryItemDto();
+        historyItem.setChangeSummary(ChangeSummary.DSL_ADDED.toString());
+        log.trace("DSL was created at current history shadow.");
+        return historyItem;
+    }
+
+    private HistoryItemDto dslDeletedChanges() {
+        HistoryItemDto historyItem = new HistoryItemDto();
+        historyItem.setChangeSummary(ChangeSummary.DSL_CHANGED.toString());
+        log.trace("DSL was deleted at current history shadow.");
+        return historyItem;
+    }
+
+    private HistoryItemDto dslRestoredChanges(Integer revisionId) {
+        HistoryItemDto historyItem = new HistoryItemDto();
+        historyItem.setChangeSummary(ChangeSummary.RESTORED.toString(revisionId));
+        log.trace("DSL was restored to revision {}.", revisionId);
+        return historyItem;
+    }
+
+    private void fillHistoryMetadata(UUID id, List<HistoryItemDto> historyItemDtoList) {
+        List<BigDecimal> bigDecimals =
+                historyItemDtoList.stream().map(HistoryItemDto::getCommitId)
+                        .collect(Collectors.toList());
+        List<CdoSnapshot> cdoSnapshots = getVersionOfShadows(id, bigDecimals);
+        historyItemDtoList.forEach(historyItemDto -> {
+            Optional<CdoSnapshot> snapshot = cdoSnapshots.stream()
+                    .filter(cdoSnapshot -> cdoSnapshot.getCommitId().valueAsNumber()
+                            .equals(historyItemDto.getCommitId())).findAny();
+            snapshot.ifPresent(cdoSnapshot -> historyItemDto.setVersion((int) cdoSnapshot.getVersion()));
+        });
+    }
+
+    private List<CdoSnapshot> getVersionOfShadows(UUID id, List<BigDecimal> commitIds) {
+        JqlQuery query = getQuery(id, commitIds);
+        return javers.findSnapshots(query);
+    }
+
+    private JqlQuery getQuery(UUID id, Integer offset, Integer limit) {
+        return QueryBuilder.byInstanceId(id, DataSetListSnapshot.class)
+                .withNewObjectChanges()
+                .skip(offset)
+                .limit(limit)
+                .build();
+    }
+
+    private JqlQuery getQuery(UUID id, List<BigDecimal> commitId) {
+        return QueryBuilder.byInstanceId(id, DataSetListSnapshot.class)
+                .withCommitIds(commitId)
+                .build();
+    }
+}
@@ -21,9 +21,16 @@ public class JaversHistoryCacheableService {
 
     private final ChangeProcessorsChain changeProcessorsChain;
 
-    public JaversHistoryCacheableService(Javers javers, ChangeProcessorsChain changeProcessorsChain) {
+    private final DeltaSnapshotResolver deltaSnapshotResolver;
+
+    /**
+     * Constructor.
+     */
+    public JaversHistoryCacheableService(Javers javers, ChangeProcessorsChain changeProcessorsChain,
+                                         DeltaSnapshotResolver deltaSnapshotResolver) {
         this.javers = javers;
         this.changeProcessorsChain = changeProcessorsChain;
+        this.deltaSnapshotResolver = deltaSnapshotResolver;
     }
 
     /**
@@ -49,7 +56,7 @@ public class JaversHistoryCacheableService {
     }
 
     private DataSetListComparable convertToComparable(Shadow<DataSetListSnapshot> shadow) {
-        DataSetListSnapshot snapshot = shadow.get();
+        DataSetListSnapshot snapshot = deltaSnapshotResolver.resolve(shadow).get();
         return new DataSetListComparable(snapshot);
     }
 }
\ No newline at end of file
@@ -16,31 +16,22 @@
 
 package org.qubership.atp.dataset.versioning.service.impl;
 
-import static org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService.RESTORED_TO_PROPERTY;
-
-import java.math.BigDecimal;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.javers.core.Javers;
-import org.javers.core.commit.CommitId;
-import org.javers.core.metamodel.object.CdoSnapshot;
 import org.javers.repository.jql.JqlQuery;
 import org.javers.repository.jql.QueryBuilder;
 import org.javers.shadow.Shadow;
-import org.qubership.atp.dataset.constants.Constants;
-import org.qubership.atp.dataset.service.rest.dto.versioning.ChangeSummary;
 import org.qubership.atp.dataset.service.rest.dto.versioning.HistoryItemDto;
 import org.qubership.atp.dataset.service.rest.dto.versioning.HistoryItemResponseDto;
 import org.qubership.atp.dataset.service.rest.dto.versioning.PageInfoDto;
 import org.qubership.atp.dataset.versioning.model.domain.DataSetListSnapshot;
+import org.qubership.atp.dataset.versioning.service.HistoryIndexService;
 import org.qubership.atp.dataset.versioning.service.JaversHistoryService;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -49,18 +40,27 @@ import lombok.extern.slf4j.Slf4j;
 public class JaversHistoryServiceImpl implements JaversHistoryService {
 
     private final Javers javers;
-    private final JaversHistoryCacheableService javersHistoryCacheableService;
-    private static final String DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
-
-    public JaversHistoryServiceImpl(Javers javers, JaversHistoryCacheableService javersHistoryCacheableService) {
+    private final HistoryItemsCalculator historyItemsCalculator;
+    private final HistoryIndexService historyIndexService;
+
+    /**
+     * Constructor.
+     */
+    public JaversHistoryServiceImpl(Javers javers, HistoryItemsCalculator historyItemsCalculator,
+                                    HistoryIndexService historyIndexService) {
         this.javers = javers;
-        this.javersHistoryCacheableService = javersHistoryCacheableService;
+        this.historyItemsCalculator = historyItemsCalculator;
+        this.historyIndexService = historyIndexService;
     }
 
     @Override
     public HistoryItemResponseDto getAllHistory(UUID id, Integer offset, Integer limit) {
         log.debug("Retrieving history of DSL. ID: {}, offset: {}, limit: {}", id, offset, limit);
+        Optional<HistoryItemResponseDto> indexedHistory = historyIndexService.findHistory(id, offset, limit);
+        if (indexedHistory.isPresent()) {
+            log.debug("History retrieved from index. Response: {}", indexedHistory.get());
+            return indexedHistory.get();
+        }
         HistoryItemResponseDto response = new HistoryItemResponseDto();
         response.setPageInfo(getPageInfo(id, offset, limit));
         response.setHistoryItems(createHistoryItems(id, offset, limit));
@@ -69,110 +69,9 @@ public class JaversHistoryServiceImpl implements JaversHistoryService {
     }
 
     private List<HistoryItemDto> createHistoryItems(UUID id, Integer offset, Integer limit) {
-        List<HistoryItemDto> historyItems = new ArrayList<>(limit);
-
-        List<Shadow<DataSetListSnapshot>> shadows = javers.findShadows(getQuery(id, offset, limit));
-        Optional<Shadow<DataSetListSnapshot>> beforeMainPack = getShadowBeforeMainPack(id, offset, limit);
-
-        for (int i = 0; i < shadows.size(); i++) {
-            Shadow<DataSetListSnapshot> shadow = shadows.get(i);
-            Optional<Shadow<DataSetListSnapshot>> previousShadow;
-            if (i == shadows.size() - 1) { // the last element of loop
-                previousShadow = beforeMainPack;
-            } else {
-                previousShadow = Optional.of(shadows.get(i + 1));
-            }
-            log.trace("Comparing two DSL history shadows. Old: {}, new: {}", previousShadow, shadow);
-            HistoryItemDto historyItemDto = processTwoShadows(id, shadow, previousShadow);
-            if (isDataSetNameFound(historyItemDto)) {
-                historyItems.add(historyItemDto);
-            }
-        }
-        fillHistoryMetadata(id, historyItems);
-        return historyItems;
-    }
-
-    private Optional<Shadow<DataSetListSnapshot>> getShadowBeforeMainPack(
-            UUID id,
-            Integer offset,
-            Integer limit
-    ) {
-        List<Shadow<DataSetListSnapshot>> shadows = javers.findShadows(getQuery(id, offset + limit, 1));
-        if (CollectionUtils.isEmpty(shadows)) {
-            return Optional.empty();
-        } else {
-            return Optional.of(shadows.get(0));
-        }
-    }
-
-    private HistoryItemDto processTwoShadows(
-            UUID id,
-            Shadow<DataSetListSnapshot> actualShadow,
-            Optional<Shadow<DataSetListSnapshot>> oldShadow
-    ) {
-        HistoryItemDto historyItem;
-        boolean isDslCreated = oldShadow.isEmpty();
-        boolean isDlsDeleted = actualShadow.get().getId() == null;
-        boolean isRestored = actualShadow.getCommitMetadata().getProperties().get(RESTORED_TO_PROPERTY) != null;
-        if (isDslCreated) {
-            historyItem = dslCreatedChanges();
-        } else if (isDlsDeleted) {
-            historyItem = dslDeletedChanges();
-        } else if (isRestored) {
-            historyItem = dslRestoredChanges(Integer.valueOf(
-                    actualShadow.getCommitMetadata().getProperties().get(RESTORED_TO_PROPERTY)));
-        } else {
-            historyItem = javersHistoryCacheableService.compareTwoShadows(actualShadow, oldShadow.get());
-        }
-        historyItem.setCommitId(actualShadow.getCommitMetadata().getId().valueAsNumber());
-        if (isDataSetNameFound(historyItem)) {
-            historyItem.setModifiedWhen(actualShadow.getCommitMetadata().getCommitDate().format(DATE_FORMATTER));
-            historyItem.setModifiedBy(actualShadow.getCommitMetadata().getAuthor());
-        }
-        return historyItem;
-    }
-
-    private boolean isDataSetNameFound(HistoryItemDto historyItemDto) {
-        return !Constants.NOT_FOUND_NAME_DS.equalsIgnoreCase(historyItemDto.getDataSet());
-    }
-
-    private HistoryItemDto dslCreatedChanges() {
-        HistoryItemDto historyItem = new HistoryItemDto();
-        historyItem.setChangeSummary(ChangeSummary.DSL_ADDED.toString());
-        log.trace("DSL was created at current history shadow.");
-        return historyItem;
-    }
-
-    private HistoryItemDto dslDeletedChanges() {
-        HistoryItemDto historyItem = new HistoryItemDto();
-        historyItem.setChangeSummary(ChangeSummary.DSL_CHANGED.toString());
-        log.trace("DSL was deleted at current history shadow.");
-        return historyItem;
-    }
-
-    private HistoryItemDto dslRestoredChanges(Integer revisionId) {
-        HistoryItemDto historyItem = new HistoryItemDto();
-        historyItem.setChangeSummary(ChangeSummary.RESTORED.toString(revisionId));
-        log.trace("DSL was restored to revision {}.", revisionId);
-        return historyItem;
-    }
-
-    private void fillHistoryMetadata(UUID id, List<HistoryItemDto> historyItemDtoList) {
-        List<BigDecimal> bigDecimals =
-                historyItemDtoList.stream().map(HistoryItemDto::getCommitId)
-                        .collect(Collectors.toList());
-        List<CdoSnapshot> cdoSnapshots = getVersionOfShadows(id, bigDecimals);
-        historyItemDtoList.forEach(historyItemDto -> {
-            Optional<CdoSnapshot> snapshot = cdoSnapshots.stream()
-                    .filter(cdoSnapshot -> cdoSnapshot.getCommitId().valueAsNumber()
-                            .equals(historyItemDto.getCommitId())).findAny();
-            snapshot.ifPresent(cdoSnapshot -> historyItemDto.setVersion((int) cdoSnapshot.getVersion()));
-        });
-    }
-
-    private List<CdoSnapshot> getVersionOfShadows(UUID id, List<BigDecimal> commitIds) {
-        JqlQuery query = getQuery(id, commitIds);
-        return javers.findSnapshots(query);
+        return historyItemsCalculator.calculate(id, offset, limit).stream()
+                .filter(HistoryItemsCalculator::isDataSetNameFound)
+                .collect(Collectors.toList());
     }
 
     private PageInfoDto getPageInfo(UUID id, Integer offset, Integer limit) {
@@ -185,26 +84,6 @@ public class JaversHistoryServiceImpl implements JaversHistoryService {
         return pageInfo;
     }
 
-    private JqlQuery getQuery(UUID id, Integer offset, Integer limit) {
-        return QueryBuilder.byInstanceId(id, DataSetListSnapshot.class)
-                .withNewObjectChanges()
-                .skip(offset)
-                .limit(limit)
-                .build();
-    }
-
-    private JqlQuery getQuery(UUID id, CommitId commitId) {
-        return QueryBuilder.byInstanceId(id, DataSetListSnapshot.class)
-                .withCommitId(commitId)
-                .build();
-    }
-
-    private JqlQuery getQuery(UUID id, List<BigDecimal> commitId) {
-        return QueryBuilder.byInstanceId(id, DataSetListSnapshot.class)
-                .withCommitIds(commitId)
-                .build();
-    }
-
     private JqlQuery getQuery(UUID id) {
         return QueryBuilder.byInstanceId(id, DataSetListSnapshot.class)
                 .withNewObjectChanges()
@@ -43,6 +43,7 @@ public class RevisionDetailsServiceImpl implements RevisionDetailsService {
 
     private final Javers javers;
     private final ModelsProvider modelsProvider;
+    private final DeltaSnapshotResolver deltaSnapshotResolver;
 
     @Override
     public UiManDataSetListJDto getRevisionDetails(Integer revision, UUID entityId) {
@@ -69,7 +70,7 @@ public class RevisionDetailsServiceImpl implements RevisionDetailsService {
     private Optional<Shadow<DataSetListSnapshot>> getShadow(Integer revision, UUID entityId) {
         JqlQuery query = getQuery(revision, entityId);
         List<Shadow<DataSetListSnapshot>> shadows = javers.findShadows(query);
-        return shadows.stream().findFirst();
+        return shadows.stream().findFirst().map(deltaSnapshotResolver::resolve);
     }
 
     private JqlQuery getQuery(Integer revision, UUID entityId) {
@@ -214,4 +214,38 @@ public class TextParameterParserTest {
         }
         Assertions.assertEquals(parameterValue, result.toString());
     }
+
+    @Test
+    public void TestParseMacroService_sameTextParsedTwice_parseTreeIsTakenFromCache() {
+        ParameterPositionContext parameterPositionContext = new ParameterPositionContext(
+                Collections.emptyList(), 0, null, 0L, null
+        );
+        TextParameterParser parser = new TextParameterParser(macroContext, parameterPositionContext);
+        String parameterValue = "cached #INN() text";
+        MacroTemplateCache.invalidateAll();
+        long hitCount = MacroTemplateCache.getCache().stats().hitCount();
+        List<AbstractTextParameter> firstResult = parser.parse(parameterValue, false);
+        List<AbstractTextParameter> secondResult = parser.parse(parameterValue, false);
+        Assertions.assertEquals(hitCount + 1, MacroTemplateCache.getCache().stats().hitCount());
+        Assertions.assertNotSame(firstResult.get(0), secondResult.get(0));
+        StringBuilder result = new StringBuilder();
+        for (AbstractTextParameter abstractTextParameter : secondResult) {
+            result.append(abstractTextParameter.getValue());
+        }
+        Assertions.assertEquals(parameterValue, result.toString());
+    }
+
+    @Test
+    public void TestParseMacroService_plainText_notParsed() {
+        ParameterPositionContext parameterPositionContext = new ParameterPositionContext(
+                Collections.emptyList(), 0, null, 0L, null
+        );
+        TextParameterParser parser = new TextParameterParser(macroContext, parameterPositionContext);
+        String parameterValue = "plain text, without macros (1)";
+        MacroTemplateCache.invalidateAll();
+        List<AbstractTextParameter> parseResult = parser.parse(parameterValue, true);
+        Assertions.assertEquals(1, parseResult.size());
+        Assertions.assertEquals(parameterValue, parseResult.get(0).getValue());
+        Assertions.assertNull(MacroTemplateCache.getCache().getIfPresent(parameterValue));
+    }
 }
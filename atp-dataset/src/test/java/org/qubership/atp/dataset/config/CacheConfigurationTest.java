@@ -0,0 +1,76 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.config;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.constants.CacheEnum;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.partition.Partition;
+import com.hazelcast.partition.PartitionService;
+
+public class CacheConfigurationTest {
+
+    private static final int PARTITION_COUNT = 271;
+
+    @Test
+    public void applyLimits_sizeBelowPartitionCount_raisedToSeveralEntriesPerPartition() {
+        MapConfig config = CacheConfiguration.applyLimits(new MapConfig("map"), CacheEnum.JAVERS_DIFF_CACHE,
+                PARTITION_COUNT);
+
+        Assertions.assertEquals(MaxSizePolicy.PER_NODE, config.getEvictionConfig().getMaxSizePolicy());
+        Assertions.assertTrue(config.getEvictionConfig().getSize() >= PARTITION_COUNT * 2,
+                "Size " + config.getEvictionConfig().getSize() + " for " + PARTITION_COUNT + " partitions");
+    }
+
+    @Test
+    public void applyLimits_largeSize_keptAsConfigured() {
+        MapConfig config = CacheConfiguration.applyLimits(new MapConfig("map"), CacheEnum.PARAMETER_CACHE,
+                PARTITION_COUNT);
+
+        Assertions.assertEquals(CacheEnum.PARAMETER_CACHE.getMaximumSize(), config.getEvictionConfig().getSize());
+        Assertions.assertEquals(CacheEnum.PARAMETER_CACHE.getTimeToLiveSec(), config.getTimeToLiveSeconds());
+    }
+
+    @Test
+    public void getPartitionCount_clusterHasPartitions_countOfClusterReturned() {
+        CacheConfiguration configuration = new CacheConfiguration();
+        ReflectionTestUtils.setField(configuration, "partitionCount", PARTITION_COUNT);
+
+        Assertions.assertEquals(3, configuration.getPartitionCount(instance(Set.of(
+                mock(Partition.class), mock(Partition.class), mock(Partition.class)))));
+        Assertions.assertEquals(PARTITION_COUNT, configuration.getPartitionCount(instance(Collections.emptySet())));
+    }
+
+    private static HazelcastInstance instance(Set<Partition> partitions) {
+        HazelcastInstance instance = mock(HazelcastInstance.class);
+        PartitionService partitionService = mock(PartitionService.class);
+        when(instance.getPartitionService()).thenReturn(partitionService);
+        when(partitionService.getPartitions()).thenReturn(partitions);
+        return instance;
+    }
+}
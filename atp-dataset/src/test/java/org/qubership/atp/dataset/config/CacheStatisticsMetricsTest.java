@@ -0,0 +1,70 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.config;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CacheStatisticsMetricsTest {
+
+    private static final String CACHE_NAME = "test_cache";
+
+    @Test
+    public void monitor_weighedCache_hitRatioAndWeightExposed() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Cache<String, String> cache = Caffeine.newBuilder()
+                .maximumWeight(1000)
+                .weigher((String key, String value) -> value.length())
+                .recordStats()
+                .executor(Runnable::run)
+                .build();
+        CacheStatisticsMetrics.monitor(registry, CACHE_NAME, cache);
+
+        cache.get("first", key -> "12345");
+        cache.get("second", key -> "123");
+        cache.getIfPresent("first");
+        cache.getIfPresent("first");
+        cache.cleanUp();
+
+        Assertions.assertEquals(0.5, gauge(registry, CacheStatisticsMetrics.HIT_RATIO));
+        Assertions.assertEquals(8, gauge(registry, CacheStatisticsMetrics.WEIGHT));
+        Assertions.assertEquals(2, gauge(registry, CacheStatisticsMetrics.SIZE));
+        Assertions.assertEquals(2, registry.get(CacheStatisticsMetrics.LOADS).tag("cache", CACHE_NAME)
+                .functionTimer().count());
+    }
+
+    @Test
+    public void monitor_cacheWithoutWeigher_weightIsEqualToSize() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Cache<String, String> cache = Caffeine.newBuilder().maximumSize(10).recordStats().build();
+        CacheStatisticsMetrics.monitor(registry, CACHE_NAME, cache);
+
+        cache.put("first", "12345");
+        cache.cleanUp();
+
+        Assertions.assertEquals(1, gauge(registry, CacheStatisticsMetrics.WEIGHT));
+    }
+
+    private static double gauge(MeterRegistry registry, String name) {
+        return registry.get(name).tag("cache", CACHE_NAME).gauge().value();
+    }
+}
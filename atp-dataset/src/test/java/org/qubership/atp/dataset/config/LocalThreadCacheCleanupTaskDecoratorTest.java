@@ -0,0 +1,67 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.service.jpa.model.CacheCleanupService;
+import org.springframework.beans.factory.ObjectProvider;
+
+public class LocalThreadCacheCleanupTaskDecoratorTest {
+
+    private final CacheCleanupService cacheCleanupService = mock(CacheCleanupService.class);
+    private LocalThreadCacheCleanupTaskDecorator decorator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        ObjectProvider<CacheCleanupService> provider = mock(ObjectProvider.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<CacheCleanupService>>getArgument(0).accept(cacheCleanupService);
+            return null;
+        }).when(provider).ifAvailable(any());
+        decorator = new LocalThreadCacheCleanupTaskDecorator(provider);
+    }
+
+    @Test
+    public void decorate_taskRunByPooledThread_localThreadCachesCleaned() throws InterruptedException {
+        Thread worker = new Thread(decorator.decorate(() -> {
+            throw new IllegalStateException("Task failed");
+        }));
+        worker.setUncaughtExceptionHandler((thread, throwable) -> { });
+        worker.start();
+        worker.join();
+
+        verify(cacheCleanupService, times(1)).cleanAllLocalThreadCache();
+    }
+
+    @Test
+    public void decorate_taskRunBySubmitter_localThreadCachesKept() {
+        decorator.decorate(() -> { }).run();
+
+        verify(cacheCleanupService, never()).cleanAllLocalThreadCache();
+    }
+}
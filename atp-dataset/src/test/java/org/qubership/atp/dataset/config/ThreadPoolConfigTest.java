@@ -0,0 +1,70 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.service.jpa.model.CacheCleanupService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ThreadPoolConfigTest {
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void excelExportTaskExecutor_taskSubmitted_runsAsExportingUserAndCleansCaches() throws Exception {
+        CacheCleanupService cacheCleanupService = mock(CacheCleanupService.class);
+        ObjectProvider<CacheCleanupService> provider = mock(ObjectProvider.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<CacheCleanupService>>getArgument(0).accept(cacheCleanupService);
+            return null;
+        }).when(provider).ifAvailable(any());
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        ReflectionTestUtils.setField(config, "excelExportPoolSize", 1);
+        ReflectionTestUtils.setField(config, "excelExportQueueCapacity", 1);
+        ReflectionTestUtils.setField(config, "cacheCleanupService", provider);
+        Authentication user = new TestingAuthenticationToken("user", null);
+        SecurityContextHolder.getContext().setAuthentication(user);
+
+        AsyncTaskExecutor executor = config.excelExportTaskExecutor();
+        CompletableFuture<Authentication> taskUser = new CompletableFuture<>();
+        executor.execute(() -> taskUser.complete(SecurityContextHolder.getContext().getAuthentication()));
+
+        Assertions.assertSame(user, taskUser.get(10, TimeUnit.SECONDS));
+        verify(cacheCleanupService, timeout(10_000)).cleanAllLocalThreadCache();
+    }
+}
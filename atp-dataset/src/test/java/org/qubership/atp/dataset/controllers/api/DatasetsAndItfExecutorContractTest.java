@@ -132,7 +132,7 @@ public class DatasetsAndItfExecutorContractTest {
                         .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
                         .body(responseBody);
 
-        when(attachmentController.getAttachmentByParameterId(any()))
+        when(attachmentController.getAttachmentByParameterId(any(), any()))
                 .thenReturn(attachmentResponse);
 
         String responseBody2 = "{\"key\":\"context\"}";
@@ -92,7 +92,7 @@ public class DatasetsAndItfStubsContractTest {
                         .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
                         .body(responseBody);
 
-        when(attachmentController.getAttachmentByParameterId(any()))
+        when(attachmentController.getAttachmentByParameterId(any(), any()))
                 .thenReturn(attachmentResponse);
     }
 
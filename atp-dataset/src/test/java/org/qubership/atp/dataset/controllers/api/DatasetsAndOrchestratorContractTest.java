@@ -167,7 +167,7 @@ public class DatasetsAndOrchestratorContractTest {
         when(gridFsService.get(id)).thenReturn(optional);
         when(gridFsService.getFileInfo(id)).thenReturn(fileData);
 
-        when(attachmentControllerFacade.getAttachmentByParameterId(any()))
+        when(attachmentControllerFacade.getAttachmentByParameterId(any(), any()))
                 .thenReturn(attachmentResponse);
     }
 
@@ -0,0 +1,51 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.db.dto.GridFsRechunkBatch;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class GridFsRechunkJobTest {
+
+    @Test
+    public void run_batchWithFailedFiles_nextBatchStartsAfterThem() {
+        GridFsRepository repository = mock(GridFsRepository.class);
+        ObjectId firstBatchEnd = new ObjectId();
+        ObjectId secondBatchEnd = new ObjectId();
+        when(repository.rechunk(isNull(), anyInt())).thenReturn(new GridFsRechunkBatch(2, 0, firstBatchEnd));
+        when(repository.rechunk(eq(firstBatchEnd), anyInt())).thenReturn(new GridFsRechunkBatch(2, 2, secondBatchEnd));
+        when(repository.rechunk(eq(secondBatchEnd), anyInt())).thenReturn(new GridFsRechunkBatch(1, 1, new ObjectId()));
+        GridFsRechunkJob job = new GridFsRechunkJob(repository);
+        ReflectionTestUtils.setField(job, "batchSize", 2);
+
+        job.run();
+
+        verify(repository, times(1)).rechunk(null, 2);
+        verify(repository, times(1)).rechunk(firstBatchEnd, 2);
+        verify(repository, times(1)).rechunk(secondBatchEnd, 2);
+    }
+}
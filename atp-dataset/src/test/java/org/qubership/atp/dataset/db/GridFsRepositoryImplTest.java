@@ -0,0 +1,132 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Date;
+import java.util.UUID;
+
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.qubership.atp.dataset.db.dto.GridFsRechunkBatch;
+import org.qubership.atp.dataset.model.impl.file.FileData;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSDownloadStream;
+import com.mongodb.client.gridfs.GridFSFindIterable;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+
+public class GridFsRepositoryImplTest {
+
+    private static final int CHUNK_SIZE = 261120;
+
+    private GridFSBucket bucket;
+    private GridFSFindIterable iterable;
+    private GridFsRepositoryImpl repository;
+
+    @BeforeEach
+    public void setUp() {
+        bucket = mock(GridFSBucket.class);
+        iterable = mock(GridFSFindIterable.class);
+        when(bucket.find(any(Bson.class))).thenReturn(iterable);
+        when(iterable.sort(any(Bson.class))).thenReturn(iterable);
+        when(iterable.limit(anyInt())).thenReturn(iterable);
+        repository = new GridFsRepositoryImpl(bucket, CHUNK_SIZE);
+    }
+
+    @Test
+    public void save_newFile_usesConfiguredChunkSize() {
+        UUID parameterId = UUID.randomUUID();
+        FileData fileData = new FileData("file.txt", parameterId, "text/plain");
+
+        repository.save(fileData, new ByteArrayInputStream(new byte[] {1, 2, 3}));
+
+        ArgumentCaptor<GridFSUploadOptions> options = ArgumentCaptor.forClass(GridFSUploadOptions.class);
+        verify(bucket).uploadFromStream(eq(parameterId.toString()), any(InputStream.class), options.capture());
+        Assertions.assertEquals(CHUNK_SIZE, options.getValue().getChunkSizeBytes());
+    }
+
+    @Test
+    public void rechunk_fileWithSmallChunks_uploadsCopyBeforeDeletingOriginal() {
+        GridFSFile file = mockFindResult();
+        ObjectId copyId = new ObjectId();
+        when(bucket.openDownloadStream(file.getObjectId())).thenReturn(mock(GridFSDownloadStream.class));
+        when(bucket.uploadFromStream(anyString(), any(InputStream.class), any(GridFSUploadOptions.class)))
+                .thenReturn(copyId);
+
+        GridFsRechunkBatch batch = repository.rechunk(null, 10);
+
+        Assertions.assertEquals(1, batch.getRechunked());
+        ArgumentCaptor<GridFSUploadOptions> options = ArgumentCaptor.forClass(GridFSUploadOptions.class);
+        InOrder order = inOrder(bucket);
+        order.verify(bucket).uploadFromStream(eq(file.getFilename()), any(InputStream.class), options.capture());
+        order.verify(bucket).delete(file.getObjectId());
+        Assertions.assertEquals(CHUNK_SIZE, options.getValue().getChunkSizeBytes());
+        Assertions.assertEquals(file.getMetadata(), options.getValue().getMetadata());
+    }
+
+    @Test
+    public void rechunk_originalRemovedDuringCopy_deletesStaleCopy() {
+        GridFSFile file = mockFindResult();
+        ObjectId copyId = new ObjectId();
+        when(bucket.openDownloadStream(file.getObjectId())).thenReturn(mock(GridFSDownloadStream.class));
+        when(bucket.uploadFromStream(anyString(), any(InputStream.class), any(GridFSUploadOptions.class)))
+                .thenReturn(copyId);
+        doThrow(new MongoGridFSException("No file found")).when(bucket).delete(file.getObjectId());
+
+        GridFsRechunkBatch batch = repository.rechunk(null, 10);
+
+        Assertions.assertEquals(0, batch.getRechunked());
+        Assertions.assertEquals(1, batch.getFound());
+        Assertions.assertEquals(file.getObjectId(), batch.getLastFileId());
+        verify(bucket).delete(copyId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private GridFSFile mockFindResult() {
+        UUID parameterId = UUID.randomUUID();
+        GridFSFile file = new GridFSFile(new BsonObjectId(new ObjectId()), parameterId.toString(), 3, 1024,
+                new Date(), new Document("attachmentUuid", parameterId));
+        when(iterable.into(any())).thenAnswer(invocation -> {
+            Collection<GridFSFile> target = invocation.getArgument(0);
+            target.add(file);
+            return target;
+        });
+        return file;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db.jpa;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.qubership.atp.dataset.db.dto.JaversCountResponse;
+import org.qubership.atp.dataset.versioning.service.HistoryIndexService;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class JobRunnerTest {
+
+    private static final long LAST_REVISION_COUNT = 200L;
+
+    private JaversSnapshotService javersSnapshotService;
+    private ThreadPoolTaskExecutor executor;
+    private MeterRegistry meterRegistry;
+    private JobRunner jobRunner;
+
+    @BeforeEach
+    public void setUp() {
+        javersSnapshotService = mock(JaversSnapshotService.class);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+        jobRunner = new JobRunner(javersSnapshotService, executor, mock(HistoryIndexService.class), meterRegistry);
+        ReflectionTestUtils.setField(jobRunner, "lastRevisionCount", LAST_REVISION_COUNT);
+        ReflectionTestUtils.setField(jobRunner, "terminatedPartitionSize", 2);
+        ReflectionTestUtils.setField(jobRunner, "batchPauseMs", 0L);
+        ReflectionTestUtils.setField(jobRunner, "maxDuration", Duration.ofHours(1));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void run_oldAndTerminatedGlobalIds_deletedByBatchesAndProgressReported() {
+        when(javersSnapshotService.findTerminatedGlobalIds()).thenReturn(Arrays.asList(1L, 2L, 3L));
+        when(javersSnapshotService.deleteTerminatedSnapshots(any())).thenReturn(10);
+        when(javersSnapshotService.findGlobalIdAndCount(LAST_REVISION_COUNT))
+                .thenReturn(Arrays.asList(countResponse(10L), countResponse(11L)));
+        when(javersSnapshotService.findOldestKeptVersion(anyLong(), any())).thenReturn(50L);
+        when(javersSnapshotService.deleteOlderSnapshots(10L, 50L)).thenReturn(30, 19, 0);
+        when(javersSnapshotService.deleteOlderSnapshots(11L, 50L)).thenReturn(0);
+        when(javersSnapshotService.deleteAllOrphanCommits()).thenReturn(5);
+
+        jobRunner.run();
+
+        verify(javersSnapshotService).deleteTerminatedSnapshots(Arrays.asList(1L, 2L));
+        verify(javersSnapshotService).deleteTerminatedSnapshots(Collections.singletonList(3L));
+        InOrder inOrder = inOrder(javersSnapshotService);
+        inOrder.verify(javersSnapshotService).updateAsInitial(10L, 50L);
+        inOrder.verify(javersSnapshotService, times(3)).deleteOlderSnapshots(10L, 50L);
+        Assertions.assertEquals(20, counter("terminated"));
+        Assertions.assertEquals(49, counter("old"));
+        Assertions.assertEquals(5, meterRegistry.get(JobRunner.ARCHIVE_DELETED_COMMITS).counter().count());
+        Assertions.assertEquals(0, meterRegistry.get(JobRunner.ARCHIVE_REMAINING_GLOBAL_IDS).gauge().value());
+    }
+
+    @Test
+    public void run_deltaDataSetListArchived_replacedAttributeSnapshotsDeletedByBatches() {
+        when(javersSnapshotService.findGlobalIdAndCount(LAST_REVISION_COUNT))
+                .thenReturn(Collections.singletonList(countResponse(10L)));
+        when(javersSnapshotService.findOldestKeptVersion(anyLong(), any())).thenReturn(50L);
+        when(javersSnapshotService.findAttributeGlobalIds(10L)).thenReturn(Arrays.asList(20L, 21L, 22L));
+        when(javersSnapshotService.deleteReplacedAttributeSnapshots(anyLong(), any(), any())).thenReturn(7);
+
+        jobRunner.run();
+
+        InOrder inOrder = inOrder(javersSnapshotService);
+        inOrder.verify(javersSnapshotService).deleteOlderSnapshots(10L, 50L);
+        inOrder.verify(javersSnapshotService).deleteReplacedAttributeSnapshots(10L, 50L, Arrays.asList(20L, 21L));
+        inOrder.verify(javersSnapshotService).deleteReplacedAttributeSnapshots(10L, 50L,
+                Collections.singletonList(22L));
+        Assertions.assertEquals(14, counter("old"));
+        Assertions.assertEquals(0, meterRegistry.get(JobRunner.ARCHIVE_REMAINING_GLOBAL_IDS).gauge().value());
+    }
+
+    @Test
+    public void run_maxDurationExceeded_nothingDeletedAndGlobalIdsLeftForNextRun() {
+        ReflectionTestUtils.setField(jobRunner, "maxDuration", Duration.ofNanos(-1));
+        when(javersSnapshotService.findTerminatedGlobalIds()).thenReturn(Collections.singletonList(1L));
+        when(javersSnapshotService.findGlobalIdAndCount(LAST_REVISION_COUNT))
+                .thenReturn(Collections.singletonList(countResponse(10L)));
+        when(javersSnapshotService.findOldestKeptVersion(anyLong(), any())).thenReturn(50L);
+
+        jobRunner.run();
+
+        verify(javersSnapshotService, never()).deleteTerminatedSnapshots(any());
+        verify(javersSnapshotService, never()).updateAsInitial(anyLong(), any());
+        verify(javersSnapshotService, never()).deleteOlderSnapshots(anyLong(), any());
+        verify(javersSnapshotService, never()).deleteAllOrphanCommits();
+        Assertions.assertEquals(2, meterRegistry.get(JobRunner.ARCHIVE_REMAINING_GLOBAL_IDS).gauge().value());
+    }
+
+    private double counter(String type) {
+        return meterRegistry.get(JobRunner.ARCHIVE_DELETED_SNAPSHOTS).tag("type", type).counter().count();
+    }
+
+    private static JaversCountResponse countResponse(Long globalId) {
+        return new JaversCountResponse() {
+            @Override
+            public Long getCount() {
+                return LAST_REVISION_COUNT + 49;
+            }
+
+            @Override
+            public Long getId() {
+                return globalId;
+            }
+        };
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.db.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.db.dto.DataSetColumnResponse;
+import org.qubership.atp.dataset.db.jpa.repositories.JpaDataSetRepository;
+import org.qubership.atp.dataset.service.jpa.model.DataSetColumnIndex;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ModelsProviderTest {
+
+    private final UUID dataSetListId = UUID.randomUUID();
+    private final List<DataSetColumnResponse> columns = new ArrayList<>();
+    private ModelsProvider modelsProvider;
+
+    @BeforeEach
+    public void setUp() {
+        modelsProvider = new ModelsProvider();
+        modelsProvider.dataSetRepository = mock(JpaDataSetRepository.class);
+        when(modelsProvider.dataSetRepository.findColumnsByDataSetListId(dataSetListId)).thenReturn(columns);
+        for (int i = 0; i < 100; i++) {
+            columns.add(column(UUID.randomUUID(), "DS " + i));
+        }
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            completeTransaction();
+        }
+    }
+
+    @Test
+    public void getDataSetColumnIndex_manyLookups_oneQuery() {
+        for (int i = 0; i < columns.size(); i++) {
+            DataSetColumnIndex index = modelsProvider.getDataSetColumnIndex(dataSetListId);
+            assertEquals(i, index.getColumnByName("DS " + i));
+            assertEquals(i, index.getColumnById(columns.get(i).getId()));
+        }
+        verify(modelsProvider.dataSetRepository, times(1)).findColumnsByDataSetListId(dataSetListId);
+    }
+
+    @Test
+    public void getDataSetColumnIndex_afterEviction_indexReloaded() {
+        modelsProvider.getDataSetColumnIndex(dataSetListId);
+        columns.add(0, column(UUID.randomUUID(), "New DS"));
+        modelsProvider.evictDataSetColumnIndex(dataSetListId);
+
+        assertEquals(0, modelsProvider.getDataSetColumnIndex(dataSetListId).getColumnByName("New DS"));
+        assertEquals(101, modelsProvider.getDataSetColumnIndex(dataSetListId).size());
+        verify(modelsProvider.dataSetRepository, times(2)).findColumnsByDataSetListId(dataSetListId);
+    }
+
+    @Test
+    public void getDataSetColumnIndex_afterTransactionCompleted_indexReloaded() {
+        modelsProvider.getDataSetColumnIndex(dataSetListId);
+        completeTransaction();
+        TransactionSynchronizationManager.initSynchronization();
+        modelsProvider.getDataSetColumnIndex(dataSetListId);
+        verify(modelsProvider.dataSetRepository, times(2)).findColumnsByDataSetListId(dataSetListId);
+    }
+
+    @Test
+    public void getDataSetColumnIndex_outsideTransaction_indexNotKeptByThread() {
+        completeTransaction();
+        modelsProvider.getDataSetColumnIndex(dataSetListId);
+        modelsProvider.getDataSetColumnIndex(dataSetListId);
+        verify(modelsProvider.dataSetRepository, times(2)).findColumnsByDataSetListId(dataSetListId);
+        assertTrue(TransactionSynchronizationManager.getResourceMap().isEmpty());
+    }
+
+    private static void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private static DataSetColumnResponse column(UUID id, String name) {
+        DataSetColumnResponse column = mock(DataSetColumnResponse.class);
+        when(column.getId()).thenReturn(id);
+        when(column.getName()).thenReturn(name);
+        return column;
+    }
+}
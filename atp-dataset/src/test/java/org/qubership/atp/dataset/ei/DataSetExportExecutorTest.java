@@ -26,6 +26,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -37,6 +38,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.io.IOUtils;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -77,6 +81,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Sets;
+import com.mongodb.client.gridfs.model.GridFSFile;
 
 @Isolated
 @SpringBootTest
@@ -197,9 +202,10 @@ public class DataSetExportExecutorTest {
         dataSet.getParameters().add(fileParam);
 
         InputStream stream = IOUtils.toInputStream("string1\nstring2\nstring3", StandardCharsets.UTF_8);
-        Optional<InputStream> testFile = Optional.of(stream);
-        Map<UUID, Optional<InputStream>> files = new HashMap<>();
-        files.put(fileParam.getId(), testFile);
+        GridFSFile gridFsFile = new GridFSFile(new BsonObjectId(new ObjectId()), fileParam.getId().toString(), 29,
+                1024, new Date(), new Document("attachmentUuid", fileParam.getId()));
+        Map<UUID, GridFSFile> files = new HashMap<>();
+        files.put(fileParam.getId(), gridFsFile);
 
         atpExportScope = new ExportScope();
         atpExportScope.getEntities().put(Constants.ENTITY_DATASET_STORAGE,
@@ -208,7 +214,8 @@ public class DataSetExportExecutorTest {
         Optional<DataSetListEntity> dataSetListOptional = Optional.of(dataSetList);
         Mockito.when(jpaDataSetListRepository.findById(any(UUID.class))).thenReturn(dataSetListOptional);
         Mockito.when(jpaDataSetRepository.findById(any())).thenReturn(Optional.of(dataSet));
-        Mockito.when(gridFsRepository.getAll(any())).thenReturn(files);
+        Mockito.when(gridFsRepository.getGridFsFiles(any())).thenReturn(files);
+        Mockito.when(gridFsRepository.openDownloadStream(gridFsFile)).thenReturn(stream);
         Mockito.when(gridFsRepository.getFileInfo(any())).thenReturn(Optional.of(fileData));
         Mockito.when(dsService.getDataSetsListIdByDataSetId(any(UUID.class))).thenReturn(dslId);
         ReflectionTestUtils.setField(dataSetExportExecutor, "implementationName", serviceName);
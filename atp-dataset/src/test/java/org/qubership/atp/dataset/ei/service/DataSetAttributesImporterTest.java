@@ -41,6 +41,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.qubership.atp.dataset.ei.model.DataSetAttribute;
 import org.qubership.atp.dataset.ei.model.DataSetList;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.jpa.DataSetServiceException;
 import org.qubership.atp.dataset.service.jpa.JpaAttributeService;
 import org.qubership.atp.dataset.service.jpa.JpaDataSetListService;
@@ -66,6 +67,8 @@ public class DataSetAttributesImporterTest {
     private DuplicateNameChecker duplicateNameChecker;
     @Mock
     private EntityManagerController entityManagerController;
+    @Mock
+    private VisibilityAreaResolverService visibilityAreaResolverService;
 
     private ExportImportData importData;
 
@@ -75,7 +78,7 @@ public class DataSetAttributesImporterTest {
         objectLoaderFromDiskService = new ObjectLoaderFromDiskService();
         dataSetAttributesImporter =
                 new DataSetAttributesImporter(objectLoaderFromDiskService, attrService, dslService,
-                        duplicateNameChecker, entityManagerController);
+                        duplicateNameChecker, entityManagerController, visibilityAreaResolverService);
         importData = new ExportImportData(null, null, null, false, false, null, new HashMap<>(), new HashMap<>(),
                 ValidationType.VALIDATE, false);
     }
@@ -152,6 +155,7 @@ public class DataSetAttributesImporterTest {
 
         when(attrService.getById(any())).thenReturn(null);
         Attribute existingAttribute = mock(Attribute.class);
+        when(existingAttribute.getId()).thenReturn(UUID.fromString("f5de3b5b-1d19-490b-a0ef-ecc48762a902"));
         when(attrService.getById(UUID.fromString("f5de3b5b-1d19-490b-a0ef-ecc48762a902")))
                 .thenReturn(existingAttribute);
         when(attrService.getListValueById(any())).thenReturn(null);
@@ -167,6 +171,7 @@ public class DataSetAttributesImporterTest {
         verify(attrService, times(3)).replicateListValue(any(), any(), any(), any());
         verify(attrService, times(1)).save(existingAttribute);
         verify(attrService, times(1)).save(existingListValue);
+        verify(visibilityAreaResolverService).evictEntity(UUID.fromString("f5de3b5b-1d19-490b-a0ef-ecc48762a902"));
     }
 
     @Test
@@ -239,6 +244,8 @@ public class DataSetAttributesImporterTest {
         when(attrService.getById(UUID.fromString("4400c445-d685-48ce-9817-d6dcebd927d9")))
                 .thenReturn(mock(Attribute.class));
         AttributeKey attrKey = mock(AttributeKey.class);
+        UUID attrKeyId = UUID.randomUUID();
+        when(attrKey.getId()).thenReturn(attrKeyId);
         when(attrService.getAttributeKeyByKeyAndDataSetListIdAndDataSetIdAndAttributeId(any(), any(),any(),any()))
                 .thenReturn(attrKey);
 
@@ -248,6 +255,7 @@ public class DataSetAttributesImporterTest {
         verify(attrKey, times(1)).setAttribute(eq(UUID.fromString("4400c445-d685-48ce-9817-d6dcebd927d9")));
         verify(attrKey, times(1)).setDataSet(eq(UUID.fromString("8b911573-97ae-41fb-a3b8-d7d1f63d017c")));
         verify(attrKey, times(1)).setDataSetList(eq(UUID.fromString("e3786dc9-10ba-4251-9a43-7c12cac37ef6")));
+        verify(visibilityAreaResolverService).evictEntity(attrKeyId);
     }
 
     @Test
@@ -39,6 +39,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.jpa.DataSetServiceException;
 import org.qubership.atp.dataset.service.jpa.JpaDataSetListService;
 import org.qubership.atp.dataset.service.jpa.JpaVisibilityAreaService;
@@ -61,6 +62,8 @@ public class DataSetListImporterTest {
     private DuplicateNameChecker duplicateNameChecker;
     @Mock
     private EntityManagerController entityManagerController;
+    @Mock
+    private VisibilityAreaResolverService visibilityAreaResolverService;
 
     private ExportImportData importData;
 
@@ -70,7 +73,7 @@ public class DataSetListImporterTest {
         objectLoaderFromDiskService = new ObjectLoaderFromDiskService();
         dataSetListImporter =
                 new DataSetListImporter(objectLoaderFromDiskService, dslService, vaService, duplicateNameChecker,
-                        entityManagerController);
+                        entityManagerController, visibilityAreaResolverService);
         importData = new ExportImportData(null, null, null, false, false, null, new HashMap<>(), new HashMap<>(),
                 ValidationType.VALIDATE, false);
     }
@@ -125,6 +128,23 @@ public class DataSetListImporterTest {
                         eq(UUID.fromString("cb6fc56b-392c-456a-82d6-46fc38836a75")),
                         any(), any(), any(), any());
         verify(dslService, times(1)).save(any());
+        verify(visibilityAreaResolverService, times(1)).evictDataSetList(any());
+    }
+
+    @Test
+    public void importDataSetLists_dataSetListInSameVa_resolverCacheKept() {
+        Path workDir = Path.of("src/test/resources/ei/import/1d554fe3-4a15-4e1c-964a-1585e3206208");
+        VisibilityArea visibilityArea = mock(VisibilityArea.class);
+        when(visibilityArea.getId()).thenReturn(UUID.fromString("9f052227-79d7-4f3f-bd55-aeb2efbcb103"));
+        when(vaService.getById(any())).thenReturn(visibilityArea);
+        DataSetList dataSetList = mock(DataSetList.class);
+        when(dataSetList.getVisibilityArea()).thenReturn(visibilityArea);
+        when(dslService.getById(any())).thenReturn(dataSetList);
+
+        dataSetListImporter.importDataSetLists(workDir, importData);
+
+        verify(dslService, times(1)).save(any());
+        verify(visibilityAreaResolverService, times(0)).evictDataSetList(any());
     }
 
 
@@ -36,6 +36,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.qubership.atp.dataset.service.direct.ClearCacheService;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.jpa.DataSetServiceException;
 import org.qubership.atp.dataset.service.jpa.JpaDataSetListService;
 import org.qubership.atp.dataset.service.jpa.JpaDataSetService;
@@ -66,6 +67,8 @@ public class DataSetsImporterTest {
     private EntityManagerController entityManagerController;
     @Mock
     private ClearCacheService clearCacheService;
+    @Mock
+    private VisibilityAreaResolverService visibilityAreaResolverService;
 
     private ExportImportData importData;
 
@@ -76,7 +79,7 @@ public class DataSetsImporterTest {
         objectLoaderFromDiskService = new ObjectLoaderFromDiskService();
         dataSetsImporter =
                 new DataSetsImporter(objectLoaderFromDiskService, dsService, dslService, duplicateNameChecker,
-                        entityManagerController, clearCacheService);
+                        entityManagerController, clearCacheService, visibilityAreaResolverService);
         DataSetList dslMock =
                 mock(DataSetList.class);
         long orderCount = 0;
@@ -103,6 +106,7 @@ public class DataSetsImporterTest {
 
         verify(dsService, times(0)).replicate(any(), any(), any(), any(), any(), any());
         verify(dsService, times(2)).save(any());
+        verify(visibilityAreaResolverService, times(2)).evictEntity(any());
     }
 
     @Test
@@ -0,0 +1,60 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.macros;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MacroNameTrieTest {
+
+    private final MacroNameTrie trie = new MacroNameTrie(Arrays.asList("REF", "REF_DSL", "REF_THIS", "SUM"));
+
+    @Test
+    public void contains_nameInAnotherCase_found() {
+        Assertions.assertTrue(trie.contains("ref_dsl"));
+        Assertions.assertTrue(trie.contains("Sum"));
+        Assertions.assertFalse(trie.contains("REF_"));
+        Assertions.assertFalse(trie.contains("REF_DSLX"));
+    }
+
+    @Test
+    public void containsPrefix_prefixOfSeveralNames_found() {
+        Assertions.assertTrue(trie.containsPrefix(""));
+        Assertions.assertTrue(trie.containsPrefix("ref_"));
+        Assertions.assertFalse(trie.containsPrefix("REF_A"));
+    }
+
+    @Test
+    public void matcher_charactersAdvancedOneByOne_sameResultAsRegistryLookups() {
+        MacroNameMatcher matcher = trie.matcher();
+
+        Assertions.assertTrue(matcher.advance('r'));
+        Assertions.assertTrue(matcher.advance('E'));
+        Assertions.assertTrue(matcher.advance('f'));
+        Assertions.assertTrue(matcher.isMacroName());
+        Assertions.assertTrue(matcher.advance('_'));
+        Assertions.assertFalse(matcher.isMacroName());
+        Assertions.assertFalse(matcher.advance('x'));
+        Assertions.assertTrue(matcher.advance('t'));
+
+        matcher.reset();
+        Assertions.assertFalse(matcher.isMacroName());
+        Assertions.assertTrue(matcher.advance('s'));
+    }
+}
@@ -23,6 +23,8 @@ import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -109,6 +111,29 @@ public class GridFsServiceTest extends AbstractTest {
         Assertions.assertEquals(er, output);
     }
 
+    @Test
+    public void testCopyAllFiles_CopiesOfExistingFiles_areAppeared() throws IOException {
+        String er = "<sz>Test</sz>";
+        Files.write(file.toPath(), er.getBytes());
+        saveFileToGridFs();
+        UUID targetParameterUuid = UUID.randomUUID();
+        UUID missingTargetParameterUuid = UUID.randomUUID();
+        Map<UUID, UUID> sourceToTarget = new HashMap<>();
+        sourceToTarget.put(parameterUuid, targetParameterUuid);
+        sourceToTarget.put(UUID.randomUUID(), missingTargetParameterUuid);
+        try {
+            gridFsService.copyAll(sourceToTarget, true);
+            Optional<InputStream> stream = gridFsService.get(targetParameterUuid);
+            String output = getFileContent(
+                    stream.orElseThrow(
+                            () -> new AssertionError("File not found in gridfs by id: " + targetParameterUuid)));
+            Assertions.assertEquals(er, output);
+            Assertions.assertFalse(gridFsService.get(missingTargetParameterUuid).isPresent());
+        } finally {
+            gridFsService.delete(targetParameterUuid);
+        }
+    }
+
     @Test
     public void testGetFileInfo_It_Has_FileName_Type_ContentType() throws IOException {
         saveFileToGridFs();
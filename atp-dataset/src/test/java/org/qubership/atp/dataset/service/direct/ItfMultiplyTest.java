@@ -36,6 +36,7 @@ import org.qubership.atp.dataset.model.utils.EvaluatorMock;
 import org.qubership.atp.dataset.model.utils.MultiplyTestData;
 import org.qubership.atp.dataset.model.utils.Utils;
 import org.qubership.atp.dataset.service.AbstractTest;
+import org.qubership.atp.dataset.service.rest.PaginationResponse;
 import org.qubership.atp.dataset.service.rest.dto.manager.UiManDataSetList;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
@@ -82,4 +83,16 @@ public class ItfMultiplyTest extends AbstractTest {
         Set<DataSet> ar = Sets.newHashSet(children);
         assertThat(children, containsInAnyOrder(ar.toArray()));
     }
+
+    @Test
+    public void dsWithMixins_GetPageEvaluated_SameAsSubListOfAll() {
+        MultiplyTestData d = createTestDataInstance(MultiplyTestData::new);
+        List<String> allNames = dataSetListService.getChildren(d.mix.getDataSetList().getId(), true).stream()
+                .map(Named::getName).collect(Collectors.toList());
+        PaginationResponse<DataSet> page = dataSetListService.getChildren(d.mix.getDataSetList().getId(), true,
+                null, 1, 2);
+        List<String> pageNames = page.getEntities().stream().map(Named::getName).collect(Collectors.toList());
+        Assertions.assertEquals(allNames.subList(1, Math.min(3, allNames.size())), pageNames);
+        Assertions.assertEquals(allNames.size(), page.getTotalCount());
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.direct.impl;
+
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.atp.dataset.config.CacheConfiguration;
+import org.qubership.atp.dataset.constants.CacheEnum;
+import org.qubership.atp.dataset.service.jpa.impl.DataSetListContextCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ClearCacheServiceImplTest {
+
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+    private final UUID third = UUID.randomUUID();
+    private CaffeineCache parameterCache;
+    private DataSetListContextCache dataSetListContextCache;
+    private MeterRegistry meterRegistry;
+    private SimpleCacheManager cacheManager;
+    private ITopic<CacheEvictionBroadcast.EvictionMessage> topic;
+    private CacheEvictionBroadcast broadcast;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        parameterCache = new CaffeineCache(CacheEnum.Constants.PARAMETER_CACHE, Caffeine.newBuilder().build());
+        cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(Collections.singletonList(parameterCache));
+        cacheManager.initializeCaches();
+        dataSetListContextCache = mock(DataSetListContextCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        topic = mock(ITopic.class);
+        HazelcastInstance hazelcastInstance = mock(HazelcastInstance.class);
+        when(hazelcastInstance.<CacheEvictionBroadcast.EvictionMessage>getTopic(CacheEvictionBroadcast.TOPIC_NAME))
+                .thenReturn(topic);
+        ObjectProvider<HazelcastInstance> hazelcastProvider = mock(ObjectProvider.class);
+        when(hazelcastProvider.getIfAvailable()).thenReturn(hazelcastInstance);
+        broadcast = new CacheEvictionBroadcast(hazelcastProvider);
+        for (UUID id : asList(first, second, third)) {
+            parameterCache.put(id, id.toString());
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void evictParameterCache_insideTransaction_keysEvictedByOneBatchAfterCompletion() {
+        ClearCacheServiceImpl service = new ClearCacheServiceImpl(cacheManager, dataSetListContextCache,
+                broadcast, meterRegistry, 100);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.evictParameterCache(first);
+        service.evictParameterCache(asList(first, second));
+        Assertions.assertNotNull(parameterCache.get(first));
+        completeTransaction();
+
+        Assertions.assertNull(parameterCache.get(first));
+        Assertions.assertNull(parameterCache.get(second));
+        Assertions.assertNotNull(parameterCache.get(third));
+        DistributionSummary batchSize = meterRegistry.get(ClearCacheServiceImpl.EVICTION_BATCH_SIZE)
+                .tag("cache", CacheEnum.Constants.PARAMETER_CACHE).summary();
+        Assertions.assertEquals(1, batchSize.count());
+        Assertions.assertEquals(2, batchSize.totalAmount());
+        Assertions.assertNull(TransactionSynchronizationManager.getResource(service));
+    }
+
+    @Test
+    public void evictDatasetListContextCache_insideTransaction_contextsDroppedAtOnceAndAfterCompletion() {
+        ClearCacheServiceImpl service = new ClearCacheServiceImpl(cacheManager, dataSetListContextCache,
+                broadcast, meterRegistry, 100);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.evictDatasetListContextCache(first);
+        service.evictDatasetListContextCache(second);
+        completeTransaction();
+
+        verify(dataSetListContextCache, times(3)).evictByDataSetIdsNow(anyCollection());
+        verify(dataSetListContextCache).evictByDataSetIdsNow(new HashSet<>(asList(first, second)));
+    }
+
+    @Test
+    public void evictDatasetListContextCache_insideTransaction_broadcastOnceAfterCompletion() {
+        ClearCacheServiceImpl service = new ClearCacheServiceImpl(cacheManager, dataSetListContextCache,
+                broadcast, meterRegistry, 100);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.evictDatasetListContextCache(first);
+        service.evictDatasetListContextCacheByDataSetLists(Collections.singleton(second));
+        verify(topic, never()).publish(any());
+        completeTransaction();
+
+        ArgumentCaptor<CacheEvictionBroadcast.EvictionMessage> messages =
+                ArgumentCaptor.forClass(CacheEvictionBroadcast.EvictionMessage.class);
+        verify(topic, times(2)).publish(messages.capture());
+        Assertions.assertEquals(Collections.singletonList(first), messages.getAllValues().get(0).getIds());
+        Assertions.assertEquals(Collections.singletonList(second), messages.getAllValues().get(1).getIds());
+    }
+
+    @Test
+    public void onMessage_evictionFromAnotherReplica_contextsDroppedLocally() {
+        new ClearCacheServiceImpl(cacheManager, dataSetListContextCache, broadcast, meterRegistry, 100);
+
+        broadcast.onMessage(new CacheEvictionBroadcast.EvictionMessage(CacheConfiguration.CACHE_ID,
+                ClearCacheServiceImpl.CONTEXTS_BY_DATA_SETS, Collections.singletonList(third)));
+        verify(dataSetListContextCache, never()).evictByDataSetIdsNow(anyCollection());
+        broadcast.onMessage(new CacheEvictionBroadcast.EvictionMessage(UUID.randomUUID(),
+                ClearCacheServiceImpl.CONTEXTS_BY_DATA_SETS, Collections.singletonList(third)));
+
+        verify(dataSetListContextCache).evictByDataSetIdsNow(Collections.singleton(third));
+    }
+
+    @Test
+    public void evictParameterCache_batchReachesClearThreshold_wholeCacheCleared() {
+        ClearCacheServiceImpl service = new ClearCacheServiceImpl(cacheManager, dataSetListContextCache,
+                broadcast, meterRegistry, 2);
+
+        service.evictParameterCache(asList(first, second));
+
+        Assertions.assertNull(parameterCache.get(third));
+    }
+
+    private static void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
@@ -16,6 +16,9 @@
 
 package org.qubership.atp.dataset.service.direct.impl;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Assertions;
@@ -139,6 +142,24 @@ public class CompareDsTest extends DataSetBuilder {
         Assertions.assertEquals(CompareStatus.WARNING, status);
     }
 
+    @Test
+    @Sql(scripts = {"classpath:test_data/sql/compare_ds/cleanDb.sql",
+            "classpath:test_data/sql/compare_ds/compareDs.sql"})
+    @Transactional
+    public void compare_oneBaseManyTargets_sameStatusesAsPairwiseInTargetOrder() {
+        List<UUID> targets = Arrays.asList(diffListValueDs, identicalDs, oneParamDs, diffAttrTypeDs,
+                diffAttrNameDs, diffStringValueDs, diffDslValueDs, leftDs);
+
+        Map<UUID, CompareStatus> statuses = compareDs.compare(leftDs, targets);
+
+        Assertions.assertEquals(targets, Arrays.asList(statuses.keySet().toArray()));
+        Assertions.assertEquals(CompareStatus.OK, statuses.get(identicalDs));
+        Assertions.assertEquals(CompareStatus.OK, statuses.get(leftDs));
+        for (UUID target : targets) {
+            Assertions.assertEquals(compareDs.compare(leftDs, target), statuses.get(target));
+        }
+    }
+
     @Test
     @Sql(scripts = {"classpath:test_data/sql/compare_ds/cleanDb.sql",
             "classpath:test_data/sql/compare_ds/compareDs.sql"})
@@ -615,4 +615,20 @@ public class DataSetServiceImplTest extends DataSetBuilder {
         assertTrue(result.contains(ds2.getId()));
         assertTrue(result.contains(ds3.getId()));
     }
+
+    @Test
+    public void collectAffectedDatasetsByDslId_cyclicReferences_eachDataSetCollectedOnce() {
+        DataSetList dsl1 = dataSetListService.create(vaId, "DSL1", null);
+        org.qubership.atp.dataset.model.DataSet ds1 = dataSetService.create(dsl1.getId(), "DS1");
+        DataSetList dsl2 = dataSetListService.create(vaId, "DSL2", null);
+        org.qubership.atp.dataset.model.DataSet ds2 = dataSetService.create(dsl2.getId(), "DS2");
+        attributeService.create(dsl1.getId(), 0, "ref_attr", AttributeType.DSL, dsl2.getId(), null);
+        attributeService.create(dsl2.getId(), 0, "ref_attr", AttributeType.DSL, dsl1.getId(), null);
+
+        Set<UUID> result = dataSetService.collectAffectedDatasetsByDslId(dsl1.getId());
+
+        assertEquals(2, result.size());
+        assertTrue(result.contains(ds1.getId()));
+        assertTrue(result.contains(ds2.getId()));
+    }
 }
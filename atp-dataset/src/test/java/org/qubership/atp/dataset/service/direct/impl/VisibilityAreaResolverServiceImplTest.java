@@ -0,0 +1,162 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.direct.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.db.VisibilityAreaIdRepository;
+import org.qubership.atp.dataset.exception.dataset.DataSetNotFoundException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+
+public class VisibilityAreaResolverServiceImplTest {
+
+    private final UUID visibilityAreaId = UUID.randomUUID();
+    private final UUID dataSetListId = UUID.randomUUID();
+    private final UUID dataSetId = UUID.randomUUID();
+    private final UUID attributeId = UUID.randomUUID();
+    private VisibilityAreaIdRepository repository;
+    private ITopic<CacheEvictionBroadcast.EvictionMessage> topic;
+    private CacheEvictionBroadcast broadcast;
+    private VisibilityAreaResolverServiceImpl resolver;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        topic = mock(ITopic.class);
+        HazelcastInstance hazelcastInstance = mock(HazelcastInstance.class);
+        when(hazelcastInstance.<CacheEvictionBroadcast.EvictionMessage>getTopic(CacheEvictionBroadcast.TOPIC_NAME))
+                .thenReturn(topic);
+        ObjectProvider<HazelcastInstance> hazelcastProvider = mock(ObjectProvider.class);
+        when(hazelcastProvider.getIfAvailable()).thenReturn(hazelcastInstance);
+        broadcast = new CacheEvictionBroadcast(hazelcastProvider);
+        repository = mock(VisibilityAreaIdRepository.class);
+        when(repository.getVisibilityAreaIdByDataSetListId(dataSetListId)).thenReturn(visibilityAreaId);
+        when(repository.getDataSetListIdByDataSetId(dataSetId)).thenReturn(dataSetListId);
+        when(repository.getDataSetListIdByAttributeId(attributeId)).thenReturn(dataSetListId);
+        resolver = new VisibilityAreaResolverServiceImpl(repository, broadcast, 100, 60);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void getByDataSetId_calledTwice_queriesOnce() {
+        assertEquals(visibilityAreaId, resolver.getByDataSetId(dataSetId));
+        assertEquals(visibilityAreaId, resolver.getByDataSetId(dataSetId));
+
+        verify(repository, times(1)).getDataSetListIdByDataSetId(dataSetId);
+        verify(repository, times(1)).getVisibilityAreaIdByDataSetListId(dataSetListId);
+    }
+
+    @Test
+    public void getByAttributeId_dataSetListAlreadyResolved_reusesVisibilityAreaOfDataSetList() {
+        resolver.getByDataSetListId(dataSetListId);
+
+        assertEquals(visibilityAreaId, resolver.getByAttributeId(attributeId));
+
+        verify(repository, times(1)).getVisibilityAreaIdByDataSetListId(dataSetListId);
+    }
+
+    @Test
+    public void getByDataSetListId_dataSetListMoved_resolvesNewVisibilityArea() {
+        UUID targetVisibilityAreaId = UUID.randomUUID();
+        resolver.getByDataSetId(dataSetId);
+        when(repository.getVisibilityAreaIdByDataSetListId(dataSetListId)).thenReturn(targetVisibilityAreaId);
+
+        resolver.evictDataSetList(dataSetListId);
+
+        assertEquals(targetVisibilityAreaId, resolver.getByDataSetId(dataSetId));
+        verify(repository, times(1)).getDataSetListIdByDataSetId(dataSetId);
+    }
+
+    @Test
+    public void getByDataSetId_visibilityAreaEvicted_queriesAgain() {
+        resolver.getByDataSetListId(dataSetListId);
+
+        resolver.evictVisibilityArea(visibilityAreaId);
+        resolver.getByDataSetListId(dataSetListId);
+
+        verify(repository, times(2)).getVisibilityAreaIdByDataSetListId(dataSetListId);
+    }
+
+    @Test
+    public void getByDataSetId_dataSetDeleted_throwsNotFound() {
+        resolver.getByDataSetId(dataSetId);
+        when(repository.getDataSetListIdByDataSetId(dataSetId)).thenReturn(null);
+
+        resolver.evictEntity(dataSetId);
+
+        assertThrows(DataSetNotFoundException.class, () -> resolver.getByDataSetId(dataSetId));
+    }
+
+    @Test
+    public void evictDataSetList_insideTransaction_broadcastAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        resolver.evictDataSetList(dataSetListId);
+        verify(topic, never()).publish(any());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(topic, times(1)).publish(any());
+    }
+
+    @Test
+    public void getByDataSetListId_dataSetListMovedByAnotherReplica_resolvesNewVisibilityArea() {
+        UUID targetVisibilityAreaId = UUID.randomUUID();
+        resolver.getByDataSetListId(dataSetListId);
+        when(repository.getVisibilityAreaIdByDataSetListId(dataSetListId)).thenReturn(targetVisibilityAreaId);
+
+        broadcast.onMessage(new CacheEvictionBroadcast.EvictionMessage(UUID.randomUUID(),
+                VisibilityAreaResolverServiceImpl.DATA_SET_LISTS, Collections.singletonList(dataSetListId)));
+
+        assertEquals(targetVisibilityAreaId, resolver.getByDataSetListId(dataSetListId));
+    }
+
+    @Test
+    public void getByDataSetListId_visibilityAreaEvictedByAnotherReplica_queriesAgain() {
+        resolver.getByDataSetListId(dataSetListId);
+
+        broadcast.onMessage(new CacheEvictionBroadcast.EvictionMessage(UUID.randomUUID(),
+                VisibilityAreaResolverServiceImpl.VISIBILITY_AREAS, Collections.singletonList(visibilityAreaId)));
+        resolver.getByDataSetListId(dataSetListId);
+
+        verify(repository, times(2)).getVisibilityAreaIdByDataSetListId(dataSetListId);
+    }
+}
@@ -51,6 +51,7 @@ import org.qubership.atp.dataset.model.impl.MixInIdImpl;
 import org.qubership.atp.dataset.model.impl.ParameterImpl;
 import org.qubership.atp.dataset.model.utils.ExcelRowsReader;
 import org.qubership.atp.dataset.service.direct.DataSetListService;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
 import org.qubership.atp.dataset.service.direct.importexport.service.DataSetListImportExportFactory;
 import org.qubership.atp.dataset.service.direct.importexport.service.DatasetListExportService;
 import org.qubership.atp.dataset.service.rest.dto.manager.UiManAttribute;
@@ -74,7 +75,8 @@ public class ListAttributeExportConverterTest {
     public void setUp() {
         DataSetListService dslService = mock(DataSetListService.class);
         DataSetListImportExportFactory factory = mock(DataSetListImportExportFactory.class);
-        datasetListExportService = new DatasetListExportService(dslService, factory);
+        datasetListExportService = new DatasetListExportService(dslService, factory,
+                mock(VisibilityAreaResolverService.class), Runnable::run);
 
         DataSetList dataSetList = new DataSetListImpl();
         datasetListId = UUID.randomUUID();
@@ -0,0 +1,172 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.direct.importexport.service;
+
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.exception.excel.ExcelExportNotExistDatasetListlException;
+import org.qubership.atp.dataset.model.Attribute;
+import org.qubership.atp.dataset.model.AttributeType;
+import org.qubership.atp.dataset.model.DataSet;
+import org.qubership.atp.dataset.model.DataSetList;
+import org.qubership.atp.dataset.model.impl.AttributeImpl;
+import org.qubership.atp.dataset.model.impl.DataSetImpl;
+import org.qubership.atp.dataset.model.impl.DataSetListImpl;
+import org.qubership.atp.dataset.model.impl.MixInIdImpl;
+import org.qubership.atp.dataset.service.direct.DataSetListService;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
+import org.qubership.atp.dataset.service.direct.importexport.converters.TextAttributeExportConverter;
+import org.qubership.atp.dataset.service.rest.dto.manager.UiManAttribute;
+import org.qubership.atp.dataset.service.rest.dto.manager.UiManDataSet;
+import org.qubership.atp.dataset.service.rest.dto.manager.UiManDataSetList;
+import org.qubership.atp.dataset.service.rest.dto.manager.UiManParameter;
+
+public class DatasetListExportServiceTest {
+
+    private static final int DATASET_LISTS_COUNT = 16;
+    private static final int ATTRIBUTES_COUNT = 500;
+
+    private final UUID visibilityAreaId = UUID.randomUUID();
+    private final List<UiManDataSetList> trees = new ArrayList<>();
+    private ExecutorService executor;
+    private VisibilityAreaResolverService visibilityAreaResolverService;
+    private DatasetListExportService exportService;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+        DataSetListService dslService = mock(DataSetListService.class);
+        DataSetListImportExportFactory factory = mock(DataSetListImportExportFactory.class);
+        visibilityAreaResolverService = mock(VisibilityAreaResolverService.class);
+        exportService = new DatasetListExportService(dslService, factory, visibilityAreaResolverService, executor);
+        for (int index = 0; index < DATASET_LISTS_COUNT; index++) {
+            UiManDataSetList tree = generateTree("DSL " + index);
+            trees.add(tree);
+            when(dslService.getAsTree(tree.getId(), false)).thenReturn(tree);
+            when(visibilityAreaResolverService.getByDataSetListId(tree.getId())).thenReturn(visibilityAreaId);
+        }
+        when(factory.getAttributeExportConverter(any())).thenReturn(new TextAttributeExportConverter());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void exportDataSetList_concurrentExports_eachFileContainsOnlyItsDataSetList() throws Exception {
+        List<Future<File>> files = new ArrayList<>();
+        for (UiManDataSetList tree : trees) {
+            files.add(executor.submit(() -> exportService.exportDataSetList(tree.getId())));
+        }
+
+        for (int index = 0; index < trees.size(); index++) {
+            try (XSSFWorkbook workbook = new XSSFWorkbook(Files.newInputStream(files.get(index).get().toPath()))) {
+                Assertions.assertEquals(1, workbook.getNumberOfSheets());
+                assertSheet(trees.get(index), workbook.getSheetAt(0));
+            }
+        }
+    }
+
+    @Test
+    public void exportDataSetLists_severalDataSetLists_sheetPerDataSetListInRequestedOrder() throws Exception {
+        UiManDataSetList first = trees.get(3);
+        UiManDataSetList second = trees.get(1);
+
+        File file = exportService.exportDataSetLists(visibilityAreaId, Arrays.asList(first.getId(), second.getId()));
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(Files.newInputStream(file.toPath()))) {
+            Assertions.assertEquals(2, workbook.getNumberOfSheets());
+            Assertions.assertEquals(first.getName(), workbook.getSheetName(0));
+            Assertions.assertEquals(second.getName(), workbook.getSheetName(1));
+            assertSheet(first, workbook.getSheetAt(0));
+            assertSheet(second, workbook.getSheetAt(1));
+        }
+    }
+
+    @Test
+    public void exportDataSetLists_dataSetListOfAnotherVisibilityArea_exceptionThrown() {
+        UiManDataSetList tree = trees.get(0);
+        when(visibilityAreaResolverService.getByDataSetListId(tree.getId())).thenReturn(UUID.randomUUID());
+
+        Assertions.assertThrows(ExcelExportNotExistDatasetListlException.class,
+                () -> exportService.exportDataSetLists(visibilityAreaId, singletonList(tree.getId())));
+    }
+
+    private void assertSheet(UiManDataSetList tree, Sheet sheet) {
+        Assertions.assertEquals(ATTRIBUTES_COUNT + 1, sheet.getPhysicalNumberOfRows());
+        Assertions.assertEquals(tree.getDataSets().get(0).getName(), sheet.getRow(0).getCell(2).getStringCellValue());
+        for (int index = 0; index < ATTRIBUTES_COUNT; index++) {
+            Row row = sheet.getRow(index + 1);
+            Assertions.assertEquals("Attribute " + index, row.getCell(0).getStringCellValue());
+            Assertions.assertEquals(tree.getName() + " value " + index, row.getCell(2).getStringCellValue());
+        }
+    }
+
+    private UiManDataSetList generateTree(String name) {
+        DataSetList dataSetList = new DataSetListImpl();
+        dataSetList.setId(UUID.randomUUID());
+        dataSetList.setName(name);
+        UiManDataSetList tree = new UiManDataSetList();
+        tree.setSource(dataSetList);
+
+        DataSet dataSet = new DataSetImpl();
+        UUID dataSetId = UUID.randomUUID();
+        dataSet.setMixInId(new MixInIdImpl(dataSetId));
+        dataSet.setId(dataSetId);
+        dataSet.setName(name + " DS");
+        UiManDataSet uiManDataSet = new UiManDataSet();
+        uiManDataSet.setSource(dataSet);
+        tree.setDataSets(singletonList(uiManDataSet));
+
+        List<UiManAttribute> attributes = new ArrayList<>();
+        for (int index = 0; index < ATTRIBUTES_COUNT; index++) {
+            Attribute attribute = new AttributeImpl();
+            attribute.setType(AttributeType.TEXT);
+            attribute.setName("Attribute " + index);
+            UiManAttribute uiManAttribute = new UiManAttribute();
+            uiManAttribute.setSource(attribute);
+            UiManParameter uiManParameter = new UiManParameter();
+            uiManParameter.setDataSet(dataSetId);
+            uiManParameter.setValue(name + " value " + index);
+            uiManAttribute.setParameters(singletonList(uiManParameter));
+            attributes.add(uiManAttribute);
+        }
+        tree.setAttributes(attributes);
+        return tree;
+    }
+}
@@ -28,6 +28,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -66,6 +67,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.qubership.atp.dataset.db.dto.ParameterValueDto;
 import org.qubership.atp.dataset.db.jpa.ModelsProvider;
 import org.qubership.atp.dataset.db.jpa.Wrapper;
 import org.qubership.atp.dataset.db.jpa.entities.AttributeEntity;
@@ -452,109 +454,96 @@ public class DatasetListImportServiceTest {
         File file = Path.of("src/test/resources/excel/import/valid_import_file.xlsx").toFile();
         importService.importDataSetList(targetProjectId, targetDslId, Files.newInputStream(file.toPath()), false);
 
+        ArgumentCaptor<List<ParameterValueDto>> valuesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(parameterService, atLeastOnce()).setParamsSelectJavers(valuesCaptor.capture(), eq(false));
+        List<ParameterValueDto> written = valuesCaptor.getAllValues().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+
         final UUID ds1Id = ds1.getId();
         final UUID ds2Id = ds2.getId();
         // DSL 1 text_attr
-        verify(parameterService, never()).setParamSelectJavers(ds1Id, text_attr.getId(), emptyList(), "", null, null,
-                false);
-        verify(parameterService, never()).setParamSelectJavers(ds2Id, text_attr.getId(), emptyList(), "land", null,
-                null,
-                false);
-        verify(parameterService, never()).setParamSelectJavers(ds1Id, text_attr2.getId(), emptyList(), "", null, null,
-                false);
-        verify(parameterService, times(1)).setParamSelectJavers(ds2Id, text_attr2.getId(), emptyList(), "land2", null,
-                null,
-                false);
-        verify(parameterService, times(1)).setParamSelectJavers(ds1Id, text_attr3.getId(), emptyList(), "text1", null,
-                null,
-                false);
-        verify(parameterService, times(1)).setParamSelectJavers(ds2Id, text_attr3.getId(), emptyList(), "", null, null,
-                false);
+        assertWritten(written, 0, ds1Id, text_attr.getId(), emptyList(), "", null, null);
+        assertWritten(written, 0, ds2Id, text_attr.getId(), emptyList(), "land", null, null);
+        assertWritten(written, 0, ds1Id, text_attr2.getId(), emptyList(), "", null, null);
+        assertWritten(written, 1, ds2Id, text_attr2.getId(), emptyList(), "land2", null, null);
+        assertWritten(written, 1, ds1Id, text_attr3.getId(), emptyList(), "text1", null, null);
+        assertWritten(written, 1, ds2Id, text_attr3.getId(), emptyList(), "", null, null);
 
         // DSL 1 list_attr
-        verify(parameterService, never()).setParamSelectJavers(ds1Id, list_attr.getId(), emptyList(),
-                cListValue.getText(), null, cListValue.getId(),
-                false);
+        assertWritten(written, 0, ds1Id, list_attr.getId(), emptyList(), cListValue.getText(), null,
+                cListValue.getId());
         verify(parameterService, never()).deleteParamSelectJavers(list_attr.getId(), ds2Id, targetDslId, emptyList(),
                 false);
-        verify(parameterService, times(1)).setParamSelectJavers(ds1Id, list_attr2.getId(), emptyList(),
-                null, null, dListValue.getId(),
-                false);
+        assertWritten(written, 1, ds1Id, list_attr2.getId(), emptyList(), null, null, dListValue.getId());
         verify(parameterService, times(1)).deleteParamSelectJavers(list_attr2.getId(), ds2Id, targetDslId, emptyList(),
                 false);
 
         // DSL 1 enc_att
-        verify(parameterService, times(1)).setParamSelectJavers(ds1Id, enc_attr.getId(), emptyList(), "", null, null,
-                false);
-        verify(parameterService, times(1)).setParamSelectJavers(ds2Id, enc_attr.getId(), emptyList(),
-                "cXdlcnR5cXFxcXE=", null, null,
-                false);
+        assertWritten(written, 1, ds1Id, enc_attr.getId(), emptyList(), "", null, null);
+        assertWritten(written, 1, ds2Id, enc_attr.getId(), emptyList(), "cXdlcnR5cXFxcXE=", null, null);
 
         // DSL 2 ref
-        verify(parameterService, times(1)).setParamSelectJavers(ds1Id, dsl2Ref.getId(), emptyList(), null, ds3.getId(),
-                null,
-                false);
-        verify(parameterService, times(1)).setParamSelectJavers(ds2Id, dsl2Ref.getId(), emptyList(), null, ds4.getId(),
-                null,
-                false);
+        assertWritten(written, 1, ds1Id, dsl2Ref.getId(), emptyList(), null, ds3.getId(), null);
+        assertWritten(written, 1, ds2Id, dsl2Ref.getId(), emptyList(), null, ds4.getId(), null);
 
         // DSL 2 ref -> a
         List<UUID> dsl2RefAttributePath = singletonList(dsl2Ref.getId());
-        verify(parameterService, never()).setParamSelectJavers(ds1Id, a.getId(), emptyList(), "1", null, null, false);
-        verify(parameterService, times(1)).setParamSelectJavers(ds2Id, a.getId(), dsl2RefAttributePath, "4444", null,
-                null,
-                false);
+        assertWritten(written, 0, ds1Id, a.getId(), emptyList(), "1", null, null);
+        assertWritten(written, 1, ds2Id, a.getId(), dsl2RefAttributePath, "4444", null, null);
 
         // DSL 2 ref -> b
-        verify(parameterService, times(1)).setParamSelectJavers(ds1Id, b.getId(), dsl2RefAttributePath, "3333", null,
-                null,
-                false);
-        verify(parameterService, never()).setParamSelectJavers(ds2Id, b.getId(), emptyList(), "4", null, null, false);
+        assertWritten(written, 1, ds1Id, b.getId(), dsl2RefAttributePath, "3333", null, null);
+        assertWritten(written, 0, ds2Id, b.getId(), emptyList(), "4", null, null);
 
         // DSL 2 ref -> enc
-        verify(parameterService, times(1)).setParamSelectJavers(ds1Id, enc.getId(), dsl2RefAttributePath, "cXdldw==",
-                null, null,
-                false);
-        verify(parameterService, times(1)).setParamSelectJavers(ds2Id, enc.getId(), dsl2RefAttributePath, "cXdlcQ==",
-                null, null,
-                false);
+        assertWritten(written, 1, ds1Id, enc.getId(), dsl2RefAttributePath, "cXdldw==", null, null);
+        assertWritten(written, 1, ds2Id, enc.getId(), dsl2RefAttributePath, "cXdlcQ==", null, null);
 
         // DSL 2 ref -> country
-        verify(parameterService, never()).setParamSelectJavers(ds1Id, country.getId(), emptyList(),
-                uaListValue.getText(), null, uaListValue.getId(),
-                false);
-        verify(parameterService, times(1)).setParamSelectJavers(ds2Id, country.getId(), dsl2RefAttributePath,
-                null, null, frListValue.getId(),
-                false);
+        assertWritten(written, 0, ds1Id, country.getId(), emptyList(), uaListValue.getText(), null,
+                uaListValue.getId());
+        assertWritten(written, 1, ds2Id, country.getId(), dsl2RefAttributePath, null, null, frListValue.getId());
 
         // DSL 2 ref -> DSL 3 ref
-        verify(parameterService, never()).setParamSelectJavers(ds1Id, dsl3Ref.getId(), emptyList(), null, ds5.getId(),
-                null,
-                false);
-        verify(parameterService, never()).setParamSelectJavers(ds2Id, dsl3Ref.getId(), emptyList(), null, ds6.getId(),
-                null,
-                false);
+        assertWritten(written, 0, ds1Id, dsl3Ref.getId(), emptyList(), null, ds5.getId(), null);
+        assertWritten(written, 0, ds2Id, dsl3Ref.getId(), emptyList(), null, ds6.getId(), null);
 
         // DSL 2 ref -> DSL 3 ref -> e
         List<UUID> dsl3RefAttributePath = asList(dsl2Ref.getId(), dsl3Ref.getId());
-        verify(parameterService, never()).setParamSelectJavers(ds1Id, e.getId(), emptyList(), "5", null, null, false);
-        verify(parameterService, times(1)).setParamSelectJavers(ds2Id, e.getId(), dsl3RefAttributePath, "666", null,
-                null,
-                false);
+        assertWritten(written, 0, ds1Id, e.getId(), emptyList(), "5", null, null);
+        assertWritten(written, 1, ds2Id, e.getId(), dsl3RefAttributePath, "666", null, null);
 
         // DSL 2 ref -> DSL 3 ref -> DSL 4 ref
-        verify(parameterService, never()).setParamSelectJavers(ds1Id, dsl4Ref.getId(), emptyList(), null, ds7.getId(),
-                null,
-                false);
-        verify(parameterService, never()).setParamSelectJavers(ds2Id, dsl4Ref.getId(), emptyList(), null, ds8.getId(),
-                null,
-                false);
+        assertWritten(written, 0, ds1Id, dsl4Ref.getId(), emptyList(), null, ds7.getId(), null);
+        assertWritten(written, 0, ds2Id, dsl4Ref.getId(), emptyList(), null, ds8.getId(), null);
 
         // DSL 2 ref -> DSL 3 ref -> DSL 4 ref -> f
         List<UUID> dsl4RefAttributePath = asList(dsl2Ref.getId(), dsl3Ref.getId(), dsl4Ref.getId());
-        verify(parameterService, never()).setParamSelectJavers(ds1Id, f.getId(), emptyList(), "4", null, null, false);
-        verify(parameterService, times(1)).setParamSelectJavers(ds2Id, f.getId(), dsl4RefAttributePath, "7", null, null,
-                false);
+        assertWritten(written, 0, ds1Id, f.getId(), emptyList(), "4", null, null);
+        assertWritten(written, 1, ds2Id, f.getId(), dsl4RefAttributePath, "7", null, null);
+    }
+
+    @Test
+    public void importDataSetList_chunkSmallerThanFile_writesParametersPerChunk() throws Exception {
+        ReflectionTestUtils.setField(importService, "chunkSize", 1);
+        File file = Path.of("src/test/resources/excel/import/valid_import_file.xlsx").toFile();
+        importService.importDataSetList(targetProjectId, targetDslId, Files.newInputStream(file.toPath()), false);
+
+        ArgumentCaptor<List<ParameterValueDto>> valuesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(parameterService, atLeastOnce()).setParamsSelectJavers(valuesCaptor.capture(), eq(false));
+        Assertions.assertTrue(valuesCaptor.getAllValues().size() > 1);
+        List<ParameterValueDto> written = valuesCaptor.getAllValues().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+
+        // DSL 2 ref and its children are kept in one chunk
+        List<UUID> dsl2RefAttributePath = singletonList(dsl2Ref.getId());
+        assertWritten(written, 1, ds2.getId(), text_attr2.getId(), emptyList(), "land2", null, null);
+        assertWritten(written, 1, ds1.getId(), dsl2Ref.getId(), emptyList(), null, ds3.getId(), null);
+        assertWritten(written, 1, ds2.getId(), a.getId(), dsl2RefAttributePath, "4444", null, null);
+        assertWritten(written, 1, ds2.getId(), f.getId(),
+                asList(dsl2Ref.getId(), dsl3Ref.getId(), dsl4Ref.getId()), "7", null, null);
     }
 
     @Test
@@ -828,6 +817,21 @@ public class DatasetListImportServiceTest {
         }
     }
 
+    private void assertWritten(List<ParameterValueDto> written, int expectedTimes, UUID dataSetId, UUID attributeId,
+                               List<UUID> attributePath, String text, UUID dataSetReference, UUID listValue) {
+        long writtenTimes = written.stream()
+                .filter(value -> value.getDataSetId().equals(dataSetId)
+                        && value.getAttributeId().equals(attributeId)
+                        && Objects.equals(value.getAttributePathIds(), attributePath)
+                        && Objects.equals(value.getStringValue(), text)
+                        && Objects.equals(value.getDataSetReferenceId(), dataSetReference)
+                        && Objects.equals(value.getListValueId(), listValue))
+                .count();
+        Assertions.assertEquals(expectedTimes, writtenTimes,
+                String.format("Unexpected writes of '%s' for attribute %s in data set %s", text, attributeId,
+                        dataSetId));
+    }
+
     private ListIterator<Map<Integer, String>> getFileRowIterator(String filePath) {
         String locationPrefix = "src/test/resources/excel/import/";
         Path path = Path.of(locationPrefix + filePath);
@@ -0,0 +1,105 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.direct.macros.schange;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.model.Attribute;
+import org.qubership.atp.dataset.model.DataSetList;
+import org.qubership.atp.dataset.model.Parameter;
+import org.qubership.atp.dataset.model.utils.Change;
+import org.qubership.atp.dataset.model.utils.ChangeType;
+
+public class MultiplicationCombinationsTest {
+
+    @Test
+    public void get_twoMultiplications_sameOrderAsNestedLoops() {
+        List<UUID> first = randomIds(2);
+        List<UUID> second = randomIds(3);
+        MultiplicationCombinations combinations = MultiplicationCombinations.of(Stream.of(
+                multiplication(first), multiplication(second)));
+
+        Assertions.assertEquals(6, combinations.size());
+        List<List<UUID>> expected = new ArrayList<>();
+        for (UUID firstId : first) {
+            for (UUID secondId : second) {
+                expected.add(Arrays.asList(firstId, secondId));
+            }
+        }
+        List<List<UUID>> actual = combinations.stream(0, Long.MAX_VALUE)
+                .map(combination -> combination.stream().map(MultiplicationEntry::getValue)
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void get_differentCombinations_entriesAreShared() {
+        MultiplicationCombinations combinations = MultiplicationCombinations.of(Stream.of(
+                multiplication(randomIds(2)), multiplication(randomIds(2))));
+
+        Assertions.assertSame(combinations.get(0).get(0), combinations.get(1).get(0));
+        Assertions.assertSame(combinations.get(1).get(1), combinations.get(3).get(1));
+    }
+
+    @Test
+    public void size_noMultiplications_noCombinations() {
+        MultiplicationCombinations combinations = MultiplicationCombinations.of(Stream.empty());
+
+        Assertions.assertEquals(0, combinations.size());
+        Assertions.assertEquals(0, combinations.stream(0, Long.MAX_VALUE).count());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> combinations.get(0));
+    }
+
+    @Test
+    public void size_productDoesNotFitIntoLong_saturated() {
+        List<UUID> ids = randomIds(1000);
+        List<ChangeParameter> changes = Collections.nCopies(7, multiplication(ids));
+        MultiplicationCombinations combinations = MultiplicationCombinations.of(changes.stream());
+
+        Assertions.assertEquals(Long.MAX_VALUE, combinations.size());
+        Assertions.assertEquals(ids.get(999), combinations.get(999).get(6).getValue());
+        Assertions.assertEquals(ids.get(1), combinations.get(1000).get(5).getValue());
+    }
+
+    private static ChangeParameter multiplication(List<UUID> dataSetIds) {
+        DataSetList reference = mock(DataSetList.class);
+        when(reference.getId()).thenReturn(UUID.randomUUID());
+        Attribute attribute = mock(Attribute.class);
+        when(attribute.getDataSetListReference()).thenReturn(reference);
+        return ChangeParameter.create(attribute, mock(Parameter.class), new Change(ChangeType.MULTIPLY, dataSetIds));
+    }
+
+    private static List<UUID> randomIds(int count) {
+        List<UUID> result = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            result.add(UUID.randomUUID());
+        }
+        return result;
+    }
+}
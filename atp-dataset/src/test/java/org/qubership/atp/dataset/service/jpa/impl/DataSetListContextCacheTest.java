@@ -0,0 +1,253 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.db.jpa.ModelsProvider;
+import org.qubership.atp.dataset.service.jpa.delegates.Attribute;
+import org.qubership.atp.dataset.service.jpa.delegates.AttributeKey;
+import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
+import org.qubership.atp.dataset.service.jpa.delegates.Parameter;
+import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.CycleChecker;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.GroupContext;
+import org.qubership.atp.dataset.service.jpa.model.tree.OverlapNode;
+
+public class DataSetListContextCacheTest {
+
+    private static final List<Integer> COLUMNS = Collections.singletonList(0);
+    private static final List<AttributeTypeName> TYPES = Arrays.asList(AttributeTypeName.TEXT,
+            AttributeTypeName.LIST);
+
+    private final UUID rootDataSetListId = UUID.randomUUID();
+    private final UUID firstDataSetListId = UUID.randomUUID();
+    private final UUID secondDataSetListId = UUID.randomUUID();
+    private final UUID firstAttributeId = UUID.randomUUID();
+    private final UUID secondAttributeId = UUID.randomUUID();
+    private final UUID rootDataSetId = UUID.randomUUID();
+    private final Map<UUID, Timestamp> modifiedWhen = new HashMap<>();
+    private final AtomicInteger builds = new AtomicInteger();
+    private ModelsProvider modelsProvider;
+    private DataSetListContextCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        modelsProvider = mock(ModelsProvider.class);
+        when(modelsProvider.getDataSetListsModifiedWhen(anyCollection())).thenAnswer(invocation -> {
+            Map<UUID, Timestamp> result = new HashMap<>();
+            for (Object id : invocation.getArgument(0, Collection.class)) {
+                if (modifiedWhen.containsKey(id)) {
+                    result.put((UUID) id, modifiedWhen.get(id));
+                }
+            }
+            return result;
+        });
+        modifiedWhen.put(rootDataSetListId, new Timestamp(1));
+        modifiedWhen.put(firstDataSetListId, new Timestamp(1));
+        modifiedWhen.put(secondDataSetListId, null);
+        cache = new DataSetListContextCache(modelsProvider, 100, 600);
+    }
+
+    @Test
+    public void get_dataSetListsAreNotModified_contextIsBuiltOnce() {
+        DataSetListContext first = cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+        DataSetListContext second = cache.get(rootDataSetListId, COLUMNS,
+                Arrays.asList(AttributeTypeName.LIST, AttributeTypeName.TEXT), builder());
+
+        assertSame(first.getDataSets(), second.getDataSets());
+        assertSame(second, cache.get(rootDataSetListId, COLUMNS, TYPES, builder()));
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    public void get_contextIsCached_cachedCopyHoldsNoJpaDelegates() {
+        Attribute overlappedAttribute = mock(Attribute.class);
+        UUID overlappedAttributeId = UUID.randomUUID();
+        when(overlappedAttribute.getId()).thenReturn(overlappedAttributeId);
+        AttributeKey overlap = mock(AttributeKey.class);
+        when(overlap.getAttribute()).thenReturn(overlappedAttribute);
+        when(overlap.getParameter()).thenReturn(mock(Parameter.class));
+        DataSetListContext first = cache.get(rootDataSetListId, COLUMNS, TYPES, () -> {
+            DataSetListContext context = buildContext();
+            context.getGroups().get(0).setAttributes(new LinkedList<>(Collections.singletonList(overlappedAttribute)));
+            context.getRootOverlapNode().addOverlap(Collections.emptyList(), 0, overlap);
+            return context;
+        });
+
+        DataSetListContext second = cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+
+        assertFalse(first.isDetached());
+        assertTrue(second.isDetached());
+        assertTrue(second.getGroups().get(0).getAttributes().isEmpty());
+        assertNull(second.getRootOverlapNode().getOverlap(Collections.emptyList(), 0, overlappedAttributeId));
+        assertTrue(second.getRootOverlapNode().containsOverlap(Collections.emptyList(), 0, overlappedAttributeId));
+        assertSame(overlap, first.getRootOverlapNode().getOverlap(Collections.emptyList(), 0, overlappedAttributeId));
+    }
+
+    @Test
+    public void get_anotherColumns_contextIsBuiltForEachKey() {
+        cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+        cache.get(rootDataSetListId, Arrays.asList(0, 1), TYPES, builder());
+        cache.get(rootDataSetListId, COLUMNS, Collections.singletonList(AttributeTypeName.TEXT), builder());
+
+        assertEquals(3, builds.get());
+    }
+
+    @Test
+    public void get_rootDataSetListIsModified_contextIsBuiltFromScratch() {
+        DataSetListContext first = cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+        modifiedWhen.put(rootDataSetListId, new Timestamp(2));
+
+        DataSetListContext second = cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+
+        assertNotSame(first, second);
+        assertEquals(2, builds.get());
+        cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    public void get_referencedDataSetListIsModified_onlyItsGroupIsRebuilt() {
+        cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+        DataSetListContext first = cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+        modifiedWhen.put(secondDataSetListId, new Timestamp(2));
+        Attribute renamedAttribute = referenceAttribute(secondAttributeId, "Renamed group", secondDataSetListId);
+        when(modelsProvider.getAttributeById(secondAttributeId)).thenReturn(renamedAttribute);
+
+        DataSetListContext second = cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+
+        assertEquals(1, builds.get());
+        assertNotSame(first, second);
+        assertSame(first.getDataSets(), second.getDataSets());
+        assertSame(first.getGroups().get(0), second.getGroups().get(0));
+        assertEquals("Renamed group", second.getGroups().get(1).getName());
+        assertEquals("Second group", first.getGroups().get(1).getName());
+        assertEquals("Renamed group", cache.get(rootDataSetListId, COLUMNS, TYPES, builder())
+                .getGroups().get(1).getName());
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    public void get_modifiedGroupHasOverlaps_contextIsBuiltFromScratch() {
+        DataSetListContext first = cache.get(rootDataSetListId, COLUMNS, TYPES, () -> {
+            DataSetListContext context = buildContext();
+            AttributeKey overlap = mock(AttributeKey.class);
+            Attribute overlappedAttribute = mock(Attribute.class);
+            when(overlappedAttribute.getId()).thenReturn(UUID.randomUUID());
+            when(overlap.getAttribute()).thenReturn(overlappedAttribute);
+            when(overlap.getParameter()).thenReturn(mock(Parameter.class));
+            context.getRootOverlapNode().addOverlap(Collections.singletonList(firstAttributeId), 0, overlap);
+            return context;
+        });
+        modifiedWhen.put(firstDataSetListId, new Timestamp(2));
+
+        DataSetListContext second = cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+
+        assertNotSame(first, second);
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    public void get_dataSetListIsDeleted_contextIsBuiltFromScratch() {
+        cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+        modifiedWhen.remove(firstDataSetListId);
+        when(modelsProvider.getAttributeById(any())).thenReturn(null);
+
+        cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    public void evictByDataSetIds_dataSetOfContext_contextIsBuiltAgain() {
+        cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+        cache.evictByDataSetIds(Collections.singleton(UUID.randomUUID()));
+        cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+        assertEquals(1, builds.get());
+
+        cache.evictByDataSetIds(Collections.singleton(rootDataSetId));
+        cache.get(rootDataSetListId, COLUMNS, TYPES, builder());
+        assertEquals(2, builds.get());
+    }
+
+    private Supplier<DataSetListContext> builder() {
+        return this::buildContext;
+    }
+
+    private DataSetListContext buildContext() {
+        builds.incrementAndGet();
+        DataSetListContext context = new DataSetListContext(rootDataSetListId);
+        context.setLoadedColumns(new LinkedList<>(COLUMNS));
+        context.setLoadedAttributes(new LinkedList<>(TYPES));
+        OverlapNode rootOverlapNode = new OverlapNode(null, rootDataSetListId, 1);
+        context.setRootOverlapNode(rootOverlapNode);
+        DataSetContext rootDataSet = new DataSetContext(0, Collections.emptyList(), rootOverlapNode,
+                new LinkedList<>(), null);
+        rootDataSet.setId(rootDataSetId);
+        rootDataSet.setName("DS");
+        context.getDataSets().add(rootDataSet);
+        context.getGroups().add(group(context, firstAttributeId, "First group", firstDataSetListId));
+        context.getGroups().add(group(context, secondAttributeId, "Second group", secondDataSetListId));
+        return context;
+    }
+
+    private GroupContext group(DataSetListContext context, UUID attributeId, String name, UUID dataSetListId) {
+        return new GroupContext(context.getDataSets(), referenceAttribute(attributeId, name, dataSetListId),
+                context.getRootOverlapNode(), new LinkedList<>(), context.getLoadedAttributes(),
+                new CycleChecker(), null, dataSetListId, null);
+    }
+
+    private Attribute referenceAttribute(UUID attributeId, String name, UUID dataSetListId) {
+        DataSetList dataSetList = mock(DataSetList.class);
+        when(dataSetList.getId()).thenReturn(dataSetListId);
+        when(dataSetList.getName()).thenReturn("DSL " + name);
+        when(dataSetList.getAttributesByTypes(any())).thenReturn(Collections.emptyList());
+        when(dataSetList.getDataSetListReferences()).thenReturn(Collections.emptyList());
+        Attribute attribute = mock(Attribute.class);
+        when(attribute.getId()).thenReturn(attributeId);
+        when(attribute.getName()).thenReturn(name);
+        when(attribute.getTypeDataSetList()).thenReturn(dataSetList);
+        when(attribute.getParameters()).thenReturn(Collections.emptyList());
+        return attribute;
+    }
+}
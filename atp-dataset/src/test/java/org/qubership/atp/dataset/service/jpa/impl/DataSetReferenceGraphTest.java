@@ -0,0 +1,228 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.impl;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.atp.dataset.db.dto.ReferenceEdgeResponse;
+import org.qubership.atp.dataset.db.dto.ReferenceTargetResponse;
+import org.qubership.atp.dataset.db.jpa.ModelsProvider;
+import org.qubership.atp.dataset.service.direct.VisibilityAreaResolverService;
+import org.qubership.atp.dataset.service.direct.impl.CacheEvictionBroadcast;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class DataSetReferenceGraphTest {
+
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID otherProjectId = UUID.randomUUID();
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+    private final UUID third = UUID.randomUUID();
+    private final UUID unrelated = UUID.randomUUID();
+    private final UUID external = UUID.randomUUID();
+    private ModelsProvider modelsProvider;
+    private CacheEvictionBroadcast broadcast;
+    private MeterRegistry meterRegistry;
+    private DataSetReferenceGraph graph;
+
+    @BeforeEach
+    public void setUp() {
+        modelsProvider = mock(ModelsProvider.class);
+        broadcast = mock(CacheEvictionBroadcast.class);
+        VisibilityAreaResolverService visibilityAreaResolverService = mock(VisibilityAreaResolverService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        graph = new DataSetReferenceGraph(modelsProvider, visibilityAreaResolverService, broadcast, meterRegistry,
+                10, 3600);
+        for (UUID id : asList(first, second, third, unrelated)) {
+            when(visibilityAreaResolverService.getByDataSetId(id)).thenReturn(projectId);
+        }
+        when(visibilityAreaResolverService.getByDataSetId(external)).thenReturn(otherProjectId);
+        // second, unrelated and external of other project reference first, third references second,
+        // first references third
+        when(modelsProvider.getDataSetReferencesToVisibilityAreaId(projectId)).thenReturn(asList(
+                edge(second, first), edge(unrelated, first), edge(external, first), edge(third, second),
+                edge(first, third)));
+        when(modelsProvider.getDataSetReferencesToVisibilityAreaId(otherProjectId)).thenReturn(emptyList());
+        when(modelsProvider.getDataSetListReferencesToVisibilityAreaId(any())).thenReturn(emptyList());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void collectReferencingDataSetIds_referenceCycleAndOtherProject_everyReferencingDataSetCollectedOnce() {
+        Assertions.assertEquals(new HashSet<>(asList(first, second, third, unrelated, external)),
+                graph.collectReferencingDataSetIds(first));
+        Assertions.assertEquals(new HashSet<>(asList(second, first, third, unrelated, external)),
+                graph.collectReferencingDataSetIds(second));
+        Assertions.assertEquals(singleton(unrelated), graph.collectReferencingDataSetIds(unrelated));
+        verify(modelsProvider, times(1)).getDataSetReferencesToVisibilityAreaId(projectId);
+        Assertions.assertEquals(5, meterRegistry.get(DataSetReferenceGraph.GRAPH_EDGES).tag("type", "ds")
+                .gauge().value());
+    }
+
+    @Test
+    public void updateDataSet_transactionCommitted_referenceRemovedAndBroadcast() {
+        graph.collectReferencingDataSetIds(first);
+        when(modelsProvider.getReferencedDataSets(unrelated)).thenReturn(emptyList());
+        TransactionSynchronizationManager.initSynchronization();
+
+        graph.updateDataSet(unrelated);
+        Assertions.assertTrue(graph.collectReferencingDataSetIds(first).contains(unrelated));
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        Assertions.assertEquals(new HashSet<>(asList(first, second, third, external)),
+                graph.collectReferencingDataSetIds(first));
+        verify(broadcast).publish(DataSetReferenceGraph.DATA_SETS, singleton(unrelated));
+    }
+
+    @Test
+    public void updateDataSet_transactionRolledBack_graphUnchanged() {
+        graph.collectReferencingDataSetIds(first);
+        TransactionSynchronizationManager.initSynchronization();
+
+        graph.updateDataSet(unrelated);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        Assertions.assertTrue(graph.collectReferencingDataSetIds(first).contains(unrelated));
+        verify(modelsProvider, never()).getReferencedDataSets(any());
+        verify(broadcast, never()).publish(eq(DataSetReferenceGraph.DATA_SETS), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void updateDataSet_referenceAddedOnAnotherReplica_referenceAddedToGraphOfReferencedProject() {
+        ArgumentCaptor<Consumer<Set<UUID>>> subscriber = ArgumentCaptor.forClass(Consumer.class);
+        verify(broadcast).subscribe(eq(DataSetReferenceGraph.DATA_SETS), subscriber.capture());
+        graph.collectReferencingDataSetIds(first);
+        UUID added = UUID.randomUUID();
+        when(modelsProvider.getReferencedDataSets(added)).thenReturn(asList(
+                reference(added, unrelated, projectId), reference(added, external, otherProjectId)));
+
+        subscriber.getValue().accept(singleton(added));
+
+        Assertions.assertTrue(graph.collectReferencingDataSetIds(first).contains(added));
+        Assertions.assertEquals(7, meterRegistry.get(DataSetReferenceGraph.GRAPH_EDGES).tag("type", "ds")
+                .gauge().value());
+    }
+
+    @Test
+    public void updateDataSetList_parameterReferencesOfDataSetChanged_dataSetReferencesReloaded() {
+        graph.collectReferencingDataSetIds(first);
+        UUID dataSetListId = UUID.randomUUID();
+        when(modelsProvider.getReferencedDataSetLists(dataSetListId)).thenReturn(emptyList());
+        when(modelsProvider.getDataSetsIdsByDataSetListId(dataSetListId)).thenReturn(
+                new LinkedList<>(asList(second, unrelated)));
+        when(modelsProvider.getDataSetReferencesFromDataSetList(dataSetListId)).thenReturn(
+                singletonList(reference(unrelated, second, projectId)));
+
+        graph.updateDataSetList(dataSetListId);
+
+        Assertions.assertEquals(new HashSet<>(asList(second, third, first, unrelated, external)),
+                graph.collectReferencingDataSetIds(second));
+        Assertions.assertEquals(new HashSet<>(asList(third, first, external)),
+                graph.collectReferencingDataSetIds(third));
+        verify(broadcast).publish(DataSetReferenceGraph.DATA_SET_LISTS, singleton(dataSetListId));
+    }
+
+    @Test
+    public void checkConsistency_referenceAddedBypassingGraph_graphReplacedFromDatabase() {
+        graph.collectReferencingDataSetIds(first);
+        UUID added = UUID.randomUUID();
+        when(modelsProvider.getDataSetReferencesToVisibilityAreaId(projectId)).thenReturn(asList(
+                edge(second, first), edge(unrelated, first), edge(external, first), edge(third, second),
+                edge(first, third), edge(added, unrelated)));
+
+        graph.checkConsistency();
+
+        Assertions.assertTrue(graph.collectReferencingDataSetIds(first).contains(added));
+        Assertions.assertEquals(1, meterRegistry.get(DataSetReferenceGraph.GRAPH_INCONSISTENCIES)
+                .counter().count());
+    }
+
+    private static void completeTransaction(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static ReferenceEdgeResponse edge(UUID sourceId, UUID targetId) {
+        return new ReferenceEdgeResponse() {
+            @Override
+            public UUID getSourceId() {
+                return sourceId;
+            }
+
+            @Override
+            public UUID getTargetId() {
+                return targetId;
+            }
+        };
+    }
+
+    private static ReferenceTargetResponse reference(UUID sourceId, UUID targetId, UUID visibilityAreaId) {
+        return new ReferenceTargetResponse() {
+            @Override
+            public UUID getSourceId() {
+                return sourceId;
+            }
+
+            @Override
+            public UUID getTargetId() {
+                return targetId;
+            }
+
+            @Override
+            public UUID getVisibilityAreaId() {
+                return visibilityAreaId;
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.service.jpa.ContextType;
+import org.qubership.atp.dataset.service.jpa.JpaDataSetService;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContext;
+import org.springframework.scheduling.annotation.AsyncResult;
+
+public class JpaDataSetServiceImplTest {
+
+    private final UUID dataSetId = UUID.randomUUID();
+    private JpaDataSetServiceImpl service;
+    private DataSetContext rootDataSet;
+
+    @BeforeEach
+    public void setUp() {
+        rootDataSet = mock(DataSetContext.class);
+        when(rootDataSet.getId()).thenReturn(dataSetId);
+        DataSetListContext dataSetListContext = new DataSetListContext(UUID.randomUUID());
+        dataSetListContext.setVisibilityAreaId(UUID.randomUUID());
+        dataSetListContext.getDataSets().add(rootDataSet);
+
+        service = new JpaDataSetServiceImpl();
+        service.self = mock(JpaDataSetService.class);
+        when(service.self.getDatasetListContext(dataSetId)).thenReturn(dataSetListContext);
+        service.macrosDefinitionCacheService = mock(MacrosDefinitionCacheService.class);
+        when(service.macrosDefinitionCacheService.getNonTechnicalMacros(any()))
+                .thenReturn(Collections.emptyList());
+        service.dataSetTreeAsyncService = mock(DataSetTreeAsyncService.class);
+        service.bulkEvaluationPoolSize = 2;
+    }
+
+    @Test
+    public void writeDataSetTreesInAtpFormat_severalCopies_writesJsonArrayInSubmitOrder() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        when(service.dataSetTreeAsyncService.serializeTreeCopy(eq(rootDataSet), eq(true), any(), eq(ContextType.FULL)))
+                .thenAnswer(invocation -> new AsyncResult<>(
+                        ("{\"copy\":" + counter.getAndIncrement() + "}").getBytes(StandardCharsets.UTF_8)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        service.writeDataSetTreesInAtpFormat(dataSetId, true, null, ContextType.FULL, 3, outputStream);
+
+        assertEquals("[{\"copy\":0},{\"copy\":1},{\"copy\":2}]", outputStream.toString(StandardCharsets.UTF_8.name()));
+        verify(service.dataSetTreeAsyncService, times(3))
+                .serializeTreeCopy(eq(rootDataSet), eq(true), any(), eq(ContextType.FULL));
+    }
+
+    @Test
+    public void writeDataSetTreesInAtpFormat_manyCopies_submittedNotMoreThanPoolSizeAhead() throws Exception {
+        AtomicInteger submitted = new AtomicInteger();
+        when(service.dataSetTreeAsyncService.serializeTreeCopy(any(), eq(true), any(), any()))
+                .thenAnswer(invocation -> new AsyncResult<>(
+                        String.valueOf(submitted.incrementAndGet()).getBytes(StandardCharsets.UTF_8)));
+        List<Integer> submittedOnWrite = new ArrayList<>();
+        OutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void write(byte[] bytes) throws IOException {
+                submittedOnWrite.add(submitted.get());
+                super.write(bytes);
+            }
+        };
+
+        service.writeDataSetTreesInAtpFormat(dataSetId, true, null, ContextType.FULL, 5, outputStream);
+
+        assertEquals("[1,2,3,4,5]", outputStream.toString());
+        assertEquals(Arrays.asList(2, 3, 4, 5, 5), submittedOnWrite);
+    }
+
+    @Test
+    public void writeDataSetTreesInAtpFormat_writeFailed_unwrittenCopiesCancelled() throws Exception {
+        CompletableFuture<byte[]> first = CompletableFuture.completedFuture("{}".getBytes(StandardCharsets.UTF_8));
+        CompletableFuture<byte[]> second = new CompletableFuture<>();
+        when(service.dataSetTreeAsyncService.serializeTreeCopy(any(), eq(true), any(), any()))
+                .thenReturn(first, second);
+        OutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void write(byte[] bytes) throws IOException {
+                throw new IOException("client disconnected");
+            }
+        };
+
+        assertThrows(IOException.class, () -> service.writeDataSetTreesInAtpFormat(
+                dataSetId, true, null, ContextType.FULL, 10, outputStream));
+
+        assertTrue(second.isCancelled());
+        verify(service.dataSetTreeAsyncService, times(2)).serializeTreeCopy(any(), eq(true), any(), any());
+    }
+
+    @Test
+    public void writeDataSetTreesInAtpFormat_copyFailed_writesEmptyObjectInsteadOfIt() throws Exception {
+        CompletableFuture<byte[]> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("evaluation failed"));
+        when(service.dataSetTreeAsyncService.serializeTreeCopy(any(), eq(false), any(), any()))
+                .thenReturn(new AsyncResult<>("{\"a\":\"b\"}".getBytes(StandardCharsets.UTF_8)))
+                .thenReturn(failed);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        service.writeDataSetTreesInAtpFormat(dataSetId, false, null, ContextType.OBJECT, 2, outputStream);
+
+        assertEquals("[{\"a\":\"b\"},{}]", outputStream.toString(StandardCharsets.UTF_8.name()));
+    }
+}
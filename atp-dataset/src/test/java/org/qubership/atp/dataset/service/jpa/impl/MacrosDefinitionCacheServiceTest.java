@@ -0,0 +1,125 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.constants.CacheEnum;
+import org.qubership.atp.macros.core.client.MacrosFeignClient;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.ResponseEntity;
+
+public class MacrosDefinitionCacheServiceTest {
+
+    private static final long TTL_MILLIS = TimeUnit.SECONDS.toMillis(CacheEnum.MACROS_CACHE.getTimeToLiveSec());
+    private static final long REFRESH_AHEAD_SEC = CacheEnum.MACROS_CACHE.getTimeToLiveSec() / 2;
+
+    private final UUID visibilityAreaId = UUID.randomUUID();
+    private MacrosFeignClient macrosFeignClient;
+    private MutableClock clock;
+    private MacrosDefinitionCacheService service;
+
+    @BeforeEach
+    public void setUp() {
+        macrosFeignClient = mock(MacrosFeignClient.class);
+        when(macrosFeignClient.findAllByProject(any())).thenReturn(ResponseEntity.ok(Collections.emptyList()));
+        when(macrosFeignClient.findNonTechnicalMacrosByProject(any()))
+                .thenReturn(ResponseEntity.ok(Collections.emptyList()));
+        clock = new MutableClock();
+        service = new MacrosDefinitionCacheService(macrosFeignClient,
+                new ConcurrentMapCacheManager(CacheEnum.Constants.MACROS_CACHE), Runnable::run, clock,
+                REFRESH_AHEAD_SEC);
+    }
+
+    @Test
+    public void getAllMacros_manyRequestsWithinTtl_oneRemoteCall() {
+        for (int i = 0; i < 100; i++) {
+            service.getAllMacros(visibilityAreaId);
+            clock.advance(TTL_MILLIS / 1000);
+        }
+        verify(macrosFeignClient, times(1)).findAllByProject(visibilityAreaId);
+        verify(macrosFeignClient, never()).findNonTechnicalMacrosByProject(any());
+    }
+
+    @Test
+    public void getAllMacros_requestAfterRefreshAhead_refreshedOncePerWindow() {
+        service.getAllMacros(visibilityAreaId);
+        clock.advance(TimeUnit.SECONDS.toMillis(REFRESH_AHEAD_SEC));
+        service.getAllMacros(visibilityAreaId);
+        service.getAllMacros(visibilityAreaId);
+        verify(macrosFeignClient, times(2)).findAllByProject(visibilityAreaId);
+    }
+
+    @Test
+    public void getAllMacros_requestAfterTtl_reloaded() {
+        service.getAllMacros(visibilityAreaId);
+        clock.advance(TTL_MILLIS);
+        service.getAllMacros(visibilityAreaId);
+        service.getAllMacros(visibilityAreaId);
+        verify(macrosFeignClient, times(2)).findAllByProject(visibilityAreaId);
+    }
+
+    @Test
+    public void evict_cachedMacros_nextRequestReloads() {
+        service.getAllMacros(visibilityAreaId);
+        service.getNonTechnicalMacros(visibilityAreaId);
+        service.evict(visibilityAreaId);
+        service.getAllMacros(visibilityAreaId);
+        service.getNonTechnicalMacros(visibilityAreaId);
+        verify(macrosFeignClient, times(2)).findAllByProject(visibilityAreaId);
+        verify(macrosFeignClient, times(2)).findNonTechnicalMacrosByProject(visibilityAreaId);
+    }
+
+    private static class MutableClock extends Clock {
+        private final AtomicLong millis = new AtomicLong();
+
+        void advance(long delta) {
+            millis.addAndGet(delta);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+    }
+}
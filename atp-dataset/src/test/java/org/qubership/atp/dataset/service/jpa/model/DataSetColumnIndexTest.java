@@ -0,0 +1,58 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class DataSetColumnIndexTest {
+
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+    private final UUID third = UUID.randomUUID();
+    private final DataSetColumnIndex index = new DataSetColumnIndex(
+            Arrays.asList(first, second, third), Arrays.asList("First", null, "Third"));
+
+    @Test
+    public void getColumn_byIdAndName_columnsStartFromZero() {
+        assertEquals(0, index.getColumnById(first));
+        assertEquals(2, index.getColumnById(third));
+        assertEquals(2, index.getColumnByName("Third"));
+        assertNull(index.getColumnById(UUID.randomUUID()));
+        assertNull(index.getColumnByName("Second"));
+    }
+
+    @Test
+    public void getDataSetId_columnOutOfRange_null() {
+        assertEquals(second, index.getDataSetId(1));
+        assertNull(index.getDataSetId(-1));
+        assertNull(index.getDataSetId(3));
+    }
+
+    @Test
+    public void getColumns_unorderedIds_columnsInDataSetOrder() {
+        assertEquals(Arrays.asList(0, 2), index.getColumns(Arrays.asList(third, UUID.randomUUID(), first)));
+        assertEquals(Collections.emptyList(), index.getColumns(Collections.emptyList()));
+        assertEquals(3, index.size());
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.model.tree.ds;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.qubership.atp.dataset.service.jpa.ContextType;
+import org.qubership.atp.dataset.service.jpa.delegates.Attribute;
+import org.qubership.atp.dataset.service.jpa.impl.DataSetParameterProvider;
+import org.qubership.atp.dataset.service.jpa.impl.macro.MacroContext;
+import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.GroupContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.ParameterContext;
+import org.qubership.atp.dataset.service.jpa.model.tree.OverlapNode;
+import org.qubership.atp.dataset.service.jpa.model.tree.ds.itf.ItfContextSerializer;
+import org.qubership.atp.dataset.service.jpa.model.tree.params.TextParameter;
+import org.qubership.atp.dataset.service.jpa.model.tree.params.macros.ParameterPositionContext;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+public class DataSetTreeWriterTest {
+
+    private static final int PARAMETERS_COUNT = 100_000;
+    private static final int PARAMETER_VALUE_LENGTH = 4096;
+    private static final long HEAP_BUDGET_BYTES = 64L * 1024 * 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Attribute attribute;
+    private DataSetListContext dataSetListContext;
+    private MacroContext macroContext;
+    private DataSetParameterProvider dataSetParameterProvider;
+
+    @BeforeEach
+    public void setUp() {
+        attribute = mock(Attribute.class);
+        when(attribute.getOrdering()).thenReturn(0);
+        when(attribute.getAttributeType()).thenReturn(AttributeTypeName.TEXT);
+        dataSetListContext = new DataSetListContext(UUID.randomUUID());
+        macroContext = new MacroContext();
+        macroContext.setDataSetListContext(dataSetListContext);
+        dataSetParameterProvider = mock(DataSetParameterProvider.class, withSettings().stubOnly());
+        when(dataSetParameterProvider.getDataSetParameterResolved(any(), any(), any(), anyBoolean(), any(), any()))
+                .thenAnswer(invocation -> {
+                    UUID parameterId = invocation.getArgument(1);
+                    ParameterPositionContext position = invocation.getArgument(5);
+                    String value = parameterId == null ? null : "value " + parameterId;
+                    return new TextParameter(value, position);
+                });
+    }
+
+    @ParameterizedTest
+    @EnumSource(ContextType.class)
+    public void writeInAtpFormat_treeWithNestedAndEmptyGroups_sameAsSerializedDataSetTree(ContextType contextType)
+            throws IOException {
+        DataSetContext rootDataSet = createTree();
+        DataSetTree tree = new DataSetTree(rootDataSet, rootDataSet.getColumnNumber(), false, macroContext,
+                dataSetListContext, dataSetParameterProvider, contextType);
+        String expected = objectMapper.writeValueAsString(tree);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream);
+        createWriter(rootDataSet, contextType, jsonGenerator).writeInAtpFormat();
+
+        assertEquals(expected, outputStream.toString("UTF-8"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ContextType.class)
+    public void writeInItfFormat_treeWithNestedAndEmptyGroups_sameAsItfContextSerializer(ContextType contextType)
+            throws IOException {
+        DataSetContext rootDataSet = createTree();
+        DataSetTree tree = new DataSetTree(rootDataSet, rootDataSet.getColumnNumber(), false, macroContext,
+                dataSetListContext, dataSetParameterProvider, contextType);
+        ObjectMapper itfMapper = new ObjectMapper();
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(DataSetTree.class, new ItfContextSerializer());
+        itfMapper.registerModule(module);
+        String expected = itfMapper.writeValueAsString(tree);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream);
+        createWriter(rootDataSet, contextType, jsonGenerator).writeInItfFormat();
+
+        assertEquals(expected, outputStream.toString("UTF-8"));
+    }
+
+    @Test
+    public void writeInAtpFormat_100kParameters_peakHeapStaysWithinBudget() throws IOException {
+        String value = new String(new char[PARAMETER_VALUE_LENGTH]).replace('\0', 'x');
+        List<ParameterContext> parameters = new ArrayList<>(PARAMETERS_COUNT);
+        for (int i = 0; i < PARAMETERS_COUNT; i++) {
+            parameters.add(parameter("Parameter " + i, i, UUID.randomUUID(), false));
+        }
+        DataSetContext rootDataSet = dataSet(UUID.randomUUID(), "DS", parameters);
+        long baseline = usedHeapAfterGc();
+        AtomicLong peak = new AtomicLong();
+        AtomicInteger resolved = new AtomicInteger();
+        when(dataSetParameterProvider.getDataSetParameterResolved(any(), any(), any(), anyBoolean(), any(), any()))
+                .thenAnswer(invocation -> {
+                    if (resolved.incrementAndGet() % 10_000 == 0) {
+                        peak.accumulateAndGet(usedHeapAfterGc() - baseline, Math::max);
+                    }
+                    // every parameter has its own copy of value, as evaluated macros would have
+                    return new TextParameter(new String(value.toCharArray()), invocation.getArgument(5));
+                });
+        CountingOutputStream outputStream = new CountingOutputStream();
+        JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream);
+
+        createWriter(rootDataSet, ContextType.FULL, jsonGenerator).writeInAtpFormat();
+
+        assertEquals(PARAMETERS_COUNT, resolved.get());
+        assertTrue(outputStream.count > (long) PARAMETERS_COUNT * PARAMETER_VALUE_LENGTH,
+                "Whole tree has to be written, written bytes: " + outputStream.count);
+        assertTrue(peak.get() < HEAP_BUDGET_BYTES,
+                "Heap used by writer " + peak.get() + " exceeds budget " + HEAP_BUDGET_BYTES);
+    }
+
+    /**
+     * Root DS with 2 parameters, one of them is empty, and 3 groups: resolved one with nested group without DS
+     * selected but with overlapped parameter, group without DS in column, and group with DS which has only
+     * empty parameter.
+     */
+    private DataSetContext createTree() {
+        OverlapNode overlapNode = mock(OverlapNode.class);
+        when(overlapNode.containsOverlapsInPath(anyList(), anyInt())).thenReturn(true);
+        dataSetListContext.setRootOverlapNode(overlapNode);
+
+        GroupContext nestedGroup = group("Nested", 3, "Nested DSL",
+                Collections.singletonList(dataSet(null, "Not selected", Collections.singletonList(
+                        parameter("Nested overlap", 1, UUID.randomUUID(), true)))),
+                Collections.emptyList());
+        GroupContext resolvedGroup = group("Resolved", 2, "Child DSL",
+                Collections.singletonList(dataSet(UUID.randomUUID(), "Child DS", Arrays.asList(
+                        parameter("Child text", 1, UUID.randomUUID(), false),
+                        parameter("Child overlap", 2, UUID.randomUUID(), true),
+                        parameter("Child empty", 4, null, false)))),
+                Collections.singletonList(nestedGroup));
+        GroupContext noDataSetGroup = group("No DS", 4, "Other DSL", Collections.emptyList(),
+                Collections.emptyList());
+        GroupContext emptyGroup = group("Empty", 5, "Empty DSL",
+                Collections.singletonList(dataSet(UUID.randomUUID(), "Empty DS", Collections.singletonList(
+                        parameter("Empty", 1, null, true)))),
+                Collections.emptyList());
+        dataSetListContext.getGroups().addAll(Arrays.asList(resolvedGroup, noDataSetGroup, emptyGroup));
+
+        return dataSet(UUID.randomUUID(), "Root DS", Arrays.asList(
+                parameter("Text", 1, UUID.randomUUID(), false),
+                parameter("Null", 6, null, false)));
+    }
+
+    private DataSetTreeWriter createWriter(DataSetContext rootDataSet, ContextType contextType,
+                                           JsonGenerator jsonGenerator) {
+        return new DataSetTreeWriter(rootDataSet, false, macroContext, dataSetListContext,
+                dataSetParameterProvider, contextType, jsonGenerator);
+    }
+
+    private ParameterContext parameter(String name, long order, UUID parameterId, boolean overlap) {
+        ParameterContext parameter = new ParameterContext(attribute);
+        parameter.setName(name);
+        parameter.setOrder(order);
+        parameter.setParameterId(parameterId);
+        parameter.setOverlap(overlap);
+        return parameter;
+    }
+
+    private static DataSetContext dataSet(UUID id, String name, List<ParameterContext> parameters) {
+        DataSetContext dataSet = mock(DataSetContext.class);
+        when(dataSet.getId()).thenReturn(id);
+        when(dataSet.getName()).thenReturn(name);
+        when(dataSet.getColumnNumber()).thenReturn(0);
+        when(dataSet.getParameters()).thenReturn(parameters);
+        return dataSet;
+    }
+
+    private static GroupContext group(String name, long order, String dataSetListName,
+                                      List<DataSetContext> dataSets, List<GroupContext> groups) {
+        GroupContext group = mock(GroupContext.class);
+        when(group.getName()).thenReturn(name);
+        when(group.getOrder()).thenReturn(order);
+        when(group.getDataSetListName()).thenReturn(dataSetListName);
+        when(group.getDataSetListId()).thenReturn(UUID.randomUUID());
+        when(group.getCurrentPath()).thenReturn(Collections.singletonList(UUID.randomUUID()));
+        when(group.getDataSets()).thenReturn(dataSets);
+        when(group.getGroups()).thenReturn(groups);
+        return group;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.service;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.qubership.atp.dataset.db.DataSetListCopyRepository;
+import org.qubership.atp.dataset.db.jpa.ModelsProvider;
+import org.qubership.atp.dataset.service.direct.GridFsService;
+import org.qubership.atp.dataset.service.jpa.delegates.Attribute;
+import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
+import org.qubership.atp.dataset.service.jpa.impl.DataSetListBulkCopyService;
+import org.qubership.atp.dataset.service.jpa.model.copy.AttributeCopyData;
+import org.qubership.atp.dataset.service.jpa.model.copy.DataSetListBulkCopyData;
+import org.qubership.atp.dataset.service.jpa.model.copy.DataSetListCopyData;
+
+/**
+ * Time and statements of bulk copy compared with the regular one are measured
+ * by {@code DataSetListCopying} benchmark.
+ */
+@ExtendWith(MockitoExtension.class)
+public class DataSetListBulkCopyServiceTest {
+
+    @Mock
+    private ModelsProvider modelsProvider;
+    @Mock
+    private DataSetListCopyRepository copyRepository;
+    @Mock
+    private GridFsService gridFsService;
+    @InjectMocks
+    private DataSetListBulkCopyService bulkCopyService;
+
+    @Test
+    public void duplicate_dataSetListWithFiles_rowsCopiedByBatchAndFilesCopiedBeforeRefresh() {
+        UUID sourceId = UUID.randomUUID();
+        UUID copyId = UUID.randomUUID();
+        UUID attributeId = UUID.randomUUID();
+        UUID attributeCopyId = UUID.randomUUID();
+        DataSetList source = mock(DataSetList.class);
+        DataSetList copy = mock(DataSetList.class);
+        Attribute attributeCopy = mock(Attribute.class);
+        when(source.getId()).thenReturn(sourceId);
+        when(source.getCopyName("_copy", null)).thenReturn("DSL_copy");
+        when(source.createEmptyCopy("DSL_copy", null)).thenReturn(copy);
+        when(copy.getId()).thenReturn(copyId);
+        when(attributeCopy.getId()).thenReturn(attributeCopyId);
+        DataSetListBulkCopyData bulkCopyData = new DataSetListBulkCopyData();
+        bulkCopyData.getAttributesMap().put(attributeId, attributeCopyId);
+        bulkCopyData.getDataSetsMap().put(UUID.randomUUID(), UUID.randomUUID());
+        bulkCopyData.getFileParametersMap().put(UUID.randomUUID(), UUID.randomUUID());
+        when(copyRepository.copy(sourceId, copyId)).thenReturn(bulkCopyData);
+        when(modelsProvider.getAttributesByDataSetListId(copyId))
+                .thenReturn(Collections.singletonList(attributeCopy));
+
+        DataSetListCopyData copyData = bulkCopyService.duplicate(source, "_copy", null, null);
+
+        InOrder order = inOrder(gridFsService, copy);
+        order.verify(gridFsService).copyAll(bulkCopyData.getFileParametersMap(), true);
+        order.verify(copy).refresh();
+        Assertions.assertSame(copy, copyData.getDataSetListCopy());
+        Assertions.assertEquals(bulkCopyData.getDataSetsMap(), copyData.getDataSetsMap());
+        AttributeCopyData attributeCopyData = copyData.getAttributesMap().get(attributeId);
+        Assertions.assertSame(attributeCopy, attributeCopyData.getAttributeCopy());
+    }
+}
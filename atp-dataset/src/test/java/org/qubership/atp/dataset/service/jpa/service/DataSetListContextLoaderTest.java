@@ -0,0 +1,134 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.jpa.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.config.TestConfiguration;
+import org.qubership.atp.dataset.db.jpa.ModelsProvider;
+import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
+import org.qubership.atp.dataset.service.jpa.impl.DataSetListContextLoader;
+import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.DataSetListContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.GroupContext;
+import org.qubership.atp.dataset.service.jpa.model.dscontext.ParameterContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Disabled
+@SpringBootTest
+@SpringJUnitConfig(classes = {TestConfiguration.class})
+@TestPropertySource(properties = {"atp-dataset.javers.enabled=false"})
+public class DataSetListContextLoaderTest extends AbstractJpaTest {
+
+    private static final UUID dataSetListId = UUID.fromString("49119346-cec2-4801-a004-7820f379ca0e");
+    private static final UUID dataSetId = UUID.fromString("f05b4368-a1ff-41f6-bf8f-9c7f0f139e1c");
+    private static final List<AttributeTypeName> attributeTypes = Arrays.asList(
+            AttributeTypeName.TEXT, AttributeTypeName.LIST, AttributeTypeName.ENCRYPTED
+    );
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ModelsProvider modelsProvider;
+    @Autowired
+    private DataSetListContextLoader dataSetListContextLoader;
+
+    @Test
+    @Sql(scripts = "classpath:test_data/sql/jpa_integration_test/JpaIntegrationTest.sql")
+    public void load_prefetchedHierarchy_sameContextWithFewerStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        String lazyContext = describe(buildContext(statistics, dataSetList -> new DataSetListContext(
+                dataSetList, getColumns(dataSetList), attributeTypes, null
+        )));
+        long lazyStatements = statistics.getPrepareStatementCount();
+        String loadedContext = describe(buildContext(statistics, dataSetList -> dataSetListContextLoader.load(
+                dataSetList, getColumns(dataSetList), attributeTypes
+        )));
+        long loadedStatements = statistics.getPrepareStatementCount();
+
+        Assertions.assertEquals(lazyContext, loadedContext);
+        Assertions.assertTrue(loadedStatements < lazyStatements,
+                "Prefetch prepared " + loadedStatements + " statements, lazy loading " + lazyStatements);
+    }
+
+    private DataSetListContext buildContext(Statistics statistics,
+                                            Function<DataSetList, DataSetListContext> builder) {
+        modelsProvider.dropLocalThreadCache();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> {
+            DataSetList dataSetList = modelsProvider.getDataSetListById(dataSetListId);
+            statistics.clear();
+            return builder.apply(dataSetList);
+        });
+    }
+
+    private static List<Integer> getColumns(DataSetList dataSetList) {
+        return Collections.singletonList(dataSetList.getDataSetColumnById(dataSetId));
+    }
+
+    private static String describe(DataSetListContext context) {
+        StringBuilder result = new StringBuilder(context.getDataSetListName());
+        describeDataSets(context.getDataSets(), result);
+        describeGroups(context.getGroups(), result);
+        return result.toString();
+    }
+
+    private static void describeGroups(List<GroupContext> groups, StringBuilder result) {
+        for (GroupContext group : groups) {
+            result.append("\n[").append(group.getCurrentPath()).append(' ').append(group.getDataSetListName());
+            describeDataSets(group.getDataSets(), result);
+            describeGroups(group.getGroups(), result);
+            result.append("\n]");
+        }
+    }
+
+    private static void describeDataSets(List<DataSetContext> dataSets, StringBuilder result) {
+        for (DataSetContext dataSet : dataSets) {
+            result.append("\n ").append(dataSet.getColumnNumber()).append(' ').append(dataSet.getId())
+                    .append(' ').append(dataSet.getName()).append(' ').append(dataSet.getLabels());
+            for (ParameterContext parameter : dataSet.getParameters()) {
+                result.append("\n  ").append(parameter.getAttributeId()).append('=').append(parameter.getValue())
+                        .append(' ').append(parameter.getDataSetReferenceId())
+                        .append(' ').append(parameter.getListValueId())
+                        .append(' ').append(parameter.isOverlap());
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.rest.facade;
+
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.model.impl.file.FileData;
+import org.qubership.atp.dataset.service.direct.ConcurrentModificationService;
+import org.qubership.atp.dataset.service.direct.GridFsService;
+import org.qubership.atp.dataset.service.direct.ParameterService;
+import org.qubership.atp.dataset.service.jpa.impl.MetricsService;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.google.common.io.ByteStreams;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class AttachmentControllerFacadeTest {
+
+    private static final int FILE_SIZE = 16 * 1024 * 1024;
+
+    private final UUID parameterId = UUID.randomUUID();
+    private final byte[] content = new byte[FILE_SIZE];
+    private AttachmentControllerFacade facade;
+
+    @BeforeEach
+    public void setUp() {
+        new Random(42).nextBytes(content);
+        GridFsService gridFsService = mock(GridFsService.class);
+        ParameterService parameterService = mock(ParameterService.class, RETURNS_DEEP_STUBS);
+        when(parameterService.get(parameterId).getDataSet().getDataSetList().getVisibilityArea().getId())
+                .thenReturn(UUID.randomUUID());
+        when(gridFsService.get(parameterId))
+                .thenAnswer(invocation -> Optional.of(new ByteArrayInputStream(content)));
+        when(gridFsService.getFileInfo(parameterId))
+                .thenReturn(new FileData("file.bin", parameterId, "application/octet-stream"));
+        when(gridFsService.getGridFsFile(parameterId)).thenReturn(new GridFSFile(new BsonObjectId(new ObjectId()),
+                parameterId.toString(), FILE_SIZE, 261120, new Date(), new Document()));
+        facade = new AttachmentControllerFacade(gridFsService, parameterService,
+                mock(ConcurrentModificationService.class), mock(MetricsService.class));
+    }
+
+    @Test
+    public void getAttachmentByParameterId_noRange_returnsWholeFileWithLength() throws IOException {
+        long started = System.nanoTime();
+        ResponseEntity<InputStreamResource> response = facade.getAttachmentByParameterId(parameterId, null);
+        byte[] body = read(response);
+        logThroughput("full", body.length, started);
+
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertEquals(FILE_SIZE, response.getHeaders().getContentLength());
+        Assertions.assertEquals("bytes", response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        Assertions.assertArrayEquals(content, body);
+    }
+
+    @Test
+    public void getAttachmentByParameterId_singleRange_returnsPartialContent() throws IOException {
+        long started = System.nanoTime();
+        ResponseEntity<InputStreamResource> response =
+                facade.getAttachmentByParameterId(parameterId, "bytes=1048576-9437183");
+        byte[] body = read(response);
+        logThroughput("range", body.length, started);
+
+        Assertions.assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        Assertions.assertEquals(8 * 1024 * 1024, response.getHeaders().getContentLength());
+        Assertions.assertEquals("bytes 1048576-9437183/" + FILE_SIZE,
+                response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        Assertions.assertArrayEquals(Arrays.copyOfRange(content, 1048576, 9437184), body);
+    }
+
+    @Test
+    public void getAttachmentByParameterId_suffixRange_returnsFileTail() throws IOException {
+        ResponseEntity<InputStreamResource> response = facade.getAttachmentByParameterId(parameterId, "bytes=-100");
+
+        Assertions.assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        Assertions.assertEquals("bytes " + (FILE_SIZE - 100) + "-" + (FILE_SIZE - 1) + "/" + FILE_SIZE,
+                response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        Assertions.assertArrayEquals(Arrays.copyOfRange(content, FILE_SIZE - 100, FILE_SIZE), read(response));
+    }
+
+    @Test
+    public void getAttachmentByParameterId_rangeOutOfFile_returnsNotSatisfiable() {
+        ResponseEntity<InputStreamResource> response =
+                facade.getAttachmentByParameterId(parameterId, "bytes=" + FILE_SIZE + "-");
+
+        Assertions.assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        Assertions.assertEquals("bytes */" + FILE_SIZE, response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        Assertions.assertNull(response.getBody());
+    }
+
+    @Test
+    public void getAttachmentByParameterId_malformedRange_returnsWholeFile() throws IOException {
+        ResponseEntity<InputStreamResource> response = facade.getAttachmentByParameterId(parameterId, "lines=1-2");
+
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertArrayEquals(content, read(response));
+    }
+
+    private static byte[] read(ResponseEntity<InputStreamResource> response) throws IOException {
+        try (InputStream stream = response.getBody().getInputStream()) {
+            return ByteStreams.toByteArray(stream);
+        }
+    }
+
+    private static void logThroughput(String mode, long bytes, long startedNanos) {
+        double seconds = Math.max(System.nanoTime() - startedNanos, 1) / 1_000_000_000d;
+        log.info("Attachment {} download: {} bytes, {} MB/s", mode, bytes,
+                String.format("%.1f", bytes / seconds / 1048576));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.rest.server;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.ssl.Provider;
+import org.qubership.atp.dataset.exception.dataset.DataSetPageException;
+import org.qubership.atp.dataset.service.direct.AttributeService;
+import org.qubership.atp.dataset.service.direct.ConcurrentModificationService;
+import org.qubership.atp.dataset.service.direct.DataSetListService;
+import org.qubership.atp.dataset.service.direct.importexport.service.DatasetListExportService;
+import org.qubership.atp.dataset.service.direct.importexport.service.DatasetListImportService;
+import org.qubership.atp.dataset.service.jpa.JpaDataSetListService;
+import org.qubership.atp.dataset.service.jpa.impl.DataSetListCheckService;
+
+public class DataSetListControllerTest {
+
+    private final UUID dataSetListId = UUID.randomUUID();
+    private DataSetListService dslService;
+    private DataSetListController controller;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        dslService = mock(DataSetListService.class);
+        controller = new DataSetListController(dslService, mock(DataSetListCheckService.class),
+                mock(ConcurrentModificationService.class), mock(JpaDataSetListService.class),
+                mock(AttributeService.class), mock(Provider.class),
+                mock(DatasetListExportService.class), mock(DatasetListImportService.class));
+    }
+
+    @Test
+    public void getDataSetsPage_limitAboveMaximum_limitReducedToMaximumPageSize() {
+        controller.getDataSetsPage(dataSetListId, null, null, 10L, Integer.MAX_VALUE);
+
+        verify(dslService).getChildren(dataSetListId, false, null, 10L,
+                DataSetListController.MAX_DATA_SETS_PAGE_SIZE);
+    }
+
+    @Test
+    public void getDataSetsPage_negativeOffsetOrLimit_throwsDataSetPageException() {
+        Assertions.assertThrows(DataSetPageException.class,
+                () -> controller.getDataSetsPage(dataSetListId, null, null, -1L, 10));
+        Assertions.assertThrows(DataSetPageException.class,
+                () -> controller.getDataSetsPage(dataSetListId, null, null, 0L, -1));
+        verify(dslService, never()).getChildren(any(), anyBoolean(), any(), anyLong(), anyInt());
+    }
+}
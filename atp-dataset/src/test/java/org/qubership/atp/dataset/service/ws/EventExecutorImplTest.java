@@ -0,0 +1,232 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.service.ws;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.qubership.atp.dataset.service.ws.event.Event;
+import org.qubership.atp.dataset.service.ws.event.EventExecutorImpl;
+import org.qubership.atp.dataset.service.ws.event.EventType;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@Isolated
+public class EventExecutorImplTest {
+
+    private static final int MAX_BACKLOG = 3;
+
+    private final String dslId = UUID.randomUUID().toString();
+    private final CountDownLatch slowSessionRelease = new CountDownLatch(1);
+    private ExecutorService senderExecutor;
+    private ExecutorService closeExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private EventExecutorImpl eventExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        senderExecutor = Executors.newFixedThreadPool(4);
+        closeExecutor = Executors.newSingleThreadExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        eventExecutor = new EventExecutorImpl(senderExecutor, closeExecutor, MAX_BACKLOG, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        slowSessionRelease.countDown();
+        senderExecutor.shutdownNow();
+        closeExecutor.shutdownNow();
+    }
+
+    @Test
+    public void execute_slowSession_otherSessionsReceiveEventWithoutWaiting() throws Exception {
+        List<String> slowMessages = new CopyOnWriteArrayList<>();
+        WebSocketSession slow = session(slowMessages, true);
+        List<String> fastMessages = new CopyOnWriteArrayList<>();
+        WebSocketSession fast = session(fastMessages, false);
+        WebSocketSession editor = session(new CopyOnWriteArrayList<>(), false);
+        select(slow, "slow", "a1");
+        select(fast, "fast", "a1");
+        select(editor, "editor", "a1");
+
+        long start = System.nanoTime();
+        eventExecutor.execute(editor, event(EventType.EDIT, "editor", "a1"));
+
+        verify(fast, timeout(1000).times(2)).sendMessage(any());
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        Assertions.assertTrue(fastMessages.get(1).contains("\"EDIT\""));
+        Assertions.assertTrue(slowMessages.size() <= 1);
+        Assertions.assertEquals(2, meterRegistry.get(EventExecutorImpl.WS_OUTBOUND_QUEUE_DEPTH).gauge().value());
+
+        slowSessionRelease.countDown();
+        verify(slow, timeout(1000).times(3)).sendMessage(any());
+        Assertions.assertTrue(slowMessages.get(2).contains("\"EDIT\""));
+        senderExecutor.shutdown();
+        Assertions.assertTrue(senderExecutor.awaitTermination(1, TimeUnit.SECONDS));
+        Assertions.assertEquals(5, meterRegistry.get(EventExecutorImpl.WS_SEND_LATENCY).timer().count());
+    }
+
+    @Test
+    public void execute_burstOfSelectionsOfCellToSlowSession_onlyLatestSelectionIsSent() throws Exception {
+        List<String> slowMessages = new CopyOnWriteArrayList<>();
+        WebSocketSession slow = session(slowMessages, true);
+        WebSocketSession editor = session(new CopyOnWriteArrayList<>(), false);
+        select(slow, "slow", "a0");
+        select(editor, "editor", "a0");
+        verify(slow, timeout(1000)).sendMessage(any());
+
+        for (int index = 1; index <= 10; index++) {
+            select(editor, "editor", "a1");
+            eventExecutor.execute(editor, event(EventType.UNSELECT, "editor", "a1"));
+        }
+        slowSessionRelease.countDown();
+
+        verify(slow, timeout(1000).times(2)).sendMessage(any());
+        Thread.sleep(100);
+        Assertions.assertEquals(2, slowMessages.size());
+        Assertions.assertTrue(slowMessages.get(1).contains("\"UNSELECT\""));
+    }
+
+    @Test
+    public void execute_selectionMovedToAnotherCell_unselectionOfPreviousCellIsSent() throws Exception {
+        List<String> slowMessages = new CopyOnWriteArrayList<>();
+        WebSocketSession slow = session(slowMessages, true);
+        WebSocketSession editor = session(new CopyOnWriteArrayList<>(), false);
+        select(slow, "slow", "a0");
+        select(editor, "editor", "a0");
+        verify(slow, timeout(1000)).sendMessage(any());
+
+        select(editor, "editor", "a1");
+        eventExecutor.execute(editor, event(EventType.UNSELECT, "editor", "a1"));
+        select(editor, "editor", "a2");
+        slowSessionRelease.countDown();
+
+        verify(slow, timeout(1000).times(3)).sendMessage(any());
+        Assertions.assertTrue(slowMessages.get(1).contains("\"UNSELECT\"") && slowMessages.get(1).contains("\"a1\""));
+        Assertions.assertTrue(slowMessages.get(2).contains("\"SELECT\"") && slowMessages.get(2).contains("\"a2\""));
+    }
+
+    @Test
+    public void execute_sessionBetweenOthersExceedsBacklog_othersStillReceiveEvent() throws Exception {
+        // "fast", "slow" and "fast2" are iterated by the handler in this order
+        WebSocketSession slow = session(new CopyOnWriteArrayList<>(), true);
+        WebSocketSession fast = session(new CopyOnWriteArrayList<>(), false);
+        List<String> lastMessages = new CopyOnWriteArrayList<>();
+        WebSocketSession last = session(lastMessages, false);
+        WebSocketSession editor = session(new CopyOnWriteArrayList<>(), false);
+        select(slow, "slow", "a1");
+        select(fast, "fast", "a1");
+        select(last, "fast2", "a1");
+        select(editor, "editor", "a1");
+        verify(slow, timeout(1000)).sendMessage(any());
+
+        eventExecutor.execute(editor, event(EventType.EDIT, "editor", "a1"));
+        eventExecutor.execute(editor, event(EventType.EDIT, "editor", "a1"));
+
+        verify(slow, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(fast, timeout(1000).times(4)).sendMessage(any());
+        verify(last, timeout(1000).times(3)).sendMessage(any());
+        Assertions.assertTrue(lastMessages.get(2).contains("\"EDIT\""));
+    }
+
+    @Test
+    public void execute_slowSessionExceedsBacklog_sessionIsDisconnected() throws Exception {
+        WebSocketSession slow = session(new CopyOnWriteArrayList<>(), true);
+        WebSocketSession editor = session(new CopyOnWriteArrayList<>(), false);
+        select(slow, "slow", "a1");
+        select(editor, "editor", "a1");
+        verify(slow, timeout(1000)).sendMessage(any());
+
+        for (int index = 0; index <= MAX_BACKLOG; index++) {
+            eventExecutor.execute(editor, event(EventType.EDIT, "editor", "a1"));
+        }
+
+        verify(slow, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        Assertions.assertEquals(1, meterRegistry.get(EventExecutorImpl.WS_SESSION_OVERFLOW).counter().count());
+        Assertions.assertEquals(0, meterRegistry.get(EventExecutorImpl.WS_OUTBOUND_QUEUE_DEPTH).gauge().value());
+    }
+
+    @Test
+    public void execute_closeAfterUnselect_queueRemoved() throws Exception {
+        WebSocketSession slow = session(new CopyOnWriteArrayList<>(), true);
+        WebSocketSession editor = session(new CopyOnWriteArrayList<>(), false);
+        select(slow, "slow", "a1");
+        select(editor, "editor", "a1");
+        verify(slow, timeout(1000)).sendMessage(any());
+        eventExecutor.execute(editor, event(EventType.EDIT, "editor", "a1"));
+        Assertions.assertEquals(1, meterRegistry.get(EventExecutorImpl.WS_OUTBOUND_QUEUE_DEPTH).gauge().value());
+
+        eventExecutor.execute(slow, event(EventType.UNSELECT, "slow", "a1"));
+        verify(editor, timeout(1000)).sendMessage(any());
+        eventExecutor.execute(slow, event(EventType.CLOSE, null, null));
+
+        Assertions.assertEquals(0, meterRegistry.get(EventExecutorImpl.WS_OUTBOUND_QUEUE_DEPTH).gauge().value());
+    }
+
+    private void select(WebSocketSession socket, String sessionId, String attributeId) {
+        eventExecutor.execute(socket, event(EventType.SELECT, sessionId, attributeId));
+    }
+
+    private Event event(EventType eventType, String sessionId, String attributeId) {
+        Event event = new Event();
+        event.setEventType(eventType);
+        event.setSessionId(sessionId);
+        event.setDataSetListId(dslId);
+        event.setAttributeId(attributeId);
+        return event;
+    }
+
+    /**
+     * Fake session which records sent messages. Slow session blocks on the first message
+     * until it is released.
+     */
+    private WebSocketSession session(List<String> messages, boolean isSlow) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getId()).thenReturn(UUID.randomUUID().toString());
+        when(session.getLocalAddress()).thenReturn(new InetSocketAddress("localhost", 8080));
+        doAnswer(invocation -> {
+            messages.add(invocation.<TextMessage>getArgument(0).getPayload());
+            if (isSlow) {
+                slowSessionRelease.await(10, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(session).sendMessage(any());
+        return session;
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.versioning.service.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.qubership.atp.dataset.versioning.service.DataSetListSnapshotService.DATA_SET_LIST_ID_PROPERTY;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.javers.core.Javers;
+import org.javers.core.JaversBuilder;
+import org.javers.core.commit.Commit;
+import org.javers.repository.jql.QueryBuilder;
+import org.javers.shadow.Shadow;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.dataset.service.jpa.delegates.Attribute;
+import org.qubership.atp.dataset.service.jpa.delegates.AttributeKey;
+import org.qubership.atp.dataset.service.jpa.delegates.DataSet;
+import org.qubership.atp.dataset.service.jpa.delegates.DataSetList;
+import org.qubership.atp.dataset.service.jpa.delegates.ListValue;
+import org.qubership.atp.dataset.service.jpa.delegates.Parameter;
+import org.qubership.atp.dataset.service.jpa.delegates.VisibilityArea;
+import org.qubership.atp.dataset.service.jpa.model.AttributeTypeName;
+import org.qubership.atp.dataset.versioning.exception.DataSetListIdNotFound;
+import org.qubership.atp.dataset.versioning.model.domain.AttributeSnapshot;
+import org.qubership.atp.dataset.versioning.model.domain.DataSetListSnapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class DataSetListDeltaSnapshotTest {
+
+    private static final int ATTRIBUTES_COUNT = 500;
+    private static final int DATA_SETS_COUNT = 500;
+
+    private Javers javers;
+    private TestDataSetList dataSetList;
+
+    @BeforeEach
+    public void setUp() {
+        javers = JaversBuilder.javers().build();
+        dataSetList = new TestDataSetList();
+    }
+
+    @Test
+    public void commit_oneParameterEdited_deltaSnapshotStoresOnlyChangedAttribute() {
+        long fullInitialSize = commit(false, "full initial");
+        edit(0, 0, "full edit");
+        long fullEditSize = commit(false, "full edit");
+
+        javers = JaversBuilder.javers().build();
+        long deltaInitialSize = commit(true, "delta initial");
+        edit(0, 0, "delta edit");
+        long deltaEditSize = commit(true, "delta edit");
+
+        log.info("Storage growth of {}x{} DSL, bytes: full initial {}, full edit {}, delta initial {}, delta edit {}",
+                ATTRIBUTES_COUNT, DATA_SETS_COUNT, fullInitialSize, fullEditSize, deltaInitialSize, deltaEditSize);
+        Assertions.assertTrue(deltaEditSize * 50 < fullEditSize,
+                "Delta edit stored " + deltaEditSize + " bytes, full edit stored " + fullEditSize);
+        Assertions.assertEquals(0, commit(true, "delta without changes"));
+    }
+
+    @Test
+    public void resolve_deltaSnapshotVersions_attributesAsOfEachCommit() {
+        commit(true, "initial");
+        edit(3, 7, "first");
+        commit(true, "first edit");
+        edit(3, 7, "second");
+        commit(true, "second edit");
+        Shadow<DataSetListSnapshot> firstShadow = findShadow(2);
+        Shadow<DataSetListSnapshot> secondShadow = findShadow(3);
+        Javers spiedJavers = spy(javers);
+        DeltaSnapshotResolver resolver = new DeltaSnapshotResolver(spiedJavers);
+
+        DataSetListSnapshot first = resolver.resolve(firstShadow).get();
+        DataSetListSnapshot second = resolver.resolve(secondShadow).get();
+
+        Assertions.assertEquals(ATTRIBUTES_COUNT, first.getAttributes().size());
+        Assertions.assertEquals("first", first.getAttributes().get(3).getParameters().get(7).getText());
+        Assertions.assertEquals(new DataSetListSnapshot(dataSetList).getAttributes(), second.getAttributes());
+        // attributes of each version are read by one query
+        verify(spiedJavers, times(2)).findShadows(any());
+    }
+
+    @Test
+    public void resolve_attributeSnapshotsMissing_throwsDataSetListIdNotFound() {
+        commit(true, "initial");
+        Shadow<DataSetListSnapshot> shadow = findShadow(1);
+        DeltaSnapshotResolver resolver = new DeltaSnapshotResolver(JaversBuilder.javers().build());
+
+        Assertions.assertThrows(DataSetListIdNotFound.class, () -> resolver.resolve(shadow));
+    }
+
+    private long commit(boolean isDelta, String name) {
+        DataSetListSnapshot snapshot = new DataSetListSnapshot(dataSetList, isDelta);
+        Map<String, String> properties = isDelta
+                ? Collections.singletonMap(DATA_SET_LIST_ID_PROPERTY, dataSetList.getId().toString())
+                : Collections.emptyMap();
+        long start = System.nanoTime();
+        Commit commit = javers.commit("author", snapshot, properties);
+        log.info("Commit '{}' took {} ms", name, (System.nanoTime() - start) / 1_000_000);
+        return javers.getJsonConverter().toJson(commit.getSnapshots()).length();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Shadow<DataSetListSnapshot> findShadow(long version) {
+        return (Shadow<DataSetListSnapshot>) javers.findShadows(
+                QueryBuilder.byInstanceId(dataSetList.getId(), DataSetListSnapshot.class)
+                        .withVersion(version)
+                        .build()).get(0);
+    }
+
+    private void edit(int attributeIndex, int dataSetIndex, String text) {
+        dataSetList.attributes.get(attributeIndex).parameters.get(dataSetIndex).text = text;
+    }
+
+    private static class TestDataSetList extends DataSetList {
+        private final UUID id = UUID.randomUUID();
+        private final VisibilityArea visibilityArea = new TestVisibilityArea();
+        private final List<DataSet> dataSets = new ArrayList<>();
+        private final List<TestAttribute> attributes = new ArrayList<>();
+
+        TestDataSetList() {
+            super(null);
+            for (int index = 0; index < DATA_SETS_COUNT; index++) {
+                dataSets.add(new TestDataSet(this, index));
+            }
+            for (int index = 0; index < ATTRIBUTES_COUNT; index++) {
+                attributes.add(new TestAttribute(dataSets, index));
+            }
+        }
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return "DSL";
+        }
+
+        @Override
+        public VisibilityArea getVisibilityArea() {
+            return visibilityArea;
+        }
+
+        @Override
+        public List<DataSet> getDataSets() {
+            return dataSets;
+        }
+
+        @Override
+        public List<Attribute> getAttributes() {
+            return new ArrayList<>(attributes);
+        }
+
+        @Override
+        public Map<AttributeKey, Parameter> getOverLapParametersMapping() {
+            return Collections.emptyMap();
+        }
+    }
+
+    private static class TestVisibilityArea extends VisibilityArea {
+        private final UUID id = UUID.randomUUID();
+
+        TestVisibilityArea() {
+            super(null);
+        }
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+    }
+
+    private static class TestDataSet extends DataSet {
+        private final UUID id = UUID.randomUUID();
+        private final DataSetList dataSetList;
+        private final int index;
+
+        TestDataSet(DataSetList dataSetList, int index) {
+            super(null);
+            this.dataSetList = dataSetList;
+            this.index = index;
+        }
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return "DS " + index;
+        }
+
+        @Override
+        public Long ordering() {
+            return (long) index;
+        }
+
+        @Override
+        public boolean isLocked() {
+            return false;
+        }
+
+        @Override
+        public DataSetList getDataSetList() {
+            return dataSetList;
+        }
+    }
+
+    private static class TestAttribute extends Attribute {
+        private final UUID id = UUID.randomUUID();
+        private final int index;
+        private final List<TestParameter> parameters = new ArrayList<>();
+
+        TestAttribute(List<DataSet> dataSets, int index) {
+            super(null);
+            this.index = index;
+            for (DataSet dataSet : dataSets) {
+                parameters.add(new TestParameter(dataSet, this, "value " + index));
+            }
+        }
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return "Attribute " + index;
+        }
+
+        @Override
+        public Integer getOrdering() {
+            return index;
+        }
+
+        @Override
+        public AttributeTypeName getAttributeType() {
+            return AttributeTypeName.TEXT;
+        }
+
+        @Override
+        public UUID getTypeDataSetListId() {
+            return null;
+        }
+
+        @Override
+        public List<ListValue> getListValues() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<Parameter> getParameters() {
+            return new ArrayList<>(parameters);
+        }
+    }
+
+    private static class TestParameter extends Parameter {
+        private final UUID id = UUID.randomUUID();
+        private final DataSet dataSet;
+        private final Attribute attribute;
+        private String text;
+
+        TestParameter(DataSet dataSet, Attribute attribute, String text) {
+            super(null);
+            this.dataSet = dataSet;
+            this.attribute = attribute;
+            this.text = text;
+        }
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public DataSet getDataSet() {
+            return dataSet;
+        }
+
+        @Override
+        public Attribute getAttribute() {
+            return attribute;
+        }
+
+        @Override
+        public String getStringValue() {
+            return text;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.dataset.versioning.service.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.atp.dataset.constants.Constants;
+import org.qubership.atp.dataset.db.jpa.entities.HistoryItemEntity;
+import org.qubership.atp.dataset.db.jpa.entities.HistoryItemId;
+import org.qubership.atp.dataset.db.jpa.entities.JvGlobalIdEntity;
+import org.qubership.atp.dataset.db.jpa.repositories.JpaDataSetListRepository;
+import org.qubership.atp.dataset.db.jpa.repositories.JpaHistoryItemRepository;
+import org.qubership.atp.dataset.db.jpa.repositories.JpaJvSnapshotRepository;
+import org.qubership.atp.dataset.service.rest.dto.versioning.ChangeSummary;
+import org.qubership.atp.dataset.service.rest.dto.versioning.HistoryItemDto;
+import org.qubership.atp.dataset.service.rest.dto.versioning.HistoryItemResponseDto;
+
+public class HistoryIndexServiceImplTest {
+
+    private final UUID dataSetListId = UUID.randomUUID();
+    private HistoryItemsCalculator historyItemsCalculator;
+    private JpaHistoryItemRepository historyItemRepository;
+    private JpaJvSnapshotRepository snapshotRepository;
+    private HistoryIndexServiceImpl historyIndexService;
+
+    @BeforeEach
+    public void setUp() {
+        historyItemsCalculator = mock(HistoryItemsCalculator.class);
+        historyItemRepository = mock(JpaHistoryItemRepository.class);
+        snapshotRepository = mock(JpaJvSnapshotRepository.class);
+        historyIndexService = new HistoryIndexServiceImpl(historyItemsCalculator, historyItemRepository,
+                snapshotRepository, mock(JpaDataSetListRepository.class), Runnable::run, true, 100);
+    }
+
+    @Test
+    public void findHistory_indexUpToDate_pageReadFromIndexWithoutComparingShadows() {
+        mockVersions(3L, 3L);
+        when(historyItemRepository.countByDataSetListId(dataSetListId)).thenReturn(3L);
+        when(historyItemRepository.findPage(dataSetListId, 0, 2)).thenReturn(Arrays.asList(
+                entity(3L, "DS"), entity(2L, Constants.NOT_FOUND_NAME_DS)));
+
+        Optional<HistoryItemResponseDto> history = historyIndexService.findHistory(dataSetListId, 0, 2);
+
+        Assertions.assertTrue(history.isPresent());
+        Assertions.assertEquals(3, history.get().getPageInfo().getItemsTotalCount());
+        Assertions.assertEquals(1, history.get().getHistoryItems().size());
+        Assertions.assertEquals(3, history.get().getHistoryItems().get(0).getVersion());
+        verify(historyItemsCalculator, never()).calculate(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void findHistory_indexBehindSnapshots_emptyAndNewVersionsIndexed() {
+        mockVersions(3L, 1L);
+        when(historyItemsCalculator.calculate(dataSetListId, 0, 2)).thenReturn(Arrays.asList(item(3), item(2)));
+
+        Optional<HistoryItemResponseDto> history = historyIndexService.findHistory(dataSetListId, 0, 10);
+
+        Assertions.assertFalse(history.isPresent());
+        ArgumentCaptor<List<HistoryItemEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(historyItemRepository).saveAll(captor.capture());
+        Assertions.assertEquals(Arrays.asList(2L, 3L), captor.getValue().stream()
+                .map(entity -> entity.getId().getVersion())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void index_versionsWithGap_nothingSaved() {
+        mockVersions(3L, 1L);
+        // DSL was committed twice meanwhile, version 2 is not on the page
+        when(historyItemsCalculator.calculate(dataSetListId, 0, 2)).thenReturn(Arrays.asList(item(5), item(4)));
+
+        historyIndexService.index(dataSetListId);
+
+        verify(historyItemRepository, never()).saveAll(any());
+    }
+
+    private void mockVersions(Long latestVersion, Long indexedVersion) {
+        String localId = JvGlobalIdEntity.toLocalId(dataSetListId);
+        when(snapshotRepository.findMaxVersionByTypeNameAndLocalId(anyString(), eq(localId)))
+                .thenReturn(latestVersion);
+        when(historyItemRepository.findMaxVersion(dataSetListId)).thenReturn(indexedVersion);
+    }
+
+    private static HistoryItemDto item(int version) {
+        HistoryItemDto item = new HistoryItemDto();
+        item.setVersion(version);
+        item.setCommitId(BigDecimal.valueOf(version));
+        item.setChangeSummary(ChangeSummary.CHANGED.toString());
+        return item;
+    }
+
+    private HistoryItemEntity entity(Long version, String dataSet) {
+        HistoryItemEntity entity = new HistoryItemEntity();
+        entity.setId(new HistoryItemId(dataSetListId, version));
+        entity.setDataSet(dataSet);
+        entity.setChangeSummary(ChangeSummary.CHANGED.toString());
+        return entity;
+    }
+}
@@ -105,6 +105,7 @@ GRIDFS_DB_PORT: "{{ .Values.GRIDFS_DB_PORT }}"
 HAZELCAST_CLUSTER_NAME: "{{ .Values.HAZELCAST_CLUSTER_NAME }}"
 HAZELCAST_ENABLE: "{{ .Values.HAZELCAST_ENABLE }}"
 HAZELCAST_ADDRESS: "{{ .Values.HAZELCAST_ADDRESS }}"
+HAZELCAST_NEAR_CACHE_ENABLE: "{{ .Values.HAZELCAST_NEAR_CACHE_ENABLE }}"
 HTTPS_ENABLE: "{{ .Values.HTTPS_ENABLE }}"
 JAVA_OPTIONS: "{{ if .Values.HEAPDUMP_ENABLED }}-XX:+HeapDumpOnOutOfMemoryError -XX:HeapDumpPath=/tmp/diagnostic{{ end }} -Dcom.sun.management.jmxremote={{ .Values.JMX_ENABLE }} -Dcom.sun.management.jmxremote.port={{ .Values.JMX_PORT }} -Dcom.sun.management.jmxremote.rmi.port={{ .Values.JMX_RMI_PORT }} -Djava.rmi.server.hostname=127.0.0.1 -Dcom.sun.management.jmxremote.authenticate=false -Dcom.sun.management.jmxremote.ssl=false"
 JAVERS_ENABLED: "{{ .Values.JAVERS_ENABLED }}"